@@ -68,7 +68,25 @@ public class DocumentContentSynchronizer implements DocumentListener, Disposable
                                        @Nullable String documentText,
                                        @Nullable String languageId,
                                        @Nullable TextDocumentSyncKind syncKind) {
+        this(languageServerWrapper, fileUri, file, document, documentText, languageId, syncKind, 0);
+    }
+
+    /**
+     * Create a document content synchronizer.
+     *
+     * @param initialVersion the last version of the document sent to the language server, to keep monotonic
+     *                       document versions when the document is reconnected (ex : after a language server crash).
+     */
+    public DocumentContentSynchronizer(@NotNull LanguageServerWrapper languageServerWrapper,
+                                       @NotNull String fileUri,
+                                       @NotNull VirtualFile file,
+                                       @NotNull Document document,
+                                       @Nullable String documentText,
+                                       @Nullable String languageId,
+                                       @Nullable TextDocumentSyncKind syncKind,
+                                       int initialVersion) {
         this.languageServerWrapper = languageServerWrapper;
+        this.version = initialVersion;
         this.file = file;
         this.fileUri = fileUri;
         this.syncKind = syncKind != null ? syncKind : TextDocumentSyncKind.Full;
@@ -169,6 +187,8 @@ public class DocumentContentSynchronizer implements DocumentListener, Disposable
         DidChangeTextDocumentParams changeParamsToSend = new DidChangeTextDocumentParams(new VersionedTextDocumentIdentifier(), events);
         changeParamsToSend.getTextDocument().setUri(fileUri);
         changeParamsToSend.getTextDocument().setVersion(version);
+        // Cancel the LSP requests sent for the previous versions of the document
+        languageServerWrapper.getRequestRegistry().documentVersionChanged(file, version);
         var didChange = languageServerWrapper.sendNotification(ls -> {
             ls.getTextDocumentService().didChange(changeParamsToSend);
             return ls;
@@ -222,19 +242,27 @@ public class DocumentContentSynchronizer implements DocumentListener, Disposable
     }
 
     public void documentSaved() {
-        ServerCapabilities serverCapabilities = languageServerWrapper.getServerCapabilities();
         synchronized (editsSinceSave) {
             editsSinceSave.clear();
         }
-        if (serverCapabilities != null) {
-            Either<TextDocumentSyncKind, TextDocumentSyncOptions> textDocumentSync = serverCapabilities.getTextDocumentSync();
-            if (textDocumentSync.isRight() && textDocumentSync.getRight().getSave() == null) {
-                return;
-            }
-        }
         TextDocumentIdentifier identifier = new TextDocumentIdentifier(fileUri);
         DidSaveTextDocumentParams params = new DidSaveTextDocumentParams(identifier, document.getText());
-        languageServerWrapper.getInitializedServer().thenAcceptAsync(ls -> ls.getTextDocumentService().didSave(params));
+        // Check the save capability once the language server is initialized, without blocking the calling thread
+        languageServerWrapper.getServerCapabilitiesAsync()
+                .thenAccept(serverCapabilities -> {
+                    if (serverCapabilities == null) {
+                        // The language server cannot be started
+                        return;
+                    }
+                    Either<TextDocumentSyncKind, TextDocumentSyncOptions> textDocumentSync = serverCapabilities.getTextDocumentSync();
+                    if (textDocumentSync != null && textDocumentSync.isRight() && textDocumentSync.getRight().getSave() == null) {
+                        return;
+                    }
+                    languageServerWrapper.sendNotification(ls -> {
+                        ls.getTextDocumentService().didSave(params);
+                        return ls;
+                    });
+                });
     }
 
     public void documentClosed() {
@@ -276,6 +304,18 @@ public class DocumentContentSynchronizer implements DocumentListener, Disposable
         return version;
     }
 
+    /**
+     * Returns the version of the LSP {@link TextDocumentItem} targeted by an LSP request sent now:
+     * the next version when document changes have not been sent yet with 'textDocument/didChange'.
+     *
+     * @return the version of the LSP {@link TextDocumentItem} targeted by an LSP request sent now.
+     */
+    int getRequestVersion() {
+        synchronized (changeEvents) {
+            return changeEvents.isEmpty() ? version : version + 1;
+        }
+    }
+
     @Override
     public void dispose() {
         documentClosed();
@@ -14,6 +14,7 @@ import com.intellij.openapi.fileEditor.FileEditorManager;
 import com.intellij.openapi.fileEditor.FileEditorManagerListener;
 import com.intellij.openapi.vfs.*;
 import com.redhat.devtools.lsp4ij.features.files.watcher.FileSystemWatcherManager;
+import com.redhat.devtools.lsp4ij.features.workspaceSymbol.index.LSPWorkspaceSymbolIndex;
 import org.eclipse.lsp4j.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -185,6 +186,8 @@ class LSPFileListener implements FileEditorManagerListener, VirtualFileListener
     }
 
     private void didChangeWatchedFiles(FileEvent... changes) {
+        // Invalidate the indexed workspace symbols of the changed files
+        LSPWorkspaceSymbolIndex.getInstance(languageServerWrapper.getProject()).invalidate(Arrays.asList(changes));
         languageServerWrapper.sendNotification(ls -> {
             DidChangeWatchedFilesParams params = new DidChangeWatchedFilesParams(Arrays.asList(changes));
             ls.getWorkspaceService()
@@ -14,6 +14,7 @@ import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer;
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.util.Disposer;
 import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.UserDataHolderBase;
 import com.intellij.psi.PsiFile;
@@ -162,6 +163,7 @@ public class LSPFileSupport extends UserDataHolderBase implements Disposable {
         getInlayHintsSupport().cancel();
         getColorSupport().cancel();
         getFoldingRangeSupport().cancel();
+        Disposer.dispose(getFoldingRangeSupport());
         getSelectionRangeSupport().cancel();
         getFormattingSupport().cancel();
         getOnTypeFormattingSupport().cancel();
@@ -169,16 +171,19 @@ public class LSPFileSupport extends UserDataHolderBase implements Disposable {
         getSignatureHelpSupport().cancel();
         getDocumentLinkSupport().cancel();
         getHoverSupport().cancel();
+        getHoverSupport().cancelPrefetch();
         getIntentionCodeActionSupport().cancel();
         getPrepareRenameSupport().cancel();
         getRenameSupport().cancel();
         getCompletionSupport().cancel();
         getImplementationSupport().cancel();
         getReferenceSupport().cancel();
+        getDefinitionSupport().cancel();
         getDeclarationSupport().cancel();
         getTypeDefinitionSupport().cancel();
         getSemanticTokensSupport().cancel();
         getDocumentSymbolSupport().cancel();
+        Disposer.dispose(getDocumentSymbolSupport());
         getPrepareCallHierarchySupport().cancel();
         getCallHierarchyIncomingCallsSupport().cancel();
         getCallHierarchyOutgoingCallsSupport().cancel();
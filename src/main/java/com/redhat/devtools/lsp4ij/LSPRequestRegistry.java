@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
+import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registry of the outstanding LSP requests (ex : textDocument/completion) sent to a language server.
+ * <p>
+ * Each request is tracked with its owning feature and the version of the document it has been sent for.
+ * When a new version of the document is sent with 'textDocument/didChange' or when the document is closed,
+ * the requests sent for a previous version are cancelled: cancelling the LSP4J request future
+ * sends the '$/cancelRequest' notification, so the language server can stop computing a stale result.
+ * <p>
+ * The registry also counts the completed and cancelled requests and the server time wasted by the cancelled requests.
+ */
+@ApiStatus.Internal
+public class LSPRequestRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LSPRequestRegistry.class);
+
+    /**
+     * Document version used when the request is not tied to an opened document.
+     */
+    public static final int NO_DOCUMENT_VERSION = -1;
+
+    /**
+     * An outstanding LSP request.
+     *
+     * @param id              the registry request identifier (LSP4J doesn't expose the JSON-RPC request id).
+     * @param featureName     the LSP feature name (ex: textDocument/completion) and null otherwise.
+     * @param file            the file of the document the request has been sent for and null otherwise.
+     * @param documentVersion the version of the document the request has been sent for and {@link #NO_DOCUMENT_VERSION} otherwise.
+     * @param startTime       the time when the request has been sent.
+     * @param future          the LSP4J request future.
+     */
+    public record PendingRequest(long id,
+                                 @Nullable String featureName,
+                                 @Nullable VirtualFile file,
+                                 int documentVersion,
+                                 long startTime,
+                                 @NotNull CompletableFuture<?> future) {
+    }
+
+    private final @NotNull LanguageServerWrapper languageServerWrapper;
+    private final Map<Long, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+    private final AtomicLong requestIdSequence = new AtomicLong();
+
+    private final AtomicLong completedRequestCount = new AtomicLong();
+    private final AtomicLong cancelledRequestCount = new AtomicLong();
+    private final AtomicLong staleRequestCount = new AtomicLong();
+    private final AtomicLong cancelledRequestTime = new AtomicLong();
+
+    LSPRequestRegistry(@NotNull LanguageServerWrapper languageServerWrapper) {
+        this.languageServerWrapper = languageServerWrapper;
+    }
+
+    /**
+     * Register the given LSP request future.
+     *
+     * @param future      the LSP4J request future.
+     * @param featureName the LSP feature name (ex: textDocument/completion) and null otherwise.
+     * @param file        the file of the document which must cancel the request when it is modified and null otherwise.
+     */
+    public void register(@NotNull CompletableFuture<?> future,
+                         @Nullable String featureName,
+                         @Nullable VirtualFile file) {
+        if (future.isDone()) {
+            return;
+        }
+        int documentVersion = file != null ? getRequestVersion(file) : NO_DOCUMENT_VERSION;
+        long id = requestIdSequence.incrementAndGet();
+        var request = new PendingRequest(id, featureName, documentVersion != NO_DOCUMENT_VERSION ? file : null,
+                documentVersion, System.currentTimeMillis(), future);
+        pendingRequests.put(id, request);
+        future.whenComplete((result, error) -> {
+            if (pendingRequests.remove(id) == null) {
+                // The registry has been cleared (ex : the language server has been stopped)
+                return;
+            }
+            if (future.isCancelled() || isRequestCancelled(error)) {
+                cancelledRequestCount.incrementAndGet();
+                cancelledRequestTime.addAndGet(System.currentTimeMillis() - request.startTime());
+            } else {
+                completedRequestCount.incrementAndGet();
+            }
+        });
+    }
+
+    private int getRequestVersion(@NotNull VirtualFile file) {
+        OpenedDocument openedDocument = languageServerWrapper.getOpenedDocument(languageServerWrapper.toUri(file));
+        return openedDocument != null ? openedDocument.getSynchronizer().getRequestVersion() : NO_DOCUMENT_VERSION;
+    }
+
+    private static boolean isRequestCancelled(@Nullable Throwable error) {
+        if (error instanceof CompletionException) {
+            error = error.getCause();
+        }
+        return error instanceof ResponseErrorException responseErrorException
+                && CancellationSupport.isRequestCancelled(responseErrorException);
+    }
+
+    /**
+     * Cancel the pending requests sent for a version of the given document older than the given version.
+     *
+     * @param file    the file of the document.
+     * @param version the new version of the document.
+     */
+    void documentVersionChanged(@NotNull VirtualFile file, int version) {
+        cancelStaleRequests(file, version);
+    }
+
+    /**
+     * Cancel all the pending requests sent for the given document.
+     *
+     * @param file the file of the closed document.
+     */
+    void documentClosed(@NotNull VirtualFile file) {
+        cancelStaleRequests(file, Integer.MAX_VALUE);
+    }
+
+    private void cancelStaleRequests(@NotNull VirtualFile file, int version) {
+        for (var request : pendingRequests.values()) {
+            if (request.documentVersion() < version && file.equals(request.file())) {
+                var future = request.future();
+                if (!future.isDone()) {
+                    staleRequestCount.incrementAndGet();
+                    LOGGER.debug("Cancel stale '{}' request sent for the version {} of '{}'",
+                            request.featureName(), request.documentVersion(), file.getPath());
+                    // Cancelling the LSP4J future sends '$/cancelRequest'
+                    future.cancel(true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Forget all pending requests without cancelling them when the language server is stopped,
+     * LSP4J completes them when the connection is closed.
+     */
+    void clear() {
+        pendingRequests.clear();
+    }
+
+    /**
+     * Returns the outstanding LSP requests.
+     *
+     * @return the outstanding LSP requests.
+     */
+    public @NotNull List<PendingRequest> getPendingRequests() {
+        return new ArrayList<>(pendingRequests.values());
+    }
+
+    /**
+     * Returns the number of outstanding LSP requests.
+     *
+     * @return the number of outstanding LSP requests.
+     */
+    public int getPendingRequestCount() {
+        return pendingRequests.size();
+    }
+
+    /**
+     * Returns the number of LSP requests which have returned a response.
+     *
+     * @return the number of LSP requests which have returned a response.
+     */
+    public long getCompletedRequestCount() {
+        return completedRequestCount.get();
+    }
+
+    /**
+     * Returns the number of LSP requests which have been cancelled by the client or by the language server.
+     *
+     * @return the number of LSP requests which have been cancelled by the client or by the language server.
+     */
+    public long getCancelledRequestCount() {
+        return cancelledRequestCount.get();
+    }
+
+    /**
+     * Returns the number of LSP requests cancelled by this registry because their document has been modified or closed.
+     *
+     * @return the number of LSP requests cancelled by this registry because their document has been modified or closed.
+     */
+    public long getStaleRequestCount() {
+        return staleRequestCount.get();
+    }
+
+    /**
+     * Returns the time in milliseconds spent by the language server on the cancelled requests before their cancellation.
+     *
+     * @return the time in milliseconds spent by the language server on the cancelled requests before their cancellation.
+     */
+    public long getCancelledRequestTime() {
+        return cancelledRequestTime.get();
+    }
+}
@@ -44,7 +44,8 @@ public class LanguageServerItem {
     public LanguageServerItem(@Nullable LanguageServer server, @NotNull LanguageServerWrapper serverWrapper) {
         this.server = server;
         this.serverWrapper = serverWrapper;
-        this.serverCapabilities = serverWrapper.getServerCapabilities();
+        // The item is created with an initialized language server, don't block the calling thread
+        this.serverCapabilities = serverWrapper.getServerCapabilitiesSync();
     }
 
     /**
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import org.eclipse.lsp4j.Diagnostic;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Recovery state of a language server which has stopped unexpectedly or which cannot be started:
+ *
+ * <ul>
+ *     <li>the documents which were opened when the language server has stopped, with their last known diagnostics,
+ *     to replay them in one batch in the restarted language server.</li>
+ *     <li>the time before which the language server must not be restarted, computed with an exponential backoff
+ *     on the number of restart attempts.</li>
+ * </ul>
+ */
+class LanguageServerRecovery {
+
+    /**
+     * Delay before the first restart attempt.
+     */
+    static final long INITIAL_RESTART_DELAY = 500;
+
+    /**
+     * Maximum delay between two restart attempts.
+     */
+    static final long MAX_RESTART_DELAY = 30_000;
+
+    /**
+     * A document opened when the language server has stopped.
+     *
+     * @param file              the file.
+     * @param modificationStamp the modification stamp of the document when the language server has stopped.
+     * @param diagnostics       the last diagnostics published by the language server for the document.
+     */
+    record RecoveredDocument(@NotNull VirtualFile file,
+                             long modificationStamp,
+                             @NotNull List<Diagnostic> diagnostics) {
+    }
+
+    private final @NotNull List<RecoveredDocument> documents;
+    private final long stopTime;
+    private volatile long restartTime;
+
+    LanguageServerRecovery(@NotNull List<RecoveredDocument> documents) {
+        this.documents = documents;
+        this.stopTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Returns the documents to replay in the restarted language server.
+     *
+     * @return the documents to replay in the restarted language server.
+     */
+    @NotNull
+    List<RecoveredDocument> getDocuments() {
+        return documents;
+    }
+
+    /**
+     * Returns the time when the language server has stopped.
+     *
+     * @return the time when the language server has stopped.
+     */
+    long getStopTime() {
+        return stopTime;
+    }
+
+    /**
+     * Schedule the next restart attempt and returns the delay before this restart.
+     *
+     * @param numberOfRestartAttempts the number of restart attempts already done.
+     * @return the delay in milliseconds before the next restart attempt.
+     */
+    long scheduleRestart(int numberOfRestartAttempts) {
+        long delay = getRestartDelay(numberOfRestartAttempts);
+        restartTime = System.currentTimeMillis() + delay;
+        return delay;
+    }
+
+    /**
+     * Returns true if the backoff delay is elapsed and the language server can be restarted and false otherwise.
+     *
+     * @return true if the backoff delay is elapsed and the language server can be restarted and false otherwise.
+     */
+    boolean canRestart() {
+        return System.currentTimeMillis() >= restartTime;
+    }
+
+    /**
+     * Returns the delay before the next restart attempt (500ms, 1s, 2s, 4s... up to {@link #MAX_RESTART_DELAY}).
+     *
+     * @param numberOfRestartAttempts the number of restart attempts already done.
+     * @return the delay in milliseconds before the next restart attempt.
+     */
+    static long getRestartDelay(int numberOfRestartAttempts) {
+        int exponent = Math.max(0, Math.min(numberOfRestartAttempts, 16));
+        return Math.min(MAX_RESTART_DELAY, INITIAL_RESTART_DELAY << exponent);
+    }
+}
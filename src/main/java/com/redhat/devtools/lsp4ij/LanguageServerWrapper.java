@@ -16,6 +16,7 @@ import com.intellij.notification.Notification;
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileEditorManager;
 import com.intellij.openapi.fileEditor.FileEditorManagerListener;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Disposer;
@@ -25,6 +26,7 @@ import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.openapi.vfs.VirtualFileManager;
 import com.intellij.openapi.vfs.impl.BulkVirtualFileListenerAdapter;
 import com.intellij.psi.PsiFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.intellij.util.messages.MessageBusConnection;
 import com.redhat.devtools.lsp4ij.client.LanguageClientImpl;
 import com.redhat.devtools.lsp4ij.client.features.FileUriSupport;
@@ -34,6 +36,7 @@ import com.redhat.devtools.lsp4ij.internal.ClientCapabilitiesFactory;
 import com.redhat.devtools.lsp4ij.internal.editor.EditorFeatureManager;
 import com.redhat.devtools.lsp4ij.internal.editor.EditorFeatureType;
 import com.redhat.devtools.lsp4ij.lifecycle.LanguageServerLifecycleManager;
+import com.redhat.devtools.lsp4ij.lifecycle.LanguageServerWarmupManager;
 import com.redhat.devtools.lsp4ij.lifecycle.NullLanguageServerLifecycleManager;
 import com.redhat.devtools.lsp4ij.server.*;
 import com.redhat.devtools.lsp4ij.server.capabilities.TextDocumentServerCapabilityRegistry;
@@ -68,7 +71,12 @@ public class LanguageServerWrapper implements Disposable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LanguageServerWrapper.class);
 
+    // The call sites of the blocking getServerCapabilities() which have already been logged
+    private static final Set<String> BLOCKING_CALL_SITES = ConcurrentHashMap.newKeySet();
+
     private static final int MAX_NUMBER_OF_RESTART_ATTEMPTS = 20; // TODO move this max value in settings
+    // A language server which has run longer than this duration before stopping unexpectedly resets the restart attempts
+    private static final long STABLE_RUN_DURATION = TimeUnit.MINUTES.toMillis(5);
 
     record LSPFileConnectionInfo(@Nullable Document document, @Nullable String documentText, @Nullable String languageId, boolean waitForDidOpen) {}
 
@@ -90,6 +98,12 @@ public class LanguageServerWrapper implements Disposable {
     private Future<?> launcherFuture;
 
     private int numberOfRestartAttempts;
+    private volatile @Nullable LanguageServerRecovery recovery;
+    private long startedTime;
+    private long lastRecoveryDuration = -1;
+    // The last version of the documents disconnected by a stop of the language server,
+    // to keep monotonic document versions when they are reconnected in the restarted language server
+    private final Map<URI /* file Uri */, Integer> documentVersions = new ConcurrentHashMap<>();
     private @Nullable CompletableFuture<Void> initializeFuture;
     private LanguageServer languageServer;
     private LanguageClientImpl languageClient;
@@ -120,6 +134,7 @@ public class LanguageServerWrapper implements Disposable {
     Map<String, Runnable> dynamicRegistrations = new HashMap<>();
     private boolean initiallySupportsWorkspaceFolders = false;
     private final LSPFileListener fileListener = new LSPFileListener(this);
+    private final LSPRequestRegistry requestRegistry = new LSPRequestRegistry(this);
 
     private FileOperationsManager fileOperationsManager;
 
@@ -228,6 +243,7 @@ public class LanguageServerWrapper implements Disposable {
     public synchronized void restart() {
         numberOfRestartAttempts = 0;
         serverError = null;
+        recovery = null;
         setEnabled(true);
         stop();
         // start the language server
@@ -254,10 +270,20 @@ public class LanguageServerWrapper implements Disposable {
     /**
      * Starts a language server and triggers initialization. If language server is
      * started and active, does nothing. If language server is inactive, restart it.
+     * <p>
+     * When the language server has stopped unexpectedly, it is not restarted before the backoff delay of
+     * its recovery state: until then, the requests fail with the error of the last start.
      *
      * @throws LanguageServerException thrown when the language server cannot be started
      */
     public synchronized void start() throws LanguageServerException {
+        var recovery = this.recovery;
+        if (serverError != null && recovery != null && !recovery.canRestart()) {
+            // Wait for the backoff delay before restarting the language server
+            LOGGER.debug("Language server '{}' is not restarted before the end of the backoff delay, the requests fail with the last start error",
+                    serverDefinition.getDisplayName());
+            return;
+        }
         if (serverError != null) {
             // Here the language server has been not possible
             // we stop it and attempts a new restart if needed
@@ -297,11 +323,18 @@ public class LanguageServerWrapper implements Disposable {
                             // 1. the process was killed outside IntelliJ
                             // 2. the start command takes some times and fails
                             // -->
+                            if (startedTime > 0 && System.currentTimeMillis() - startedTime > STABLE_RUN_DURATION) {
+                                // The language server has run stably before stopping, it is not a restart loop
+                                numberOfRestartAttempts = 0;
+                            }
+                            // Collect the opened documents to replay them when the language server will be restarted
+                            this.recovery = createRecovery();
                             // Stop the language server
                             stop();
                             // Show a notification error with "The server was stopped unexpectedly." error message.
                             serverError = new ServerWasStoppedException("The server was stopped unexpectedly.");
                             showNotificationStartServerError();
+                            scheduleRecovery();
                         });
 
                         // Starting process...
@@ -379,10 +412,16 @@ public class LanguageServerWrapper implements Disposable {
                         getClientFeatures().setServerCapabilities(serverCapabilities);
                         this.initiallySupportsWorkspaceFolders = supportsWorkspaceFolders(serverCapabilities);
                     }).thenRun(() -> this.languageServer.initialized(new InitializedParams())).thenRun(() -> {
+                        startedTime = System.currentTimeMillis();
+                        final var recoveryToReplay = this.recovery;
+                        this.recovery = null;
                         initializeFuture.thenRunAsync(() -> {
                             for (VirtualFile fileToReconnect : filesToReconnect) {
                                 connect(fileToReconnect, new LSPFileConnectionInfo(null, null, null,true));
                             }
+                            if (recoveryToReplay != null) {
+                                replayDocuments(recoveryToReplay, filesToReconnect);
+                            }
                         });
 
                         messageBusConnection = ApplicationManager.getApplication().getMessageBus().connect();
@@ -407,11 +446,144 @@ public class LanguageServerWrapper implements Disposable {
                         initializeFuture.completeExceptionally(serverError);
                         getLanguageServerLifecycleManager().onError(this, e);
                         stop(false);
+                        if (this.recovery == null) {
+                            this.recovery = new LanguageServerRecovery(Collections.emptyList());
+                        }
+                        scheduleRecovery();
                         return null;
                     });
         }
     }
 
+    /**
+     * Returns the recovery state with the opened documents and their last known diagnostics.
+     *
+     * @return the recovery state with the opened documents and their last known diagnostics.
+     */
+    private @NotNull LanguageServerRecovery createRecovery() {
+        var previousRecovery = this.recovery;
+        if (previousRecovery != null && openedDocuments.isEmpty()) {
+            // The documents of the previous stop have not been replayed yet
+            return previousRecovery;
+        }
+        List<LanguageServerRecovery.RecoveredDocument> documents = getOpenedDocuments()
+                .stream()
+                .map(openedDocument -> new LanguageServerRecovery.RecoveredDocument(openedDocument.getFile(),
+                        openedDocument.getSynchronizer().getDocument().getModificationStamp(),
+                        new ArrayList<>(openedDocument.getDiagnostics())))
+                .toList();
+        return new LanguageServerRecovery(documents);
+    }
+
+    /**
+     * Schedule the restart of the language server with an exponential backoff delay. When there are documents to recover
+     * the language server is restarted automatically after the delay, otherwise it is restarted by the next LSP request.
+     * <p>
+     * After {@link #MAX_NUMBER_OF_RESTART_ATTEMPTS} restart attempts, the language server is disabled by {@link #start()}.
+     */
+    private void scheduleRecovery() {
+        var recovery = this.recovery;
+        if (recovery == null) {
+            return;
+        }
+        long delay = recovery.scheduleRestart(numberOfRestartAttempts);
+        if (recovery.getDocuments().isEmpty() || ApplicationManager.getApplication().isUnitTestMode()) {
+            return;
+        }
+        AppExecutorUtil.getAppScheduledExecutorService().schedule(() -> {
+            if (!isDisposed() && this.recovery == recovery && isEnabled() && hasDocumentToReplay(recovery)) {
+                getInitializedServer();
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Replay in one batch the documents which were opened when the language server has stopped:
+     *
+     * <ul>
+     *     <li>the didOpen notifications are sent without waiting for each other.</li>
+     *     <li>the documents which have been closed during the backoff delay are not replayed.</li>
+     *     <li>the last known diagnostics are displayed until the restarted language server publishes new diagnostics,
+     *     if the document has not been modified.</li>
+     *     <li>the code visions and inlay hints, which may hold data of the stopped language server (ex : commands),
+     *     are evicted and refreshed.</li>
+     *     <li>the semantic tokens and folding ranges are refreshed without evicting their cache, the editors display
+     *     the last known results and only the requests which have failed with the stop are sent again.</li>
+     * </ul>
+     *
+     * @param recovery         the recovery state.
+     * @param filesToReconnect the files already reconnected.
+     */
+    private void replayDocuments(@NotNull LanguageServerRecovery recovery,
+                                 @NotNull List<VirtualFile> filesToReconnect) {
+        List<VirtualFile> replayedFiles = new ArrayList<>();
+        List<CompletableFuture<?>> didOpenFutures = new ArrayList<>();
+        for (var document : recovery.getDocuments()) {
+            VirtualFile file = document.file();
+            if (!isOpenedInEditor(file) || filesToReconnect.contains(file)) {
+                // The file has been closed during the backoff delay, don't send a didOpen which would never be followed by a didClose
+                continue;
+            }
+            replayedFiles.add(file);
+            didOpenFutures.add(connect(file, new LSPFileConnectionInfo(null, null, null, false))
+                    .thenCompose(ls -> {
+                        OpenedDocument openedDocument = getOpenedDocument(toUri(file));
+                        if (openedDocument == null) {
+                            return CompletableFuture.completedFuture(null);
+                        }
+                        var synchronizer = openedDocument.getSynchronizer();
+                        if (!document.diagnostics().isEmpty() &&
+                                openedDocument.getDiagnostics().isEmpty() &&
+                                synchronizer.getDocument().getModificationStamp() == document.modificationStamp()) {
+                            // Display the last known diagnostics before sending didOpen, the new diagnostics will replace them
+                            openedDocument.updateDiagnostics(document.diagnostics());
+                        }
+                        return synchronizer.getDidOpenFuture();
+                    }));
+        }
+        CompletableFuture.allOf(didOpenFutures.toArray(new CompletableFuture[0]))
+                .whenComplete((unused, error) -> {
+                    lastRecoveryDuration = System.currentTimeMillis() - recovery.getStopTime();
+                    LOGGER.info("Language server '{}' recovered with {} documents in {} ms",
+                            serverDefinition.getDisplayName(), replayedFiles.size(), lastRecoveryDuration);
+                    var editorFeatureManager = EditorFeatureManager.getInstance(getProject());
+                    for (var file : replayedFiles) {
+                        // Evict and refresh code visions, inlay hints with the restarted language server
+                        editorFeatureManager.scheduleRefresh(file, EnumSet.of(EditorFeatureType.CODE_VISION,
+                                EditorFeatureType.INLAY_HINT, EditorFeatureType.DECLARATIVE_INLAY_HINT), true);
+                        // Refresh semantic tokens, folding and keep their last results
+                        editorFeatureManager.scheduleRefresh(file, EnumSet.of(EditorFeatureType.SEMANTIC_TOKENS,
+                                EditorFeatureType.FOLDING), false);
+                    }
+                });
+    }
+
+    /**
+     * Returns true if one of the documents of the given recovery state is still opened in an editor and false otherwise.
+     *
+     * @param recovery the recovery state.
+     * @return true if one of the documents of the given recovery state is still opened in an editor and false otherwise.
+     */
+    private boolean hasDocumentToReplay(@NotNull LanguageServerRecovery recovery) {
+        return recovery.getDocuments()
+                .stream()
+                .anyMatch(document -> isOpenedInEditor(document.file()));
+    }
+
+    private boolean isOpenedInEditor(@NotNull VirtualFile file) {
+        return file.isValid() && FileEditorManager.getInstance(initialProject).isFileOpen(file);
+    }
+
+    /**
+     * Returns the duration in milliseconds between the last unexpected stop of the language server and
+     * the replay of its opened documents in the restarted language server and -1 if the language server has never recovered.
+     *
+     * @return the duration in milliseconds of the last recovery and -1 if the language server has never recovered.
+     */
+    public long getLastRecoveryDuration() {
+        return lastRecoveryDuration;
+    }
+
     /**
      * Show a notification error when server cannot be started.
      */
@@ -531,6 +703,7 @@ public class LanguageServerWrapper implements Disposable {
         }
         this.disposed = true;
         stopAndRefreshEditorFeature(refreshEditorFeature, false);
+        documentVersions.clear();
         stopDispatcher();
         if (clientFeatures != null) {
             clientFeatures.dispose();
@@ -600,9 +773,10 @@ public class LanguageServerWrapper implements Disposable {
             this.lspStreamProvider = null;
 
             while (!this.openedDocuments.isEmpty()) {
-                disconnect(this.openedDocuments.keySet().iterator().next(), false);
+                disconnect(this.openedDocuments.keySet().iterator().next(), false, true);
             }
             this.closedDocuments.clear();
+            this.requestRegistry.clear();
             this.languageServer = null;
             this.languageClient = null;
 
@@ -763,6 +937,8 @@ public class LanguageServerWrapper implements Disposable {
                 OpenedDocument data = new OpenedDocument(new LanguageServerItem(languageServer, this), file, synchronizer);
                 document.addDocumentListener(data.getDiagnosticsForServer());
                 LanguageServerWrapper.this.openedDocuments.put(fileUri, data);
+                // Record the language server to warm up it when the project is opened again
+                LanguageServerWarmupManager.getInstance(getProject()).serverUsed(serverDefinition);
 
                 if (waitForDidOpen) {
                     return getLanguageServerWhenDidOpen(synchronizer.getDidOpenFuture());
@@ -818,7 +994,9 @@ public class LanguageServerWrapper implements Disposable {
                 syncKind = syncOptions.getLeft();
             }
         }
-        return new DocumentContentSynchronizer(this, fileUri, file, document, documentText, languageId, syncKind);
+        Integer lastVersion = documentVersions.remove(toUri(file));
+        int initialVersion = lastVersion != null ? lastVersion : 0;
+        return new DocumentContentSynchronizer(this, fileUri, file, document, documentText, languageId, syncKind, initialVersion);
     }
 
     void disconnect(@NotNull VirtualFile file, boolean stopIfNoOpenedFiles) {
@@ -827,6 +1005,10 @@ public class LanguageServerWrapper implements Disposable {
     }
 
     void disconnect(@Nullable URI fileUri, boolean stopIfNoOpenedFiles) {
+        disconnect(fileUri, stopIfNoOpenedFiles, false);
+    }
+
+    private void disconnect(@Nullable URI fileUri, boolean stopIfNoOpenedFiles, boolean keepDocumentVersion) {
         if (fileUri == null) {
             return;
         }
@@ -837,6 +1019,16 @@ public class LanguageServerWrapper implements Disposable {
             synchronizer.getDocument().removeDocumentListener(synchronizer);
             synchronizer.getDocument().removeDocumentListener(data.getDiagnosticsForServer());
             synchronizer.dispose();
+            if (keepDocumentVersion) {
+                // Keep the last version of the document to continue it when the document is reconnected
+                documentVersions.put(fileUri, synchronizer.getVersion());
+            }
+            // Cancel the LSP requests sent for the closed document
+            requestRegistry.documentClosed(data.getFile());
+        }
+        if (!keepDocumentVersion) {
+            // The document is closed, its next didOpen can start a new version sequence
+            documentVersions.remove(fileUri);
         }
         if (stopIfNoOpenedFiles) {
             maybeShutdown();
@@ -854,6 +1046,15 @@ public class LanguageServerWrapper implements Disposable {
         }
     }
 
+    /**
+     * Stop the language server if it is started and if it must not be kept alive (ex : no document is connected to it).
+     */
+    public synchronized void stopIfUnused() {
+        if (isActive() && !keepAlive()) {
+            stop();
+        }
+    }
+
     private boolean keepAlive() {
         return getClientFeatures().keepServerAlive() || !this.openedDocuments.isEmpty() || this.keepAliveCounter.get() > 0;
     }
@@ -874,6 +1075,19 @@ public class LanguageServerWrapper implements Disposable {
         return openedDocuments.containsKey(fileUri);
     }
 
+    /**
+     * Disconnect the given file from the language server (textDocument/didClose) if it is not opened in an editor.
+     * It is used to close the files which have been opened by a batch processing (ex : batch formatting).
+     *
+     * @param file the file.
+     */
+    @ApiStatus.Internal
+    public void disconnectIfNotOpenedInEditor(@NotNull VirtualFile file) {
+        if (!FileEditorManager.getInstance(initialProject).isFileOpen(file)) {
+            disconnect(file, false);
+        }
+    }
+
     /**
      * Returns the LSP file data coming from this language server for the given file uri.
      *
@@ -884,6 +1098,15 @@ public class LanguageServerWrapper implements Disposable {
         return openedDocuments.get(fileUri);
     }
 
+    /**
+     * Returns the registry of the outstanding LSP requests sent to this language server.
+     *
+     * @return the registry of the outstanding LSP requests sent to this language server.
+     */
+    public @NotNull LSPRequestRegistry getRequestRegistry() {
+        return requestRegistry;
+    }
+
     /**
      * Returns all LSP files connected to this language server.
      *
@@ -969,7 +1192,8 @@ public class LanguageServerWrapper implements Disposable {
     }
 
     /**
-     * Warning: this is a long running operation
+     * Warning: this is a long running operation which blocks the calling thread until the language server
+     * is initialized, use {@link #getServerCapabilitiesAsync()} or {@link #getServerCapabilitiesSync()} instead.
      *
      * @return the server capabilities, or null if initialization job didn't
      * complete
@@ -977,7 +1201,11 @@ public class LanguageServerWrapper implements Disposable {
     @Nullable
     public ServerCapabilities getServerCapabilities() {
         try {
-            getInitializedServer().get(10, TimeUnit.SECONDS);
+            CompletableFuture<LanguageServer> initializedServer = getInitializedServer();
+            if (!initializedServer.isDone()) {
+                logBlockingCall();
+            }
+            initializedServer.get(10, TimeUnit.SECONDS);
         } catch (TimeoutException e) {
             LOGGER.warn("LanguageServer not initialized after 10s", e); //$NON-NLS-1$
         } catch (ExecutionException e) {
@@ -993,7 +1221,23 @@ public class LanguageServerWrapper implements Disposable {
     }
 
     /**
-     * Returns the server capabilities if it is ready and null otherwise.
+     * Log the call site of the blocking {@link #getServerCapabilities()} while the language server is starting, once per call site.
+     */
+    private void logBlockingCall() {
+        // [0] getStackTrace, [1] logBlockingCall, [2] getServerCapabilities, [3] the caller
+        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
+        String callSite = stackTrace.length > 3 ? stackTrace[3].toString() : "unknown";
+        if (BLOCKING_CALL_SITES.add(callSite)) {
+            LOGGER.warn("Blocking call of getServerCapabilities() from '{}' in the {} thread '{}' while the language server '{}' is starting, use getServerCapabilitiesAsync() instead",
+                    callSite,
+                    ApplicationManager.getApplication().isDispatchThread() ? "EDT" : "background",
+                    Thread.currentThread().getName(),
+                    serverDefinition.getDisplayName());
+        }
+    }
+
+    /**
+     * Returns the server capabilities if it is ready and null otherwise (the server capabilities are not yet known).
      *
      * @return the server capabilities if it is ready and null otherwise.
      */
@@ -1002,6 +1246,19 @@ public class LanguageServerWrapper implements Disposable {
         return serverCapabilities;
     }
 
+    /**
+     * Returns the server capabilities once the language server is initialized without blocking the calling thread.
+     * The language server is started if needed.
+     *
+     * @return the server capabilities once the language server is initialized, or null if the language server
+     * cannot be started.
+     */
+    @NotNull
+    public CompletableFuture<@Nullable ServerCapabilities> getServerCapabilitiesAsync() {
+        return getInitializedServer()
+                .thenApply(unused -> this.serverCapabilities);
+    }
+
     public void registerCapability(RegistrationParams params) {
         if (initializeFuture == null) {
             return;
@@ -1103,7 +1360,8 @@ public class LanguageServerWrapper implements Disposable {
     }
 
     synchronized void registerCommands(List<String> newCommands) {
-        ServerCapabilities caps = this.getServerCapabilities();
+        // Called when the language server is initialized
+        ServerCapabilities caps = this.getServerCapabilitiesSync();
         if (caps != null) {
             ExecuteCommandOptions commandProvider = caps.getExecuteCommandProvider();
             if (commandProvider == null) {
@@ -1135,7 +1393,7 @@ public class LanguageServerWrapper implements Disposable {
     }
 
     void unregisterCommands(List<String> cmds) {
-        ServerCapabilities caps = this.getServerCapabilities();
+        ServerCapabilities caps = this.getServerCapabilitiesSync();
         if (caps != null) {
             ExecuteCommandOptions commandProvider = caps.getExecuteCommandProvider();
             if (commandProvider != null) {
@@ -1237,6 +1495,16 @@ public class LanguageServerWrapper implements Disposable {
         return serverDefinition;
     }
 
+    /**
+     * Returns the language client and null if the language server is not started.
+     *
+     * @return the language client and null if the language server is not started.
+     */
+    @Nullable
+    public LanguageClientImpl getLanguageClient() {
+        return languageClient;
+    }
+
     /**
      * Returns true if the given file support the 'workspace/willRenameFiles' and false otherwise.
      *
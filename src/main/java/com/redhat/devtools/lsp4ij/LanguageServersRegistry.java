@@ -21,6 +21,7 @@ import com.intellij.openapi.fileTypes.FileType;
 import com.intellij.openapi.fileTypes.FileTypeManager;
 import com.intellij.openapi.fileTypes.PlainTextLanguage;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.intellij.testFramework.LightVirtualFile;
@@ -62,6 +63,13 @@ public class LanguageServersRegistry {
 
     private final List<LanguageServerFileAssociation> fileAssociations = new ArrayList<>();
 
+    private static final Key<CachedFileAssociations> FILE_ASSOCIATIONS_KEY = Key.create("lsp.file.associations");
+
+    // Incremented each time the file associations change to invalidate the index and the associations cached per file
+    private volatile long fileAssociationsModificationStamp;
+
+    private volatile @Nullable LanguageServerFileAssociationIndex fileAssociationIndex;
+
     private final Map<String /* languageId (ex : typescript) */,
             List<String> /* file extensions (ex : ts) */> languageIdFileExtensionsCache = new HashMap<>();
 
@@ -280,9 +288,98 @@ public class LanguageServersRegistry {
      * This does <strong>not</strong> include the one that match transitively as per content-type hierarchy
      */
     List<LanguageServerFileAssociation> findLanguageServerDefinitionFor(final @Nullable Language language, @Nullable FileType fileType, @NotNull String fileName) {
-        return fileAssociations.stream()
-                .filter(mapping -> mapping.match(language, fileType, fileName))
-                .collect(Collectors.toList());
+        return getFileAssociationIndex().find(language, fileType, fileName);
+    }
+
+    /**
+     * Returns the file associations which match the given file by its language, its file type or its file name.
+     *
+     * <p>
+     * The result is cached in the given file until the file associations, the language, the file type or the file name change.
+     * </p>
+     *
+     * @param file     the file.
+     * @param language the language of the file.
+     * @param fileType the file type of the file.
+     * @return the file associations which match the given file by its language, its file type or its file name.
+     */
+    @NotNull
+    List<LanguageServerFileAssociation> findLanguageServerDefinitionFor(@NotNull VirtualFile file,
+                                                                        @Nullable Language language,
+                                                                        @NotNull FileType fileType) {
+        var index = getFileAssociationIndex();
+        String fileName = file.getName();
+        CachedFileAssociations cached = file.getUserData(FILE_ASSOCIATIONS_KEY);
+        if (cached != null && cached.isValid(index.getModificationStamp(), language, fileType, fileName)) {
+            return cached.associations();
+        }
+        List<LanguageServerFileAssociation> associations = language != null ?
+                mergeAssociations(index.find(language, null, fileName), index.find(null, fileType, fileName)) :
+                index.find(null, fileType, fileName);
+        file.putUserData(FILE_ASSOCIATIONS_KEY, new CachedFileAssociations(index.getModificationStamp(), language, fileType, fileName, associations));
+        return associations;
+    }
+
+    private static List<LanguageServerFileAssociation> mergeAssociations(@NotNull List<LanguageServerFileAssociation> first,
+                                                                         @NotNull List<LanguageServerFileAssociation> second) {
+        if (first.isEmpty()) {
+            return second;
+        }
+        if (second.isEmpty()) {
+            return first;
+        }
+        Set<LanguageServerFileAssociation> merged = new LinkedHashSet<>(first);
+        merged.addAll(second);
+        return List.copyOf(merged);
+    }
+
+    private @NotNull LanguageServerFileAssociationIndex getFileAssociationIndex() {
+        var index = fileAssociationIndex;
+        if (index != null) {
+            return index;
+        }
+        synchronized (fileAssociations) {
+            index = fileAssociationIndex;
+            if (index == null) {
+                index = new LanguageServerFileAssociationIndex(fileAssociations, fileAssociationsModificationStamp);
+                fileAssociationIndex = index;
+            }
+            return index;
+        }
+    }
+
+    private void addFileAssociation(@NotNull LanguageServerFileAssociation association) {
+        synchronized (fileAssociations) {
+            fileAssociations.add(association);
+        }
+        fileAssociationsChanged();
+    }
+
+    private void fileAssociationsChanged() {
+        synchronized (fileAssociations) {
+            fileAssociationsModificationStamp++;
+            fileAssociationIndex = null;
+        }
+    }
+
+    /**
+     * File associations cached in a {@link VirtualFile}.
+     */
+    private record CachedFileAssociations(long modificationStamp,
+                                          @Nullable Language language,
+                                          @NotNull FileType fileType,
+                                          @NotNull String fileName,
+                                          @NotNull List<LanguageServerFileAssociation> associations) {
+
+        boolean isValid(long modificationStamp,
+                        @Nullable Language language,
+                        @NotNull FileType fileType,
+                        @NotNull String fileName) {
+            return this.modificationStamp == modificationStamp &&
+                    Objects.equals(this.language, language) &&
+                    this.fileType.equals(fileType) &&
+                    this.fileName.equals(fileName);
+        }
     }
 
     public List<LanguageServerFileAssociation> findLanguageServerDefinitionFor(final @NotNull String serverId) {
@@ -298,14 +395,14 @@ public class LanguageServersRegistry {
             if (!StringUtils.isEmpty(languageId)) {
                 serverDefinition.registerAssociation(language, languageId);
             }
-            fileAssociations.add(new LanguageServerFileAssociation(language, serverDefinition, mapping.getDocumentMatcher(), languageId));
+            addFileAssociation(new LanguageServerFileAssociation(language, serverDefinition, mapping.getDocumentMatcher(), languageId));
         } else if (mapping instanceof ServerFileTypeMapping fileTypeMapping) {
             @NotNull FileType fileType = fileTypeMapping.getFileType();
             @Nullable String languageId = mapping.getLanguageId();
             if (!StringUtils.isEmpty(languageId)) {
                 serverDefinition.registerAssociation(fileType, languageId);
             }
-            fileAssociations.add(new LanguageServerFileAssociation(fileType, serverDefinition, mapping.getDocumentMatcher(), languageId));
+            addFileAssociation(new LanguageServerFileAssociation(fileType, serverDefinition, mapping.getDocumentMatcher(), languageId));
         } else if (mapping instanceof ServerFileNamePatternMapping fileNamePatternMapping) {
             List<FileNameMatcher> matchers = fileNamePatternMapping.getFileNameMatchers();
             @Nullable String languageId = mapping.getLanguageId();
@@ -327,7 +424,7 @@ public class LanguageServersRegistry {
                         .toList());
 
             }
-            fileAssociations.add(new LanguageServerFileAssociation(matchers, serverDefinition, mapping.getDocumentMatcher(), languageId));
+            addFileAssociation(new LanguageServerFileAssociation(matchers, serverDefinition, mapping.getDocumentMatcher(), languageId));
         }
     }
 
@@ -423,7 +520,10 @@ public class LanguageServersRegistry {
                 .stream()
                 .filter(mapping -> definition.equals(mapping.getServerDefinition()))
                 .toList();
-        fileAssociations.removeAll(mappingsToRemove);
+        synchronized (fileAssociations) {
+            fileAssociations.removeAll(mappingsToRemove);
+        }
+        fileAssociationsChanged();
         definition.removeAssociations();
     }
 
@@ -543,9 +643,7 @@ public class LanguageServersRegistry {
                                     @Nullable VirtualFile file,
                                     @Nullable PsiFile psiFile,
                                     @NotNull Project project) {
-        if (fileAssociations
-                .stream()
-                .anyMatch(mapping -> mapping.match(language, fileType, filename))) {
+        if (getFileAssociationIndex().matches(language, fileType, filename)) {
             @Nullable VirtualFile f = file != null ? file : psiFile.getVirtualFile();
             if (f!= null && !f.isInLocalFileSystem()) {
                 if (f instanceof LightVirtualFile) {
@@ -579,9 +677,7 @@ public class LanguageServersRegistry {
 
         FileType fileType = virtualFile.getFileType();
         String fileName = virtualFile.getName();
-        if (fileAssociations
-                .stream()
-                .anyMatch(mapping -> mapping.match(language, fileType, fileName))) {
+        if (getFileAssociationIndex().matches(language, fileType, fileName)) {
             return virtualFile.isInLocalFileSystem() || !(virtualFile instanceof LightVirtualFile);
         }
 
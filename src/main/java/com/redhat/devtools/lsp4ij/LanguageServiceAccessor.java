@@ -154,6 +154,23 @@ public class LanguageServiceAccessor implements Disposable {
         }
     }
 
+    /**
+     * Start the language servers of the given definition which are not started, without restarting
+     * the started language servers.
+     *
+     * @param serverDefinition the language server definition.
+     * @return a future which is completed when the language servers are initialized.
+     */
+    @ApiStatus.Internal
+    public CompletableFuture<Void> startLanguageServerIfNeeded(@NotNull LanguageServerDefinition serverDefinition) {
+        LinkedHashSet<LanguageServerWrapper> matchedServers = new LinkedHashSet<>();
+        collectLanguageServersFromDefinition(null, Set.of(serverDefinition), matchedServers, null);
+        return CompletableFuture.allOf(matchedServers
+                .stream()
+                .map(LanguageServerWrapper::getInitializedServer)
+                .toArray(CompletableFuture[]::new));
+    }
+
     /**
      * For all opened files of the project:
      * <ul>
@@ -294,11 +311,51 @@ public class LanguageServiceAccessor implements Disposable {
         return getLanguageServers(file, beforeStartingServerFilter, afterStartingServerFilter, null);
     }
 
+    /**
+     * Returns the started language servers which match the given file without connecting the file to them
+     * (no 'textDocument/didOpen' is sent).
+     *
+     * @param file                       the file.
+     * @param beforeStartingServerFilter the filter applied before starting the language servers.
+     * @param afterStartingServerFilter  the filter applied after starting the language servers.
+     * @return the started language servers which match the given file.
+     */
     @NotNull
-    CompletableFuture<@NotNull List<LanguageServerItem>> getLanguageServers(@NotNull PsiFile psiFile,
-                                                                            @Nullable Predicate<LSPClientFeatures> beforeStartingServerFilter,
-                                                                            @Nullable Predicate<LSPClientFeatures> afterStartingServerFilter,
-                                                                            @Nullable LanguageServerDefinition matchServerDefinition) {
+    public CompletableFuture<@NotNull List<LanguageServerItem>> getLanguageServersWithoutConnecting(@NotNull PsiFile file,
+                                                                                                   @Nullable Predicate<LSPClientFeatures> beforeStartingServerFilter,
+                                                                                                   @Nullable Predicate<LSPClientFeatures> afterStartingServerFilter) {
+        var virtualFile = file.getVirtualFile();
+        final List<LanguageServerItem> servers = Collections.synchronizedList(new ArrayList<>());
+        return getMatchedLanguageServersWrappers(file, null, beforeStartingServerFilter)
+                .thenComposeAsync(result -> CompletableFuture.allOf(result
+                        .stream()
+                        .filter(LanguageServerWrapper::isEnabled)
+                        .filter(wrapper -> wrapper.getClientFeatures().isEnabled(virtualFile))
+                        .map(wrapper -> wrapper.getInitializedServer()
+                                .thenAccept(server -> {
+                                    if (server != null &&
+                                            (afterStartingServerFilter == null || afterStartingServerFilter.test(wrapper.getClientFeatures()))) {
+                                        servers.add(new LanguageServerItem(server, wrapper));
+                                    }
+                                }))
+                        .toArray(CompletableFuture[]::new)))
+                .thenApply(theVoid -> servers);
+    }
+
+    /**
+     * Returns the language servers which match the given file, start them and connect the file to them.
+     *
+     * @param psiFile                    the file.
+     * @param beforeStartingServerFilter the filter applied before starting the language servers.
+     * @param afterStartingServerFilter  the filter applied after starting the language servers.
+     * @param matchServerDefinition      the only language server definition to use and null to use all matched definitions.
+     * @return the language servers which match the given file.
+     */
+    @NotNull
+    public CompletableFuture<@NotNull List<LanguageServerItem>> getLanguageServers(@NotNull PsiFile psiFile,
+                                                                                   @Nullable Predicate<LSPClientFeatures> beforeStartingServerFilter,
+                                                                                   @Nullable Predicate<LSPClientFeatures> afterStartingServerFilter,
+                                                                                   @Nullable LanguageServerDefinition matchServerDefinition) {
         // Collect started (or not) language servers which matches the given file.
         CompletableFuture<Collection<LanguageServerWrapper>> matchedServers = getMatchedLanguageServersWrappers(psiFile, matchServerDefinition, beforeStartingServerFilter);
         var matchedServersNow = matchedServers.getNow(Collections.emptyList());
@@ -523,58 +580,36 @@ public class LanguageServiceAccessor implements Disposable {
         Set<LanguageServerDefinition> syncMatchedDefinitions = null;
         Set<LanguageServerFileAssociation> asyncMatchedDefinitions = null;
 
-        // look for running language servers via content-type
-        Queue<Object> languages = new LinkedList<>();
-        Set<Object> processedContentTypes = new HashSet<>();
+        // look for language servers via the language, the file type and the file name
         Language language = LSPIJUtils.getFileLanguage(psiFile);
-        if (language != null) {
-            languages.add(language);
-        }
         FileType fileType = psiFile.getFileType();
-        languages.add(fileType);
-
-        while (!languages.isEmpty()) {
-            Object contentType = languages.poll();
-            if (processedContentTypes.contains(contentType)) {
+        for (LanguageServerFileAssociation mapping : findFileAssociations(file, psiFile.getName(), language, fileType)) {
+            if (mapping == null || !mapping.isEnabled(project) || (syncMatchedDefinitions != null && syncMatchedDefinitions.contains(mapping.getServerDefinition()))) {
+                // the mapping is disabled
+                // or the server definition has been already added
                 continue;
             }
-            Language currentLanguage = null;
-            FileType currentFileType = null;
-            if (contentType instanceof FileType) {
-                currentFileType = (FileType) contentType;
-            } else {
-                currentLanguage = (Language) contentType;
-            }
-            // Loop for server/language mapping
-            for (LanguageServerFileAssociation mapping : LanguageServersRegistry.getInstance()
-                    .findLanguageServerDefinitionFor(currentLanguage, currentFileType, psiFile.getName())) {
-                if (mapping == null || !mapping.isEnabled(project) || (syncMatchedDefinitions != null && syncMatchedDefinitions.contains(mapping.getServerDefinition()))) {
-                    // the mapping is disabled
-                    // or the server definition has been already added
-                    continue;
+            if (ignoreMatch) {
+                if (syncMatchedDefinitions == null) {
+                    syncMatchedDefinitions = new HashSet<>();
                 }
-                if (ignoreMatch) {
-                    if (syncMatchedDefinitions == null) {
-                        syncMatchedDefinitions = new HashSet<>();
+                syncMatchedDefinitions.add(mapping.getServerDefinition());
+            } else {
+                if (mapping.shouldBeMatchedAsynchronously(project)) {
+                    // Async mapping
+                    // Mapping must be done asynchronously because the match of DocumentMatcher of the mapping need to be done asynchronously
+                    // This usecase comes from for instance when custom match need to collect classes from the Java project and requires read only action.
+                    if (asyncMatchedDefinitions == null) {
+                        asyncMatchedDefinitions = new HashSet<>();
                     }
-                    syncMatchedDefinitions.add(mapping.getServerDefinition());
+                    asyncMatchedDefinitions.add(mapping);
                 } else {
-                    if (mapping.shouldBeMatchedAsynchronously(project)) {
-                        // Async mapping
-                        // Mapping must be done asynchronously because the match of DocumentMatcher of the mapping need to be done asynchronously
-                        // This usecase comes from for instance when custom match need to collect classes from the Java project and requires read only action.
-                        if (asyncMatchedDefinitions == null) {
-                            asyncMatchedDefinitions = new HashSet<>();
-                        }
-                        asyncMatchedDefinitions.add(mapping);
-                    } else {
-                        // Sync mapping
-                        if (match(file, project, mapping)) {
-                            if (syncMatchedDefinitions == null) {
-                                syncMatchedDefinitions = new HashSet<>();
-                            }
-                            syncMatchedDefinitions.add(mapping.getServerDefinition());
+                    // Sync mapping
+                    if (match(file, project, mapping)) {
+                        if (syncMatchedDefinitions == null) {
+                            syncMatchedDefinitions = new HashSet<>();
                         }
+                        syncMatchedDefinitions.add(mapping.getServerDefinition());
                     }
                 }
             }
@@ -605,6 +640,23 @@ public class LanguageServiceAccessor implements Disposable {
         return MatchedLanguageServerDefinitions.NO_MATCH;
     }
 
+    private static List<LanguageServerFileAssociation> findFileAssociations(@Nullable VirtualFile file,
+                                                                            @NotNull String fileName,
+                                                                            @Nullable Language language,
+                                                                            @NotNull FileType fileType) {
+        var registry = LanguageServersRegistry.getInstance();
+        if (file != null) {
+            // The file associations are cached in the file
+            return registry.findLanguageServerDefinitionFor(file, language, fileType);
+        }
+        Set<LanguageServerFileAssociation> mappings = new LinkedHashSet<>();
+        if (language != null) {
+            mappings.addAll(registry.findLanguageServerDefinitionFor(language, null, fileName));
+        }
+        mappings.addAll(registry.findLanguageServerDefinitionFor(null, fileType, fileName));
+        return new ArrayList<>(mappings);
+    }
+
     private static boolean match(VirtualFile file, Project fileProject, LanguageServerFileAssociation mapping) {
         if (!ApplicationManager.getApplication().isReadAccessAllowed()) {
             return ReadAction.compute(() -> mapping.match(file, fileProject));
@@ -12,12 +12,9 @@ package com.redhat.devtools.lsp4ij.client;
 
 import com.google.gson.JsonObject;
 import com.intellij.openapi.Disposable;
-import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.psi.PsiFile;
-import com.intellij.util.concurrency.AppExecutorUtil;
 import com.redhat.devtools.lsp4ij.*;
 import com.redhat.devtools.lsp4ij.client.features.LSPClientFeatures;
 import com.redhat.devtools.lsp4ij.features.diagnostics.LSPDiagnosticHandler;
@@ -28,12 +25,13 @@ import com.redhat.devtools.lsp4ij.server.definition.LanguageServerDefinition;
 import org.eclipse.lsp4j.*;
 import org.eclipse.lsp4j.services.LanguageClient;
 import org.eclipse.lsp4j.services.LanguageServer;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
@@ -152,7 +150,7 @@ public class LanguageClientImpl implements LanguageClient, Disposable {
         for (var openedDocument : wrapper.getOpenedDocuments()) {
             VirtualFile file = openedDocument.getFile();
             EditorFeatureManager.getInstance(getProject())
-                    .refreshEditorFeature(file, EditorFeatureType.CODE_VISION, true);
+                    .scheduleRefresh(file, EnumSet.of(EditorFeatureType.CODE_VISION), true);
         }
     }
 
@@ -169,9 +167,8 @@ public class LanguageClientImpl implements LanguageClient, Disposable {
     private void refreshInlayHintsForAllOpenedFiles() {
         for (var openedDocument : wrapper.getOpenedDocuments()) {
             VirtualFile file = openedDocument.getFile();
-            EditorFeatureManager efm = EditorFeatureManager.getInstance(getProject());
-            efm.refreshEditorFeature(file, EditorFeatureType.INLAY_HINT, true);
-            efm.refreshEditorFeature(file, EditorFeatureType.DECLARATIVE_INLAY_HINT, true);
+            EditorFeatureManager.getInstance(getProject())
+                    .scheduleRefresh(file, EnumSet.of(EditorFeatureType.INLAY_HINT, EditorFeatureType.DECLARATIVE_INLAY_HINT), true);
         }
     }
 
@@ -187,21 +184,12 @@ public class LanguageClientImpl implements LanguageClient, Disposable {
 
     private void refreshSemanticTokensForAllOpenedFiles() {
         // Received request 'workspace/semanticTokens/refresh
-        ReadAction.nonBlocking((Callable<Void>) () -> {
-                    for (var openedDocument : wrapper.getOpenedDocuments()) {
-                        VirtualFile file = openedDocument.getFile();
-                        PsiFile psiFile = LSPIJUtils.getPsiFile(file, project);
-                        if (psiFile != null) {
-                            var fileSupport = LSPFileSupport.getSupport(psiFile);
-                            // Evict the semantic tokens cache
-                            fileSupport.getSemanticTokensSupport().cancel();
-                            // Refresh the UI
-                            fileSupport.restartDaemonCodeAnalyzerWithDebounce();
-                        }
-                    }
-                    return null;
-                }).coalesceBy(this)
-                .submit(AppExecutorUtil.getAppExecutorService());
+        for (var openedDocument : wrapper.getOpenedDocuments()) {
+            VirtualFile file = openedDocument.getFile();
+            // Evict the semantic tokens cache and refresh the UI
+            EditorFeatureManager.getInstance(getProject())
+                    .scheduleRefresh(file, EnumSet.of(EditorFeatureType.SEMANTIC_TOKENS), true);
+        }
     }
 
     @Override
@@ -231,6 +219,16 @@ public class LanguageClientImpl implements LanguageClient, Disposable {
         progressManager.notifyProgress(params);
     }
 
+    /**
+     * Returns the LSP progress manager.
+     *
+     * @return the LSP progress manager.
+     */
+    @ApiStatus.Internal
+    public @NotNull LSPProgressManager getProgressManager() {
+        return progressManager;
+    }
+
     @Override
     public CompletableFuture<List<Object>> configuration(ConfigurationParams params) {
         return CompletableFuture.supplyAsync(() -> {
@@ -273,6 +273,20 @@ public class LSPCompletionFeature extends AbstractLSPDocumentFeature {
         return true;
     }
 
+    /**
+     * Returns true if the completion item must be resolved in background as soon as it is visible in the completion lookup
+     * and false otherwise.
+     *
+     * @param item the completion item which is visible.
+     * @param file the file.
+     * @return true if the completion item must be resolved in background as soon as it is visible in the completion lookup
+     * and false otherwise.
+     */
+    public boolean shouldPrefetchResolve(@NotNull CompletionItem item,
+                                         @NotNull PsiFile file) {
+        return true;
+    }
+
     public CompletionCapabilityRegistry getCompletionCapabilityRegistry() {
         if (completionCapabilityRegistry == null) {
             initCompletionCapabilityRegistry();
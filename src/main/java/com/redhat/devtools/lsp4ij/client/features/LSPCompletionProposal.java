@@ -60,6 +60,7 @@ import java.util.concurrent.ExecutionException;
 
 import static com.redhat.devtools.lsp4ij.features.completion.snippet.LspSnippetVariableConstants.*;
 import static com.redhat.devtools.lsp4ij.features.documentation.LSPDocumentationHelper.convertToHtml;
+import static com.redhat.devtools.lsp4ij.features.documentation.LSPDocumentationHelper.toDocumentationResult;
 import static com.redhat.devtools.lsp4ij.features.documentation.LSPDocumentationHelper.getValidMarkupContents;
 import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.isDoneNormally;
 import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.waitUntilDone;
@@ -87,7 +88,8 @@ public class LSPCompletionProposal extends LookupElement implements Pointer<LSPC
 
     private final Editor editor;
 
-    private CompletableFuture<CompletionItem> resolvedCompletionItemFuture;
+    // Written under the lock of resolveCompletionItemAsync() and read without lock by the renderer and the documentation
+    private volatile CompletableFuture<CompletionItem> resolvedCompletionItemFuture;
 
     public LSPCompletionProposal(@NotNull CompletionItem item,
                                  @NotNull LSPCompletionFeature.LSPCompletionContext completionContext,
@@ -270,23 +272,20 @@ public class LSPCompletionProposal extends LookupElement implements Pointer<LSPC
     @Override
     public @Nullable LookupElementRenderer<? extends LookupElement> getExpensiveRenderer() {
         if (!isSelectedCompletionItem()) {
-            // The lookup item is not selected ignore it
+            // The lookup item is not selected, use the resolved completion item only if it has been prefetched
+            var prefetchedCompletionItemFuture = resolvedCompletionItemFuture;
+            if (needToResolveCompletionDetail() && isDoneNormally(prefetchedCompletionItemFuture)) {
+                return createDetailRenderer(prefetchedCompletionItemFuture.getNow(null));
+            }
             return null;
         }
         // Here the IJ lookup item is selected.
         if (needToResolveCompletionDetail()) {
             // The LSP completion item 'detail' is not filled, try to resolve it
             // inside getExpensiveRenderer() which should not impact performance.
-            CompletionItem resolved = getResolvedCompletionItem();
-            if (resolved != null && resolved.getDetail() != null) {
-                item.setDetail(resolved.getDetail());
-
-                return new LookupElementRenderer<LookupElement>() {
-                    @Override
-                    public void renderElement(LookupElement element, LookupElementPresentation presentation) {
-                        LSPCompletionProposal.this.renderElement(presentation);
-                    }
-                };
+            var renderer = createDetailRenderer(getResolvedCompletionItem());
+            if (renderer != null) {
+                return renderer;
             }
         }
         if (item.getDetail() == null) {
@@ -296,6 +295,20 @@ public class LSPCompletionProposal extends LookupElement implements Pointer<LSPC
         return null;
     }
 
+    @Nullable
+    private LookupElementRenderer<LookupElement> createDetailRenderer(@Nullable CompletionItem resolved) {
+        if (resolved == null || resolved.getDetail() == null) {
+            return null;
+        }
+        item.setDetail(resolved.getDetail());
+        return new LookupElementRenderer<>() {
+            @Override
+            public void renderElement(LookupElement element, LookupElementPresentation presentation) {
+                LSPCompletionProposal.this.renderElement(presentation);
+            }
+        };
+    }
+
     /**
      * Returns true if the LSP completion item 'detail' must be resolved and false otherwise.
      *
@@ -486,11 +499,7 @@ public class LSPCompletionProposal extends LookupElement implements Pointer<LSPC
      * @return the resolved completion item and null otherwise.
      */
     private CompletionItem getResolvedCompletionItem() {
-        if (resolvedCompletionItemFuture == null) {
-            resolvedCompletionItemFuture = completionContext.getLanguageServer().getServer()
-                    .getTextDocumentService()
-                    .resolveCompletionItem(item);
-        }
+        var resolvedCompletionItemFuture = resolveCompletionItemAsync();
         try {
             // Wait until the future is finished and stop the wait if there are some ProcessCanceledException.
             waitUntilDone(resolvedCompletionItemFuture, file);
@@ -512,6 +521,36 @@ public class LSPCompletionProposal extends LookupElement implements Pointer<LSPC
         return null;
     }
 
+    /**
+     * Returns the future of the resolved completion item and sends the 'completionItem/resolve' request if needed.
+     * <p>
+     * The future is cached by this lookup element for the lifetime of the completion lookup,
+     * so the request is sent only once, whether it is triggered by the resolve prefetcher or by
+     * the renderer / insert handler. A cancelled future is discarded and the request is sent again.
+     * </p>
+     *
+     * @return the future of the resolved completion item.
+     */
+    @NotNull
+    public synchronized CompletableFuture<CompletionItem> resolveCompletionItemAsync() {
+        if (resolvedCompletionItemFuture == null || resolvedCompletionItemFuture.isCancelled()) {
+            resolvedCompletionItemFuture = completionContext.getLanguageServer().getServer()
+                    .getTextDocumentService()
+                    .resolveCompletionItem(item);
+        }
+        return resolvedCompletionItemFuture;
+    }
+
+    /**
+     * Returns true if the LSP completion item can be resolved in background before it is selected and false otherwise.
+     *
+     * @return true if the LSP completion item can be resolved in background before it is selected and false otherwise.
+     */
+    public boolean canPrefetchResolvedCompletionItem() {
+        return completionContext.isResolveCompletionSupported() &&
+                completionFeature.shouldPrefetchResolve(item, file);
+    }
+
     /**
      * Returns true if the LSP completion item is selected and false otherwise.
      *
@@ -629,9 +668,10 @@ public class LSPCompletionProposal extends LookupElement implements Pointer<LSPC
             if (contents.isEmpty()) {
                 return null;
             }
-            return DocumentationResult.documentation(convertToHtml(contents, null, file));
+            return toDocumentationResult(contents, null, file);
         } else if (completionContext.isResolveCompletionSupported()) {
-            if (resolvedCompletionItemFuture != null && resolvedCompletionItemFuture.isDone()) {
+            var prefetchedCompletionItemFuture = resolvedCompletionItemFuture;
+            if (prefetchedCompletionItemFuture != null && prefetchedCompletionItemFuture.isDone()) {
                 CompletionItem resolved = getResolvedCompletionItem();
                 if (resolved != null) {
                     item.setDocumentation(resolved.getDocumentation());
@@ -640,7 +680,7 @@ public class LSPCompletionProposal extends LookupElement implements Pointer<LSPC
                 if (contents.isEmpty()) {
                     return null;
                 }
-                return DocumentationResult.documentation(convertToHtml(contents, null, file));
+                return toDocumentationResult(contents, null, file);
             } else {
                 DocumentationResult.asyncDocumentation(() -> {
                     // The LSP completion item 'documentation' is not filled, try to resolve it
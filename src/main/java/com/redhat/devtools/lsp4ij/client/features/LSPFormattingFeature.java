@@ -135,6 +135,21 @@ public class LSPFormattingFeature extends AbstractLSPDocumentFeature {
         }
     }
 
+    /**
+     * Whether or not a formatting response which replaces the whole document is reduced to the fine-grained changes
+     * computed with a diff between the document text and the formatted text. Defaults to true.
+     * <p>
+     * Only the changed parts of the formatting response are applied to the document, so that the range markers,
+     * the folding regions and the PSI of the unchanged parts are preserved.
+     *
+     * @param file the file
+     * @return true if a whole document formatting response should be reduced to fine-grained changes; otherwise false
+     */
+    public boolean isMinimalDiffFormattingEnabled(@NotNull PsiFile file) {
+        // Default to enabled
+        return true;
+    }
+
     // Server-side on-type formatting
 
     /**
@@ -67,6 +67,18 @@ public class LSPHoverFeature extends AbstractLSPDocumentFeature {
         }
     }
 
+    /**
+     * Whether or not the hover of the identifier at the caret is loaded in background when the caret stays idle,
+     * so that the quick documentation is displayed immediately. Defaults to false.
+     *
+     * @param file the file
+     * @return true if the hover should be prefetched for the file; otherwise false
+     */
+    public boolean isHoverPrefetchEnabled(@NotNull PsiFile file) {
+        // Default to disabled
+        return false;
+    }
+
     /**
      * Returns the HTML content from the given LSP Markup content and null otherwise.
      *
@@ -74,4 +74,15 @@ public class LSPSignatureHelpFeature extends AbstractLSPDocumentFeature {
         return getSignatureHelpCapabilityRegistry().isSignatureTriggerCharactersSupported(file, charTyped);
     }
 
+    /**
+     * Returns true if the given character is defined as "signature retrigger" or "signature trigger" in the server capability of the language server and false otherwise.
+     *
+     * @param file the file.
+     * @param charTyped the current typed character.
+     * @return true if the given character is defined as "signature retrigger" or "signature trigger" in the server capability of the language server and false otherwise.
+     */
+    public boolean isSignatureRetriggerCharactersSupported(@NotNull PsiFile file, String charTyped) {
+        return getSignatureHelpCapabilityRegistry().isSignatureRetriggerCharactersSupported(file, charTyped);
+    }
+
 }
@@ -55,4 +55,17 @@ public class LSPWorkspaceSymbolFeature extends AbstractLSPWorkspaceFeature {
         // Default to unsupported
         return false;
     }
+
+    /**
+     * Returns true if the 'workspace/symbol' and 'textDocument/documentSymbol' responses of the language server
+     * must be stored in the persistent workspace symbol index used to answer Go to Symbol / Go to Class
+     * before the language server answers and false otherwise.
+     *
+     * @return true if the symbols of the language server must be stored in the persistent workspace symbol index
+     * and false otherwise.
+     */
+    public boolean isSymbolIndexEnabled() {
+        // Default to enabled
+        return true;
+    }
 }
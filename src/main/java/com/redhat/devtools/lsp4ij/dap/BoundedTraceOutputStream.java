@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.dap;
+
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+/**
+ * Trace output stream which never blocks the DAP transport streams: the traced bytes are queued and written to the
+ * trace stream in background. When more than {@link #MAX_QUEUED_BYTES} bytes are waiting, the next traced bytes
+ * are dropped and the number of dropped bytes is written in the trace before the next accepted bytes.
+ */
+public class BoundedTraceOutputStream extends OutputStream {
+
+    static final int MAX_QUEUED_BYTES = 4 * 1024 * 1024;
+
+    private final @NotNull OutputStream trace;
+    private final @NotNull Executor executor;
+    private final ArrayDeque<byte[]> queue = new ArrayDeque<>();
+    private int queuedBytes;
+    private long droppedBytes;
+    private boolean draining;
+
+    public BoundedTraceOutputStream(@NotNull OutputStream trace) {
+        this.trace = trace;
+        this.executor = AppExecutorUtil.createBoundedApplicationPoolExecutor("DAP trace", 1);
+    }
+
+    @Override
+    public void write(int b) {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte @NotNull [] b, int off, int len) {
+        if (len <= 0) {
+            return;
+        }
+        synchronized (queue) {
+            if (queuedBytes + len > MAX_QUEUED_BYTES) {
+                // The trace stream can't follow the DAP messages, drop the bytes instead of blocking the transport
+                droppedBytes += len;
+                return;
+            }
+            if (droppedBytes > 0) {
+                // Trace the number of dropped bytes where they have been dropped
+                byte[] marker = ("\n[... " + droppedBytes + " bytes of DAP trace dropped ...]\n").getBytes(StandardCharsets.UTF_8);
+                queue.addLast(marker);
+                queuedBytes += marker.length;
+                droppedBytes = 0;
+            }
+            queue.addLast(Arrays.copyOfRange(b, off, off + len));
+            queuedBytes += len;
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        executor.execute(this::drain);
+    }
+
+    private void drain() {
+        while (true) {
+            byte[] bytes;
+            synchronized (queue) {
+                bytes = queue.pollFirst();
+                if (bytes == null) {
+                    draining = false;
+                    return;
+                }
+                queuedBytes -= bytes.length;
+            }
+            try {
+                trace.write(bytes);
+                trace.flush();
+            } catch (IOException e) {
+                // ignore trace error
+            }
+        }
+    }
+
+    @Override
+    public void flush() {
+        // The queued bytes are flushed in background
+    }
+}
@@ -20,7 +20,6 @@ import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.util.NlsContexts;
-import com.intellij.ui.AppUIUtil;
 import com.intellij.xdebugger.XDebugProcess;
 import com.intellij.xdebugger.XDebugSession;
 import com.intellij.xdebugger.XSourcePosition;
@@ -33,6 +32,7 @@ import com.redhat.devtools.lsp4ij.dap.client.DAPClient;
 import com.redhat.devtools.lsp4ij.dap.client.DAPStackFrame;
 import com.redhat.devtools.lsp4ij.dap.client.DAPSuspendContext;
 import com.redhat.devtools.lsp4ij.dap.configurations.DAPCommandLineState;
+import com.redhat.devtools.lsp4ij.dap.console.DAPConsoleOutputBuffer;
 import com.redhat.devtools.lsp4ij.dap.descriptors.DebugAdapterDescriptor;
 import com.redhat.devtools.lsp4ij.internal.CompletableFutures;
 import com.redhat.devtools.lsp4ij.internal.StringUtils;
@@ -66,6 +66,7 @@ public class DAPDebugProcess extends XDebugProcess {
     private final @NotNull DAPBreakpointHandler breakpointHandler;
     private final @NotNull DebugAdapterDescriptor serverDescriptor;
     private final @NotNull DAPServerReadyTracker serverReadyFuture;
+    private final @NotNull DAPConsoleOutputBuffer outputBuffer;
     private final boolean isDebug;
     private @Nullable CompletableFuture<Void> connectToServerFuture;
 
@@ -85,6 +86,7 @@ public class DAPDebugProcess extends XDebugProcess {
         this.editorsProvider = new DAPDebuggerEditorsProvider(dapState.getFileType(), this);
         this.serverDescriptor = dapState.getServerDescriptor();
         this.breakpointHandler = new DAPBreakpointHandler(serverDescriptor, project);
+        this.outputBuffer = new DAPConsoleOutputBuffer(project, () -> getSession().getConsoleView());
         this.status = Status.NONE;
 
         // At this step, the DAP server process is launched (but we don't know if the process is started correctly)
@@ -246,6 +248,7 @@ public class DAPDebugProcess extends XDebugProcess {
                             if (session != null) {
                                 session.stop();
                             }
+                            outputBuffer.dispose();
                             status = Status.STOPPED;
                         }
                     });
@@ -319,15 +322,8 @@ public class DAPDebugProcess extends XDebugProcess {
         if (message.charAt(message.length() - 1) != '\n') {
             message += "\n";
         }
-        final String text = message;
-        AppUIUtil.invokeOnEdt(() -> {
-            var consoleView = getSession().getConsoleView();
-            if (consoleView == null) {
-                return;
-
-            }
-            consoleView.print(text, type);
-        });
+        // The output is printed by chunks at a capped rate to avoid flooding the EDT
+        outputBuffer.print(message, type);
     }
 
     @Override
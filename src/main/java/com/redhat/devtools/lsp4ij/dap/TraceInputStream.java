@@ -28,16 +28,20 @@ public class TraceInputStream extends FilterInputStream {
 	@Override
 	public int read() throws IOException {
 		int b = in.read();
-		trace.write(b);
-		trace.flush();
+		if (b != -1) {
+			trace.write(b);
+			trace.flush();
+		}
 		return b;
 	}
 
 	@Override
 	public int read(byte[] b, int off, int len) throws IOException {
 		int n = in.read(b, off, len);
-		trace.write(b, off, n);
-		trace.flush();
+		if (n > 0) {
+			trace.write(b, off, n);
+			trace.flush();
+		}
 		return n;
 	}
 }
\ No newline at end of file
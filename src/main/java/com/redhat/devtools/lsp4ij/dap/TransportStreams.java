@@ -36,7 +36,9 @@ public abstract class TransportStreams {
 	}
 
 	public TransportStreams withTrace() {
-		return new DefaultTransportStreams(new TraceInputStream(in, System.out), new TraceOutputStream(out, System.out)) {
+		// The trace is written in background and dropped when it can't follow the DAP messages
+		OutputStream trace = new BoundedTraceOutputStream(System.out);
+		return new DefaultTransportStreams(new TraceInputStream(in, trace), new TraceOutputStream(out, trace)) {
 			@Override
 			public void close() {
 				TransportStreams.this.close();
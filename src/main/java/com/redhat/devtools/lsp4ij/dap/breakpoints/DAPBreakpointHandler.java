@@ -42,6 +42,10 @@ public class DAPBreakpointHandler extends XBreakpointHandler<XLineBreakpoint<DAP
     private IDebugProtocolServer debugProtocolServer;
     private @Nullable Capabilities capabilities;
     private final List<XBreakpoint> breakpoints = ContainerUtil.createConcurrentList();
+    private final @NotNull DAPBreakpointSynchronizer synchronizer = new DAPBreakpointSynchronizer(this::getSourceBreakpoints);
+    private volatile @Nullable XSourcePosition temporaryBreakpoint;
+    // The source path of the temporary breakpoint installed in the debug adapter
+    private volatile @Nullable String temporaryBreakpointPath;
 
     public DAPBreakpointHandler(@NotNull DebugAdapterDescriptor adapterDescriptor,
                                 @NotNull Project project) {
@@ -58,7 +62,7 @@ public class DAPBreakpointHandler extends XBreakpointHandler<XLineBreakpoint<DAP
         }
 
         breakpoints.add(breakpoint);
-        sendBreakpoints();
+        breakpointChanged(breakpoint);
     }
 
     @Override
@@ -67,64 +71,55 @@ public class DAPBreakpointHandler extends XBreakpointHandler<XLineBreakpoint<DAP
             return;
         }
         breakpoints.remove(breakpoint);
-        sendBreakpoints();
+        breakpointChanged(breakpoint);
+    }
+
+    private void breakpointChanged(@NotNull XBreakpoint<?> breakpoint) {
+        var sourcePosition = breakpoint.getSourcePosition();
+        if (sourcePosition == null) {
+            return;
+        }
+        // Coalesce the rapid changes and send only the breakpoints of the modified source
+        synchronizer.markDirty(getFilePath(sourcePosition.getFile()));
+        synchronizer.scheduleFlush();
     }
 
     public CompletableFuture<@Nullable Void> initialize(@NotNull IDebugProtocolServer debugProtocolServer,
                                                         @Nullable Capabilities capabilities) {
         this.debugProtocolServer = debugProtocolServer;
         this.capabilities = capabilities;
-        return sendBreakpoints();
-    }
-
-    private CompletableFuture<@Nullable Void> sendBreakpoints() {
-        return sendBreakpoints(null);
-    }
-
-    private CompletableFuture<@Nullable Void> sendBreakpoints(@Nullable XSourcePosition temporaryBreakpoint) {
-        if (debugProtocolServer == null) {
-            return CompletableFuture.completedFuture(null);
+        synchronizer.setDebugProtocolServer(debugProtocolServer);
+        // Send the breakpoints of all sources in one batch before the 'configurationDone' request
+        for (XBreakpoint breakpoint : breakpoints) {
+            var sourcePosition = breakpoint.getSourcePosition();
+            if (sourcePosition != null) {
+                synchronizer.markDirty(getFilePath(sourcePosition.getFile()));
+            }
         }
+        return synchronizer.flush();
+    }
 
+    /**
+     * Returns the breakpoints of the given source paths.
+     *
+     * @param paths the source paths.
+     * @return the breakpoints of the given source paths.
+     */
+    private Map<Source, List<SourceBreakpoint>> getSourceBreakpoints(@NotNull Set<String> paths) {
         // Convert list of IJ XBreakpoint -> LSP SourceBreakpoint
         Map<Source, List<SourceBreakpoint>> targetBreakpoints = new HashMap<>();
         for (XBreakpoint breakpoint : breakpoints) {
             var sourcePosition = breakpoint.getSourcePosition();
-            addSourceBreakpoint(sourcePosition, targetBreakpoints);
+            if (sourcePosition != null && paths.contains(getFilePath(sourcePosition.getFile()))) {
+                addSourceBreakpoint(sourcePosition, targetBreakpoints);
+            }
         }
 
-        if (temporaryBreakpoint != null) {
+        var temporaryBreakpoint = this.temporaryBreakpoint;
+        if (temporaryBreakpoint != null && paths.contains(getFilePath(temporaryBreakpoint.getFile()))) {
             addSourceBreakpoint(temporaryBreakpoint, targetBreakpoints);
         }
-
-        final var setBreakpointsFutures = new ArrayList<CompletableFuture<Void>>();
-        for (Iterator<Map.Entry<Source, List<SourceBreakpoint>>> iterator = targetBreakpoints.entrySet()
-                .iterator(); iterator.hasNext(); ) {
-            Map.Entry<Source, List<SourceBreakpoint>> entry = iterator.next();
-
-            Source source = entry.getKey();
-            List<SourceBreakpoint> sourceBreakpoints = entry.getValue();
-            int[] lines = sourceBreakpoints.stream().mapToInt(SourceBreakpoint::getLine).toArray();
-            SourceBreakpoint[] sourceBps = sourceBreakpoints.toArray(new SourceBreakpoint[sourceBreakpoints.size()]);
-
-            final var arguments = new SetBreakpointsArguments();
-            arguments.setSource(source);
-            arguments.setLines(lines);
-            arguments.setBreakpoints(sourceBps);
-            arguments.setSourceModified(false);
-            CompletableFuture<SetBreakpointsResponse> future = debugProtocolServer.setBreakpoints(arguments);
-            CompletableFuture<Void> future2 = future.thenAccept((SetBreakpointsResponse bpResponse) -> {
-                // TODO update platform breakpoint with new info
-            });
-            setBreakpointsFutures.add(future2);
-
-            // Once we told adapter there are no breakpoints for a source file, we can stop
-            // tracking that file
-            if (sourceBreakpoints.isEmpty()) {
-                iterator.remove();
-            }
-        }
-        return CompletableFuture.allOf(setBreakpointsFutures.toArray(new CompletableFuture[setBreakpointsFutures.size()]));
+        return targetBreakpoints;
     }
 
     private static void addSourceBreakpoint(XSourcePosition sourcePosition, Map<Source, List<SourceBreakpoint>> targetBreakpoints) {
@@ -146,7 +141,35 @@ public class DAPBreakpointHandler extends XBreakpointHandler<XLineBreakpoint<DAP
     }
 
     public CompletableFuture<@Nullable Void> sendTemporaryBreakpoint(@NotNull XSourcePosition sourcePosition) {
-        return sendBreakpoints(sourcePosition);
+        if (debugProtocolServer == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        // The temporary breakpoint is sent with the breakpoints of its source without waiting for the debounce delay
+        String path = getFilePath(sourcePosition.getFile());
+        temporaryBreakpoint = sourcePosition;
+        try {
+            synchronizer.markDirty(path);
+            return synchronizer.flush();
+        } finally {
+            temporaryBreakpoint = null;
+            temporaryBreakpointPath = path;
+        }
+    }
+
+    /**
+     * Remove the temporary breakpoint (see {@link #sendTemporaryBreakpoint(XSourcePosition)}) from the debug adapter
+     * by sending the breakpoints of its source again.
+     *
+     * @return the future which is completed when the breakpoints of the source have been sent.
+     */
+    public CompletableFuture<@Nullable Void> removeTemporaryBreakpoint() {
+        String path = temporaryBreakpointPath;
+        if (path == null || debugProtocolServer == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        temporaryBreakpointPath = null;
+        synchronizer.markDirty(path);
+        return synchronizer.flush();
     }
 
     /**
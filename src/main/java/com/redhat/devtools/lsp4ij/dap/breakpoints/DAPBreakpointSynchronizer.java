@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.dap.breakpoints;
+
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.eclipse.lsp4j.debug.SetBreakpointsArguments;
+import org.eclipse.lsp4j.debug.Source;
+import org.eclipse.lsp4j.debug.SourceBreakpoint;
+import org.eclipse.lsp4j.debug.services.IDebugProtocolServer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Breakpoints synchronizer which sends the 'setBreakpoints' requests incrementally:
+ *
+ * <ul>
+ *     <li>only the sources whose breakpoints have changed (the dirty sources) are synchronized.</li>
+ *     <li>the rapid changes (ex : toggling several breakpoints) are coalesced by flushing the dirty sources after
+ *     {@link #DEBOUNCE_DELAY} ms.</li>
+ *     <li>a source whose breakpoints have the same content hash as the last sent breakpoints is skipped.</li>
+ *     <li>a source whose breakpoints have all been removed is sent once with an empty breakpoints list.</li>
+ * </ul>
+ */
+class DAPBreakpointSynchronizer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DAPBreakpointSynchronizer.class);
+
+    static final long DEBOUNCE_DELAY = 100;
+
+    private record SentBreakpoints(@NotNull Source source, int hash) {
+    }
+
+    private final @NotNull Function<Set<String>, Map<Source, List<SourceBreakpoint>>> breakpointsProvider;
+    private final Set<String> dirtySources = ConcurrentHashMap.newKeySet();
+    // The last breakpoints sent for each source path
+    private final Map<String, SentBreakpoints> sentBreakpoints = new HashMap<>();
+    private volatile @Nullable IDebugProtocolServer debugProtocolServer;
+    private @Nullable ScheduledFuture<?> scheduledFlush;
+
+    // Metrics
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong skippedCount = new AtomicLong();
+
+    /**
+     * Create the breakpoints synchronizer.
+     *
+     * @param breakpointsProvider the function which returns the breakpoints of the given source paths.
+     */
+    DAPBreakpointSynchronizer(@NotNull Function<Set<String>, Map<Source, List<SourceBreakpoint>>> breakpointsProvider) {
+        this.breakpointsProvider = breakpointsProvider;
+    }
+
+    void setDebugProtocolServer(@Nullable IDebugProtocolServer debugProtocolServer) {
+        this.debugProtocolServer = debugProtocolServer;
+    }
+
+    /**
+     * Mark the breakpoints of the given source path as changed.
+     *
+     * @param path the source path.
+     */
+    void markDirty(@NotNull String path) {
+        dirtySources.add(path);
+    }
+
+    /**
+     * Flush the dirty sources after {@link #DEBOUNCE_DELAY} ms, a pending flush is postponed.
+     */
+    synchronized void scheduleFlush() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+        }
+        scheduledFlush = AppExecutorUtil.getAppScheduledExecutorService()
+                .schedule(this::flush, DEBOUNCE_DELAY, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Send the 'setBreakpoints' requests for the dirty sources whose breakpoints have changed.
+     *
+     * @return the future which completes when all 'setBreakpoints' responses are received.
+     */
+    synchronized CompletableFuture<@Nullable Void> flush() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        var server = debugProtocolServer;
+        if (server == null || dirtySources.isEmpty()) {
+            // The dirty sources will be flushed when the debug adapter is initialized
+            return CompletableFuture.completedFuture(null);
+        }
+        Set<String> paths = new HashSet<>(dirtySources);
+        dirtySources.removeAll(paths);
+        flushCount.incrementAndGet();
+
+        Map<String, Map.Entry<Source, List<SourceBreakpoint>>> breakpointsByPath = new HashMap<>();
+        for (var entry : breakpointsProvider.apply(paths).entrySet()) {
+            breakpointsByPath.put(entry.getKey().getPath(), entry);
+        }
+
+        final var setBreakpointsFutures = new ArrayList<CompletableFuture<Void>>();
+        int skipped = 0;
+        for (String path : paths) {
+            var entry = breakpointsByPath.get(path);
+            List<SourceBreakpoint> sourceBreakpoints = entry != null ? entry.getValue() : Collections.emptyList();
+            SentBreakpoints sent = sentBreakpoints.get(path);
+            if (sourceBreakpoints.isEmpty()) {
+                if (sent == null) {
+                    // The debug adapter doesn't know this source
+                    continue;
+                }
+                // Once we told adapter there are no breakpoints for a source file, we can stop
+                // tracking that file
+                sentBreakpoints.remove(path);
+                setBreakpointsFutures.add(setBreakpoints(server, sent.source(), sourceBreakpoints));
+                continue;
+            }
+            // The content hash must not depend on the order in which breakpoints have been registered
+            sourceBreakpoints = new ArrayList<>(sourceBreakpoints);
+            sourceBreakpoints.sort(Comparator.comparingInt(SourceBreakpoint::getLine));
+            int hash = sourceBreakpoints.hashCode();
+            if (sent != null && sent.hash() == hash) {
+                // The breakpoints of the source have not changed
+                skipped++;
+                continue;
+            }
+            Source source = entry.getKey();
+            sentBreakpoints.put(path, new SentBreakpoints(source, hash));
+            setBreakpointsFutures.add(setBreakpoints(server, source, sourceBreakpoints));
+        }
+        skippedCount.addAndGet(skipped);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Breakpoints flush #{}: {} dirty sources, {} 'setBreakpoints' requests, {} unchanged sources skipped (total requests: {})",
+                    flushCount.get(), paths.size(), setBreakpointsFutures.size(), skipped, requestCount.get());
+        }
+        return CompletableFuture.allOf(setBreakpointsFutures.toArray(new CompletableFuture[0]));
+    }
+
+    private CompletableFuture<Void> setBreakpoints(@NotNull IDebugProtocolServer server,
+                                                   @NotNull Source source,
+                                                   @NotNull List<SourceBreakpoint> sourceBreakpoints) {
+        int[] lines = sourceBreakpoints.stream().mapToInt(SourceBreakpoint::getLine).toArray();
+        final var arguments = new SetBreakpointsArguments();
+        arguments.setSource(source);
+        arguments.setLines(lines);
+        arguments.setBreakpoints(sourceBreakpoints.toArray(new SourceBreakpoint[0]));
+        arguments.setSourceModified(false);
+        requestCount.incrementAndGet();
+        return server.setBreakpoints(arguments)
+                .thenAccept(bpResponse -> {
+                    // TODO update platform breakpoint with new info
+                });
+    }
+
+    /**
+     * Returns the number of flushes which have sent the dirty sources.
+     *
+     * @return the number of flushes which have sent the dirty sources.
+     */
+    long getFlushCount() {
+        return flushCount.get();
+    }
+
+    /**
+     * Returns the number of 'setBreakpoints' requests sent.
+     *
+     * @return the number of 'setBreakpoints' requests sent.
+     */
+    long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Returns the number of dirty sources skipped because their breakpoints had not changed.
+     *
+     * @return the number of dirty sources skipped because their breakpoints had not changed.
+     */
+    long getSkippedCount() {
+        return skippedCount.get();
+    }
+}
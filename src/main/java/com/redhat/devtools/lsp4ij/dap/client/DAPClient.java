@@ -88,6 +88,7 @@ public class DAPClient implements IDebugProtocolClient, Disposable {
     private @NotNull
     final List<DAPClient> childrenClient;
     private boolean sentTerminateRequest;
+    private volatile @Nullable CompletableFuture<Map<Integer, org.eclipse.lsp4j.debug.Thread>> threads;
 
     public DAPClient(@NotNull DAPDebugProcess debugProcess,
                      @NotNull Map<String, Object> dapParameters,
@@ -277,46 +278,119 @@ public class DAPClient implements IDebugProtocolClient, Disposable {
         if (server == null) {
             return;
         }
+        // The debugger has stopped at the cursor position or elsewhere, the temporary breakpoint of 'Run to Cursor'
+        // must not stop the debugger anymore
+        debugProcess.getBreakpointHandler().removeTemporaryBreakpoint();
         Integer threadId = args.getThreadId();
         if (threadId == null) {
             return;
         }
-        server
-                .threads()
-                .thenAcceptAsync(threadsResponse -> {
-                    var threadResult = Arrays.stream(threadsResponse.getThreads())
-                            .filter(t -> threadId.equals(t.getId()))
-                            .findFirst();
-                    if (threadResult.isEmpty()) {
+        // Get the thread from the cache and the top stack frames in parallel to show the suspend position quickly,
+        // the other stack frames are loaded when they are displayed (see DAPExecutionStack#computeStackFrames).
+        boolean delayedStackTraceLoading = isSupportsDelayedStackTraceLoading();
+        int levels = delayedStackTraceLoading ? DAPExecutionStack.STACK_FRAMES_PAGE_SIZE : 0;
+        getThread(threadId)
+                .thenAcceptBothAsync(stackTrace(threadId, 0, levels), (thread, stackTraceResponse) -> {
+                    if (thread == null) {
                         // The Thread doesn't exist
                         return;
                     }
-                    var thread = threadResult.get();
-                    // get the stack trace
-                    StackTraceArguments stackTraceArgs = new StackTraceArguments();
-                    stackTraceArgs.setThreadId(args.getThreadId());
-                    server
-                            .stackTrace(stackTraceArgs)
-                            .thenAcceptAsync(stackTraceResponse -> {
-                                StackFrame[] stackFrames = stackTraceResponse.getStackFrames();
-                                if (stackFrames != null && stackFrames.length > 0) {
-                                    XBreakpoint<DAPBreakpointProperties> breakpoint = debugProcess.getBreakpointHandler().findBreakpoint(stackFrames[0]);
-                                    XSuspendContext context = getSession().getSuspendContext();
-                                    if (context == null) {
-                                        context = new DAPSuspendContext(this);
-                                    }
-                                    ((DAPSuspendContext) context).addToExecutionStack(thread, stackFrames);
-                                    XDebugSession session = getSession();
-                                    if (breakpoint == null) {
-                                        session.positionReached(context);
-                                    } else {
-                                        session.breakpointReached(breakpoint, null, context);
-                                    }
-                                }
-                            });
+                    StackFrame[] stackFrames = stackTraceResponse.getStackFrames();
+                    if (stackFrames != null && stackFrames.length > 0) {
+                        XBreakpoint<DAPBreakpointProperties> breakpoint = debugProcess.getBreakpointHandler().findBreakpoint(stackFrames[0]);
+                        XSuspendContext context = getSession().getSuspendContext();
+                        if (context == null) {
+                            context = new DAPSuspendContext(this);
+                        }
+                        boolean allFramesLoaded = !delayedStackTraceLoading ||
+                                DAPExecutionStack.isAllFramesLoaded(stackTraceResponse, 0, levels);
+                        ((DAPSuspendContext) context).addToExecutionStack(thread, stackFrames, allFramesLoaded);
+                        XDebugSession session = getSession();
+                        if (breakpoint == null) {
+                            session.positionReached(context);
+                        } else {
+                            session.breakpointReached(breakpoint, null, context);
+                        }
+                    }
                 });
     }
 
+    @Override
+    public void thread(ThreadEventArguments args) {
+        // A thread has started or exited, the cached threads must be refreshed
+        threads = null;
+    }
+
+    /**
+     * Returns the thread of the given id and null if the thread doesn't exist.
+     *
+     * <p>
+     * The threads are cached across the stop events and are refreshed only when a 'thread' event is received or
+     * when the thread is unknown.
+     * </p>
+     *
+     * @param threadId the thread id.
+     * @return the thread of the given id and null if the thread doesn't exist.
+     */
+    private CompletableFuture<org.eclipse.lsp4j.debug.Thread> getThread(int threadId) {
+        var cachedThreads = threads;
+        if (cachedThreads == null || cachedThreads.isCompletedExceptionally()) {
+            return loadThreads().thenApply(result -> result.get(threadId));
+        }
+        return cachedThreads.thenCompose(result -> {
+            var thread = result.get(threadId);
+            if (thread != null) {
+                return CompletableFuture.completedFuture(thread);
+            }
+            // The thread is unknown (ex : the 'thread' event has not been received yet), refresh the threads
+            return loadThreads().thenApply(refreshedThreads -> refreshedThreads.get(threadId));
+        });
+    }
+
+    private CompletableFuture<Map<Integer, org.eclipse.lsp4j.debug.Thread>> loadThreads() {
+        var server = getDebugProtocolServer();
+        if (server == null) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        CompletableFuture<Map<Integer, org.eclipse.lsp4j.debug.Thread>> future = server
+                .threads()
+                .thenApply(threadsResponse -> {
+                    Map<Integer, org.eclipse.lsp4j.debug.Thread> result = new HashMap<>();
+                    if (threadsResponse != null && threadsResponse.getThreads() != null) {
+                        for (var thread : threadsResponse.getThreads()) {
+                            result.put(thread.getId(), thread);
+                        }
+                    }
+                    return result;
+                });
+        threads = future;
+        return future;
+    }
+
+    /**
+     * Returns the stack trace of the given thread.
+     *
+     * @param threadId   the thread id.
+     * @param startFrame the index of the first frame to return.
+     * @param levels     the maximum number of frames to return and 0 to return all frames.
+     * @return the stack trace of the given thread.
+     */
+    CompletableFuture<StackTraceResponse> stackTrace(int threadId, int startFrame, int levels) {
+        var server = getDebugProtocolServer();
+        if (server == null) {
+            return CompletableFuture.completedFuture(new StackTraceResponse());
+        }
+        StackTraceArguments stackTraceArgs = new StackTraceArguments();
+        stackTraceArgs.setThreadId(threadId);
+        if (startFrame > 0) {
+            stackTraceArgs.setStartFrame(startFrame);
+        }
+        if (levels > 0) {
+            stackTraceArgs.setLevels(levels);
+        }
+        return server.stackTrace(stackTraceArgs);
+    }
+
     @Override
     public void terminated(TerminatedEventArguments args) {
         // TODO : manage args.getRestart()
@@ -480,6 +554,16 @@ public class DAPClient implements IDebugProtocolClient, Disposable {
         return capabilities != null && Boolean.TRUE.equals(capabilities.getSupportsTerminateRequest());
     }
 
+    /**
+     * Returns true if the debug adapter supports the delayed loading of parts of the stack and false otherwise.
+     *
+     * @return true if the debug adapter supports the delayed loading of parts of the stack and false otherwise.
+     */
+    public boolean isSupportsDelayedStackTraceLoading() {
+        var capabilities = getCapabilities();
+        return capabilities != null && Boolean.TRUE.equals(capabilities.getSupportsDelayedStackTraceLoading());
+    }
+
     /**
      * Returns true if the debug adapter supports the 'completions' request and false otherwise.
      *
@@ -15,32 +15,49 @@ import com.intellij.util.containers.ContainerUtil;
 import com.intellij.xdebugger.frame.XExecutionStack;
 import com.intellij.xdebugger.frame.XStackFrame;
 import com.redhat.devtools.lsp4ij.internal.StringUtils;
+import org.eclipse.lsp4j.debug.StackFrame;
+import org.eclipse.lsp4j.debug.StackTraceResponse;
 import org.eclipse.lsp4j.debug.Thread;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 
 /**
  * Debug Adapter Protocol (DAP) execution stack.
+ *
+ * <p>
+ * When the debug adapter supports the delayed loading of the stack trace, the execution stack is created with the top
+ * frames and the next frames are loaded by pages of {@link #STACK_FRAMES_PAGE_SIZE} frames when they are displayed.
+ * </p>
  */
 public class DAPExecutionStack extends XExecutionStack {
 
+    /**
+     * Number of stack frames requested by a 'stackTrace' request when the loading of the stack trace is delayed.
+     */
+    static final int STACK_FRAMES_PAGE_SIZE = 20;
+
     private final @NotNull DAPClient client;
     private final @NotNull DAPSuspendContext suspendContext;
     private final @NotNull List<DAPStackFrame> stackFrames;
+    private volatile boolean allFramesLoaded;
     private final int threadId;
 
     public DAPExecutionStack(@NotNull DAPClient client,
                              @NotNull  DAPSuspendContext suspendContext,
                              @NotNull Thread thread,
-                             @NotNull List<DAPStackFrame> stackFrames) {
+                             @NotNull List<DAPStackFrame> stackFrames,
+                             boolean allFramesLoaded) {
         super(getThreadName(thread));
         this.threadId = thread.getId();
         this.client = client;
         this.suspendContext = suspendContext;
-        this.stackFrames = stackFrames;
+        this.stackFrames = Collections.synchronizedList(new ArrayList<>(stackFrames));
+        this.allFramesLoaded = allFramesLoaded;
     }
 
     private static @NlsContexts.ListItem String getThreadName(@NotNull Thread thread) {
@@ -56,12 +73,68 @@ public class DAPExecutionStack extends XExecutionStack {
 
     @Override
     public void computeStackFrames(int firstFrameIndex, @NotNull XStackFrameContainer container) {
-        if (firstFrameIndex == 0) {
-            container.addStackFrames(stackFrames, true);
-        } else {
-            container.addStackFrames(new LinkedList<>(), true);
-        }
         suspendContext.setActiveExecutionStack(this);
+        List<DAPStackFrame> loadedFrames;
+        synchronized (stackFrames) {
+            loadedFrames = firstFrameIndex < stackFrames.size() ?
+                    new ArrayList<>(stackFrames.subList(firstFrameIndex, stackFrames.size())) :
+                    Collections.emptyList();
+        }
+        if (!loadedFrames.isEmpty() || allFramesLoaded) {
+            // When all frames are not loaded, the container will ask for the next frames
+            container.addStackFrames(loadedFrames, allFramesLoaded);
+            return;
+        }
+        // Load the next page of stack frames
+        client.stackTrace(threadId, firstFrameIndex, STACK_FRAMES_PAGE_SIZE)
+                .thenAccept(stackTraceResponse -> {
+                    if (container.isObsolete()) {
+                        return;
+                    }
+                    StackFrame[] frames = stackTraceResponse.getStackFrames();
+                    List<DAPStackFrame> newFrames = new ArrayList<>();
+                    if (frames != null) {
+                        for (StackFrame frame : frames) {
+                            newFrames.add(new DAPStackFrame(client, suspendContext, frame));
+                        }
+                    }
+                    synchronized (stackFrames) {
+                        if (stackFrames.size() == firstFrameIndex) {
+                            stackFrames.addAll(newFrames);
+                        }
+                        allFramesLoaded = isAllFramesLoaded(stackTraceResponse, firstFrameIndex, STACK_FRAMES_PAGE_SIZE);
+                    }
+                    container.addStackFrames(newFrames, allFramesLoaded);
+                })
+                .exceptionally(error -> {
+                    if (error instanceof CompletionException && error.getCause() != null) {
+                        error = error.getCause();
+                    }
+                    container.errorOccurred(error.getMessage() != null ? error.getMessage() : error.toString());
+                    return null;
+                });
+    }
+
+    /**
+     * Returns true if the given 'stackTrace' response contains the last frames of the thread and false otherwise.
+     *
+     * @param stackTraceResponse the 'stackTrace' response.
+     * @param startFrame         the index of the first frame requested.
+     * @param levels             the number of frames requested.
+     * @return true if the given 'stackTrace' response contains the last frames of the thread and false otherwise.
+     */
+    static boolean isAllFramesLoaded(@NotNull StackTraceResponse stackTraceResponse, int startFrame, int levels) {
+        StackFrame[] frames = stackTraceResponse.getStackFrames();
+        int count = frames != null ? frames.length : 0;
+        if (count == 0) {
+            return true;
+        }
+        Integer totalFrames = stackTraceResponse.getTotalFrames();
+        if (totalFrames != null && totalFrames > 0) {
+            return startFrame + count >= totalFrames;
+        }
+        // The total frames is omitted, there are more frames if the response is full
+        return count < levels;
     }
 
     public int getThreadId() {
@@ -32,7 +32,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.nio.file.Paths;
-import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -42,13 +41,16 @@ public class DAPStackFrame extends XStackFrame {
 
     private final @NotNull StackFrame stackFrame;
     private final @NotNull DAPClient client;
+    private final @NotNull DAPSuspendContext suspendContext;
     private @Nullable XSourcePosition sourcePosition;
     private XDebuggerEvaluator evaluator;
     private CompletableFuture<DebugVariableContext> variablesContext;
 
     public DAPStackFrame(@NotNull DAPClient client,
+                         @NotNull DAPSuspendContext suspendContext,
                          @NotNull StackFrame stackFrame) {
         this.client = client;
+        this.suspendContext = suspendContext;
         this.stackFrame = stackFrame;
     }
 
@@ -133,23 +135,38 @@ public class DAPStackFrame extends XStackFrame {
         scopeArgs.setFrameId(stackFrame.getId());
         server.scopes(scopeArgs)
                 .thenAcceptAsync(scopes -> {
+                    if (node.isObsolete()) {
+                        return;
+                    }
+                    // The variables of each scope are loaded when the scope group is expanded
+                    XValueChildrenList children = new XValueChildrenList();
                     for (Scope scope : scopes.getScopes()) {
-                        int parentVariablesReference = scope.getVariablesReference();
-                        XValueChildrenList children = new XValueChildrenList();
-                        VariablesArguments variablesArgs = new VariablesArguments();
-                        variablesArgs.setVariablesReference(parentVariablesReference);
-                        server.variables(variablesArgs)
-                                .thenAccept(variablesResponse -> {
-                                    children.addBottomGroup(new DAPValueGroup(this, scope.getName(),
-                                            Arrays.asList(variablesResponse.getVariables()),
-                                            parentVariablesReference));
-                                    // Add the list to the node as children.
-                                    node.addChildren(children, true);
-                                });
+                        children.addBottomGroup(new DAPValueGroup(this, scope));
                     }
+                    node.addChildren(children, true);
                 });
     }
 
+    /**
+     * Returns the variables of the given variables reference from the cache of the suspend context.
+     *
+     * @param variablesReference the variables reference.
+     * @param filter             the filter (indexed, named) and null to get all variables.
+     * @param start              the index of the first variable to return and null to start at the first variable.
+     * @param count              the number of variables to return and null to return all variables.
+     * @return the variables of the given variables reference.
+     */
+    public @NotNull CompletableFuture<Variable[]> getVariables(int variablesReference,
+                                                               @Nullable VariablesArgumentsFilter filter,
+                                                               @Nullable Integer start,
+                                                               @Nullable Integer count) {
+        return suspendContext.getVariables(variablesReference, filter, start, count);
+    }
+
+    public @NotNull DAPSuspendContext getSuspendContext() {
+        return suspendContext;
+    }
+
     public @NotNull DAPClient getClient() {
         return client;
     }
@@ -14,12 +14,18 @@ import com.intellij.xdebugger.frame.XExecutionStack;
 import com.intellij.xdebugger.frame.XSuspendContext;
 import org.eclipse.lsp4j.debug.StackFrame;
 import org.eclipse.lsp4j.debug.Thread;
+import org.eclipse.lsp4j.debug.Variable;
+import org.eclipse.lsp4j.debug.VariablesArguments;
+import org.eclipse.lsp4j.debug.VariablesArgumentsFilter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Debug Adapter Protocol (DAP) suspend context.
@@ -29,18 +35,33 @@ public class DAPSuspendContext extends XSuspendContext  {
     private final @NotNull DAPClient client;
     private final List<DAPExecutionStack> myExecutionStacks = new LinkedList<>();
     private DAPExecutionStack myActiveStack;
+    // Variables responses indexed by the 'variables' request arguments which are valid while the debuggee is suspended
+    private final Map<VariablesKey, CompletableFuture<Variable[]>> variables = new ConcurrentHashMap<>();
+
+    private record VariablesKey(int variablesReference,
+                                @Nullable VariablesArgumentsFilter filter,
+                                @Nullable Integer start,
+                                @Nullable Integer count) {
+    }
 
     public DAPSuspendContext(@NotNull DAPClient client) {
         this.client = client;
     }
 
-    public void addToExecutionStack(Thread thread, StackFrame[] stackFrames) {
+    /**
+     * Add the execution stack of the given thread.
+     *
+     * @param thread          the thread.
+     * @param stackFrames     the loaded stack frames (the top frames when the stack trace loading is delayed).
+     * @param allFramesLoaded true if the given stack frames are all the stack frames of the thread and false otherwise.
+     */
+    public void addToExecutionStack(Thread thread, StackFrame[] stackFrames, boolean allFramesLoaded) {
         // Convert DAP stack frames to IJ stack frames
         List<DAPStackFrame> dapStackFrames = Arrays.stream(stackFrames)
-                .map(stackFrame -> new DAPStackFrame(client, stackFrame))
+                .map(stackFrame -> new DAPStackFrame(client, this, stackFrame))
                 .toList();
         DAPExecutionStack stack = new DAPExecutionStack(client, this, thread,
-                dapStackFrames);
+                dapStackFrames, allFramesLoaded);
         myExecutionStacks.add(stack);
         myActiveStack = stack;
     }
@@ -65,6 +86,55 @@ public class DAPSuspendContext extends XSuspendContext  {
         return client;
     }
 
+    /**
+     * Returns the variables of the given variables reference.
+     *
+     * <p>
+     * The variables references are valid while the debuggee is suspended, so the 'variables' responses are cached
+     * in the suspend context to avoid requesting again the variables when a node is collapsed / expanded or when
+     * the same variables are displayed by several nodes (ex : variables view and inline debugger values).
+     * </p>
+     *
+     * @param variablesReference the variables reference.
+     * @param filter             the filter (indexed, named) and null to get all variables.
+     * @param start              the index of the first variable to return and null to start at the first variable.
+     * @param count              the number of variables to return and null to return all variables.
+     * @return the variables of the given variables reference.
+     */
+    public @NotNull CompletableFuture<Variable[]> getVariables(int variablesReference,
+                                                               @Nullable VariablesArgumentsFilter filter,
+                                                               @Nullable Integer start,
+                                                               @Nullable Integer count) {
+        var server = client.getDebugProtocolServer();
+        if (server == null) {
+            return CompletableFuture.completedFuture(new Variable[0]);
+        }
+        var key = new VariablesKey(variablesReference, filter, start, count);
+        var future = variables.get(key);
+        if (future != null && !future.isCompletedExceptionally()) {
+            return future;
+        }
+        VariablesArguments variablesArgs = new VariablesArguments();
+        variablesArgs.setVariablesReference(variablesReference);
+        variablesArgs.setFilter(filter);
+        variablesArgs.setStart(start);
+        variablesArgs.setCount(count);
+        future = server.variables(variablesArgs)
+                .thenApply(variablesResponse -> {
+                    Variable[] result = variablesResponse != null ? variablesResponse.getVariables() : null;
+                    return result != null ? result : new Variable[0];
+                });
+        variables.put(key, future);
+        return future;
+    }
+
+    /**
+     * Evict the cached variables (ex : when a variable has been modified).
+     */
+    public void clearVariables() {
+        variables.clear();
+    }
+
     public Integer getThreadId() {
         return myActiveStack != null ? myActiveStack.getThreadId() :  null;
     }
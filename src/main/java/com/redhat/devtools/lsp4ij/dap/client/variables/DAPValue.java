@@ -16,7 +16,6 @@ import com.intellij.xdebugger.frame.presentation.XValuePresentation;
 import com.redhat.devtools.lsp4ij.dap.client.DAPClient;
 import com.redhat.devtools.lsp4ij.dap.client.DAPStackFrame;
 import org.eclipse.lsp4j.debug.Variable;
-import org.eclipse.lsp4j.debug.VariablesArguments;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -54,22 +53,14 @@ public class DAPValue extends XNamedValue {
 
     @Override
     public void computeChildren(@NotNull XCompositeNode node) {
-        var server = getClient().getDebugProtocolServer();
-        if (server == null) {
+        int variablesReference = variable.getVariablesReference();
+        if (variablesReference <= 0) {
+            super.computeChildren(node);
             return;
         }
-
-        int parentVariablesReference = variable.getVariablesReference();
-        VariablesArguments varArgs = new VariablesArguments();
-        varArgs.setVariablesReference(parentVariablesReference);
-        server.variables(varArgs)
-                .thenAccept(variablesResponse -> {
-                    XValueChildrenList list = new XValueChildrenList();
-                    for (Variable variable : variablesResponse.getVariables()) {
-                        list.add(variable.getName(), new DAPValue(stackFrame, variable, parentVariablesReference));
-                    }
-                    node.addChildren(list, true);
-                });
+        // Large collections (ex : an array with a million elements) are loaded page by page
+        DAPVariablesPager.computeChildren(stackFrame, node, variablesReference,
+                variable.getIndexedVariables(), variable.getNamedVariables());
     }
 
     @Nullable
@@ -125,6 +116,10 @@ public class DAPValue extends XNamedValue {
         return stackFrame.getClient();
     }
 
+    public @NotNull DAPStackFrame getStackFrame() {
+        return stackFrame;
+    }
+
     public @Nullable Integer getParentVariablesReference() {
         return parentVariablesReference;
     }
@@ -12,33 +12,27 @@ package com.redhat.devtools.lsp4ij.dap.client.variables;
 
 import com.intellij.icons.AllIcons;
 import com.intellij.xdebugger.frame.XCompositeNode;
-import com.intellij.xdebugger.frame.XValueChildrenList;
 import com.intellij.xdebugger.frame.XValueGroup;
 import com.redhat.devtools.lsp4ij.dap.client.DAPStackFrame;
-import org.eclipse.lsp4j.debug.Variable;
+import org.eclipse.lsp4j.debug.Scope;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.swing.*;
-import java.util.List;
 
 /**
- * Debug Adapter Protocol (DAP) value group.
+ * Debug Adapter Protocol (DAP) value group which displays the variables of a scope.
  */
 public class DAPValueGroup extends XValueGroup {
 
-    private final @NotNull List<Variable> variables;
     private final @NotNull DAPStackFrame stackFrame;
-    private final int parentVariablesReference;
+    private final @NotNull Scope scope;
 
     public DAPValueGroup(@NotNull DAPStackFrame stackFrame,
-                         @NotNull String name,
-                         @NotNull List<Variable> variables,
-                         int parentVariablesReference) {
-        super(name);
+                         @NotNull Scope scope) {
+        super(scope.getName());
         this.stackFrame = stackFrame;
-        this.variables = variables;
-        this.parentVariablesReference = parentVariablesReference;
+        this.scope = scope;
     }
 
     @Override
@@ -54,18 +48,15 @@ public class DAPValueGroup extends XValueGroup {
 
     @Override
     public void computeChildren(@NotNull XCompositeNode node) {
-        if (variables.isEmpty()) {
+        if (scope.getVariablesReference() <= 0) {
             super.computeChildren(node);
-        } else {
-            XValueChildrenList children = new XValueChildrenList();
-            for (Variable variable : variables) {
-                children.add(variable.getName(), new DAPValue(stackFrame, variable, getParentVariablesReference()));
-            }
-            node.addChildren(children, true);
+            return;
         }
+        DAPVariablesPager.computeChildren(stackFrame, node, scope.getVariablesReference(),
+                scope.getIndexedVariables(), scope.getNamedVariables());
     }
 
     public int getParentVariablesReference() {
-        return parentVariablesReference;
+        return scope.getVariablesReference();
     }
 }
\ No newline at end of file
@@ -45,6 +45,8 @@ public class DAPValueModifier extends XValueModifier {
                     variable.setNamedVariables(setVariableResponse.getNamedVariables());
                     variable.setValue(setVariableResponse.getValue());
                     variable.setType(setVariableResponse.getType());
+                    // The cached variables could be stale (ex : the children of the modified variable)
+                    value.getStackFrame().getSuspendContext().clearVariables();
                     callback.valueModified();
                 })
                 .exceptionally(error -> {
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.dap.client.variables;
+
+import com.intellij.xdebugger.frame.XCompositeNode;
+import com.intellij.xdebugger.frame.XValueChildrenList;
+import com.redhat.devtools.lsp4ij.dap.client.DAPStackFrame;
+import org.eclipse.lsp4j.debug.Variable;
+import org.eclipse.lsp4j.debug.VariablesArgumentsFilter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletionException;
+
+/**
+ * Load the children variables of a variables reference page by page:
+ *
+ * <ul>
+ *     <li>when the debug adapter reports indexed variables (ex : an array), the named variables are loaded first
+ *     with the 'named' filter, then the indexed variables are loaded with the 'indexed' filter by pages of
+ *     {@link #PAGE_SIZE} variables. The next page is loaded when the user clicks on the "more" link shown
+ *     by {@link XCompositeNode#tooManyChildren(int, Runnable)}.</li>
+ *     <li>otherwise all variables are loaded with one request, but the {@link DAPValue} are created by pages.</li>
+ * </ul>
+ *
+ * The 'variables' responses are cached by the suspend context (see {@link DAPStackFrame#getVariables}).
+ */
+class DAPVariablesPager {
+
+    static final int PAGE_SIZE = XCompositeNode.MAX_CHILDREN_TO_SHOW;
+
+    private final @NotNull DAPStackFrame stackFrame;
+    private final @NotNull XCompositeNode node;
+    private final int variablesReference;
+
+    private DAPVariablesPager(@NotNull DAPStackFrame stackFrame,
+                              @NotNull XCompositeNode node,
+                              int variablesReference) {
+        this.stackFrame = stackFrame;
+        this.node = node;
+        this.variablesReference = variablesReference;
+    }
+
+    /**
+     * Compute the children of the given node with the variables of the given variables reference.
+     *
+     * @param stackFrame         the stack frame.
+     * @param node               the node to fill.
+     * @param variablesReference the variables reference.
+     * @param indexedVariables   the number of indexed variables reported by the debug adapter and null otherwise.
+     * @param namedVariables     the number of named variables reported by the debug adapter and null otherwise.
+     */
+    static void computeChildren(@NotNull DAPStackFrame stackFrame,
+                                @NotNull XCompositeNode node,
+                                int variablesReference,
+                                @Nullable Integer indexedVariables,
+                                @Nullable Integer namedVariables) {
+        new DAPVariablesPager(stackFrame, node, variablesReference)
+                .load(indexedVariables != null ? indexedVariables : 0, namedVariables);
+    }
+
+    private void load(int indexedVariables, @Nullable Integer namedVariables) {
+        if (indexedVariables <= 0) {
+            // The debug adapter doesn't support paging, load all variables
+            stackFrame.getVariables(variablesReference, null, null, null)
+                    .thenAccept(variables -> addPage(variables, 0))
+                    .exceptionally(this::errorOccurred);
+            return;
+        }
+        if (namedVariables != null && namedVariables == 0) {
+            loadIndexedPage(0, indexedVariables);
+            return;
+        }
+        // Named variables (ex : 'length' of a JavaScript array) are displayed before the indexed variables
+        stackFrame.getVariables(variablesReference, VariablesArgumentsFilter.NAMED, null, null)
+                .thenAccept(variables -> {
+                    if (node.isObsolete()) {
+                        return;
+                    }
+                    if (variables.length > 0) {
+                        node.addChildren(createChildren(variables, 0, variables.length), false);
+                    }
+                    loadIndexedPage(0, indexedVariables);
+                })
+                .exceptionally(this::errorOccurred);
+    }
+
+    private void loadIndexedPage(int start, int indexedVariables) {
+        int count = Math.min(PAGE_SIZE, indexedVariables - start);
+        stackFrame.getVariables(variablesReference, VariablesArgumentsFilter.INDEXED, start, count)
+                .thenAccept(variables -> {
+                    if (node.isObsolete()) {
+                        return;
+                    }
+                    int next = start + count;
+                    int remaining = variables.length > 0 ? indexedVariables - next : 0;
+                    node.addChildren(createChildren(variables, 0, variables.length), remaining <= 0);
+                    if (remaining > 0) {
+                        node.tooManyChildren(remaining, () -> loadIndexedPage(next, indexedVariables));
+                    }
+                })
+                .exceptionally(this::errorOccurred);
+    }
+
+    private void addPage(@NotNull Variable[] variables, int start) {
+        if (node.isObsolete()) {
+            return;
+        }
+        int end = Math.min(start + PAGE_SIZE, variables.length);
+        int remaining = variables.length - end;
+        node.addChildren(createChildren(variables, start, end), remaining <= 0);
+        if (remaining > 0) {
+            node.tooManyChildren(remaining, () -> addPage(variables, end));
+        }
+    }
+
+    private @NotNull XValueChildrenList createChildren(@NotNull Variable[] variables, int start, int end) {
+        XValueChildrenList children = new XValueChildrenList(end - start);
+        for (int i = start; i < end; i++) {
+            Variable variable = variables[i];
+            children.add(variable.getName(), new DAPValue(stackFrame, variable, variablesReference));
+        }
+        return children;
+    }
+
+    private Void errorOccurred(@NotNull Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        node.setErrorMessage(error.getMessage() != null ? error.getMessage() : error.toString());
+        return null;
+    }
+}
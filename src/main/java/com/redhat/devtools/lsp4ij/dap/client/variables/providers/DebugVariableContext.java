@@ -10,7 +10,9 @@
  ******************************************************************************/
 package com.redhat.devtools.lsp4ij.dap.client.variables.providers;
 
+import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.xdebugger.XDebuggerUtil;
@@ -22,6 +24,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -33,11 +36,14 @@ import java.util.Map;
  */
 public class DebugVariableContext {
 
-    private final DAPStackFrame stackFrame;
+    private final @Nullable DAPStackFrame stackFrame;
     private final Map<String, TextRange> variableRanges;
     private final Map<String, XSourcePosition> variablePositions;
-    private final int endLineOffset;
     private final @NotNull Collection<DebugVariablePositionProvider> providers;
+    private final @Nullable DebugVariableRangeIndex index;
+    private @Nullable VirtualFile file;
+    private @Nullable Document document;
+    private int endLineOffset = -1;
     private @Nullable Editor editor;
 
     /**
@@ -50,13 +56,28 @@ public class DebugVariableContext {
         this.providers = stackFrame.getClient().getServerDescriptor().getVariableSupport().getDebugVariablePositionProvider();
         this.variableRanges = new HashMap<>();
         this.variablePositions = new HashMap<>();
-        Editor[] editors = LSPIJUtils.editorsForFile(getFile(), stackFrame.getClient().getProject());
-        editor = editors.length > 0 ? editors[0] : null;
-        if (editor != null) {
-            endLineOffset = editor.getDocument().getLineEndOffset(stackFrame.getSourcePosition().getLine());
-        } else {
-            endLineOffset = -1;
-        }
+        this.index = null;
+    }
+
+    /**
+     * Constructs a {@code DebugVariableContext} which registers the variable ranges of the whole document
+     * in the given index.
+     *
+     * @param file     the file.
+     * @param document the document of the file.
+     * @param index    the index to fill.
+     */
+    DebugVariableContext(@NotNull VirtualFile file,
+                         @NotNull Document document,
+                         @NotNull DebugVariableRangeIndex index) {
+        this.stackFrame = null;
+        this.providers = Collections.emptyList();
+        this.variableRanges = Collections.emptyMap();
+        this.variablePositions = Collections.emptyMap();
+        this.index = index;
+        this.file = file;
+        this.document = document;
+        this.endLineOffset = document.getTextLength();
     }
 
     /**
@@ -65,6 +86,17 @@ public class DebugVariableContext {
      * for each registered provider to initialize variable positions and ranges.
      */
     public void configureContext() {
+        var sourcePosition = stackFrame != null ? stackFrame.getSourcePosition() : null;
+        if (sourcePosition != null) {
+            file = sourcePosition.getFile();
+            // The variable ranges are computed from the document, an editor is not required
+            document = LSPIJUtils.getDocument(file);
+            if (document != null && sourcePosition.getLine() < document.getLineCount()) {
+                endLineOffset = document.getLineEndOffset(sourcePosition.getLine());
+            }
+            Editor[] editors = LSPIJUtils.editorsForFile(file, stackFrame.getClient().getProject());
+            editor = editors.length > 0 ? editors[0] : null;
+        }
         for (var provider : providers) {
             provider.configureContext(this);
         }
@@ -76,9 +108,32 @@ public class DebugVariableContext {
      * @return The virtual file associated with the current stack frame.
      */
     public @NotNull VirtualFile getFile() {
+        if (file != null) {
+            return file;
+        }
         return stackFrame.getSourcePosition().getFile();
     }
 
+    /**
+     * Returns the document of the file associated with this context, if available.
+     *
+     * @return The document or null if no document is available.
+     */
+    @Nullable
+    public Document getDocument() {
+        return document;
+    }
+
+    /**
+     * Returns the project of this context.
+     *
+     * @return the project of this context.
+     */
+    @Nullable
+    public Project getProject() {
+        return stackFrame != null ? stackFrame.getClient().getProject() : null;
+    }
+
     /**
      * Returns the end line offset of the current context.
      *
@@ -112,10 +167,10 @@ public class DebugVariableContext {
             return position;
         }
         var textRange = variableRanges.get(name);
-        if (textRange == null) {
+        if (textRange == null || document == null) {
             return null;
         }
-        var range = LSPIJUtils.toRange(textRange, editor.getDocument());
+        var range = LSPIJUtils.toRange(textRange, document);
         var variablePosition = XDebuggerUtil.getInstance()
                 .createPosition(getFile(), range.getStart().getLine(), range.getEnd().getCharacter());
         addVariablePosition(name,  variablePosition);
@@ -139,6 +194,10 @@ public class DebugVariableContext {
      * @param textRange    The text range of the variable.
      */
     public void addVariableRange(String variableName, TextRange textRange) {
+        if (index != null) {
+            index.add(variableName, textRange);
+            return;
+        }
         variableRanges.put(variableName, textRange);
     }
 
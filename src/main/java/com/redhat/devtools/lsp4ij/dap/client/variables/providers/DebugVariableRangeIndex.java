@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.dap.client.variables.providers;
+
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.editor.ex.EditorEx;
+import com.intellij.openapi.editor.highlighter.EditorHighlighter;
+import com.intellij.openapi.editor.highlighter.EditorHighlighterFactory;
+import com.intellij.openapi.editor.highlighter.HighlighterIterator;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.vfs.VirtualFile;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Variable ranges of a document, in the document order, registered by the {@link VariableRangeRegistrar}s for all
+ * tokens of the document.
+ *
+ * <p>
+ * The index is built once per document revision from the highlighter of an opened editor or from a highlighter
+ * created for the file when no editor is opened, and it is stored in the document user data to be reused across
+ * the stack frames and the steps of the debug session.
+ * </p>
+ */
+@ApiStatus.Internal
+public class DebugVariableRangeIndex {
+
+    private static final Key<DebugVariableRangeIndex> DEBUG_VARIABLE_RANGE_INDEX_KEY = Key.create("lsp.dap.variable.range.index");
+
+    private final long modificationStamp;
+    private final @NotNull List<VariableRangeRegistrar> registrars;
+    private int size;
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private String[] names = new String[16];
+
+    private DebugVariableRangeIndex(long modificationStamp, @NotNull List<VariableRangeRegistrar> registrars) {
+        this.modificationStamp = modificationStamp;
+        this.registrars = registrars;
+    }
+
+    /**
+     * Returns the variable range index of the given document, built with the given registrars.
+     *
+     * <p>
+     * This method must be called in a read action.
+     * </p>
+     *
+     * @param file       the file.
+     * @param document   the document of the file.
+     * @param project    the project.
+     * @param editor     an editor opened for the file and null otherwise.
+     * @param registrars the variable range registrars.
+     * @return the variable range index of the given document.
+     */
+    public static @NotNull DebugVariableRangeIndex getIndex(@NotNull VirtualFile file,
+                                                            @NotNull Document document,
+                                                            @NotNull Project project,
+                                                            @Nullable Editor editor,
+                                                            @NotNull List<VariableRangeRegistrar> registrars) {
+        DebugVariableRangeIndex index = document.getUserData(DEBUG_VARIABLE_RANGE_INDEX_KEY);
+        long modificationStamp = document.getModificationStamp();
+        if (index != null && index.modificationStamp == modificationStamp && index.registrars == registrars) {
+            return index;
+        }
+        index = new DebugVariableRangeIndex(modificationStamp, registrars);
+        index.build(file, document, project, editor);
+        document.putUserData(DEBUG_VARIABLE_RANGE_INDEX_KEY, index);
+        return index;
+    }
+
+    private void build(@NotNull VirtualFile file,
+                       @NotNull Document document,
+                       @NotNull Project project,
+                       @Nullable Editor editor) {
+        List<VariableRangeRegistrar> applicableRegistrars = registrars
+                .stream()
+                .filter((registrar -> registrar.isApplicable(file, project)))
+                .toList();
+        if (applicableRegistrars.isEmpty()) {
+            return;
+        }
+        EditorHighlighter highlighter = getHighlighter(file, document, project, editor);
+        // The registrars register the variable ranges in this index
+        var indexingContext = new DebugVariableContext(file, document, this);
+        final HighlighterIterator iterator = highlighter.createIterator(0);
+        while (!iterator.atEnd()) {
+            var tokenType = iterator.getTokenType();
+            for (var registrar : applicableRegistrars) {
+                if (registrar.tryRegisterVariableRange(tokenType, iterator.getStart(), iterator.getEnd(), document, indexingContext)) {
+                    break;
+                }
+            }
+            iterator.advance();
+        }
+    }
+
+    private static @NotNull EditorHighlighter getHighlighter(@NotNull VirtualFile file,
+                                                             @NotNull Document document,
+                                                             @NotNull Project project,
+                                                             @Nullable Editor editor) {
+        if (editor instanceof EditorEx editorEx) {
+            // The editor highlighter is already up-to-date
+            return editorEx.getHighlighter();
+        }
+        // No editor is opened, lex the document
+        EditorHighlighter highlighter = EditorHighlighterFactory.getInstance().createEditorHighlighter(project, file);
+        highlighter.setText(document.getImmutableCharSequence());
+        return highlighter;
+    }
+
+    void add(@NotNull String variableName, @NotNull TextRange textRange) {
+        if (size == starts.length) {
+            int capacity = size + (size >> 1);
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            names = Arrays.copyOf(names, capacity);
+        }
+        starts[size] = textRange.getStartOffset();
+        ends[size] = textRange.getEndOffset();
+        names[size] = variableName;
+        size++;
+    }
+
+    /**
+     * Register in the given context the variable ranges which end before the given offset.
+     *
+     * @param context   the debug variable context.
+     * @param endOffset the end offset.
+     */
+    public void registerVariableRanges(@NotNull DebugVariableContext context, int endOffset) {
+        for (int i = 0; i < size; i++) {
+            if (ends[i] > endOffset) {
+                break;
+            }
+            context.addVariableRange(names[i], new TextRange(starts[i], ends[i]));
+        }
+    }
+
+    /**
+     * Returns the number of indexed variable ranges.
+     *
+     * @return the number of indexed variable ranges.
+     */
+    public int size() {
+        return size;
+    }
+}
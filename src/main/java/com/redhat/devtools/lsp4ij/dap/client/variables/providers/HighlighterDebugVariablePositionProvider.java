@@ -10,10 +10,6 @@
  ******************************************************************************/
 package com.redhat.devtools.lsp4ij.dap.client.variables.providers;
 
-import com.intellij.openapi.editor.ex.EditorEx;
-import com.intellij.openapi.editor.highlighter.EditorHighlighter;
-import com.intellij.openapi.editor.highlighter.HighlighterIterator;
-import com.intellij.psi.tree.IElementType;
 import com.intellij.xdebugger.XSourcePosition;
 import org.eclipse.lsp4j.debug.Variable;
 import org.jetbrains.annotations.NotNull;
@@ -23,8 +19,13 @@ import java.util.List;
 
 /**
  * {@code HighlighterDebugVariablePositionProvider} is responsible for determining the source positions of variables
- * using a highlighter to inspect tokens in the editor. It works with multiple {@link VariableRangeRegistrar}
+ * using a highlighter to inspect tokens in the document. It works with multiple {@link VariableRangeRegistrar}
  * implementations to register variable ranges based on token types found in the document.
+ *
+ * <p>
+ * The variable ranges of the whole document are indexed once per document revision (see {@link DebugVariableRangeIndex})
+ * and reused across the stack frames and the steps, even when no editor is opened for the file.
+ * </p>
  */
 public class HighlighterDebugVariablePositionProvider implements DebugVariablePositionProvider {
 
@@ -47,36 +48,21 @@ public class HighlighterDebugVariablePositionProvider implements DebugVariablePo
     }
 
     /**
-     * Configures the context by scanning the editor's tokens and registering variable ranges using the provided
-     * {@link VariableRangeRegistrar}s. The variable ranges are registered if the token types are identified as variables.
+     * Configures the context by registering the variable ranges of the indexed document which end before the
+     * current line. The index is built by scanning the document tokens with the provided {@link VariableRangeRegistrar}s
+     * when the document has been modified since the last indexing.
      *
      * @param context The debug variable context that provides necessary information for registering variables.
      */
     @Override
     public void configureContext(@NotNull DebugVariableContext context) {
-        EditorEx editor = context.getEditor() instanceof EditorEx ? (EditorEx) context.getEditor() : null;
-        if (editor == null) {
+        var document = context.getDocument();
+        var project = context.getProject();
+        if (document == null || project == null) {
             return;
         }
-        List<VariableRangeRegistrar> registrars = variableRangeRegistrars
-                .stream()
-                .filter((registrar -> registrar.isApplicable(editor.getVirtualFile(), editor.getProject())))
-                .toList();
-        int endLineOffset = context.getEndLineOffset();
-        final EditorHighlighter highlighter = editor.getHighlighter();
-        final HighlighterIterator iterator = highlighter.createIterator(0);
-        while (!iterator.atEnd()) {
-            if (iterator.getEnd() > endLineOffset) {
-                break;
-            }
-            IElementType tokenType = iterator.getTokenType();
-            for (var registrar : registrars) {
-                if (registrar.tryRegisterVariableRange(tokenType, iterator.getStart(), iterator.getEnd(), editor.getDocument(), context)) {
-                    break;
-                }
-            }
-            iterator.advance();
-        }
+        DebugVariableRangeIndex.getIndex(context.getFile(), document, project, context.getEditor(), variableRangeRegistrars)
+                .registerVariableRanges(context, context.getEndLineOffset());
     }
 
     /**
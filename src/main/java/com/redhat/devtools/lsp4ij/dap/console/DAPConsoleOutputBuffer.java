@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.dap.console;
+
+import com.intellij.execution.filters.OpenFileHyperlinkInfo;
+import com.intellij.execution.ui.ConsoleView;
+import com.intellij.execution.ui.ConsoleViewContentType;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.ui.AppUIUtil;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bounded output pipeline between the debug adapter (output events, DAP traces) and the console view:
+ *
+ * <ul>
+ *     <li>the printed texts are stored in a ring buffer of {@link #MAX_PENDING_CHARS} characters. When the debuggee
+ *     writes faster than the console can display, the oldest pending texts are dropped from the console.</li>
+ *     <li>the pending texts are appended to the console by chunks (consecutive texts with the same content type are
+ *     merged) at most every {@link #FLUSH_INTERVAL} ms, with one EDT event per flush.</li>
+ *     <li>beyond {@link #SPILL_THRESHOLD} printed characters or when texts must be dropped, the texts which are not
+ *     displayed yet and the next texts are also written to a temporary file and the console shows a
+ *     "Show output file" link to open it, so that the dropped texts are not lost. The texts displayed before are
+ *     not written in this file, they are still available in the console.</li>
+ * </ul>
+ */
+@ApiStatus.Internal
+public class DAPConsoleOutputBuffer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DAPConsoleOutputBuffer.class);
+
+    static final int MAX_PENDING_CHARS = 512 * 1024;
+    static final long SPILL_THRESHOLD = 4 * 1024 * 1024;
+    static final long FLUSH_INTERVAL = 100;
+
+    private record Chunk(@NotNull String text, @NotNull ConsoleViewContentType contentType) {
+    }
+
+    private final @NotNull Project project;
+    private final @NotNull Supplier<@Nullable ConsoleView> consoleViewProvider;
+
+    private final ArrayDeque<Chunk> pending = new ArrayDeque<>();
+    private int pendingChars;
+    private long droppedChars;
+    private long totalChars;
+    private boolean flushScheduled;
+
+    private @Nullable File spillFile;
+    private @Nullable Writer spillWriter;
+    private boolean spillLinkPrinted;
+    private boolean disposed;
+
+    public DAPConsoleOutputBuffer(@NotNull Project project,
+                                  @NotNull Supplier<@Nullable ConsoleView> consoleViewProvider) {
+        this.project = project;
+        this.consoleViewProvider = consoleViewProvider;
+    }
+
+    /**
+     * Print the given text in the console.
+     *
+     * @param text        the text to print.
+     * @param contentType the console content type.
+     */
+    public void print(@NotNull String text, @NotNull ConsoleViewContentType contentType) {
+        synchronized (this) {
+            if (disposed) {
+                return;
+            }
+            totalChars += text.length();
+            spill(text, pendingChars + text.length() > MAX_PENDING_CHARS);
+            pending.addLast(new Chunk(text, contentType));
+            pendingChars += text.length();
+            // Drop the oldest texts when the console can't follow the output
+            while (pendingChars > MAX_PENDING_CHARS && pending.size() > 1) {
+                Chunk dropped = pending.removeFirst();
+                pendingChars -= dropped.text().length();
+                droppedChars += dropped.text().length();
+            }
+            if (flushScheduled) {
+                return;
+            }
+            flushScheduled = true;
+        }
+        AppExecutorUtil.getAppScheduledExecutorService()
+                .schedule(this::flush, FLUSH_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    private void spill(@NotNull String text, boolean overflow) {
+        try {
+            if (spillWriter == null) {
+                if (totalChars <= SPILL_THRESHOLD && !overflow) {
+                    return;
+                }
+                // The output is too large or pending texts will be dropped, write the texts which are not displayed
+                // yet and the next texts in the temporary file.
+                spillFile = File.createTempFile("dap-console-", ".log");
+                spillFile.deleteOnExit();
+                spillWriter = Files.newBufferedWriter(spillFile.toPath(), StandardCharsets.UTF_8);
+                for (Chunk chunk : pending) {
+                    spillWriter.write(chunk.text());
+                }
+            }
+            spillWriter.write(text);
+        } catch (IOException e) {
+            LOGGER.warn("Error while writing the DAP console output in the temporary file", e);
+        }
+    }
+
+    private void flush() {
+        final List<Chunk> chunks;
+        final long dropped;
+        final File outputFile;
+        synchronized (this) {
+            flushScheduled = false;
+            chunks = merge(pending);
+            pending.clear();
+            pendingChars = 0;
+            dropped = droppedChars;
+            droppedChars = 0;
+            outputFile = spillFile != null && !spillLinkPrinted ? spillFile : null;
+            if (outputFile != null) {
+                spillLinkPrinted = true;
+            }
+            if (spillWriter != null) {
+                try {
+                    spillWriter.flush();
+                } catch (IOException e) {
+                    LOGGER.warn("Error while flushing the DAP console output temporary file", e);
+                }
+            }
+        }
+        if (chunks.isEmpty() && dropped == 0 && outputFile == null) {
+            return;
+        }
+        AppUIUtil.invokeOnEdt(() -> {
+            var consoleView = consoleViewProvider.get();
+            if (consoleView == null) {
+                return;
+            }
+            if (outputFile != null) {
+                printShowOutputFileLink(consoleView, outputFile);
+            }
+            if (dropped > 0) {
+                consoleView.print("... " + dropped + " characters not displayed ...\n", ConsoleViewContentType.LOG_WARNING_OUTPUT);
+            }
+            for (Chunk chunk : chunks) {
+                consoleView.print(chunk.text(), chunk.contentType());
+            }
+        });
+    }
+
+    private void printShowOutputFileLink(@NotNull ConsoleView consoleView, @NotNull File outputFile) {
+        consoleView.print("The output is too large, the next output is also written in " + outputFile.getAbsolutePath() + " ",
+                ConsoleViewContentType.LOG_WARNING_OUTPUT);
+        consoleView.printHyperlink("Show output file", p -> {
+            VirtualFile file = LocalFileSystem.getInstance().refreshAndFindFileByIoFile(outputFile);
+            if (file != null) {
+                new OpenFileHyperlinkInfo(project, file, 0).navigate(p);
+            }
+        });
+        consoleView.print("\n", ConsoleViewContentType.LOG_WARNING_OUTPUT);
+    }
+
+    /**
+     * Merge the consecutive texts which have the same content type to append them with one print.
+     */
+    private static @NotNull List<Chunk> merge(@NotNull ArrayDeque<Chunk> chunks) {
+        List<Chunk> merged = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        ConsoleViewContentType contentType = null;
+        for (Chunk chunk : chunks) {
+            if (contentType != null && contentType != chunk.contentType()) {
+                merged.add(new Chunk(text.toString(), contentType));
+                text.setLength(0);
+            }
+            contentType = chunk.contentType();
+            text.append(chunk.text());
+        }
+        if (contentType != null) {
+            merged.add(new Chunk(text.toString(), contentType));
+        }
+        return merged;
+    }
+
+    /**
+     * Flush the pending texts and close the temporary output file.
+     */
+    public void dispose() {
+        flush();
+        synchronized (this) {
+            disposed = true;
+            closeSpillWriter();
+        }
+    }
+
+    private void closeSpillWriter() {
+        if (spillWriter != null) {
+            try {
+                spillWriter.close();
+            } catch (IOException e) {
+                LOGGER.warn("Error while closing the DAP console output temporary file", e);
+            }
+            spillWriter = null;
+        }
+    }
+}
@@ -15,6 +15,7 @@ import com.redhat.devtools.lsp4ij.LanguageServerItem;
 import com.redhat.devtools.lsp4ij.LanguageServiceAccessor;
 import com.redhat.devtools.lsp4ij.client.features.FileUriSupport;
 import com.redhat.devtools.lsp4ij.client.features.LSPClientFeatures;
+import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -76,6 +77,13 @@ public abstract class AbstractLSPDocumentFeatureSupport<Params, Result> extends
         return future;
     }
 
+    @Override
+    protected @NotNull CancellationSupport createCancellationSupport() {
+        // When the future is canceled when the Psi file is modified, the LSP requests sent for a previous
+        // version of the document are canceled with '$/cancelRequest' as soon as the new version is sent.
+        return new CancellationSupport(cancelWhenFileModified ? file.getVirtualFile() : null);
+    }
+
     protected static CompletableFuture<List<LanguageServerItem>> getLanguageServers(@NotNull PsiFile file,
                                                                   @Nullable Predicate<LSPClientFeatures> beforeStartingServerFilter,
                                                                   @Nullable Predicate<LSPClientFeatures> afterStartingServerFilter) {
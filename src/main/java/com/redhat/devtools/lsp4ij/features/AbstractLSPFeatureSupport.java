@@ -11,6 +11,7 @@
 package com.redhat.devtools.lsp4ij.features;
 
 import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.CompletableFuture;
@@ -90,10 +91,19 @@ public abstract class AbstractLSPFeatureSupport<Params, Result> {
         // Cancel previous LSP requests future
         cancel();
         // Load a new LSP requests future
-        cancellationSupport = new CancellationSupport();
+        cancellationSupport = createCancellationSupport();
         return doLoad(params, cancellationSupport);
     }
 
+    /**
+     * Create the cancellation support used to load the LSP requests.
+     *
+     * @return the cancellation support used to load the LSP requests.
+     */
+    protected @NotNull CancellationSupport createCancellationSupport() {
+        return new CancellationSupport();
+    }
+
     /**
      * Load the LSP requests for all language servers applying to a given Psi file by using the given cancellation support.
      *
@@ -20,6 +20,8 @@ import com.intellij.ui.PopupHandler;
 import com.redhat.devtools.lsp4ij.features.LSPPsiElement;
 import com.redhat.devtools.lsp4ij.features.hierarchy.LSPHierarchyItemPsiElement;
 import com.redhat.devtools.lsp4ij.features.hierarchy.LSPHierarchyNodeDescriptor;
+import com.redhat.devtools.lsp4ij.features.hierarchy.LSPHierarchyTreeStructureBase;
+import com.redhat.devtools.lsp4ij.features.hierarchy.LSPLoadHierarchyAction;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -27,12 +29,16 @@ import org.jetbrains.annotations.Nullable;
 import javax.swing.*;
 import java.util.Comparator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * LSP call hierarchy browser.
  */
 public class LSPCallHierarchyBrowser extends CallHierarchyBrowserBase {
 
+    // The tree structures by hierarchy type
+    private final Map<String, LSPHierarchyTreeStructureBase<?>> treeStructures = new ConcurrentHashMap<>();
+
     public LSPCallHierarchyBrowser(@NotNull PsiElement target) {
         super(target.getProject(), target);
     }
@@ -70,13 +76,38 @@ public class LSPCallHierarchyBrowser extends CallHierarchyBrowserBase {
     @Override
     protected @Nullable HierarchyTreeStructure createHierarchyTreeStructure(@NotNull String type,
                                                                             @NotNull PsiElement psiElement) {
+        LSPHierarchyTreeStructureBase<?> treeStructure = null;
         if (getCallerType().equals(type)) {
-            return new LSPCallHierarchyIncomingCallsTreeStructure(myProject, psiElement);
+            treeStructure = new LSPCallHierarchyIncomingCallsTreeStructure(myProject, psiElement);
+        } else if (getCalleeType().equals(type)) {
+            treeStructure = new LSPCallHierarchyOutgoingCallsTreeStructure(myProject, psiElement);
         }
-        if (getCalleeType().equals(type)) {
-            return new LSPCallHierarchyOutgoingCallsTreeStructure(myProject, psiElement);
+        if (treeStructure != null) {
+            // Cancel the pending LSP requests of the previous tree structure
+            var oldTreeStructure = treeStructures.put(type, treeStructure);
+            if (oldTreeStructure != null) {
+                oldTreeStructure.cancel();
+            }
         }
-        return null;
+        return treeStructure;
+    }
+
+    @Override
+    protected void prependActions(@NotNull DefaultActionGroup actionGroup) {
+        super.prependActions(actionGroup);
+        actionGroup.add(new LSPLoadHierarchyAction(this::getCurrentTreeStructure, this::getCurrentTree));
+    }
+
+    private @Nullable LSPHierarchyTreeStructureBase<?> getCurrentTreeStructure() {
+        String type = getCurrentViewType();
+        return type != null ? treeStructures.get(type) : null;
+    }
+
+    @Override
+    public void dispose() {
+        treeStructures.values().forEach(LSPHierarchyTreeStructureBase::cancel);
+        treeStructures.clear();
+        super.dispose();
     }
 
     @Override
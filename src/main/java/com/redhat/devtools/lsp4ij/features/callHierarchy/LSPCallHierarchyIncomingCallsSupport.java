@@ -74,9 +74,9 @@ public class LSPCallHierarchyIncomingCallsSupport extends AbstractLSPDocumentFea
                 });
     }
 
-    private static CompletableFuture<List<CallHierarchyItemData>> getCallHierarchyIncomingCalls(@NotNull CallHierarchyIncomingCallsParams params,
-                                                                                                @NotNull LanguageServerItem languageServer,
-                                                                                                @NotNull CancellationSupport cancellationSupport) {
+    static CompletableFuture<List<CallHierarchyItemData>> getCallHierarchyIncomingCalls(@NotNull CallHierarchyIncomingCallsParams params,
+                                                                                        @NotNull LanguageServerItem languageServer,
+                                                                                        @NotNull CancellationSupport cancellationSupport) {
 
         return cancellationSupport.execute(languageServer
                         .getTextDocumentService()
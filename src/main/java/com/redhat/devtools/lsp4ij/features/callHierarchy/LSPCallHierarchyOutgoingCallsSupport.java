@@ -74,9 +74,9 @@ public class LSPCallHierarchyOutgoingCallsSupport extends AbstractLSPDocumentFea
                 });
     }
 
-    private static CompletableFuture<List<CallHierarchyItemData>> getCallHierarchyOutgoingCalls(@NotNull CallHierarchyOutgoingCallsParams params,
-                                                                                                @NotNull LanguageServerItem languageServer,
-                                                                                                @NotNull CancellationSupport cancellationSupport) {
+    static CompletableFuture<List<CallHierarchyItemData>> getCallHierarchyOutgoingCalls(@NotNull CallHierarchyOutgoingCallsParams params,
+                                                                                        @NotNull LanguageServerItem languageServer,
+                                                                                        @NotNull CancellationSupport cancellationSupport) {
 
         return cancellationSupport.execute(languageServer
                         .getTextDocumentService()
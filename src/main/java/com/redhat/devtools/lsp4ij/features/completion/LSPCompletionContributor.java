@@ -257,6 +257,10 @@ public class LSPCompletionContributor extends CompletionContributor {
      * LSP lookup listener to track the selected completion item
      * and resolve if needed the LSP completionItem to get the detail
      * only for the selected completion item.
+     * <p>
+     * It installs too the {@link LSPCompletionResolvePrefetcher} which resolves the visible
+     * completion items in background.
+     * </p>
      */
     public static class LSPLookupManagerListener implements LookupManagerListener {
 
@@ -265,6 +269,7 @@ public class LSPCompletionContributor extends CompletionContributor {
             if (newLookup == null) {
                 return;
             }
+            LSPCompletionResolvePrefetcher.install(newLookup);
             newLookup.addLookupListener(new LookupListener() {
                 @Override
                 public void currentItemChanged(@NotNull LookupEvent event) {
@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.completion;
+
+import com.intellij.codeInsight.lookup.Lookup;
+import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.codeInsight.lookup.LookupEvent;
+import com.intellij.codeInsight.lookup.LookupListener;
+import com.intellij.codeInsight.lookup.impl.LookupImpl;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.redhat.devtools.lsp4ij.client.features.LSPCompletionProposal;
+import org.eclipse.lsp4j.CompletionItem;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Resolve the LSP completion items of the visible lookup elements in background with 'completionItem/resolve'
+ * as soon as the completion lookup is shown, to avoid blocking the lookup renderer, the documentation popup and the
+ * insert handler on a server round-trip when an item is selected.
+ *
+ * <ul>
+ *     <li>the number of pending 'completionItem/resolve' requests is bounded by {@link #MAX_CONCURRENT_RESOLVES}.</li>
+ *     <li>the resolved completion items are cached by {@link LSPCompletionProposal} identity for the life of the lookup.</li>
+ *     <li>the pending requests are cancelled when the lookup is closed.</li>
+ * </ul>
+ */
+public class LSPCompletionResolvePrefetcher implements LookupListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LSPCompletionResolvePrefetcher.class);
+
+    private static final Key<LSPCompletionResolvePrefetcher> PREFETCHER_KEY = Key.create("lsp.completion.resolve.prefetcher");
+
+    /**
+     * Max number of lookup elements which are resolved in background when the list is shown and the visible rows are unknown.
+     */
+    private static final int MAX_PREFETCHED_ITEMS = 15;
+
+    /**
+     * Max number of 'completionItem/resolve' requests which are sent at the same time by the prefetcher.
+     */
+    private static final int MAX_CONCURRENT_RESOLVES = 4;
+
+    private final @NotNull Lookup lookup;
+
+    // Lookup elements waiting to be resolved, in the order they should be resolved
+    private final Deque<LSPCompletionProposal> pending = new ArrayDeque<>();
+    // Lookup elements which have already been scheduled for resolve (identity set)
+    private final Set<LSPCompletionProposal> scheduled = Collections.newSetFromMap(new IdentityHashMap<>());
+    // 'completionItem/resolve' futures which are not done, by lookup element
+    private final Map<LSPCompletionProposal, CompletableFuture<CompletionItem>> inFlight = new IdentityHashMap<>();
+
+    private boolean closed;
+
+    private LSPCompletionResolvePrefetcher(@NotNull Lookup lookup) {
+        this.lookup = lookup;
+    }
+
+    /**
+     * Install the resolve prefetcher on the given lookup if it is not already installed.
+     *
+     * @param lookup the completion lookup.
+     */
+    public static void install(@NotNull Lookup lookup) {
+        if (!(lookup instanceof LookupImpl lookupImpl) || lookupImpl.getUserData(PREFETCHER_KEY) != null) {
+            return;
+        }
+        var prefetcher = new LSPCompletionResolvePrefetcher(lookup);
+        lookupImpl.putUserData(PREFETCHER_KEY, prefetcher);
+        lookup.addLookupListener(prefetcher);
+        if (lookup.isShown()) {
+            prefetcher.prefetchVisibleItems();
+        }
+    }
+
+    @Override
+    public void lookupShown(@NotNull LookupEvent event) {
+        prefetchVisibleItems();
+    }
+
+    @Override
+    public void uiRefreshed() {
+        // The list has been updated (new items, filtering, scrolling...)
+        prefetchVisibleItems();
+    }
+
+    @Override
+    public void currentItemChanged(@NotNull LookupEvent event) {
+        if (event.getItem() != null && event.getItem().getObject() instanceof LSPCompletionProposal proposal) {
+            // Resolve the selected item before the other visible items
+            schedule(List.of(proposal), true);
+        }
+    }
+
+    @Override
+    public void itemSelected(@NotNull LookupEvent event) {
+        // The selected item is kept to be consumed by the insert handler, other requests are cancelled
+        LookupElement item = event.getItem();
+        close(item != null && item.getObject() instanceof LSPCompletionProposal proposal ? proposal : null);
+    }
+
+    @Override
+    public void lookupCanceled(@NotNull LookupEvent event) {
+        close(null);
+    }
+
+    private void prefetchVisibleItems() {
+        if (closed) {
+            return;
+        }
+        List<LSPCompletionProposal> visibleItems = new ArrayList<>();
+        for (var item : getVisibleItems()) {
+            if (item.getObject() instanceof LSPCompletionProposal proposal) {
+                visibleItems.add(proposal);
+            }
+        }
+        if (!visibleItems.isEmpty()) {
+            schedule(visibleItems, false);
+        }
+    }
+
+    @NotNull
+    private List<LookupElement> getVisibleItems() {
+        List<LookupElement> items = lookup.getItems();
+        if (lookup instanceof LookupImpl lookupImpl) {
+            var list = lookupImpl.getList();
+            int first = list.getFirstVisibleIndex();
+            int last = list.getLastVisibleIndex();
+            if (first >= 0 && last >= first && last < items.size()) {
+                return items.subList(first, last + 1);
+            }
+        }
+        return items.subList(0, Math.min(items.size(), MAX_PREFETCHED_ITEMS));
+    }
+
+    private void schedule(@NotNull List<LSPCompletionProposal> proposals, boolean first) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            // Iterate in reverse order when items are added at the head to keep the order of the given proposals
+            for (int i = 0; i < proposals.size(); i++) {
+                var proposal = proposals.get(first ? proposals.size() - 1 - i : i);
+                if (first && scheduled.contains(proposal) && pending.remove(proposal)) {
+                    // Already scheduled but not started, move it to the head of the queue
+                    pending.addFirst(proposal);
+                } else if (scheduled.add(proposal)) {
+                    if (first) {
+                        pending.addFirst(proposal);
+                    } else {
+                        pending.addLast(proposal);
+                    }
+                }
+            }
+        }
+        // Sending LSP requests is done outside the EDT
+        AppExecutorUtil.getAppExecutorService().execute(this::resolveNextItems);
+    }
+
+    private void resolveNextItems() {
+        while (true) {
+            LSPCompletionProposal proposal;
+            synchronized (this) {
+                if (closed || inFlight.size() >= MAX_CONCURRENT_RESOLVES || pending.isEmpty()) {
+                    return;
+                }
+                proposal = pending.pollFirst();
+            }
+            try {
+                if (!proposal.canPrefetchResolvedCompletionItem()) {
+                    continue;
+                }
+                var future = proposal.resolveCompletionItemAsync();
+                if (future.isDone()) {
+                    continue;
+                }
+                synchronized (this) {
+                    if (closed) {
+                        future.cancel(true);
+                        return;
+                    }
+                    inFlight.put(proposal, future);
+                }
+                future.whenComplete((resolved, error) -> onResolved(proposal, resolved));
+            } catch (Exception e) {
+                LOGGER.warn("Error while prefetching LSP 'completionItem/resolve' request", e);
+            }
+        }
+    }
+
+    private void onResolved(@NotNull LSPCompletionProposal proposal,
+                            @Nullable CompletionItem resolved) {
+        synchronized (this) {
+            inFlight.remove(proposal);
+            if (closed) {
+                return;
+            }
+        }
+        if (resolved != null && proposal.needToResolveCompletionDetail() && lookup instanceof LookupImpl lookupImpl) {
+            // Refresh the lookup element to display the resolved detail
+            ApplicationManager.getApplication().invokeLater(() -> {
+                if (!lookupImpl.isLookupDisposed()) {
+                    lookupImpl.scheduleItemUpdate(proposal);
+                }
+            });
+        }
+        resolveNextItems();
+    }
+
+    private void close(@Nullable LSPCompletionProposal selected) {
+        List<CompletableFuture<CompletionItem>> toCancel;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pending.clear();
+            toCancel = new ArrayList<>(inFlight.size());
+            for (var entry : inFlight.entrySet()) {
+                if (entry.getKey() != selected) {
+                    toCancel.add(entry.getValue());
+                }
+            }
+            inFlight.clear();
+        }
+        lookup.removeLookupListener(this);
+        // Cancelling an LSP4J request future sends the '$/cancelRequest' notification
+        toCancel.forEach(future -> future.cancel(true));
+    }
+}
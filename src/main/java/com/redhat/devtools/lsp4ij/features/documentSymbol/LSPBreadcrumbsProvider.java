@@ -85,6 +85,17 @@ public class LSPBreadcrumbsProvider implements BreadcrumbsProvider {
     public List<PsiElement> getChildren(@NotNull PsiElement element) {
         if (isSupported(element)) {
             if (element instanceof PsiFile file) {
+                // Use the offset index of the document symbols when they have already been loaded
+                SymbolIntervalIndex<DocumentSymbolData> symbolIndex = LSPDocumentSymbolUtils.getSymbolIndex(file);
+                if (symbolIndex != null) {
+                    List<PsiElement> childElements = new ArrayList<>();
+                    for (DocumentSymbolData root : symbolIndex.getRoots()) {
+                        if (root.getClientFeatures().getDocumentSymbolFeature().getStructureViewTreeElement(root) != null) {
+                            childElements.add(root);
+                        }
+                    }
+                    return childElements;
+                }
                 LSPDocumentSymbolStructureViewModel structureViewModel = LSPDocumentSymbolUtils.getStructureViewModel(file);
                 StructureViewTreeElement root = structureViewModel != null ? structureViewModel.getRoot() : null;
                 if (root instanceof LSPFileStructureViewElement fileStructureViewElement) {
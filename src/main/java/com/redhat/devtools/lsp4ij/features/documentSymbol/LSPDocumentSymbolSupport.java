@@ -10,22 +10,33 @@
  ******************************************************************************/
 package com.redhat.devtools.lsp4ij.features.documentSymbol;
 
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.event.DocumentEvent;
+import com.intellij.openapi.editor.event.DocumentListener;
+import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiFile;
+import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import com.redhat.devtools.lsp4ij.LSPRequestConstants;
 import com.redhat.devtools.lsp4ij.LanguageServerItem;
 import com.redhat.devtools.lsp4ij.features.AbstractLSPDocumentFeatureSupport;
+import com.redhat.devtools.lsp4ij.features.workspaceSymbol.index.LSPWorkspaceSymbolIndex;
 import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
 import com.redhat.devtools.lsp4ij.internal.CompletableFutures;
 import org.eclipse.lsp4j.DocumentSymbol;
 import org.eclipse.lsp4j.DocumentSymbolParams;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.SymbolInformation;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
+import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.isDoneNormally;
+
 /**
  * LSP document symbol support which loads and caches symbol response by consuming:
  *
@@ -33,7 +44,13 @@ import java.util.concurrent.CompletableFuture;
  *     <li>LSP 'textDocument/documentSymbol' requests</li>
  * </ul>
  */
-public class LSPDocumentSymbolSupport extends AbstractLSPDocumentFeatureSupport<DocumentSymbolParams, List<DocumentSymbolData>> {
+public class LSPDocumentSymbolSupport extends AbstractLSPDocumentFeatureSupport<DocumentSymbolParams, List<DocumentSymbolData>> implements Disposable {
+
+    // The offset index of the last loaded document symbols, shifted with the document changes until the next response
+    private @Nullable SymbolIntervalIndex<DocumentSymbolData> symbolIndex;
+    private @Nullable CompletableFuture<List<DocumentSymbolData>> indexedFuture;
+    private boolean documentListenerInstalled;
+
     public LSPDocumentSymbolSupport(@NotNull PsiFile file) {
         super(file);
     }
@@ -42,6 +59,84 @@ public class LSPDocumentSymbolSupport extends AbstractLSPDocumentFeatureSupport<
         return super.getFeatureData(params);
     }
 
+    /**
+     * Returns the offset index of the document symbols without waiting for the 'textDocument/documentSymbol' response.
+     *
+     * <p>
+     * When the document symbols are being (re)loaded, the index of the last response is returned with offsets shifted
+     * according to the document changes, and null is returned only if the document symbols have never been loaded.
+     * </p>
+     *
+     * @param document the document of the file.
+     * @return the offset index of the document symbols and null if the document symbols have never been loaded.
+     */
+    public @Nullable SymbolIntervalIndex<DocumentSymbolData> getSymbolIndex(@NotNull Document document) {
+        var params = new DocumentSymbolParams(LSPIJUtils.toTextDocumentIdentifier(getFile().getVirtualFile()));
+        // Load the document symbols if needed without waiting for the response
+        CompletableFuture<List<DocumentSymbolData>> future = getDocumentSymbols(params);
+        synchronized (this) {
+            if (future != indexedFuture && isDoneNormally(future)) {
+                // Index the new response
+                symbolIndex = createSymbolIndex(future.getNow(null), document);
+                indexedFuture = future;
+                if (!documentListenerInstalled) {
+                    documentListenerInstalled = true;
+                    document.addDocumentListener(new DocumentListener() {
+                        @Override
+                        public void documentChanged(@NotNull DocumentEvent event) {
+                            var index = getCurrentSymbolIndex();
+                            if (index != null) {
+                                index.documentChanged(event.getOffset(), event.getOldLength(), event.getNewLength());
+                            }
+                        }
+                    }, this);
+                }
+            }
+            return symbolIndex;
+        }
+    }
+
+    private synchronized @Nullable SymbolIntervalIndex<DocumentSymbolData> getCurrentSymbolIndex() {
+        return symbolIndex;
+    }
+
+    private static @NotNull SymbolIntervalIndex<DocumentSymbolData> createSymbolIndex(@Nullable List<DocumentSymbolData> documentSymbols,
+                                                                                      @NotNull Document document) {
+        SymbolIntervalIndex.Builder<DocumentSymbolData> builder = SymbolIntervalIndex.builder();
+        if (documentSymbols != null) {
+            int docLength = document.getTextLength();
+            for (var documentSymbol : documentSymbols) {
+                addToSymbolIndex(documentSymbol, -1, builder, document, docLength);
+            }
+        }
+        return builder.build();
+    }
+
+    private static void addToSymbolIndex(@NotNull DocumentSymbolData documentSymbolData,
+                                         int parent,
+                                         @NotNull SymbolIntervalIndex.Builder<DocumentSymbolData> builder,
+                                         @NotNull Document document,
+                                         int docLength) {
+        Range range = documentSymbolData.getDocumentSymbol().getRange();
+        TextRange textRange = range != null ? LSPIJUtils.toTextRange(range, document, docLength) : null;
+        if (textRange == null) {
+            return;
+        }
+        int handle = builder.add(documentSymbolData, textRange.getStartOffset(), textRange.getEndOffset(), parent);
+        for (var child : documentSymbolData.getChildren()) {
+            addToSymbolIndex(child, handle, builder, document, docLength);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        // The document listener is removed when this support is disposed
+        synchronized (this) {
+            symbolIndex = null;
+            indexedFuture = null;
+        }
+    }
+
     @Override
     protected CompletableFuture<List<DocumentSymbolData>> doLoad(DocumentSymbolParams documentSymbolParams, CancellationSupport cancellationSupport) {
         PsiFile file = super.getFile();
@@ -86,6 +181,11 @@ public class LSPDocumentSymbolSupport extends AbstractLSPDocumentFeatureSupport<
                         // textDocument/documentSymbol may return null
                         return Collections.emptyList();
                     }
+                    if (languageServer.getClientFeatures().getWorkspaceSymbolFeature().isSymbolIndexEnabled()) {
+                        // Store the symbols of the file in the workspace symbol index
+                        LSPWorkspaceSymbolIndex.getInstance(file.getProject())
+                                .indexDocumentSymbols(params.getTextDocument().getUri(), documentSymbol, languageServer.getServerDefinition().getId());
+                    }
                     return documentSymbol.stream()
                             .filter(Objects::nonNull)
                             .map(symbol -> {
@@ -18,9 +18,11 @@ import com.intellij.ide.structureView.StructureViewTreeElement;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.editor.Editor;
 import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.util.containers.ContainerUtil;
+import com.redhat.devtools.lsp4ij.LSPFileSupport;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import com.redhat.devtools.lsp4ij.features.documentSymbol.LSPDocumentSymbolStructureViewModel.LSPDocumentSymbolViewElement;
 import com.redhat.devtools.lsp4ij.features.documentSymbol.LSPDocumentSymbolStructureViewModel.LSPFileStructureViewElement;
@@ -78,6 +80,12 @@ final class LSPDocumentSymbolUtils {
             return documentSymbolData;
         }
 
+        // Use the offset index of the document symbols when they have already been loaded
+        SymbolIntervalIndex<DocumentSymbolData> symbolIndex = getSymbolIndex(element);
+        if (symbolIndex != null) {
+            return symbolIndex.findInnermost(offset);
+        }
+
         LSPDocumentSymbolStructureViewModel structureViewModel = getStructureViewModel(element);
         if (structureViewModel != null) {
             PsiFile file = element.getContainingFile();
@@ -94,6 +102,24 @@ final class LSPDocumentSymbolUtils {
         return null;
     }
 
+    /**
+     * Returns the offset index of the document symbols of the file of the provided element without waiting for the
+     * LSP 'textDocument/documentSymbol' response.
+     *
+     * @param element the element
+     * @return the offset index of the document symbols, or null if the document symbols have never been loaded
+     */
+    @Nullable
+    static SymbolIntervalIndex<DocumentSymbolData> getSymbolIndex(@NotNull PsiElement element) {
+        PsiFile file = element.getContainingFile();
+        VirtualFile virtualFile = file != null ? file.getVirtualFile() : null;
+        Document document = virtualFile != null ? LSPIJUtils.getDocument(virtualFile) : null;
+        if (document == null) {
+            return null;
+        }
+        return LSPFileSupport.getSupport(file).getDocumentSymbolSupport().getSymbolIndex(document);
+    }
+
     @NotNull
     private static List<DocumentSymbolData> getContainingDocumentSymbolDatas(@NotNull Document document,
                                                                              int docLength,
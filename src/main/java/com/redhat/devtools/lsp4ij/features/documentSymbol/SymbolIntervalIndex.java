@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.documentSymbol;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Offset-sorted interval index over a tree of symbols (ex : the document symbols of a file).
+ *
+ * <p>
+ * Symbols are stored in arrays sorted by start offset (and by end offset descending / depth for the same start),
+ * which is the pre-order of a well-nested symbol tree. The innermost symbol which contains an offset is found by
+ * a binary search followed by a walk up the parent chain, instead of visiting the whole tree.
+ * </p>
+ *
+ * <p>
+ * The offsets can be shifted with {@link #documentChanged(int, int, int)} to track the document edits
+ * until a new index is built.
+ * </p>
+ *
+ * @param <T> the symbol type.
+ */
+@ApiStatus.Internal
+public class SymbolIntervalIndex<T> {
+
+    private final Object[] symbols;
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] parents;
+    private final int[] roots;
+
+    private SymbolIntervalIndex(@NotNull List<Node<T>> nodes) {
+        int size = nodes.size();
+        // Sort the nodes in pre-order by using start offset, then end offset descending, then depth
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingInt(i -> nodes.get(i).start)
+                .thenComparing(i -> nodes.get(i).end, Comparator.reverseOrder())
+                .thenComparingInt(i -> nodes.get(i).depth)
+                .thenComparingInt(i -> i));
+        int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            positions[order[i]] = i;
+        }
+        this.symbols = new Object[size];
+        this.starts = new int[size];
+        this.ends = new int[size];
+        this.parents = new int[size];
+        List<Integer> rootIndexes = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Node<T> node = nodes.get(order[i]);
+            symbols[i] = node.symbol;
+            starts[i] = node.start;
+            ends[i] = node.end;
+            parents[i] = node.parent != -1 ? positions[node.parent] : -1;
+            if (node.parent == -1) {
+                rootIndexes.add(i);
+            }
+        }
+        this.roots = rootIndexes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Returns the number of indexed symbols.
+     *
+     * @return the number of indexed symbols.
+     */
+    public int size() {
+        return symbols.length;
+    }
+
+    /**
+     * Returns the top-level symbols sorted by start offset.
+     *
+     * @return the top-level symbols sorted by start offset.
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull List<T> getRoots() {
+        List<T> result = new ArrayList<>(roots.length);
+        for (int root : roots) {
+            result.add((T) symbols[root]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the innermost symbol which contains the given offset and null otherwise.
+     *
+     * @param offset the offset.
+     * @return the innermost symbol which contains the given offset and null otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized @Nullable T findInnermost(int offset) {
+        // Find the last symbol which starts before the offset
+        int index = lastStartingAtOrBefore(offset);
+        // The innermost symbol is this symbol or one of its ancestors
+        while (index != -1) {
+            if (ends[index] >= offset) {
+                return (T) symbols[index];
+            }
+            index = parents[index];
+        }
+        return null;
+    }
+
+    private int lastStartingAtOrBefore(int offset) {
+        int low = 0;
+        int high = starts.length - 1;
+        int result = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= offset) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Shift the symbol offsets according to the given document change.
+     *
+     * @param offset    the start offset of the change.
+     * @param oldLength the length of the replaced text.
+     * @param newLength the length of the new text.
+     */
+    public synchronized void documentChanged(int offset, int oldLength, int newLength) {
+        int oldEnd = offset + oldLength;
+        int delta = newLength - oldLength;
+        for (int i = 0; i < starts.length; i++) {
+            int start = starts[i];
+            if (start >= oldEnd) {
+                start += delta;
+            } else if (start > offset) {
+                // The start of the symbol has been replaced
+                start = offset + newLength;
+            }
+            int end = ends[i];
+            if (end > offset) {
+                // The end of the symbol has been replaced or shifted
+                end = end >= oldEnd ? end + delta : offset + newLength;
+            }
+            starts[i] = start;
+            ends[i] = Math.max(start, end);
+        }
+    }
+
+    /**
+     * Returns a new builder.
+     *
+     * @param <T> the symbol type.
+     * @return a new builder.
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Symbol interval index builder.
+     *
+     * @param <T> the symbol type.
+     */
+    public static class Builder<T> {
+
+        private final List<Node<T>> nodes = new ArrayList<>();
+
+        private Builder() {
+
+        }
+
+        /**
+         * Add the given symbol.
+         *
+         * @param symbol the symbol.
+         * @param start  the start offset of the symbol.
+         * @param end    the end offset of the symbol.
+         * @param parent the handle of the parent symbol returned by this method and -1 for a top-level symbol.
+         * @return the handle of the added symbol to use as parent of its children.
+         */
+        public int add(@NotNull T symbol, int start, int end, int parent) {
+            int depth = parent != -1 ? nodes.get(parent).depth + 1 : 0;
+            nodes.add(new Node<>(symbol, start, Math.max(start, end), parent, depth));
+            return nodes.size() - 1;
+        }
+
+        public @NotNull SymbolIntervalIndex<T> build() {
+            return new SymbolIntervalIndex<>(nodes);
+        }
+    }
+
+    private record Node<T>(@NotNull T symbol, int start, int end, int parent, int depth) {
+    }
+}
@@ -11,6 +11,7 @@
 package com.redhat.devtools.lsp4ij.features.documentation;
 
 import com.intellij.openapi.project.Project;
+import com.intellij.platform.backend.documentation.DocumentationResult;
 import com.intellij.psi.PsiFile;
 import com.redhat.devtools.lsp4ij.LanguageServerItem;
 import com.redhat.devtools.lsp4ij.client.features.LSPHoverFeature;
@@ -28,6 +29,9 @@ import java.util.Objects;
  */
 public class LSPDocumentationHelper {
 
+    // Above this number of characters, the documentation is rendered asynchronously
+    private static final int LARGE_DOCUMENTATION_SIZE = 8 * 1024;
+
     private LSPDocumentationHelper() {
 
     }
@@ -146,4 +150,25 @@ public class LSPDocumentationHelper {
         return htmlBody.toString();
     }
 
+    /**
+     * Returns the documentation result of the given LSP markup contents.
+     * <p>
+     * Large contents (ex : a documentation with a lot of code samples to highlight) are rendered asynchronously
+     * so that the documentation popup is displayed while the HTML is rendered.
+     *
+     * @param contents       the markup contents.
+     * @param languageServer the language server which has provided the contents and null otherwise.
+     * @param file           the file which has triggered the hover / completion documentation.
+     * @return the documentation result of the given LSP markup contents.
+     */
+    public static @NotNull DocumentationResult toDocumentationResult(@NotNull List<MarkupContent> contents,
+                                                                     @Nullable LanguageServerItem languageServer,
+                                                                     @NotNull PsiFile file) {
+        int size = contents.stream().mapToInt(content -> content.getValue().length()).sum();
+        if (size < LARGE_DOCUMENTATION_SIZE) {
+            return DocumentationResult.documentation(convertToHtml(contents, languageServer, file));
+        }
+        return DocumentationResult.asyncDocumentation(() -> DocumentationResult.documentation(convertToHtml(contents, languageServer, file)));
+    }
+
 }
@@ -24,6 +24,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.List;
 
 import static com.redhat.devtools.lsp4ij.features.documentation.LSPDocumentationHelper.convertToHtml;
+import static com.redhat.devtools.lsp4ij.features.documentation.LSPDocumentationHelper.toDocumentationResult;
 
 /**
  * LSP {@link DocumentationTarget} implementation.
@@ -56,7 +57,7 @@ public class LSPDocumentationTarget implements DocumentationTarget {
     @Nullable
     @Override
     public DocumentationResult computeDocumentation() {
-        return DocumentationResult.documentation(getHtml());
+        return toDocumentationResult(contents, languageServer, file);
     }
 
     @NotNull
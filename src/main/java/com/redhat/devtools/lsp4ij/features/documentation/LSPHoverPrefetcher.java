@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.documentation;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.editor.event.*;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.util.Alarm;
+import com.redhat.devtools.lsp4ij.LSPFileSupport;
+import com.redhat.devtools.lsp4ij.LSPIJUtils;
+import com.redhat.devtools.lsp4ij.LanguageServiceAccessor;
+import com.redhat.devtools.lsp4ij.client.ExecuteLSPFeatureStatus;
+import com.redhat.devtools.lsp4ij.client.indexing.ProjectIndexingManager;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Loads in background the LSP hover of the identifier at the caret when the caret stays idle
+ * {@link #PREFETCH_DELAY} ms, for the language servers which enable it with
+ * {@link com.redhat.devtools.lsp4ij.client.features.LSPHoverFeature#isHoverPrefetchEnabled(PsiFile)}.
+ * <p>
+ * The prefetched hover is cached by {@link LSPHoverSupport} and the prefetch is cancelled when the document is edited.
+ */
+public class LSPHoverPrefetcher implements EditorFactoryListener {
+
+    private static final Key<EditorPrefetcher> EDITOR_PREFETCHER_KEY = Key.create("lsp.hover.prefetcher");
+
+    static final int PREFETCH_DELAY = 500;
+
+    private static class EditorPrefetcher implements CaretListener, DocumentListener, Disposable {
+
+        private final @NotNull Editor editor;
+        private final @NotNull Project project;
+        private final @NotNull Alarm alarm;
+
+        private EditorPrefetcher(@NotNull Editor editor, @NotNull Project project) {
+            this.editor = editor;
+            this.project = project;
+            this.alarm = new Alarm(Alarm.ThreadToUse.POOLED_THREAD, this);
+            editor.getCaretModel().addCaretListener(this, this);
+            editor.getDocument().addDocumentListener(this, this);
+        }
+
+        @Override
+        public void caretPositionChanged(@NotNull CaretEvent event) {
+            alarm.cancelAllRequests();
+            alarm.addRequest(this::prefetch, PREFETCH_DELAY);
+        }
+
+        @Override
+        public void documentChanged(@NotNull DocumentEvent event) {
+            alarm.cancelAllRequests();
+            PsiFile psiFile = PsiDocumentManager.getInstance(project).getCachedPsiFile(event.getDocument());
+            if (psiFile != null && LSPFileSupport.hasSupport(psiFile)) {
+                LSPFileSupport.getSupport(psiFile).getHoverSupport().cancelPrefetch();
+            }
+        }
+
+        private void prefetch() {
+            if (project.isDisposed() || editor.isDisposed()) {
+                return;
+            }
+            ReadAction.run(() -> {
+                Document document = editor.getDocument();
+                int offset = getIdentifierOffset(document.getImmutableCharSequence(), editor.getCaretModel().getOffset());
+                if (offset == -1) {
+                    return;
+                }
+                PsiFile psiFile = PsiDocumentManager.getInstance(project).getPsiFile(document);
+                if (psiFile == null || !isHoverPrefetchEnabled(psiFile)) {
+                    return;
+                }
+                VirtualFile file = LSPIJUtils.getFile(psiFile);
+                if (file == null) {
+                    return;
+                }
+                var params = new LSPHoverParams(LSPIJUtils.toTextDocumentIdentifier(file), LSPIJUtils.toPosition(offset, document), offset);
+                LSPFileSupport.getSupport(psiFile).getHoverSupport().prefetchHover(params);
+            });
+        }
+
+        @Override
+        public void dispose() {
+            // The listeners and the alarm are disposed with this prefetcher
+        }
+    }
+
+    @Override
+    public void editorCreated(@NotNull EditorFactoryEvent event) {
+        Editor editor = event.getEditor();
+        Project project = editor.getProject();
+        if (project != null) {
+            editor.putUserData(EDITOR_PREFETCHER_KEY, new EditorPrefetcher(editor, project));
+        }
+    }
+
+    @Override
+    public void editorReleased(@NotNull EditorFactoryEvent event) {
+        Editor editor = event.getEditor();
+        EditorPrefetcher prefetcher = editor.getUserData(EDITOR_PREFETCHER_KEY);
+        if (prefetcher != null) {
+            editor.putUserData(EDITOR_PREFETCHER_KEY, null);
+            Disposer.dispose(prefetcher);
+        }
+    }
+
+    private static boolean isHoverPrefetchEnabled(@NotNull PsiFile psiFile) {
+        if (ProjectIndexingManager.canExecuteLSPFeature(psiFile) != ExecuteLSPFeatureStatus.NOW) {
+            return false;
+        }
+        // Only the started language servers are used, the prefetch must not start a language server
+        return LanguageServiceAccessor.getInstance(psiFile.getProject())
+                .hasAny(psiFile, ls -> {
+                    var hoverFeature = ls.getClientFeatures().getHoverFeature();
+                    return hoverFeature.isHoverPrefetchEnabled(psiFile) &&
+                            hoverFeature.isEnabled(psiFile) &&
+                            hoverFeature.isSupported(psiFile);
+                });
+    }
+
+    /**
+     * Returns an offset inside the identifier at the given caret offset and -1 if there is no identifier.
+     */
+    private static int getIdentifierOffset(@NotNull CharSequence text, int offset) {
+        if (offset < text.length() && Character.isJavaIdentifierPart(text.charAt(offset))) {
+            return offset;
+        }
+        // The caret is at the end of an identifier
+        if (offset > 0 && offset <= text.length() && Character.isJavaIdentifierPart(text.charAt(offset - 1))) {
+            return offset - 1;
+        }
+        return -1;
+    }
+}
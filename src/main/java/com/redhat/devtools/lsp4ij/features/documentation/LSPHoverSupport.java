@@ -10,7 +10,10 @@
  ******************************************************************************/
 package com.redhat.devtools.lsp4ij.features.documentation;
 
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiFile;
+import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import com.redhat.devtools.lsp4ij.LSPRequestConstants;
 import com.redhat.devtools.lsp4ij.LanguageServerItem;
 import com.redhat.devtools.lsp4ij.features.AbstractLSPDocumentFeatureSupport;
@@ -23,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * LSP hover support which loads and caches hover by consuming:
@@ -30,22 +34,129 @@ import java.util.concurrent.CompletableFuture;
  * <ul>
  *     <li>LSP 'textDocument/hover' requests</li>
  * </ul>
+ *
+ * The hover results are cached per document modification stamp with the range returned by the language servers,
+ * so that a hover triggered at any offset of a previously hovered range is answered without LSP request.
  */
 public class LSPHoverSupport extends AbstractLSPDocumentFeatureSupport<HoverParams, List<HoverData>> {
 
+    // Max number of hover results cached for the file
+    private static final int MAX_CACHED_HOVERS = 64;
+
+    /**
+     * Hover results cached for the range returned by the language servers.
+     *
+     * @param modificationStamp the document modification stamp.
+     * @param textRange         the hover range.
+     * @param hovers            the hover results.
+     */
+    private record CachedHover(long modificationStamp,
+                               @NotNull TextRange textRange,
+                               @NotNull List<HoverData> hovers) {
+    }
+
     private Integer previousOffset;
 
+    private final List<CachedHover> cachedHovers = new ArrayList<>();
+
+    // The cancellation support of the pending prefetch, set on the alarm thread and cancelled on the EDT
+    private final AtomicReference<CancellationSupport> prefetchCancellationSupport = new AtomicReference<>();
+
     public LSPHoverSupport(@NotNull PsiFile file) {
         super(file);
     }
 
     public CompletableFuture<List<HoverData>> getHover(LSPHoverParams params) {
         int offset = params.getOffset();
+        Document document = LSPIJUtils.getDocument(getFile().getVirtualFile());
+        long modificationStamp = document != null ? document.getModificationStamp() : -1;
+        List<HoverData> cached = getCachedHover(offset, modificationStamp);
+        if (cached != null) {
+            // The offset is inside a previously hovered range
+            return CompletableFuture.completedFuture(cached);
+        }
         if (previousOffset != null && !previousOffset.equals(offset)) {
             super.cancel();
         }
         previousOffset = offset;
-        return super.getFeatureData(params);
+        var future = super.getFeatureData(params);
+        if (future != null && document != null) {
+            future.thenAccept(hovers -> cacheHover(hovers, document, modificationStamp));
+        }
+        return future;
+    }
+
+    /**
+     * Load in background the hover at the given offset to cache it, if it is not already cached.
+     * A previous prefetch is cancelled.
+     *
+     * @param params the hover parameters.
+     */
+    public void prefetchHover(@NotNull LSPHoverParams params) {
+        Document document = LSPIJUtils.getDocument(getFile().getVirtualFile());
+        if (document == null) {
+            return;
+        }
+        long modificationStamp = document.getModificationStamp();
+        if (getCachedHover(params.getOffset(), modificationStamp) != null) {
+            return;
+        }
+        var cancellationSupport = new CancellationSupport();
+        var previousCancellationSupport = prefetchCancellationSupport.getAndSet(cancellationSupport);
+        if (previousCancellationSupport != null) {
+            previousCancellationSupport.cancel();
+        }
+        getHover(getFile(), params, cancellationSupport)
+                .thenAccept(hovers -> cacheHover(hovers, document, modificationStamp));
+    }
+
+    /**
+     * Cancel the pending hover prefetch.
+     */
+    public void cancelPrefetch() {
+        var cancellationSupport = prefetchCancellationSupport.getAndSet(null);
+        if (cancellationSupport != null) {
+            cancellationSupport.cancel();
+        }
+    }
+
+    private synchronized @Nullable List<HoverData> getCachedHover(int offset, long modificationStamp) {
+        for (var cachedHover : cachedHovers) {
+            if (cachedHover.modificationStamp() == modificationStamp &&
+                    cachedHover.textRange().getStartOffset() <= offset &&
+                    offset < cachedHover.textRange().getEndOffset()) {
+                return cachedHover.hovers();
+            }
+        }
+        return null;
+    }
+
+    private synchronized void cacheHover(@Nullable List<HoverData> hovers,
+                                         @NotNull Document document,
+                                         long modificationStamp) {
+        if (hovers == null || hovers.isEmpty() || document.getModificationStamp() != modificationStamp) {
+            return;
+        }
+        // The hover results are valid in the intersection of the ranges returned by the language servers
+        TextRange textRange = null;
+        for (var hoverData : hovers) {
+            var range = hoverData.hover().getRange();
+            TextRange hoverRange = range != null ? LSPIJUtils.toTextRange(range, document) : null;
+            if (hoverRange == null) {
+                // The language server has not returned a range, the hover can't be reused for another offset
+                return;
+            }
+            textRange = textRange != null ? textRange.intersection(hoverRange) : hoverRange;
+            if (textRange == null || textRange.isEmpty()) {
+                return;
+            }
+        }
+        // Evict the hover results of the previous document modification stamps
+        cachedHovers.removeIf(cachedHover -> cachedHover.modificationStamp() != modificationStamp);
+        if (cachedHovers.size() >= MAX_CACHED_HOVERS) {
+            cachedHovers.remove(0);
+        }
+        cachedHovers.add(new CachedHover(modificationStamp, textRange, hovers));
     }
 
     @Override
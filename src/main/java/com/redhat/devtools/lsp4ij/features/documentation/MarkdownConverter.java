@@ -11,6 +11,7 @@
 package com.redhat.devtools.lsp4ij.features.documentation;
 
 import com.intellij.lang.Language;
+import com.intellij.openapi.editor.colors.EditorColorsManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Key;
 import com.intellij.psi.PsiFile;
@@ -30,9 +31,16 @@ import org.jetbrains.annotations.Nullable;
 
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
- * Converts Markdown to HTML
+ * Converts Markdown to HTML.
+ * <p>
+ * The rendered HTML is cached in a LRU cache of {@link #MAX_CACHE_SIZE} characters keyed by the Markdown content,
+ * the file context (language, file name, base directory) and the color scheme, to avoid parsing and highlighting
+ * again the same hover and completion documentation.
  */
 @ApiStatus.Internal
 public class MarkdownConverter {
@@ -44,10 +52,23 @@ public class MarkdownConverter {
     public static final DataKey<Language> LANGUAGE_CONTEXT = new DataKey<>("LSP_LANGUAGE", (Language) null);
     public static final DataKey<Path> FILE_BASE_DIR = new DataKey<>("LSP_BASE_DIR", (Path) null);
 
+    // Max number of characters (Markdown + HTML) stored in the cache
+    static final int MAX_CACHE_SIZE = 4 * 1024 * 1024;
+
+    private record CacheKey(@NotNull String markdown,
+                            @Nullable String languageId,
+                            @Nullable String fileName,
+                            @Nullable Path baseDir,
+                            @NotNull String colorScheme) {
+    }
+
     private final Project project;
     private final Parser htmlParser;
     private final HtmlRenderer htmlRenderer;
     private final MutableDataSet options;
+    // Access ordered map to evict the least recently used HTML
+    private final Map<CacheKey, String> htmlCache = new LinkedHashMap<>(16, 0.75f, true);
+    private int cacheSize;
 
     public static MarkdownConverter getInstance(@NotNull Project project) {
         return project.getService(MarkdownConverter.class);
@@ -76,6 +97,9 @@ public class MarkdownConverter {
         options.set(PROJECT_CONTEXT, project);
         htmlRenderer = createHtmlRenderer(options);
         htmlParser = Parser.builder(options).build();
+
+        // The code blocks are highlighted with the colors of the global scheme
+        project.getMessageBus().connect().subscribe(EditorColorsManager.TOPIC, scheme -> clearCache());
     }
 
     @NotNull
@@ -106,6 +130,11 @@ public class MarkdownConverter {
      */
     public @NotNull String toHtml(@NotNull String markdown,
                                   @Nullable PsiFile file) {
+        var cacheKey = createCacheKey(markdown, file);
+        String html = getCachedHtml(cacheKey);
+        if (html != null) {
+            return html;
+        }
         var htmlRenderer = this.htmlRenderer;
         if (file != null) {
             // The HtmlRenderer is stored in LSPFileSupport instead of PsiFile
@@ -116,7 +145,48 @@ public class MarkdownConverter {
                 htmlRenderer = getHtmlRenderer(fileSupport);
             }
         }
-        return htmlRenderer.render(htmlParser.parse(markdown));
+        html = htmlRenderer.render(htmlParser.parse(markdown));
+        cacheHtml(cacheKey, html);
+        return html;
+    }
+
+    private static @NotNull CacheKey createCacheKey(@NotNull String markdown,
+                                                    @Nullable PsiFile file) {
+        String colorScheme = EditorColorsManager.getInstance().getGlobalScheme().getName();
+        if (file == null) {
+            return new CacheKey(markdown, null, null, null, colorScheme);
+        }
+        var parent = file.getVirtualFile() != null ? file.getVirtualFile().getParent() : null;
+        Path baseDir = parent != null ? parent.getFileSystem().getNioPath(parent) : null;
+        return new CacheKey(markdown, file.getLanguage().getID(), file.getName(), baseDir, colorScheme);
+    }
+
+    private synchronized @Nullable String getCachedHtml(@NotNull CacheKey cacheKey) {
+        return htmlCache.get(cacheKey);
+    }
+
+    private synchronized void cacheHtml(@NotNull CacheKey cacheKey, @NotNull String html) {
+        int size = cacheKey.markdown().length() + html.length();
+        if (size > MAX_CACHE_SIZE) {
+            return;
+        }
+        String old = htmlCache.put(cacheKey, html);
+        if (old != null) {
+            cacheSize -= cacheKey.markdown().length() + old.length();
+        }
+        cacheSize += size;
+        // Evict the least recently used HTML
+        Iterator<Map.Entry<CacheKey, String>> entries = htmlCache.entrySet().iterator();
+        while (cacheSize > MAX_CACHE_SIZE && entries.hasNext()) {
+            var entry = entries.next();
+            cacheSize -= entry.getKey().markdown().length() + entry.getValue().length();
+            entries.remove();
+        }
+    }
+
+    private synchronized void clearCache() {
+        htmlCache.clear();
+        cacheSize = 0;
     }
 
     private synchronized HtmlRenderer getHtmlRenderer(@NotNull LSPFileSupport fileSupport) {
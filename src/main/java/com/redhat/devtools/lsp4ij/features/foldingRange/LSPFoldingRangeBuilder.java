@@ -20,7 +20,6 @@ import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
-import com.intellij.util.containers.ContainerUtil;
 import com.intellij.util.text.CharArrayUtil;
 import com.redhat.devtools.lsp4ij.LSPFileSupport;
 import com.redhat.devtools.lsp4ij.LSPIJEditorUtils;
@@ -59,30 +58,25 @@ public class LSPFoldingRangeBuilder extends CustomFoldingBuilder {
                                             @NotNull PsiElement root,
                                             @NotNull Document document,
                                             boolean quick) {
-        // if quick flag is set and not testing, we do nothing here
-        if (quick && !ApplicationManager.getApplication().isUnitTestMode()) {
-            return;
-        }
-
         PsiFile file = root.getContainingFile();
-        List<FoldingRange> foldingRanges = getFoldingRanges(file);
-        if (!ContainerUtil.isEmpty(foldingRanges)) {
-            for (FoldingRange foldingRange : foldingRanges) {
-                int start = getStartOffset(foldingRange, document);
-                int end = getEndOffset(foldingRange, document);
-                TextRange textRange = TextRange.create(start, end);
-                if (textRange.getLength() > 0) {
-                    descriptors.add(new FoldingDescriptor(
-                            root.getNode(),
-                            textRange,
-                            null,
-                            Collections.emptySet(),
-                            false,
-                            foldingRange.getCollapsedText(),
-                            (foldingRange instanceof LSPFoldingRange lspFoldingRange) && lspFoldingRange.isCollapsedByDefault()
-                    ));
-                }
-            }
+        boolean loadIfNeeded = !quick && ProjectIndexingManager.canExecuteLSPFeature(file) == ExecuteLSPFeatureStatus.NOW;
+        if (loadIfNeeded && ApplicationManager.getApplication().isUnitTestMode()) {
+            // Wait for the folding ranges when testing to have deterministic folding regions
+            getFoldingRanges(file);
+        }
+        // Use the folding regions of the current response, or the last known folding regions while the response
+        // is loading, to avoid blocking the folding pass. The folding is refreshed when the response is available.
+        var foldingRegions = LSPFileSupport.getSupport(file).getFoldingRangeSupport().getFoldingRegions(document, loadIfNeeded);
+        for (var foldingRegion : foldingRegions) {
+            descriptors.add(new FoldingDescriptor(
+                    root.getNode(),
+                    foldingRegion.marker().getTextRange(),
+                    null,
+                    Collections.emptySet(),
+                    false,
+                    foldingRegion.collapsedText(),
+                    foldingRegion.collapsedByDefault()
+            ));
         }
     }
 
@@ -209,6 +203,11 @@ public class LSPFoldingRangeBuilder extends CustomFoldingBuilder {
         return textRange;
     }
 
+    @NotNull
+    static TextRange getFoldingTextRange(@NotNull FoldingRange foldingRange, @NotNull Document document) {
+        return TextRange.create(getStartOffset(foldingRange, document), getEndOffset(foldingRange, document));
+    }
+
     private static int getStartOffset(@NotNull FoldingRange foldingRange, @NotNull Document document) {
         if (foldingRange.getStartCharacter() == null) {
             // Be defensive against language servers that return lines that are out of bounds for the document
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.redhat.devtools.lsp4ij.features.foldingRange;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of the LSP folding:
+ *
+ * <ul>
+ *     <li>the latency of the 'textDocument/foldingRange' responses.</li>
+ *     <li>the number of folding passes which have used the folding ranges of the current response (fresh hit),
+ *     the last known folding ranges while the response is loading (stale hit) or no folding ranges (miss).</li>
+ * </ul>
+ */
+@ApiStatus.Internal
+public class LSPFoldingRangeMetrics {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LSPFoldingRangeMetrics.class);
+
+    private static final LSPFoldingRangeMetrics INSTANCE = new LSPFoldingRangeMetrics();
+
+    private final AtomicLong responseCount = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+    private final AtomicLong freshHits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public static @NotNull LSPFoldingRangeMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    LSPFoldingRangeMetrics() {
+
+    }
+
+    /**
+     * Record the latency of a 'textDocument/foldingRange' response.
+     *
+     * @param latencyNanos the latency in nanoseconds.
+     */
+    void recordLatency(long latencyNanos) {
+        responseCount.incrementAndGet();
+        totalLatency.addAndGet(latencyNanos);
+        maxLatency.accumulateAndGet(latencyNanos, Math::max);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("textDocument/foldingRange response in {} ms (average: {} ms, stale hit ratio: {})",
+                    TimeUnit.NANOSECONDS.toMillis(latencyNanos), getAverageLatencyMillis(), getStaleHitRatio());
+        }
+    }
+
+    void recordFreshHit() {
+        freshHits.incrementAndGet();
+    }
+
+    void recordStaleHit() {
+        staleHits.incrementAndGet();
+    }
+
+    void recordMiss() {
+        misses.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of 'textDocument/foldingRange' responses.
+     *
+     * @return the number of 'textDocument/foldingRange' responses.
+     */
+    public long getResponseCount() {
+        return responseCount.get();
+    }
+
+    /**
+     * Returns the average latency of the 'textDocument/foldingRange' responses in milliseconds.
+     *
+     * @return the average latency of the 'textDocument/foldingRange' responses in milliseconds.
+     */
+    public long getAverageLatencyMillis() {
+        long count = responseCount.get();
+        return count > 0 ? TimeUnit.NANOSECONDS.toMillis(totalLatency.get() / count) : 0;
+    }
+
+    /**
+     * Returns the max latency of the 'textDocument/foldingRange' responses in milliseconds.
+     *
+     * @return the max latency of the 'textDocument/foldingRange' responses in milliseconds.
+     */
+    public long getMaxLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLatency.get());
+    }
+
+    /**
+     * Returns the ratio of folding passes which have used the last known folding ranges because the
+     * 'textDocument/foldingRange' response was loading.
+     *
+     * @return the stale hit ratio between 0 and 1.
+     */
+    public double getStaleHitRatio() {
+        long stale = staleHits.get();
+        long total = stale + freshHits.get() + misses.get();
+        return total > 0 ? (double) stale / total : 0;
+    }
+
+    public long getFreshHits() {
+        return freshHits.get();
+    }
+
+    public long getStaleHits() {
+        return staleHits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+}
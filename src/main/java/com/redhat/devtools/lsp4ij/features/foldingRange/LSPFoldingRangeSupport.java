@@ -10,30 +10,66 @@
  ******************************************************************************/
 package com.redhat.devtools.lsp4ij.features.foldingRange;
 
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.RangeMarker;
+import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiFile;
+import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import com.redhat.devtools.lsp4ij.LSPRequestConstants;
 import com.redhat.devtools.lsp4ij.LanguageServerItem;
 import com.redhat.devtools.lsp4ij.client.features.LSPFoldingRangeFeature;
 import com.redhat.devtools.lsp4ij.features.AbstractLSPDocumentFeatureSupport;
 import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
 import com.redhat.devtools.lsp4ij.internal.CompletableFutures;
+import com.redhat.devtools.lsp4ij.internal.editor.EditorFeatureManager;
+import com.redhat.devtools.lsp4ij.internal.editor.EditorFeatureType;
 import org.eclipse.lsp4j.FoldingRange;
 import org.eclipse.lsp4j.FoldingRangeRequestParams;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.isDoneNormally;
+
 /**
  * LSP foldingRange support which loads and caches folding ranges by consuming:
  *
  * <ul>
  *     <li>LSP 'textDocument/foldingRange' requests</li>
  * </ul>
+ *
+ * <p>
+ * The folding regions of the last response are kept with range markers to be returned (shifted according to the
+ * document changes) while the next response is loading. The range markers are disposed with the
+ * {@link com.redhat.devtools.lsp4ij.LSPFileSupport} of the file.
+ * </p>
  */
-public class LSPFoldingRangeSupport extends AbstractLSPDocumentFeatureSupport<FoldingRangeRequestParams, List<FoldingRange>> {
+public class LSPFoldingRangeSupport extends AbstractLSPDocumentFeatureSupport<FoldingRangeRequestParams, List<FoldingRange>> implements Disposable {
+
+    /**
+     * Folding region of a 'textDocument/foldingRange' response which tracks the document changes.
+     *
+     * @param marker             the range marker of the folding region.
+     * @param collapsedText      the collapsed text.
+     * @param collapsedByDefault true if the folding region should be collapsed by default and false otherwise.
+     */
+    record FoldingRegion(@NotNull RangeMarker marker, @Nullable String collapsedText, boolean collapsedByDefault) {
+    }
+
+    // The folding regions of the last response and the future of this response
+    private @Nullable List<FoldingRegion> foldingRegions;
+    private @Nullable CompletableFuture<List<FoldingRange>> foldingRegionsFuture;
+    // The future for which a folding refresh is scheduled when it is done
+    private @Nullable CompletableFuture<List<FoldingRange>> refreshFuture;
+    // true when the support is disposed, no range markers must be created anymore
+    private volatile boolean disposed;
 
     public LSPFoldingRangeSupport(@NotNull PsiFile file) {
         super(file);
@@ -43,10 +79,121 @@ public class LSPFoldingRangeSupport extends AbstractLSPDocumentFeatureSupport<Fo
         return super.getFeatureData(params);
     }
 
+    /**
+     * Returns the folding regions without waiting for the 'textDocument/foldingRange' response.
+     *
+     * <p>
+     * When the response is loading, the folding regions of the last response are returned and the folding of the
+     * file is refreshed when the response is available.
+     * </p>
+     *
+     * <p>
+     * Only the folding passes which can load the response are recorded in the {@link LSPFoldingRangeMetrics},
+     * the quick passes always use the last known folding regions.
+     * </p>
+     *
+     * @param document     the document of the file.
+     * @param loadIfNeeded true if the 'textDocument/foldingRange' request can be sent and false otherwise.
+     * @return the folding regions or the last known folding regions while the response is loading.
+     */
+    @NotNull
+    List<FoldingRegion> getFoldingRegions(@NotNull Document document, boolean loadIfNeeded) {
+        if (disposed) {
+            return Collections.emptyList();
+        }
+        var metrics = loadIfNeeded ? LSPFoldingRangeMetrics.getInstance() : null;
+        CompletableFuture<List<FoldingRange>> future = null;
+        if (loadIfNeeded) {
+            var params = new FoldingRangeRequestParams(LSPIJUtils.toTextDocumentIdentifier(getFile().getVirtualFile()));
+            future = getFoldingRanges(params);
+        }
+        synchronized (this) {
+            if (disposed) {
+                // The support has been disposed while loading the response
+                return Collections.emptyList();
+            }
+            if (future != null && isDoneNormally(future)) {
+                if (future != foldingRegionsFuture) {
+                    // Replace the folding regions with the regions of the new response
+                    disposeFoldingRegions();
+                    foldingRegions = createFoldingRegions(future.getNow(null), document);
+                    foldingRegionsFuture = future;
+                }
+                if (metrics != null) {
+                    metrics.recordFreshHit();
+                }
+                return getValidFoldingRegions();
+            }
+            if (future != null && !future.isDone() && future != refreshFuture) {
+                // Refresh the folding when the response is available
+                refreshFuture = future;
+                PsiFile file = getFile();
+                EditorFeatureManager.getInstance(file.getProject())
+                        .refreshEditorFeatureWhenAllDone(Set.of(future), file.getModificationStamp(), file, EditorFeatureType.FOLDING);
+            }
+            if (metrics != null) {
+                if (foldingRegions == null) {
+                    metrics.recordMiss();
+                } else {
+                    metrics.recordStaleHit();
+                }
+            }
+            return getValidFoldingRegions();
+        }
+    }
+
+    private @NotNull List<FoldingRegion> getValidFoldingRegions() {
+        if (foldingRegions == null) {
+            return Collections.emptyList();
+        }
+        return foldingRegions
+                .stream()
+                .filter(region -> region.marker().isValid() && !region.marker().getTextRange().isEmpty())
+                .toList();
+    }
+
+    private static @NotNull List<FoldingRegion> createFoldingRegions(@Nullable List<FoldingRange> foldingRanges,
+                                                                     @NotNull Document document) {
+        if (foldingRanges == null || foldingRanges.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<FoldingRegion> regions = new ArrayList<>(foldingRanges.size());
+        for (FoldingRange foldingRange : foldingRanges) {
+            TextRange textRange = LSPFoldingRangeBuilder.getFoldingTextRange(foldingRange, document);
+            if (textRange.getLength() > 0) {
+                RangeMarker marker = document.createRangeMarker(textRange);
+                regions.add(new FoldingRegion(marker,
+                        foldingRange.getCollapsedText(),
+                        (foldingRange instanceof LSPFoldingRange lspFoldingRange) && lspFoldingRange.isCollapsedByDefault()));
+            }
+        }
+        return regions;
+    }
+
+    @Override
+    public void dispose() {
+        synchronized (this) {
+            disposed = true;
+            disposeFoldingRegions();
+            foldingRegionsFuture = null;
+            refreshFuture = null;
+        }
+    }
+
+    private void disposeFoldingRegions() {
+        if (foldingRegions != null) {
+            foldingRegions.forEach(region -> region.marker().dispose());
+            foldingRegions = null;
+        }
+    }
+
     @Override
     protected CompletableFuture<List<FoldingRange>> doLoad(FoldingRangeRequestParams params, CancellationSupport cancellationSupport) {
         PsiFile file = super.getFile();
-        return getFoldingRanges(file, params, cancellationSupport);
+        long start = System.nanoTime();
+        CompletableFuture<List<FoldingRange>> future = getFoldingRanges(file, params, cancellationSupport);
+        future.thenRun(() -> LSPFoldingRangeMetrics.getInstance().recordLatency(System.nanoTime() - start));
+        return future;
     }
 
     private static @NotNull CompletableFuture<List<FoldingRange>> getFoldingRanges(@NotNull PsiFile file,
@@ -0,0 +1,363 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.formatting;
+
+import com.intellij.application.options.CodeStyle;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.redhat.devtools.lsp4ij.LSPIJUtils;
+import com.redhat.devtools.lsp4ij.LSPRequestConstants;
+import com.redhat.devtools.lsp4ij.LanguageServerItem;
+import com.redhat.devtools.lsp4ij.LanguageServerWrapper;
+import com.redhat.devtools.lsp4ij.LanguageServiceAccessor;
+import com.redhat.devtools.lsp4ij.client.features.FileUriSupport;
+import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
+import org.eclipse.lsp4j.DocumentFormattingParams;
+import org.eclipse.lsp4j.FormattingOptions;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.TextEdit;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.waitUntilDone;
+
+/**
+ * Batch formatting engine which formats a set of files with the language servers:
+ *
+ * <ul>
+ *     <li>the 'textDocument/formatting' requests are pipelined, with at most
+ *     {@link #MAX_PARALLEL_REQUESTS_PER_SERVER} pending requests per language server.</li>
+ *     <li>a file is opened on the language server (textDocument/didOpen) without an editor only when its formatting
+ *     request is sent, and closed once formatted if no editor has opened it in the meantime, so that at most
+ *     {@link #MAX_PARALLEL_REQUESTS_PER_SERVER} documents are opened per language server for the formatting.</li>
+ *     <li>the formatting results are applied as minimal diff hunks (see {@link LSPFormattingDiff}),
+ *     in bulk mode when there are a lot of hunks.</li>
+ *     <li>a file whose content hash has not changed since its last successful formatting is skipped.</li>
+ * </ul>
+ */
+@ApiStatus.Internal
+public class LSPBatchFormattingEngine {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LSPBatchFormattingEngine.class);
+
+    static final int MAX_PARALLEL_REQUESTS_PER_SERVER = 4;
+
+    // The content hash of the file after its last successful formatting
+    private static final Key<Integer> FORMATTED_CONTENT_HASH_KEY = Key.create("lsp.formatting.batch.hash");
+
+    /**
+     * Formatting status of a file.
+     */
+    public enum Status {
+        /**
+         * The file has been formatted.
+         */
+        FORMATTED,
+        /**
+         * The file was already formatted.
+         */
+        UNCHANGED,
+        /**
+         * The file has not changed since its last successful formatting.
+         */
+        SKIPPED,
+        /**
+         * No language server can format the file.
+         */
+        NOT_SUPPORTED,
+        /**
+         * The formatting of the file has failed.
+         */
+        FAILED
+    }
+
+    /**
+     * Formatting result of a file.
+     *
+     * @param file     the file.
+     * @param status   the formatting status.
+     * @param duration the formatting duration in ms.
+     * @param error    the error message when the formatting has failed and null otherwise.
+     */
+    public record FileResult(@NotNull VirtualFile file,
+                             @NotNull Status status,
+                             long duration,
+                             @Nullable String error) {
+    }
+
+    private record FileTask(@NotNull VirtualFile file,
+                            @NotNull PsiFile psiFile,
+                            @NotNull Document document,
+                            long modificationStamp,
+                            int tabSize,
+                            boolean insertSpaces,
+                            long start) {
+    }
+
+    /**
+     * The files to format with a language server, with at most {@link #MAX_PARALLEL_REQUESTS_PER_SERVER} opened
+     * files and pending formatting requests.
+     */
+    private class ServerQueue {
+
+        private final @NotNull LanguageServerItem languageServer;
+        private final Deque<FileTask> tasks = new ArrayDeque<>();
+        private int pendingRequests;
+
+        private ServerQueue(@NotNull LanguageServerItem languageServer) {
+            this.languageServer = languageServer;
+        }
+
+        void add(@NotNull FileTask task) {
+            synchronized (this) {
+                tasks.addLast(task);
+            }
+            pump();
+        }
+
+        private void pump() {
+            while (true) {
+                FileTask task;
+                synchronized (this) {
+                    if (pendingRequests >= MAX_PARALLEL_REQUESTS_PER_SERVER || tasks.isEmpty()) {
+                        return;
+                    }
+                    task = tasks.pollFirst();
+                    pendingRequests++;
+                }
+                format(task, languageServer)
+                        .whenComplete((result, error) -> {
+                            // Close the file on the language server if it has been opened only to be formatted
+                            languageServer.getServerWrapper().disconnectIfNotOpenedInEditor(task.file());
+                            synchronized (this) {
+                                pendingRequests--;
+                            }
+                            pump();
+                        });
+            }
+        }
+    }
+
+    private final @NotNull Project project;
+    private final CancellationSupport cancellationSupport = new CancellationSupport();
+    private final Map<LanguageServerWrapper, ServerQueue> queues = new ConcurrentHashMap<>();
+    private final List<FileResult> results = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger remainingFiles = new AtomicInteger();
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+    private @Nullable ProgressIndicator indicator;
+    private int fileCount;
+
+    public LSPBatchFormattingEngine(@NotNull Project project) {
+        this.project = project;
+    }
+
+    /**
+     * Format the given files and returns the formatting result of each file.
+     *
+     * @param files     the files to format.
+     * @param indicator the progress indicator.
+     * @return the formatting result of each file.
+     */
+    public @NotNull List<FileResult> format(@NotNull Collection<VirtualFile> files,
+                                            @NotNull ProgressIndicator indicator) {
+        this.indicator = indicator;
+        this.fileCount = files.size();
+        if (files.isEmpty()) {
+            return Collections.emptyList();
+        }
+        indicator.setIndeterminate(false);
+        remainingFiles.set(files.size());
+        try {
+            for (var file : files) {
+                indicator.checkCanceled();
+                start(file);
+            }
+            waitUntilDone(done);
+        } catch (ProcessCanceledException e) {
+            // Cancel the pending 'textDocument/formatting' requests
+            cancellationSupport.cancel();
+            throw e;
+        } catch (ExecutionException e) {
+            LOGGER.warn("Error while formatting files", e);
+        }
+        logResults();
+        return new ArrayList<>(results);
+    }
+
+    private void start(@NotNull VirtualFile file) {
+        long start = System.currentTimeMillis();
+        try {
+            ReadAction.run(() -> {
+                PsiFile psiFile = file.isValid() ? LSPIJUtils.getPsiFile(file, project) : null;
+                Document document = psiFile != null ? LSPIJUtils.getDocument(file) : null;
+                if (psiFile == null || document == null) {
+                    addResult(file, Status.NOT_SUPPORTED, start, null);
+                    return;
+                }
+                Integer formattedHash = file.getUserData(FORMATTED_CONTENT_HASH_KEY);
+                if (formattedHash != null && formattedHash == StringUtil.stringHashCode(document.getImmutableCharSequence())) {
+                    addResult(file, Status.SKIPPED, start, null);
+                    return;
+                }
+                var indentOptions = CodeStyle.getIndentOptions(psiFile);
+                var task = new FileTask(file, psiFile, document, document.getModificationStamp(),
+                        indentOptions.TAB_SIZE, !indentOptions.USE_TAB_CHARACTER, start);
+                // Find the language server which formats the file, the file is opened on this language server
+                // only when its formatting request is sent
+                LanguageServiceAccessor.getInstance(project)
+                        .getLanguageServersWithoutConnecting(psiFile,
+                                f -> f.getFormattingFeature().isEnabled(psiFile),
+                                f -> f.getFormattingFeature().isFormattingSupported(psiFile))
+                        .thenAccept(languageServers -> {
+                            if (languageServers.isEmpty()) {
+                                addResult(file, Status.NOT_SUPPORTED, start, null);
+                                return;
+                            }
+                            var languageServer = languageServers.get(0);
+                            queues.computeIfAbsent(languageServer.getServerWrapper(), w -> new ServerQueue(languageServer))
+                                    .add(task);
+                        })
+                        .exceptionally(error -> {
+                            addResult(file, Status.FAILED, start, getErrorMessage(error));
+                            return null;
+                        });
+            });
+        } catch (ProcessCanceledException e) {
+            throw e;
+        } catch (Exception e) {
+            addResult(file, Status.FAILED, start, getErrorMessage(e));
+        }
+    }
+
+    private CompletableFuture<Void> format(@NotNull FileTask task,
+                                           @NotNull LanguageServerItem languageServer) {
+        CompletableFuture<?> connected;
+        try {
+            connected = connect(task, languageServer);
+        } catch (ProcessCanceledException e) {
+            // The file is recorded to not wait for it forever
+            addResult(task.file(), Status.SKIPPED, task.start(), null);
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            addResult(task.file(), Status.FAILED, task.start(), getErrorMessage(e));
+            return CompletableFuture.completedFuture(null);
+        }
+        return connected
+                .thenCompose(unused -> {
+                    DocumentFormattingParams params = new DocumentFormattingParams();
+                    params.setTextDocument(new TextDocumentIdentifier(FileUriSupport.getFileUri(task.file(), languageServer.getClientFeatures()).toASCIIString()));
+                    params.setOptions(new FormattingOptions(task.tabSize(), task.insertSpaces()));
+                    return cancellationSupport.execute(languageServer
+                            .getTextDocumentService()
+                            .formatting(params), languageServer, LSPRequestConstants.TEXT_DOCUMENT_FORMATTING, false);
+                })
+                .thenCompose(edits -> apply(task, edits))
+                .exceptionally(error -> {
+                    addResult(task.file(), Status.FAILED, task.start(), getErrorMessage(error));
+                    return null;
+                });
+    }
+
+    /**
+     * Open the file on the given language server (textDocument/didOpen) if it is not already opened.
+     */
+    private CompletableFuture<?> connect(@NotNull FileTask task,
+                                         @NotNull LanguageServerItem languageServer) {
+        var serverDefinition = languageServer.getServerDefinition();
+        return ReadAction.compute(() -> LanguageServiceAccessor.getInstance(project)
+                .getLanguageServers(task.psiFile(), null, null, serverDefinition));
+    }
+
+    private CompletableFuture<Void> apply(@NotNull FileTask task,
+                                          @Nullable List<? extends TextEdit> edits) {
+        CompletableFuture<Void> applied = new CompletableFuture<>();
+        ApplicationManager.getApplication().invokeLater(() -> {
+            try {
+                Document document = task.document();
+                if (document.getModificationStamp() != task.modificationStamp()) {
+                    addResult(task.file(), Status.FAILED, task.start(), "The file has been modified during the formatting");
+                    return;
+                }
+                Status status = Status.UNCHANGED;
+                if (edits != null && !edits.isEmpty()) {
+                    String formatted = StringUtil.convertLineSeparators(LSPIJUtils.applyEdits(document, edits));
+                    var hunks = LSPFormattingDiff.computeHunks(document.getImmutableCharSequence(), formatted);
+                    if (!hunks.isEmpty()) {
+                        WriteCommandAction.runWriteCommandAction(project, () -> LSPFormattingDiff.applyHunks(document, hunks));
+                        status = Status.FORMATTED;
+                    }
+                }
+                task.file().putUserData(FORMATTED_CONTENT_HASH_KEY, StringUtil.stringHashCode(document.getImmutableCharSequence()));
+                addResult(task.file(), status, task.start(), null);
+            } catch (Exception e) {
+                addResult(task.file(), Status.FAILED, task.start(), getErrorMessage(e));
+            } finally {
+                applied.complete(null);
+            }
+        }, project.getDisposed());
+        return applied;
+    }
+
+    private void addResult(@NotNull VirtualFile file,
+                           @NotNull Status status,
+                           long start,
+                           @Nullable String error) {
+        results.add(new FileResult(file, status, System.currentTimeMillis() - start, error));
+        int remaining = remainingFiles.decrementAndGet();
+        var indicator = this.indicator;
+        if (indicator != null) {
+            indicator.setFraction((double) (fileCount - remaining) / fileCount);
+            indicator.setText2(file.getPresentableUrl());
+        }
+        if (remaining == 0) {
+            done.complete(null);
+        }
+    }
+
+    private void logResults() {
+        if (LOGGER.isDebugEnabled()) {
+            for (var result : results) {
+                LOGGER.debug("{} {} in {} ms", result.file().getPath(), result.status(), result.duration());
+            }
+        }
+        for (var result : results) {
+            if (result.status() == Status.FAILED) {
+                LOGGER.warn("Error while formatting '{}': {}", result.file().getPath(), result.error());
+            }
+        }
+    }
+
+    private static @NotNull String getErrorMessage(@NotNull Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error.getMessage() != null ? error.getMessage() : error.getClass().getName();
+    }
+}
@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.formatting;
+
+import com.intellij.openapi.editor.Document;
+import com.intellij.util.DocumentUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Linear-time diff between a document text and the text formatted by a language server, used to apply
+ * a formatting response which replaces the whole document as fine-grained changes:
+ *
+ * <ul>
+ *     <li>when the formatter has only changed whitespaces (the common case), the two texts are walked in lockstep
+ *     and one hunk is created for each whitespace run which differs.</li>
+ *     <li>otherwise, the common leading and trailing lines are skipped and the remaining lines are compared
+ *     line by line when their count is the same, or replaced with one hunk.</li>
+ * </ul>
+ */
+class LSPFormattingDiff {
+
+    // Above this number of changes, the document is updated in bulk mode
+    private static final int BULK_MODE_THRESHOLD = 100;
+
+    /**
+     * A change to apply to the old text.
+     *
+     * @param startOffset the start offset in the old text.
+     * @param endOffset   the end offset in the old text.
+     * @param newText     the replacement text.
+     */
+    record Hunk(int startOffset, int endOffset, @NotNull String newText) {
+    }
+
+    private LSPFormattingDiff() {
+    }
+
+    /**
+     * Returns the hunks, sorted by offset, which transform the given old text into the given new text.
+     *
+     * @param oldText the old text.
+     * @param newText the new text.
+     * @return the hunks, sorted by offset, which transform the given old text into the given new text.
+     */
+    static @NotNull List<Hunk> computeHunks(@NotNull CharSequence oldText, @NotNull CharSequence newText) {
+        List<Hunk> hunks = computeWhitespaceHunks(oldText, newText);
+        if (hunks != null) {
+            return hunks;
+        }
+        return computeLineHunks(oldText, newText);
+    }
+
+    /**
+     * Returns the given text with the given hunks applied.
+     *
+     * @param text  the old text.
+     * @param hunks the hunks sorted by offset.
+     * @return the given text with the given hunks applied.
+     */
+    static @NotNull String applyHunks(@NotNull CharSequence text, @NotNull List<Hunk> hunks) {
+        StringBuilder result = new StringBuilder(text.length());
+        int offset = 0;
+        for (var hunk : hunks) {
+            result.append(text, offset, hunk.startOffset()).append(hunk.newText());
+            offset = hunk.endOffset();
+        }
+        result.append(text, offset, text.length());
+        return result.toString();
+    }
+
+    /**
+     * Apply the given hunks to the document as separate changes, in bulk mode when there are a lot of hunks,
+     * so that the range markers, the folding regions and the PSI of the unchanged parts are preserved.
+     * This method must be called in a write action.
+     *
+     * @param document the document.
+     * @param hunks    the hunks sorted by offset.
+     */
+    static void applyHunks(@NotNull Document document,
+                           @NotNull List<Hunk> hunks) {
+        DocumentUtil.executeInBulk(document, hunks.size() > BULK_MODE_THRESHOLD, () -> {
+            // Apply the hunks from the end of the document to keep the offsets of the previous hunks valid
+            for (int i = hunks.size() - 1; i >= 0; i--) {
+                var hunk = hunks.get(i);
+                document.replaceString(hunk.startOffset(), hunk.endOffset(), hunk.newText());
+            }
+        });
+    }
+
+    /**
+     * Returns the hunks of the whitespace runs which differ and null if the non-whitespace characters of the
+     * two texts are not the same.
+     */
+    private static List<Hunk> computeWhitespaceHunks(@NotNull CharSequence oldText, @NotNull CharSequence newText) {
+        List<Hunk> hunks = new ArrayList<>();
+        int oldLength = oldText.length();
+        int newLength = newText.length();
+        int i = 0;
+        int j = 0;
+        while (true) {
+            int oldStart = i;
+            while (i < oldLength && isWhitespace(oldText.charAt(i))) {
+                i++;
+            }
+            int newStart = j;
+            while (j < newLength && isWhitespace(newText.charAt(j))) {
+                j++;
+            }
+            addHunk(oldText, oldStart, i, newText, newStart, j, hunks);
+            if (i == oldLength || j == newLength) {
+                break;
+            }
+            if (oldText.charAt(i) != newText.charAt(j)) {
+                // The formatter has changed a token
+                return null;
+            }
+            i++;
+            j++;
+        }
+        return i == oldLength && j == newLength ? hunks : null;
+    }
+
+    private static List<Hunk> computeLineHunks(@NotNull CharSequence oldText, @NotNull CharSequence newText) {
+        int[] oldLines = getLineStarts(oldText);
+        int[] newLines = getLineStarts(newText);
+        int oldLineCount = oldLines.length - 1;
+        int newLineCount = newLines.length - 1;
+
+        // Skip the common leading lines
+        int start = 0;
+        while (start < oldLineCount && start < newLineCount &&
+                isSameLine(oldText, oldLines, start, newText, newLines, start)) {
+            start++;
+        }
+        // Skip the common trailing lines
+        int oldEnd = oldLineCount;
+        int newEnd = newLineCount;
+        while (oldEnd > start && newEnd > start &&
+                isSameLine(oldText, oldLines, oldEnd - 1, newText, newLines, newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        List<Hunk> hunks = new ArrayList<>();
+        if (oldEnd - start == newEnd - start) {
+            // Same number of changed lines, compare them line by line
+            for (int line = start; line < oldEnd; line++) {
+                addHunk(oldText, oldLines[line], oldLines[line + 1], newText, newLines[line], newLines[line + 1], hunks);
+            }
+        } else {
+            addHunk(oldText, oldLines[start], oldLines[oldEnd], newText, newLines[start], newLines[newEnd], hunks);
+        }
+        return hunks;
+    }
+
+    /**
+     * Add a hunk which replaces the old text range with the new text range, without their common prefix and suffix.
+     */
+    private static void addHunk(@NotNull CharSequence oldText, int oldStart, int oldEnd,
+                                @NotNull CharSequence newText, int newStart, int newEnd,
+                                @NotNull List<Hunk> hunks) {
+        while (oldStart < oldEnd && newStart < newEnd && oldText.charAt(oldStart) == newText.charAt(newStart)) {
+            oldStart++;
+            newStart++;
+        }
+        while (oldEnd > oldStart && newEnd > newStart && oldText.charAt(oldEnd - 1) == newText.charAt(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+        if (oldStart == oldEnd && newStart == newEnd) {
+            return;
+        }
+        hunks.add(new Hunk(oldStart, oldEnd, newText.subSequence(newStart, newEnd).toString()));
+    }
+
+    /**
+     * Returns the start offsets of the lines of the given text, followed by the text length.
+     */
+    private static int[] getLineStarts(@NotNull CharSequence text) {
+        int count = 1;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                count++;
+            }
+        }
+        int[] lineStarts = new int[count + 1];
+        int line = 1;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                lineStarts[line++] = i + 1;
+            }
+        }
+        lineStarts[count] = text.length();
+        return lineStarts;
+    }
+
+    private static boolean isSameLine(@NotNull CharSequence oldText, int[] oldLines, int oldLine,
+                                      @NotNull CharSequence newText, int[] newLines, int newLine) {
+        int oldStart = oldLines[oldLine];
+        int length = oldLines[oldLine + 1] - oldStart;
+        int newStart = newLines[newLine];
+        if (length != newLines[newLine + 1] - newStart) {
+            return false;
+        }
+        for (int k = 0; k < length; k++) {
+            if (oldText.charAt(oldStart + k) != newText.charAt(newStart + k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+}
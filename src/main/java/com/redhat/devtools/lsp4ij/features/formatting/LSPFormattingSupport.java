@@ -11,10 +11,14 @@
 package com.redhat.devtools.lsp4ij.features.formatting;
 
 import com.intellij.formatting.service.AsyncFormattingRequest;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.editor.Editor;
 import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiFile;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import com.redhat.devtools.lsp4ij.LSPRequestConstants;
@@ -33,6 +37,7 @@ import java.util.Optional;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 
 import static com.redhat.devtools.lsp4ij.LSPIJUtils.applyEdits;
@@ -43,6 +48,9 @@ import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.waitUntilDo
  */
 public class LSPFormattingSupport extends AbstractLSPDocumentFeatureSupport<LSPFormattingParams, List<? extends TextEdit>> {
 
+    // true if the language server used for the last formatting applies whole document responses as fine-grained changes
+    private volatile boolean minimalDiffFormatting;
+
     public LSPFormattingSupport(@NotNull PsiFile file) {
         super(file);
     }
@@ -73,13 +81,59 @@ public class LSPFormattingSupport extends AbstractLSPDocumentFeatureSupport<LSPF
         }
         try {
             List<? extends TextEdit> edits = formatFuture != null ? formatFuture.getNow(null) : null;
-            String formatted = edits != null ? applyEdits(editor.getDocument(), edits) : formattingRequest.getDocumentText();
+            String formatted = edits != null ? applyEdits(document, edits) : formattingRequest.getDocumentText();
+            if (edits != null && minimalDiffFormatting && isWholeDocumentEdit(edits, document) &&
+                    applyMinimalDiff(document, formattingRequest.getDocumentText(), StringUtil.convertLineSeparators(formatted))) {
+                // The changed parts have been applied to the document, the platform has nothing left to change
+                formattingRequest.onTextReady(null);
+                return;
+            }
             formattingRequest.onTextReady(formatted);
         } catch (Exception e) {
             handleError(formattingRequest, e);
         }
     }
 
+    private static boolean isWholeDocumentEdit(@NotNull List<? extends TextEdit> edits,
+                                               @NotNull Document document) {
+        if (edits.size() != 1) {
+            return false;
+        }
+        Range range = edits.get(0).getRange();
+        return range.getStart().getLine() == 0 &&
+                range.getStart().getCharacter() == 0 &&
+                LSPIJUtils.toOffset(range.getEnd(), document) >= document.getTextLength();
+    }
+
+    /**
+     * Apply to the document, in one command, only the hunks which differ between the text of the formatting request
+     * and the formatted text. The platform replaces the whole document text with the text given to
+     * {@link AsyncFormattingRequest#onTextReady(String)}, which invalidates the range markers, the folding regions
+     * and the PSI of the unchanged parts.
+     *
+     * @param document     the document.
+     * @param documentText the text of the formatting request.
+     * @param formatted    the text formatted by the language server.
+     * @return true if the hunks have been applied and false if the document has been modified since the formatting
+     * request, in which case the platform must merge the formatted text.
+     */
+    private boolean applyMinimalDiff(@NotNull Document document,
+                                     @NotNull String documentText,
+                                     @NotNull String formatted) {
+        var hunks = LSPFormattingDiff.computeHunks(documentText, formatted);
+        AtomicBoolean applied = new AtomicBoolean();
+        ApplicationManager.getApplication().invokeAndWait(() -> {
+            if (!StringUtil.equals(document.getImmutableCharSequence(), documentText)) {
+                return;
+            }
+            if (!hunks.isEmpty()) {
+                WriteCommandAction.runWriteCommandAction(getFile().getProject(), () -> LSPFormattingDiff.applyHunks(document, hunks));
+            }
+            applied.set(true);
+        }, ModalityState.any());
+        return applied.get();
+    }
+
     private static void handleError(@NotNull AsyncFormattingRequest formattingRequest,
                                     @NotNull Throwable error) {
         if (error instanceof ProcessCanceledException || error instanceof CancellationException) {
@@ -116,6 +170,7 @@ public class LSPFormattingSupport extends AbstractLSPDocumentFeatureSupport<LSPF
 
                     // Get the first language server which supports range formatting (if it requires) or formatting
                     LanguageServerItem languageServer = getFormattingLanguageServer(languageServers, isRangeFormatting);
+                    minimalDiffFormatting = languageServer.getClientFeatures().getFormattingFeature().isMinimalDiffFormattingEnabled(file);
 
                     cancellationSupport.checkCanceled();
 
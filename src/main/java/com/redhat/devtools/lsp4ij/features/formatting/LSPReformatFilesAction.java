@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.formatting;
+
+import com.intellij.notification.Notification;
+import com.intellij.notification.NotificationType;
+import com.intellij.notification.Notifications;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileVisitor;
+import com.intellij.psi.PsiFile;
+import com.redhat.devtools.lsp4ij.LSPIJUtils;
+import com.redhat.devtools.lsp4ij.LanguageServerBundle;
+import com.redhat.devtools.lsp4ij.LanguageServersRegistry;
+import com.redhat.devtools.lsp4ij.LanguageServiceAccessor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.redhat.devtools.lsp4ij.LSPNotificationConstants.LSP4IJ_GENERAL_NOTIFICATIONS_ID;
+
+/**
+ * "Reformat with LSP" action which formats the selected files and directories with the
+ * {@link LSPBatchFormattingEngine}.
+ */
+public class LSPReformatFilesAction extends AnAction {
+
+    // Maximum number of files of a directory visited to check if the action is available
+    private static final int MAX_VISITED_FILES = 1000;
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        VirtualFile[] roots = e.getData(CommonDataKeys.VIRTUAL_FILE_ARRAY);
+        if (project == null || roots == null || roots.length == 0) {
+            return;
+        }
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, LanguageServerBundle.message("lsp.formatting.batch.task"), true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                long start = System.currentTimeMillis();
+                List<VirtualFile> files = ReadAction.compute(() -> collectFiles(roots, project));
+                var results = new LSPBatchFormattingEngine(project).format(files, indicator);
+                notifyResults(results, System.currentTimeMillis() - start, project);
+            }
+        });
+    }
+
+    private static @NotNull List<VirtualFile> collectFiles(VirtualFile @NotNull [] roots,
+                                                           @NotNull Project project) {
+        var fileIndex = ProjectFileIndex.getInstance(project);
+        List<VirtualFile> files = new ArrayList<>();
+        for (var root : roots) {
+            VfsUtilCore.iterateChildrenRecursively(root,
+                    file -> fileIndex.isInContent(file) && !fileIndex.isExcluded(file),
+                    file -> {
+                        if (!file.isDirectory() && !file.getFileType().isBinary()) {
+                            files.add(file);
+                        }
+                        return true;
+                    });
+        }
+        return files;
+    }
+
+    private static void notifyResults(@NotNull List<LSPBatchFormattingEngine.FileResult> results,
+                                      long duration,
+                                      @NotNull Project project) {
+        var counts = results
+                .stream()
+                .collect(Collectors.groupingBy(LSPBatchFormattingEngine.FileResult::status, Collectors.counting()));
+        long failed = counts.getOrDefault(LSPBatchFormattingEngine.Status.FAILED, 0L);
+        String message = LanguageServerBundle.message("lsp.formatting.batch.result",
+                counts.getOrDefault(LSPBatchFormattingEngine.Status.FORMATTED, 0L),
+                counts.getOrDefault(LSPBatchFormattingEngine.Status.UNCHANGED, 0L),
+                counts.getOrDefault(LSPBatchFormattingEngine.Status.SKIPPED, 0L),
+                counts.getOrDefault(LSPBatchFormattingEngine.Status.NOT_SUPPORTED, 0L),
+                failed,
+                duration);
+        Notification notification = new Notification(LSP4IJ_GENERAL_NOTIFICATIONS_ID,
+                LanguageServerBundle.message("lsp.formatting.batch.title"),
+                message,
+                failed > 0 ? NotificationType.WARNING : NotificationType.INFORMATION);
+        Notifications.Bus.notify(notification, project);
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        VirtualFile[] roots = e.getData(CommonDataKeys.VIRTUAL_FILE_ARRAY);
+        e.getPresentation().setEnabledAndVisible(project != null && roots != null && hasFormattableFile(roots, project));
+    }
+
+    /**
+     * Returns true if one of the given files or directories contains a file which can be formatted by a language server
+     * and false otherwise. A directory is considered as formattable when it has too many files to be visited.
+     */
+    private static boolean hasFormattableFile(VirtualFile @NotNull [] roots,
+                                              @NotNull Project project) {
+        var fileIndex = ProjectFileIndex.getInstance(project);
+        int[] visitedFiles = {0};
+        for (var root : roots) {
+            var result = VfsUtilCore.visitChildrenRecursively(root, new VirtualFileVisitor<Boolean>() {
+                @Override
+                public @NotNull Result visitFileEx(@NotNull VirtualFile file) {
+                    if (file.isDirectory()) {
+                        return fileIndex.isInContent(file) && !fileIndex.isExcluded(file) ? CONTINUE : SKIP_CHILDREN;
+                    }
+                    if (++visitedFiles[0] > MAX_VISITED_FILES || isFormattable(file, project)) {
+                        return skipTo(root);
+                    }
+                    return CONTINUE;
+                }
+            });
+            if (result.skipToParent == root) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the given file is associated with a language server and, when the language servers of the file
+     * are started, if one of them supports formatting, and false otherwise.
+     */
+    private static boolean isFormattable(@NotNull VirtualFile file,
+                                         @NotNull Project project) {
+        if (file.getFileType().isBinary() || !LanguageServersRegistry.getInstance().isFileSupported(file, project)) {
+            return false;
+        }
+        PsiFile psiFile = LSPIJUtils.getPsiFile(file, project);
+        if (psiFile == null) {
+            return false;
+        }
+        var languageServiceAccessor = LanguageServiceAccessor.getInstance(project);
+        return !languageServiceAccessor.hasAny(psiFile, ls -> true) ||
+                languageServiceAccessor.hasAny(psiFile, ls -> ls.getClientFeatures().getFormattingFeature().isFormattingSupported(psiFile));
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
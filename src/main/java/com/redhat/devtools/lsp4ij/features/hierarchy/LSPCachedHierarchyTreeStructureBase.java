@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.hierarchy;
+
+import com.intellij.ide.hierarchy.HierarchyNodeDescriptor;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.redhat.devtools.lsp4ij.LanguageServerItem;
+import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.isDoneNormally;
+import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.waitUntilDone;
+
+/**
+ * LSP hierarchy tree structure base which caches and prefetches the children of the hierarchy items
+ * with a {@link LSPHierarchyEngine}.
+ *
+ * @param <T> the LSP hierarchy item ({@link org.eclipse.lsp4j.CallHierarchyItem}, {@link org.eclipse.lsp4j.TypeHierarchyItem}).
+ * @param <D> the hierarchy item data which hosts the LSP hierarchy item and the language server which has returned it.
+ */
+public abstract class LSPCachedHierarchyTreeStructureBase<T, D> extends LSPHierarchyTreeStructureBase<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LSPCachedHierarchyTreeStructureBase.class);
+
+    private final @NotNull Function<D, T> itemProvider;
+    private final @NotNull Function<D, LanguageServerItem> languageServerProvider;
+    private final LSPHierarchyEngine<T, D> hierarchyEngine;
+    private volatile List<D> rootItems = Collections.emptyList();
+
+    public LSPCachedHierarchyTreeStructureBase(@NotNull Project project,
+                                               @NotNull PsiElement psiElement,
+                                               @NotNull Function<D, T> itemProvider,
+                                               @NotNull Function<D, LanguageServerItem> languageServerProvider) {
+        super(project, psiElement);
+        this.itemProvider = itemProvider;
+        this.languageServerProvider = languageServerProvider;
+        this.hierarchyEngine = new LSPHierarchyEngine<>(itemProvider, languageServerProvider, this::getChildren);
+    }
+
+    @Override
+    protected void buildRoot(@NotNull HierarchyNodeDescriptor descriptor,
+                             @NotNull PsiFile psiFile,
+                             @NotNull Document document,
+                             int offset,
+                             @NotNull List<LSPHierarchyNodeDescriptor> descriptors) {
+        // Consume LSP 'textDocument/prepareCallHierarchy' / 'textDocument/prepareTypeHierarchy' request
+        CompletableFuture<List<D>> prepareHierarchyFuture = prepareHierarchy(psiFile, document, offset);
+        try {
+            waitUntilDone(prepareHierarchyFuture, psiFile);
+        } catch (ProcessCanceledException ex) {
+            // cancel the LSP prepare hierarchy request
+            cancelPrepareHierarchy(psiFile);
+        } catch (CancellationException ex) {
+            // cancel the LSP prepare hierarchy request
+            cancelPrepareHierarchy(psiFile);
+        } catch (ExecutionException e) {
+            LOGGER.error("Error while consuming LSP '" + getPrepareRequestName() + "' request", e);
+        }
+        if (isDoneNormally(prepareHierarchyFuture)) {
+            rootItems = prepareHierarchyFuture.getNow(Collections.emptyList());
+            hierarchyEngine.addItems(rootItems);
+            hierarchyEngine.prefetch(rootItems);
+        }
+        fillChildren(descriptor, prepareHierarchyFuture, descriptors);
+    }
+
+    @Override
+    protected void buildChildren(@NotNull HierarchyNodeDescriptor descriptor,
+                                 @NotNull PsiFile psiFile,
+                                 @Nullable T hierarchyItem,
+                                 @NotNull List<LSPHierarchyNodeDescriptor> descriptors) {
+        if (hierarchyItem == null) {
+            return;
+        }
+        // Get the cached children or consume the children LSP request
+        CompletableFuture<List<D>> childrenFuture = hierarchyEngine.getChildren(hierarchyItem);
+        try {
+            waitUntilDone(childrenFuture, psiFile);
+        } catch (ProcessCanceledException ex) {
+            // The children LSP request is not cancelled to be reused on the next expansion
+        } catch (CancellationException ex) {
+            // Do nothing
+        } catch (ExecutionException e) {
+            LOGGER.error("Error while consuming LSP '" + getChildrenRequestName() + "' request", e);
+        }
+        fillChildren(descriptor, childrenFuture, descriptors);
+        if (isDoneNormally(childrenFuture)) {
+            // Prefetch one level below the expanded node
+            hierarchyEngine.prefetch(childrenFuture.getNow(Collections.emptyList()));
+        }
+    }
+
+    protected void fillChildren(@NotNull HierarchyNodeDescriptor descriptor,
+                                @Nullable CompletableFuture<List<D>> hierarchyFuture,
+                                @NotNull List<LSPHierarchyNodeDescriptor> descriptors) {
+        if (isDoneNormally(hierarchyFuture)) {
+            List<D> items = hierarchyFuture.getNow(null);
+            if (items != null) {
+                for (var item : items) {
+                    T hierarchyItem = itemProvider.apply(item);
+                    PsiElement element = createPsiElement(hierarchyItem, languageServerProvider.apply(item));
+                    if (element != null) {
+                        descriptors.add(createHierarchyNodeDescriptor(myProject, descriptor, element, hierarchyItem));
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Void> loadHierarchy(int depth) {
+        return hierarchyEngine.loadHierarchy(rootItems, depth);
+    }
+
+    @Override
+    public void cancel() {
+        hierarchyEngine.cancel();
+    }
+
+    /**
+     * Consume the LSP request which returns the hierarchy items at the given offset.
+     *
+     * @param psiFile  the file.
+     * @param document the document of the file.
+     * @param offset   the offset.
+     * @return the hierarchy items at the given offset.
+     */
+    @NotNull
+    protected abstract CompletableFuture<List<D>> prepareHierarchy(@NotNull PsiFile psiFile,
+                                                                   @NotNull Document document,
+                                                                   int offset);
+
+    /**
+     * Cancel the LSP request which returns the hierarchy items of the given file.
+     *
+     * @param psiFile the file.
+     */
+    protected abstract void cancelPrepareHierarchy(@NotNull PsiFile psiFile);
+
+    /**
+     * Returns the name of the LSP request which returns the hierarchy items at an offset.
+     *
+     * @return the name of the LSP request which returns the hierarchy items at an offset.
+     */
+    @NotNull
+    protected abstract String getPrepareRequestName();
+
+    /**
+     * Consume the LSP request which returns the children of the given hierarchy item with the given language server.
+     *
+     * @param hierarchyItem       the hierarchy item.
+     * @param languageServer      the language server which has returned the hierarchy item.
+     * @param cancellationSupport the cancellation support.
+     * @return the children of the given hierarchy item.
+     */
+    @NotNull
+    protected abstract CompletableFuture<List<D>> getChildren(@NotNull T hierarchyItem,
+                                                              @NotNull LanguageServerItem languageServer,
+                                                              @NotNull CancellationSupport cancellationSupport);
+
+    /**
+     * Returns the name of the LSP request which returns the children of a hierarchy item.
+     *
+     * @return the name of the LSP request which returns the children of a hierarchy item.
+     */
+    @NotNull
+    protected abstract String getChildrenRequestName();
+
+    /**
+     * Returns the PSI element of the given hierarchy item and null otherwise.
+     *
+     * @param hierarchyItem  the hierarchy item.
+     * @param languageServer the language server which has returned the hierarchy item.
+     * @return the PSI element of the given hierarchy item and null otherwise.
+     */
+    @Nullable
+    protected abstract PsiElement createPsiElement(@NotNull T hierarchyItem,
+                                                   @NotNull LanguageServerItem languageServer);
+
+}
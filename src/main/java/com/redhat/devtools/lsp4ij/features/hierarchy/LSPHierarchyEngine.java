@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.hierarchy;
+
+import com.redhat.devtools.lsp4ij.LanguageServerItem;
+import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.isDoneNormally;
+
+/**
+ * LSP hierarchy engine which loads the children of the hierarchy items
+ * (callHierarchy/incomingCalls, callHierarchy/outgoingCalls, typeHierarchy/subtypes, typeHierarchy/supertypes)
+ * for a hierarchy tree structure:
+ *
+ * <ul>
+ *     <li>the children are cached per hierarchy item for the life of the tree structure, so that re-expanding a node
+ *     doesn't consume the LSP request again.</li>
+ *     <li>the children request is sent to the language server which has returned the hierarchy item.</li>
+ *     <li>the children of the children of an expanded node can be prefetched and a whole hierarchy can be loaded
+ *     breadth-first to a given depth, with at most {@link #MAX_PARALLEL_REQUESTS} pending background requests.</li>
+ * </ul>
+ *
+ * @param <T> the LSP hierarchy item ({@link org.eclipse.lsp4j.CallHierarchyItem}, {@link org.eclipse.lsp4j.TypeHierarchyItem}).
+ * @param <D> the hierarchy item data which hosts the LSP hierarchy item and the language server which has returned it.
+ */
+@ApiStatus.Internal
+public class LSPHierarchyEngine<T, D> {
+
+    /**
+     * Maximum number of pending background (prefetch, load to depth) requests.
+     */
+    static final int MAX_PARALLEL_REQUESTS = 4;
+
+    /**
+     * Request which loads the children of a hierarchy item with the given language server.
+     *
+     * @param <T> the LSP hierarchy item.
+     * @param <D> the hierarchy item data.
+     */
+    @FunctionalInterface
+    public interface ChildrenRequest<T, D> {
+
+        @NotNull
+        CompletableFuture<List<D>> request(@NotNull T hierarchyItem,
+                                           @NotNull LanguageServerItem languageServer,
+                                           @NotNull CancellationSupport cancellationSupport);
+    }
+
+    private class ChildrenLoad {
+
+        private final @NotNull T hierarchyItem;
+        private final CompletableFuture<List<D>> children = new CompletableFuture<>();
+        private volatile boolean started;
+
+        private ChildrenLoad(@NotNull T hierarchyItem) {
+            this.hierarchyItem = hierarchyItem;
+        }
+
+        /**
+         * Consume the children request if it has not been started.
+         */
+        private void start() {
+            synchronized (this) {
+                if (started) {
+                    return;
+                }
+                started = true;
+            }
+            LanguageServerItem languageServer = languageServers.get(hierarchyItem);
+            if (languageServer == null) {
+                // Should never occur: the hierarchy item has not been returned by a language server
+                children.complete(Collections.emptyList());
+                return;
+            }
+            childrenRequest.request(hierarchyItem, languageServer, cancellationSupport)
+                    .whenComplete((result, error) -> {
+                        if (error != null) {
+                            // Remove the failed load from the cache to retry on the next expansion
+                            loads.remove(hierarchyItem, this);
+                            children.completeExceptionally(error);
+                        } else {
+                            addItems(result);
+                            children.complete(result);
+                        }
+                    });
+        }
+    }
+
+    private final @NotNull Function<D, T> itemProvider;
+    private final @NotNull Function<D, LanguageServerItem> languageServerProvider;
+    private final @NotNull ChildrenRequest<T, D> childrenRequest;
+    private final CancellationSupport cancellationSupport = new CancellationSupport();
+
+    private final Map<T, LanguageServerItem> languageServers = new ConcurrentHashMap<>();
+    private final Map<T, ChildrenLoad> loads = new ConcurrentHashMap<>();
+
+    // Background loads, started with at most MAX_PARALLEL_REQUESTS pending requests
+    private final Deque<ChildrenLoad> backgroundLoads = new ArrayDeque<>();
+    private int pendingBackgroundRequests;
+
+    public LSPHierarchyEngine(@NotNull Function<D, T> itemProvider,
+                              @NotNull Function<D, LanguageServerItem> languageServerProvider,
+                              @NotNull ChildrenRequest<T, D> childrenRequest) {
+        this.itemProvider = itemProvider;
+        this.languageServerProvider = languageServerProvider;
+        this.childrenRequest = childrenRequest;
+    }
+
+    /**
+     * Register the given hierarchy items (ex: returned by 'textDocument/prepareCallHierarchy') to know the language server
+     * which must load their children.
+     *
+     * @param items the hierarchy item data.
+     */
+    public void addItems(@NotNull List<D> items) {
+        for (var item : items) {
+            languageServers.putIfAbsent(itemProvider.apply(item), languageServerProvider.apply(item));
+        }
+    }
+
+    /**
+     * Returns the (cached or not) children of the given hierarchy item and load them immediately if they are not loaded.
+     *
+     * @param hierarchyItem the hierarchy item.
+     * @return the (cached or not) children of the given hierarchy item.
+     */
+    public @NotNull CompletableFuture<List<D>> getChildren(@NotNull T hierarchyItem) {
+        ChildrenLoad load = getLoad(hierarchyItem);
+        load.start();
+        return load.children;
+    }
+
+    /**
+     * Load in background the children of the given hierarchy items which are not loaded.
+     *
+     * @param items the hierarchy item data.
+     */
+    public void prefetch(@NotNull List<D> items) {
+        for (var item : items) {
+            loadInBackground(itemProvider.apply(item));
+        }
+    }
+
+    /**
+     * Load breadth-first the hierarchy of the given items to the given depth.
+     *
+     * @param items the hierarchy item data.
+     * @param depth the number of levels to load.
+     * @return a future which is completed when the hierarchy has been loaded and which can be cancelled.
+     */
+    public @NotNull CompletableFuture<Void> loadHierarchy(@NotNull List<D> items, int depth) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        Set<T> visited = new HashSet<>();
+        List<T> level = new ArrayList<>();
+        for (var item : items) {
+            T hierarchyItem = itemProvider.apply(item);
+            if (visited.add(hierarchyItem)) {
+                level.add(hierarchyItem);
+            }
+        }
+        loadLevel(level, depth, visited, result);
+        return result;
+    }
+
+    private void loadLevel(@NotNull List<T> level,
+                           int depth,
+                           @NotNull Set<T> visited,
+                           @NotNull CompletableFuture<Void> result) {
+        if (result.isDone()) {
+            // The load has been cancelled
+            return;
+        }
+        if (level.isEmpty() || depth <= 0) {
+            result.complete(null);
+            return;
+        }
+        List<CompletableFuture<List<D>>> levelChildren = level
+                .stream()
+                .map(this::loadInBackground)
+                .toList();
+        CompletableFuture.allOf(levelChildren.toArray(new CompletableFuture[0]))
+                .whenComplete((unused, error) -> {
+                    // Collect the next level, the recursive hierarchy items (ex : recursive calls) are ignored
+                    List<T> nextLevel = new ArrayList<>();
+                    for (var children : levelChildren) {
+                        if (isDoneNormally(children)) {
+                            for (var child : children.getNow(Collections.emptyList())) {
+                                T hierarchyItem = itemProvider.apply(child);
+                                if (visited.add(hierarchyItem)) {
+                                    nextLevel.add(hierarchyItem);
+                                }
+                            }
+                        }
+                    }
+                    loadLevel(nextLevel, depth - 1, visited, result);
+                });
+    }
+
+    private @NotNull CompletableFuture<List<D>> loadInBackground(@NotNull T hierarchyItem) {
+        ChildrenLoad load = getLoad(hierarchyItem);
+        synchronized (backgroundLoads) {
+            if (!load.started) {
+                backgroundLoads.addLast(load);
+            }
+        }
+        pump();
+        return load.children;
+    }
+
+    private void pump() {
+        while (true) {
+            ChildrenLoad load;
+            synchronized (backgroundLoads) {
+                if (pendingBackgroundRequests >= MAX_PARALLEL_REQUESTS || backgroundLoads.isEmpty()) {
+                    return;
+                }
+                load = backgroundLoads.pollFirst();
+                if (load.started) {
+                    // The children have been loaded by a node expansion
+                    continue;
+                }
+                pendingBackgroundRequests++;
+            }
+            load.children.whenComplete((result, error) -> {
+                synchronized (backgroundLoads) {
+                    pendingBackgroundRequests--;
+                }
+                pump();
+            });
+            load.start();
+        }
+    }
+
+    private @NotNull ChildrenLoad getLoad(@NotNull T hierarchyItem) {
+        return loads.computeIfAbsent(hierarchyItem, ChildrenLoad::new);
+    }
+
+    /**
+     * Cancel all pending requests.
+     */
+    public void cancel() {
+        synchronized (backgroundLoads) {
+            for (var load : backgroundLoads) {
+                loads.remove(load.hierarchyItem, load);
+                load.children.completeExceptionally(new CancellationException());
+            }
+            backgroundLoads.clear();
+        }
+        cancellationSupport.cancel();
+    }
+}
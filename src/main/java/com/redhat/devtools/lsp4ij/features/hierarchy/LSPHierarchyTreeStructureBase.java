@@ -28,6 +28,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * LSP hierarchy tree structure base.
@@ -109,4 +110,18 @@ public abstract class LSPHierarchyTreeStructureBase<T> extends HierarchyTreeStru
                                           @Nullable T hierarchyItem,
                                           @NotNull List<LSPHierarchyNodeDescriptor> descriptors);
 
+    /**
+     * Load in background the hierarchy breadth-first to the given depth.
+     *
+     * @param depth the number of levels to load.
+     * @return a future which is completed when the hierarchy has been loaded and which can be cancelled.
+     */
+    @NotNull
+    public abstract CompletableFuture<Void> loadHierarchy(int depth);
+
+    /**
+     * Cancel the pending LSP requests of the hierarchy.
+     */
+    public abstract void cancel();
+
 }
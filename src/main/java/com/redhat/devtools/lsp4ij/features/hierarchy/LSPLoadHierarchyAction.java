@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.hierarchy;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.util.ui.tree.TreeUtil;
+import com.redhat.devtools.lsp4ij.LanguageServerBundle;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.waitUntilDone;
+
+/**
+ * "Expand All to Depth N" action for the LSP hierarchy browsers which loads breadth-first (with parallel LSP requests)
+ * the hierarchy of the current tree structure and expands the tree when it is loaded.
+ */
+@ApiStatus.Internal
+public class LSPLoadHierarchyAction extends AnAction {
+
+    public static final int DEFAULT_DEPTH = 3;
+
+    private final @NotNull Supplier<@Nullable LSPHierarchyTreeStructureBase<?>> treeStructureProvider;
+    private final @NotNull Supplier<@Nullable JTree> treeProvider;
+    private final int depth;
+
+    public LSPLoadHierarchyAction(@NotNull Supplier<@Nullable LSPHierarchyTreeStructureBase<?>> treeStructureProvider,
+                                  @NotNull Supplier<@Nullable JTree> treeProvider) {
+        super(LanguageServerBundle.message("lsp.hierarchy.load.action", DEFAULT_DEPTH),
+                LanguageServerBundle.message("lsp.hierarchy.load.action.description", DEFAULT_DEPTH),
+                AllIcons.Actions.Expandall);
+        this.treeStructureProvider = treeStructureProvider;
+        this.treeProvider = treeProvider;
+        this.depth = DEFAULT_DEPTH;
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        LSPHierarchyTreeStructureBase<?> treeStructure = treeStructureProvider.get();
+        JTree tree = treeProvider.get();
+        if (project == null || treeStructure == null || tree == null) {
+            return;
+        }
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, LanguageServerBundle.message("lsp.hierarchy.load.task"), true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                CompletableFuture<Void> future = treeStructure.loadHierarchy(depth);
+                try {
+                    waitUntilDone(future);
+                } catch (ProcessCanceledException ex) {
+                    // Stop loading the next levels
+                    future.cancel(true);
+                    throw ex;
+                } catch (CancellationException | ExecutionException ex) {
+                    // Expand the loaded levels
+                }
+            }
+
+            @Override
+            public void onSuccess() {
+                // The tree root is the base element, its children are the prepared hierarchy items
+                TreeUtil.expand(tree, depth + 1);
+            }
+        });
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        e.getPresentation().setEnabled(treeStructureProvider.get() != null);
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.EDT;
+    }
+}
@@ -10,9 +10,14 @@
  ******************************************************************************/
 package com.redhat.devtools.lsp4ij.features.implementation;
 
+import com.redhat.devtools.lsp4ij.usages.LocationData;
 import org.eclipse.lsp4j.ImplementationParams;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * LSP implementation parameters which hosts the offset where implementation has been triggered.
@@ -21,6 +26,7 @@ public class LSPImplementationParams extends ImplementationParams {
 
     // Use transient to avoid serializing the fields when GSON will be processed
     private transient final int offset;
+    private transient @Nullable Consumer<List<LocationData>> resultConsumer;
 
     public LSPImplementationParams(TextDocumentIdentifier textDocument, Position position, int offset) {
         super.setTextDocument(textDocument);
@@ -31,4 +37,17 @@ public class LSPImplementationParams extends ImplementationParams {
     public int getOffset() {
         return offset;
     }
+
+    /**
+     * Returns the consumer of the implementations reported as soon as they are available (partial results) and null otherwise.
+     *
+     * @return the consumer of the implementations reported as soon as they are available (partial results) and null otherwise.
+     */
+    public @Nullable Consumer<List<LocationData>> getResultConsumer() {
+        return resultConsumer;
+    }
+
+    public void setResultConsumer(@Nullable Consumer<List<LocationData>> resultConsumer) {
+        this.resultConsumer = resultConsumer;
+    }
 }
@@ -15,9 +15,12 @@ import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import com.redhat.devtools.lsp4ij.LSPRequestConstants;
 import com.redhat.devtools.lsp4ij.LanguageServerItem;
 import com.redhat.devtools.lsp4ij.features.AbstractLSPDocumentFeatureSupport;
+import com.redhat.devtools.lsp4ij.features.progress.LSPPartialResultSupport;
 import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
 import com.redhat.devtools.lsp4ij.internal.CompletableFutures;
 import com.redhat.devtools.lsp4ij.usages.LocationData;
+import org.eclipse.lsp4j.ImplementationParams;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
@@ -81,11 +84,19 @@ public class LSPImplementationSupport extends AbstractLSPDocumentFeatureSupport<
                                                                           @NotNull PsiFile file,
                                                                           @NotNull LanguageServerItem languageServer,
                                                                           @NotNull CancellationSupport cancellationSupport) {
+        // The language server has its own parameters since they host the partial result token
+        // and the (custom) file Uri, and are serialized asynchronously when the request is sent
+        var implementationParams = new ImplementationParams(new TextDocumentIdentifier(), params.getPosition());
         // Update textDocument Uri with custom file Uri if needed
-        updateTextDocumentUri(params.getTextDocument(), file, languageServer);
-        return cancellationSupport.execute(languageServer
-                        .getTextDocumentService()
-                        .implementation(params), languageServer, LSPRequestConstants.TEXT_DOCUMENT_IMPLEMENTATION)
-                .thenApplyAsync(locations -> LSPIJUtils.getLocations(locations, languageServer));
+        updateTextDocumentUri(implementationParams.getTextDocument(), file, languageServer);
+        // Report the implementations as soon as they are available if the language server supports partial results
+        return LSPPartialResultSupport.execute(implementationParams,
+                languageServer,
+                () -> cancellationSupport.execute(languageServer
+                                .getTextDocumentService()
+                                .implementation(implementationParams), languageServer, LSPRequestConstants.TEXT_DOCUMENT_IMPLEMENTATION)
+                        .thenApplyAsync(locations -> LSPIJUtils.getLocations(locations, languageServer)),
+                partialResult -> LSPIJUtils.getLocations(LSPPartialResultSupport.toLocationsOrLocationLinks(partialResult), languageServer),
+                params.getResultConsumer());
     }
 }
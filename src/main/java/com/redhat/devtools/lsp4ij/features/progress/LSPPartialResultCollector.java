@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.progress;
+
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressManager;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Collects the items reported by {@link LSPPartialResultSupport} (from any thread) to process them
+ * in the thread which waits for the LSP requests (ex : the Find Usages or Go to Symbol thread).
+ *
+ * @param <T> the item type.
+ */
+@ApiStatus.Internal
+public class LSPPartialResultCollector<T> implements Consumer<List<T>> {
+
+    private final BlockingQueue<List<T>> results = new LinkedBlockingQueue<>();
+
+    @Override
+    public void accept(List<T> items) {
+        if (items != null && !items.isEmpty()) {
+            results.add(items);
+        }
+    }
+
+    /**
+     * Process the collected items as soon as they arrive until the given future is done and stop the wait
+     * if {@link ProcessCanceledException} is thrown.
+     *
+     * @param future    the future of the LSP requests.
+     * @param processor the processor which returns false to stop the processing.
+     * @return true if all items have been processed and false if the processor has stopped the processing.
+     * @throws ExecutionException if the future has completed exceptionally.
+     */
+    public boolean processUntilDone(@NotNull CompletableFuture<?> future,
+                                    @NotNull Predicate<List<T>> processor) throws ExecutionException {
+        while (true) {
+            // check progress canceled
+            ProgressManager.checkCanceled();
+            // the items are reported before the future is done, so they must be processed after checking the future state
+            boolean done = future.isDone();
+            List<T> items;
+            while ((items = results.poll()) != null) {
+                if (!processor.test(items)) {
+                    return false;
+                }
+            }
+            if (done) {
+                break;
+            }
+            try {
+                // wait for 25 ms
+                items = results.poll(25, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProcessCanceledException(e);
+            }
+            if (items != null && !processor.test(items)) {
+                return false;
+            }
+        }
+        if (future.isCompletedExceptionally()) {
+            try {
+                // throws the CancellationException or the ExecutionException
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProcessCanceledException(e);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.progress;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.redhat.devtools.lsp4ij.JSONUtils;
+import com.redhat.devtools.lsp4ij.LanguageServerItem;
+import org.eclipse.lsp4j.*;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * LSP partial result support.
+ *
+ * <p>
+ * When a result consumer is given, a 'partialResultToken' is set in the request parameters and the partial results
+ * notified by the language server with '$/progress' are given to the consumer as soon as they arrive, followed by
+ * the items of the final response.
+ * </p>
+ * <p>
+ * As the request parameters are serialized asynchronously by LSP4J, the token is never cleared and the request
+ * parameters must not be shared between several requests (ex : one instance per language server).
+ * </p>
+ * <p>
+ * See <a href="https://microsoft.github.io/language-server-protocol/specifications/lsp/3.17/specification/#partialResults">Partial Result Progress</a>
+ * </p>
+ */
+@ApiStatus.Internal
+public class LSPPartialResultSupport {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LSPPartialResultSupport.class);
+
+    private LSPPartialResultSupport() {
+
+    }
+
+    /**
+     * Execute the LSP request created by the given supplier by reporting the partial results to the given consumer.
+     *
+     * @param params                 the LSP request parameters which supports partial result token, owned by this request.
+     * @param languageServer         the language server.
+     * @param request                the supplier which sends the LSP request and converts the response to a list of items.
+     * @param partialResultConverter the function which converts a partial result (JSON) to a list of items.
+     * @param resultConsumer         the consumer of partial results and null if the items must not be streamed.
+     * @param <T>                    the item type.
+     * @return the future which returns all items (partial results + final response).
+     */
+    public static <T> @NotNull CompletableFuture<List<T>> execute(@NotNull PartialResultParams params,
+                                                                  @NotNull LanguageServerItem languageServer,
+                                                                  @NotNull Supplier<CompletableFuture<List<T>>> request,
+                                                                  @NotNull Function<Object, List<T>> partialResultConverter,
+                                                                  @Nullable Consumer<List<T>> resultConsumer) {
+        if (resultConsumer == null) {
+            return request.get();
+        }
+        var languageClient = languageServer.getServerWrapper().getLanguageClient();
+        var progressManager = languageClient != null ? languageClient.getProgressManager() : null;
+        List<T> partialResults = Collections.synchronizedList(new ArrayList<>());
+        String token = progressManager != null ? UUID.randomUUID().toString() : null;
+        if (token != null) {
+            progressManager.registerPartialResultHandler(token, partialResult -> {
+                try {
+                    List<T> items = partialResultConverter.apply(partialResult);
+                    if (items != null && !items.isEmpty()) {
+                        partialResults.addAll(items);
+                        resultConsumer.accept(items);
+                    }
+                } catch (Exception e) {
+                    LOGGER.warn("Error while consuming LSP partial result", e);
+                }
+            });
+            params.setPartialResultToken(Either.forLeft(token));
+        }
+        return request.get()
+                .thenApply(items -> {
+                    if (items != null && !items.isEmpty()) {
+                        resultConsumer.accept(items);
+                    }
+                    synchronized (partialResults) {
+                        if (partialResults.isEmpty()) {
+                            return items;
+                        }
+                        List<T> allItems = new ArrayList<>(partialResults);
+                        if (items != null) {
+                            allItems.addAll(items);
+                        }
+                        return allItems;
+                    }
+                })
+                .whenComplete((items, error) -> {
+                    if (token != null) {
+                        progressManager.unregisterPartialResultHandler(token);
+                    }
+                });
+    }
+
+    /**
+     * Returns the partial result of 'textDocument/references' (Location[]).
+     *
+     * @param partialResult the partial result.
+     * @return the partial result of 'textDocument/references' (Location[]).
+     */
+    public static @NotNull List<Location> toLocations(@Nullable Object partialResult) {
+        JsonArray array = toJsonArray(partialResult);
+        if (array == null) {
+            return Collections.emptyList();
+        }
+        Gson gson = JSONUtils.getLsp4jGson();
+        List<Location> locations = new ArrayList<>(array.size());
+        for (var element : array) {
+            locations.add(gson.fromJson(element, Location.class));
+        }
+        return locations;
+    }
+
+    /**
+     * Returns the partial result of 'textDocument/implementation', 'textDocument/definition', etc (Location[] | LocationLink[]).
+     *
+     * @param partialResult the partial result.
+     * @return the partial result of 'textDocument/implementation', 'textDocument/definition', etc (Location[] | LocationLink[]).
+     */
+    public static @NotNull Either<List<? extends Location>, List<? extends LocationLink>> toLocationsOrLocationLinks(@Nullable Object partialResult) {
+        JsonArray array = toJsonArray(partialResult);
+        if (array == null || array.isEmpty()) {
+            return Either.forLeft(Collections.emptyList());
+        }
+        if (array.get(0) instanceof JsonObject first && first.has("targetUri")) {
+            Gson gson = JSONUtils.getLsp4jGson();
+            List<LocationLink> links = new ArrayList<>(array.size());
+            for (var element : array) {
+                links.add(gson.fromJson(element, LocationLink.class));
+            }
+            return Either.forRight(links);
+        }
+        return Either.forLeft(toLocations(array));
+    }
+
+    /**
+     * Returns the partial result of 'workspace/symbol' (SymbolInformation[] | WorkspaceSymbol[]).
+     *
+     * @param partialResult the partial result.
+     * @return the partial result of 'workspace/symbol' (SymbolInformation[] | WorkspaceSymbol[]).
+     */
+    public static @NotNull Either<List<? extends SymbolInformation>, List<? extends WorkspaceSymbol>> toWorkspaceSymbols(@Nullable Object partialResult) {
+        JsonArray array = toJsonArray(partialResult);
+        if (array == null) {
+            return Either.forRight(Collections.emptyList());
+        }
+        Gson gson = JSONUtils.getLsp4jGson();
+        List<WorkspaceSymbol> symbols = new ArrayList<>(array.size());
+        for (var element : array) {
+            if (!(element instanceof JsonObject symbol) || !symbol.has("name") || !symbol.has("kind") || !(symbol.get("location") instanceof JsonObject location)) {
+                continue;
+            }
+            Either<Location, WorkspaceSymbolLocation> symbolLocation = location.has("range") ?
+                    Either.forLeft(gson.fromJson(location, Location.class)) :
+                    Either.forRight(new WorkspaceSymbolLocation(location.get("uri").getAsString()));
+            var workspaceSymbol = new WorkspaceSymbol(symbol.get("name").getAsString(),
+                    SymbolKind.forValue(symbol.get("kind").getAsInt()),
+                    symbolLocation);
+            if (symbol.has("containerName") && !symbol.get("containerName").isJsonNull()) {
+                workspaceSymbol.setContainerName(symbol.get("containerName").getAsString());
+            }
+            symbols.add(workspaceSymbol);
+        }
+        return Either.forRight(symbols);
+    }
+
+    private static @Nullable JsonArray toJsonArray(@Nullable Object partialResult) {
+        if (partialResult == null) {
+            return null;
+        }
+        JsonElement json = partialResult instanceof JsonElement element ? element : JSONUtils.getLsp4jGson().toJsonTree(partialResult);
+        return json.isJsonArray() ? json.getAsJsonArray() : null;
+    }
+}
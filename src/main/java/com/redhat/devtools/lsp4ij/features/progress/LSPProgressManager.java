@@ -24,6 +24,7 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -34,6 +35,7 @@ import java.util.function.Function;
 public class LSPProgressManager implements Disposable {
 
     private final Map<String /* token */ , LSPProgressInfo> progressMap;
+    private final Map<String /* partial result token */, Consumer<Object>> partialResultHandlers;
     private LanguageServer languageServer;
     private LanguageServerWrapper languageServerWrapper;
     private boolean disposed;
@@ -41,6 +43,8 @@ public class LSPProgressManager implements Disposable {
     public LSPProgressManager() {
         // Map which contains current progresses stored by their token.
         this.progressMap = new ConcurrentHashMap<>();
+        // Map which contains the partial result handlers stored by their partial result token.
+        this.partialResultHandlers = new ConcurrentHashMap<>();
     }
 
     public void connect(final LanguageServer languageServer, LanguageServerWrapper languageServerWrapper) {
@@ -150,8 +154,12 @@ public class LSPProgressManager implements Disposable {
         }
         var value = params.getValue();
         if (value.isRight()) {
-            // TODO: Partial Result Progress
+            // Partial Result Progress
             // https://microsoft.github.io/language-server-protocol/specifications/specification-current/#partialResults
+            var handler = partialResultHandlers.get(getToken(params.getToken()));
+            if (handler != null) {
+                handler.accept(value.getRight());
+            }
             return;
         }
 
@@ -198,6 +206,28 @@ public class LSPProgressManager implements Disposable {
         }
     }
 
+    /**
+     * Register the handler which consumes the partial results notified with '$/progress' for the given partial result token.
+     *
+     * @param token   the partial result token.
+     * @param handler the partial result handler.
+     */
+    public void registerPartialResultHandler(@NotNull String token,
+                                             @NotNull Consumer<Object> handler) {
+        if (!isDisposed()) {
+            partialResultHandlers.put(token, handler);
+        }
+    }
+
+    /**
+     * Unregister the partial result handler of the given partial result token.
+     *
+     * @param token the partial result token.
+     */
+    public void unregisterPartialResultHandler(@NotNull String token) {
+        partialResultHandlers.remove(token);
+    }
+
     @NotNull
     private synchronized LSPProgressInfo getOrCreateProgressInfo(String token) {
         LSPProgressInfo progress = progressMap.get(token);
@@ -221,6 +251,7 @@ public class LSPProgressManager implements Disposable {
         this.disposed = true;
         progressMap.values().forEach(LSPProgressInfo::cancel);
         progressMap.clear();
+        partialResultHandlers.clear();
     }
 
     public boolean isDisposed() {
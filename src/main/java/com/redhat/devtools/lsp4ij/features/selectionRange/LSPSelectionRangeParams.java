@@ -23,14 +23,48 @@ public class LSPSelectionRangeParams extends SelectionRangeParams {
 
     // Use transient to avoid serializing the fields when GSON will be processed
     private transient final int offset;
+    private transient final int[] offsets;
+    private transient final long modificationStamp;
 
     public LSPSelectionRangeParams(TextDocumentIdentifier textDocument, List<Position> positions, int offset) {
+        this(textDocument, positions, new int[]{offset}, -1);
+    }
+
+    /**
+     * Selection range parameters for several positions (one per caret).
+     *
+     * @param textDocument      the text document.
+     * @param positions         the positions.
+     * @param offsets           the offsets of the positions, the first offset is the offset where selection range has been triggered.
+     * @param modificationStamp the modification stamp of the file when the positions have been computed.
+     */
+    public LSPSelectionRangeParams(TextDocumentIdentifier textDocument, List<Position> positions, int[] offsets, long modificationStamp) {
         super.setTextDocument(textDocument);
         setPositions(positions);
-        this.offset = offset;
+        this.offset = offsets[0];
+        this.offsets = offsets;
+        this.modificationStamp = modificationStamp;
     }
 
     public int getOffset() {
         return offset;
     }
+
+    /**
+     * Returns the offsets of the positions.
+     *
+     * @return the offsets of the positions.
+     */
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    /**
+     * Returns the modification stamp of the file when the positions have been computed and -1 if it is unknown.
+     *
+     * @return the modification stamp of the file when the positions have been computed and -1 if it is unknown.
+     */
+    public long getModificationStamp() {
+        return modificationStamp;
+    }
 }
@@ -52,8 +52,23 @@ public class LSPSelectionRangeSupport extends AbstractLSPDocumentFeatureSupport<
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LSPSelectionRangeSupport.class);
 
+    /**
+     * Maximum number of offsets whose selection ranges are cached for the current file modification stamp.
+     */
+    private static final int MAX_CACHED_OFFSETS = 256;
+
+    /**
+     * A selection range (with its parents) returned by a language server for the position of the given offset.
+     */
+    private record OffsetSelectionRange(int offset, @NotNull SelectionRange selectionRange) {
+    }
+
     private Integer previousOffset;
 
+    // The selection ranges cached by offset, for the file modification stamp
+    private final Map<Integer, List<SelectionRange>> cachedSelectionRanges = new HashMap<>();
+    private long cachedModificationStamp = -1;
+
     public LSPSelectionRangeSupport(@NotNull PsiFile file) {
         super(file);
     }
@@ -64,15 +79,48 @@ public class LSPSelectionRangeSupport extends AbstractLSPDocumentFeatureSupport<
                                                           @NotNull Document document,
                                                           int offset,
                                                           @Nullable Integer timeout) {
+        return getSelectionRanges(file, document, new int[]{offset}, timeout);
+    }
+
+    /**
+     * Returns the selection ranges at the first given offset.
+     * <p>
+     * The selection ranges of the other given offsets (ex: the offsets of the other carets) which are not cached are loaded
+     * in the same LSP 'textDocument/selectionRange' request. The selection ranges are cached by offset until the file is modified,
+     * so that repeated Extend/Shrink Selection actions don't consume LSP requests.
+     *
+     * @param file    the Psi file.
+     * @param document the document.
+     * @param offsets the offsets, the first offset is the offset where the selection ranges are returned.
+     * @param timeout wait for the given timeout and null otherwise.
+     * @return the selection ranges at the first given offset.
+     */
+    @NotNull
+    @ApiStatus.Internal
+    public static List<SelectionRange> getSelectionRanges(@NotNull PsiFile file,
+                                                          @NotNull Document document,
+                                                          int @NotNull [] offsets,
+                                                          @Nullable Integer timeout) {
         if (ProjectIndexingManager.canExecuteLSPFeature(file) != ExecuteLSPFeatureStatus.NOW) {
             return Collections.emptyList();
         }
 
-        // Consume LSP 'textDocument/selectionRanges' request
         LSPSelectionRangeSupport selectionRangeSupport = LSPFileSupport.getSupport(file).getSelectionRangeSupport();
+        int offset = offsets[0];
+        long modificationStamp = file.getModificationStamp();
+        List<SelectionRange> cachedSelectionRanges = selectionRangeSupport.getCachedSelectionRanges(offset, modificationStamp);
+        if (cachedSelectionRanges != null) {
+            return cachedSelectionRanges;
+        }
+
+        // Consume LSP 'textDocument/selectionRanges' request for the offsets which are not cached
         TextDocumentIdentifier textDocumentIdentifier = LSPIJUtils.toTextDocumentIdentifier(file.getVirtualFile());
-        Position position = LSPIJUtils.toPosition(offset, document);
-        var params = new LSPSelectionRangeParams(textDocumentIdentifier, Collections.singletonList(position), offset);
+        int[] requestedOffsets = selectionRangeSupport.getNotCachedOffsets(offsets, modificationStamp);
+        List<Position> positions = new ArrayList<>(requestedOffsets.length);
+        for (int requestedOffset : requestedOffsets) {
+            positions.add(LSPIJUtils.toPosition(requestedOffset, document));
+        }
+        var params = new LSPSelectionRangeParams(textDocumentIdentifier, positions, requestedOffsets, modificationStamp);
         CompletableFuture<List<SelectionRange>> selectionRangesFuture = selectionRangeSupport.getSelectionRanges(params);
         try {
             waitUntilDone(selectionRangesFuture, file, timeout);
@@ -139,7 +187,7 @@ public class LSPSelectionRangeSupport extends AbstractLSPDocumentFeatureSupport<
                                                          @NotNull Editor editor,
                                                          int offset) {
         Document document = editor.getDocument();
-        List<SelectionRange> selectionRanges = getSelectionRanges(file, document, offset, 500);
+        List<SelectionRange> selectionRanges = getSelectionRanges(file, document, getCaretOffsets(editor, offset), 500);
         if (ContainerUtil.isEmpty(selectionRanges)) {
             return Collections.emptyList();
         }
@@ -157,6 +205,67 @@ public class LSPSelectionRangeSupport extends AbstractLSPDocumentFeatureSupport<
         return new ArrayList<>(textRanges);
     }
 
+    /**
+     * Returns the given offset followed by the offsets of the other carets of the given editor.
+     */
+    private static int @NotNull [] getCaretOffsets(@NotNull Editor editor, int offset) {
+        var carets = editor.getCaretModel().getAllCarets();
+        if (carets.size() == 1) {
+            return new int[]{offset};
+        }
+        Set<Integer> offsets = new LinkedHashSet<>(carets.size() + 1);
+        offsets.add(offset);
+        for (var caret : carets) {
+            offsets.add(caret.getOffset());
+        }
+        return offsets.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Returns the cached selection ranges at the given offset and null if they are not cached for the given file modification stamp.
+     */
+    private synchronized @Nullable List<SelectionRange> getCachedSelectionRanges(int offset, long modificationStamp) {
+        return cachedModificationStamp == modificationStamp ? cachedSelectionRanges.get(offset) : null;
+    }
+
+    /**
+     * Returns the given offsets without the offsets (other than the first one) whose selection ranges are cached.
+     */
+    private synchronized int @NotNull [] getNotCachedOffsets(int @NotNull [] offsets, long modificationStamp) {
+        if (offsets.length == 1 || cachedModificationStamp != modificationStamp) {
+            return offsets;
+        }
+        int[] notCachedOffsets = new int[offsets.length];
+        int count = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            if (i == 0 || !cachedSelectionRanges.containsKey(offsets[i])) {
+                notCachedOffsets[count++] = offsets[i];
+            }
+        }
+        return Arrays.copyOf(notCachedOffsets, count);
+    }
+
+    /**
+     * Cache the selection ranges returned by the language servers by offset.
+     */
+    private synchronized void cacheSelectionRanges(@NotNull LSPSelectionRangeParams params,
+                                                   @NotNull List<OffsetSelectionRange> selectionRanges) {
+        long modificationStamp = params.getModificationStamp();
+        if (modificationStamp == -1) {
+            return;
+        }
+        if (cachedModificationStamp != modificationStamp || cachedSelectionRanges.size() > MAX_CACHED_OFFSETS) {
+            cachedSelectionRanges.clear();
+            cachedModificationStamp = modificationStamp;
+        }
+        for (int offset : params.getOffsets()) {
+            cachedSelectionRanges.put(offset, new ArrayList<>());
+        }
+        for (var selectionRange : selectionRanges) {
+            cachedSelectionRanges.get(selectionRange.offset()).add(selectionRange.selectionRange());
+        }
+    }
+
     public CompletableFuture<List<SelectionRange>> getSelectionRanges(LSPSelectionRangeParams params) {
         int offset = params.getOffset();
         if ((previousOffset != null) && !previousOffset.equals(offset)) {
@@ -169,12 +278,21 @@ public class LSPSelectionRangeSupport extends AbstractLSPDocumentFeatureSupport<
     @Override
     protected CompletableFuture<List<SelectionRange>> doLoad(LSPSelectionRangeParams params, CancellationSupport cancellationSupport) {
         PsiFile file = super.getFile();
-        return getSelectionRanges(file, params, cancellationSupport);
+        return getSelectionRanges(file, params, cancellationSupport)
+                .thenApply(selectionRanges -> {
+                    cacheSelectionRanges(params, selectionRanges);
+                    // Returns the selection ranges of the offset where selection range has been triggered
+                    return selectionRanges
+                            .stream()
+                            .filter(selectionRange -> selectionRange.offset() == params.getOffset())
+                            .map(OffsetSelectionRange::selectionRange)
+                            .toList();
+                });
     }
 
-    private static @NotNull CompletableFuture<List<SelectionRange>> getSelectionRanges(@NotNull PsiFile file,
-                                                                                       @NotNull LSPSelectionRangeParams params,
-                                                                                       @NotNull CancellationSupport cancellationSupport) {
+    private static @NotNull CompletableFuture<List<OffsetSelectionRange>> getSelectionRanges(@NotNull PsiFile file,
+                                                                                             @NotNull LSPSelectionRangeParams params,
+                                                                                             @NotNull CancellationSupport cancellationSupport) {
         return getLanguageServers(file,
                 f -> f.getSelectionRangeFeature().isEnabled(file),
                 f -> f.getSelectionRangeFeature().isSupported(file))
@@ -186,7 +304,7 @@ public class LSPSelectionRangeSupport extends AbstractLSPDocumentFeatureSupport<
                     }
 
                     // Collect list of textDocument/selectionRange future for each language servers
-                    List<CompletableFuture<List<SelectionRange>>> selectionRangesPerServerFutures = languageServers
+                    List<CompletableFuture<List<OffsetSelectionRange>>> selectionRangesPerServerFutures = languageServers
                             .stream()
                             .map(languageServer -> getSelectionRangesFor(params, file, languageServer, cancellationSupport))
                             .toList();
@@ -196,10 +314,10 @@ public class LSPSelectionRangeSupport extends AbstractLSPDocumentFeatureSupport<
                 });
     }
 
-    private static CompletableFuture<List<SelectionRange>> getSelectionRangesFor(@NotNull LSPSelectionRangeParams params,
-                                                                                 @NotNull PsiFile file,
-                                                                                 @NotNull LanguageServerItem languageServer,
-                                                                                 @NotNull CancellationSupport cancellationSupport) {
+    private static CompletableFuture<List<OffsetSelectionRange>> getSelectionRangesFor(@NotNull LSPSelectionRangeParams params,
+                                                                                       @NotNull PsiFile file,
+                                                                                       @NotNull LanguageServerItem languageServer,
+                                                                                       @NotNull CancellationSupport cancellationSupport) {
         // Update textDocument Uri with custom file Uri if needed
         updateTextDocumentUri(params.getTextDocument(), file, languageServer);
         return cancellationSupport.execute(languageServer
@@ -210,10 +328,18 @@ public class LSPSelectionRangeSupport extends AbstractLSPDocumentFeatureSupport<
                         // textDocument/selectionRange may return null
                         return Collections.emptyList();
                     }
-                    return selectionRanges.stream()
-                            .filter(Objects::nonNull)
-                            .filter(selectionRange -> selectionRange.getRange() != null)
-                            .toList();
+                    int[] offsets = params.getOffsets();
+                    // The language server returns one selection range per position, in the order of the positions.
+                    // When it doesn't (it should not occur), the selection ranges are associated to the first offset.
+                    boolean onePerPosition = selectionRanges.size() == offsets.length;
+                    List<OffsetSelectionRange> result = new ArrayList<>(selectionRanges.size());
+                    for (int i = 0; i < selectionRanges.size(); i++) {
+                        SelectionRange selectionRange = selectionRanges.get(i);
+                        if (selectionRange != null && selectionRange.getRange() != null) {
+                            result.add(new OffsetSelectionRange(onePerPosition ? offsets[i] : offsets[0], selectionRange));
+                        }
+                    }
+                    return result;
                 });
     }
 
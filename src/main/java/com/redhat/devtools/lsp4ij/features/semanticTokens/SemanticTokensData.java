@@ -70,6 +70,11 @@ public class SemanticTokensData {
         List<SemanticTokensHighlightInfo> highlightInfos = notifyInspector ? new ArrayList<>() : null;
 
         try {
+            // Replace the semantic tokens of the previous response
+            if (semanticTokensFileViewProvider != null) {
+                semanticTokensFileViewProvider.clearSemanticTokens();
+            }
+
             var dataStream = semanticTokens.getData();
             if (dataStream == null || dataStream.isEmpty()) {
                 return;
@@ -154,6 +154,13 @@ interface LSPSemanticTokensContainer {
                           @Nullable String tokenType,
                           @Nullable List<String> tokenModifiers);
 
+    /**
+     * Removes all semantic tokens from the file view provider before adding the semantic tokens of a new response.
+     * <p>
+     * Until then, the semantic tokens of the previous response are kept and updated according to the document changes.
+     */
+    void clearSemanticTokens();
+
     /**
      * Returns the effective offset for the provided element.
      *
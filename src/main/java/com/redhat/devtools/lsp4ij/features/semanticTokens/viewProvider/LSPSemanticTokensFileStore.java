@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.redhat.devtools.lsp4ij.features.semanticTokens.viewProvider;
+
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.event.DocumentEvent;
+import com.intellij.openapi.editor.event.DocumentListener;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.PsiFile;
+import com.redhat.devtools.lsp4ij.LSPFileSupport;
+import com.redhat.devtools.lsp4ij.LSPIJUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Semantic tokens of a file which are reused across document changes.
+ *
+ * <p>
+ * The semantic tokens of the last LSP response are updated according to the document changes (see
+ * {@link LSPSemanticTokensStore#documentChanged(int, int, CharSequence)}) so that the
+ * {@link LSPSemanticTokensFileViewProvider} can answer (keyword, comment, identifier, etc) without waiting for the
+ * next 'textDocument/semanticTokens' response, which replaces them when it is highlighted.
+ * </p>
+ *
+ * <p>
+ * The instance is stored in the {@link LSPFileSupport} of the file and its document listener is removed
+ * when the {@link LSPFileSupport} is disposed.
+ * </p>
+ */
+class LSPSemanticTokensFileStore implements DocumentListener {
+
+    private static final Key<LSPSemanticTokensFileStore> SEMANTIC_TOKENS_FILE_STORE_KEY = Key.create("lsp.semantic.tokens.file.store");
+
+    private final @NotNull PsiFile file;
+    private volatile @NotNull LSPSemanticTokensStore<LSPSemanticToken> store;
+
+    private LSPSemanticTokensFileStore(@NotNull PsiFile file) {
+        this.file = file;
+        this.store = createStore();
+    }
+
+    /**
+     * Returns the semantic tokens file store of the given file and null if the file has no document.
+     *
+     * @param file the file.
+     * @return the semantic tokens file store of the given file and null if the file has no document.
+     */
+    @Nullable
+    static LSPSemanticTokensFileStore getInstance(@NotNull PsiFile file) {
+        LSPFileSupport fileSupport = LSPFileSupport.getSupport(file);
+        LSPSemanticTokensFileStore fileStore = fileSupport.getUserData(SEMANTIC_TOKENS_FILE_STORE_KEY);
+        if (fileStore != null) {
+            return fileStore;
+        }
+        Document document = LSPIJUtils.getDocument(file);
+        if (document == null) {
+            return null;
+        }
+        synchronized (fileSupport) {
+            fileStore = fileSupport.getUserData(SEMANTIC_TOKENS_FILE_STORE_KEY);
+            if (fileStore == null) {
+                fileStore = new LSPSemanticTokensFileStore(file);
+                document.addDocumentListener(fileStore, fileSupport);
+                fileSupport.putUserData(SEMANTIC_TOKENS_FILE_STORE_KEY, fileStore);
+            }
+            return fileStore;
+        }
+    }
+
+    private @NotNull LSPSemanticTokensStore<LSPSemanticToken> createStore() {
+        return new LSPSemanticTokensStore<>((start, end, tokenType, tokenModifiers) ->
+                new LSPSemanticToken(file, TextRange.create(start, end), tokenType, tokenModifiers));
+    }
+
+    /**
+     * Returns the current semantic tokens.
+     *
+     * @return the current semantic tokens.
+     */
+    @NotNull
+    LSPSemanticTokensStore<LSPSemanticToken> getStore() {
+        return store;
+    }
+
+    /**
+     * Removes the current semantic tokens before adding the semantic tokens of a new LSP response.
+     */
+    void clear() {
+        store = createStore();
+    }
+
+    @Override
+    public void documentChanged(@NotNull DocumentEvent event) {
+        store.documentChanged(event.getOffset(), event.getOldLength(), event.getNewFragment());
+    }
+}
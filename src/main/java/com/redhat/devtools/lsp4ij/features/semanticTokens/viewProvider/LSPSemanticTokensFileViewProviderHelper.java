@@ -25,8 +25,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Helper class for {@link LSPSemanticTokensFileViewProvider} implementations to help fulfill its interface.
@@ -141,21 +139,26 @@ public class LSPSemanticTokensFileViewProviderHelper implements LSPSemanticToken
         return semanticToken != null ? semanticToken.getTextRange() : null;
     }
 
-    // Store the file's semantic tokens so that we have constant-time lookup of an element for a given offset
+    // Store the file's semantic tokens sorted by offset so that we have logarithmic-time lookup of an element for a given offset
     @Nullable
-    private Map<Integer, LSPSemanticToken> getSemanticTokensByOffset() {
+    private LSPSemanticTokensStore<LSPSemanticToken> getSemanticTokensStore() {
         PsiFile file = getFile();
         if (file == null) return null;
 
-        // By caching the storage on the file this way, it's automatically evicted when the file changes
-        return CachedValuesManager.getCachedValue(file, new CachedValueProvider<>() {
-            @Override
-            @NotNull
-            public Result<Map<Integer, LSPSemanticToken>> compute() {
-                Map<Integer, LSPSemanticToken> semanticTokensByOffset = new ConcurrentHashMap<>();
-                return Result.create(semanticTokensByOffset, file);
-            }
-        });
+        // The tokens are kept across the file changes until the next semantic tokens response
+        LSPSemanticTokensFileStore fileStore = LSPSemanticTokensFileStore.getInstance(file);
+        return fileStore != null ? fileStore.getStore() : null;
+    }
+
+    @Override
+    public void clearSemanticTokens() {
+        PsiFile file = getFile();
+        if (file == null) return;
+
+        LSPSemanticTokensFileStore fileStore = LSPSemanticTokensFileStore.getInstance(file);
+        if (fileStore != null) {
+            fileStore.clear();
+        }
     }
 
     @Override
@@ -165,14 +168,11 @@ public class LSPSemanticTokensFileViewProviderHelper implements LSPSemanticToken
         PsiFile file = getFile();
         if (file == null) return;
 
-        Map<Integer, LSPSemanticToken> semanticTokensByOffset = getSemanticTokensByOffset();
-        if (semanticTokensByOffset != null) {
-            LSPSemanticToken semanticToken = new LSPSemanticToken(file, textRange, tokenType, tokenModifiers);
-
-            // Index the token for its text range up to but not including the end offset
-            for (int offset = textRange.getStartOffset(); offset < textRange.getEndOffset(); offset++) {
-                semanticTokensByOffset.put(offset, semanticToken);
-            }
+        LSPSemanticTokensStore<LSPSemanticToken> semanticTokensStore = getSemanticTokensStore();
+        if (semanticTokensStore != null) {
+            // Store the token for its text range up to but not including the end offset,
+            // the LSPSemanticToken is created lazily when it is requested
+            semanticTokensStore.add(textRange.getStartOffset(), textRange.getEndOffset(), tokenType, tokenModifiers);
         }
     }
 
@@ -188,9 +188,9 @@ public class LSPSemanticTokensFileViewProviderHelper implements LSPSemanticToken
         if (file == null) return null;
 
         // If this file has semantic tokens, use them
-        Map<Integer, LSPSemanticToken> semanticTokensByOffset = getSemanticTokensByOffset();
-        if (!ContainerUtil.isEmpty(semanticTokensByOffset)) {
-            LSPSemanticToken semanticToken = semanticTokensByOffset.get(offset);
+        LSPSemanticTokensStore<LSPSemanticToken> semanticTokensStore = getSemanticTokensStore();
+        if (semanticTokensStore != null && !semanticTokensStore.isEmpty()) {
+            LSPSemanticToken semanticToken = semanticTokensStore.get(offset);
             // Update the view provider's effective offset as appropriate
             setEffectiveOffset(semanticToken == null ? offset : -1);
             return semanticToken;
@@ -147,6 +147,11 @@ public class LSPSemanticTokensSingleRootFileViewProvider
         helper.addSemanticToken(textRange, tokenType, tokenModifiers);
     }
 
+    @Override
+    public void clearSemanticTokens() {
+        helper.clearSemanticTokens();
+    }
+
     @Override
     public int getEffectiveOffset(@NotNull PsiElement element) {
         return helper.getEffectiveOffset(element);
@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.redhat.devtools.lsp4ij.features.semanticTokens.viewProvider;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Compact store of the semantic tokens of a file sorted by offset.
+ *
+ * <p>
+ * Tokens are stored in parallel primitive arrays (start offset, end offset and kind) where the kind is an index in a
+ * table of interned (token type, token modifiers) pairs, and the offset lookup is a binary search. The token
+ * objects are created lazily by the given factory when they are requested and then reused.
+ * </p>
+ *
+ * <p>
+ * A token which overlaps existing tokens replaces them.
+ * </p>
+ *
+ * @param <T> the token type.
+ */
+class LSPSemanticTokensStore<T> {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Semantic token factory.
+     *
+     * @param <T> the token type.
+     */
+    @FunctionalInterface
+    interface TokenFactory<T> {
+
+        @NotNull
+        T create(int start, int end, @Nullable String tokenType, @NotNull List<String> tokenModifiers);
+    }
+
+    private record TokenKind(@Nullable String tokenType, @NotNull List<String> tokenModifiers) {
+    }
+
+    private final @NotNull TokenFactory<T> factory;
+
+    // Interned token kinds
+    private final List<TokenKind> kinds = new ArrayList<>();
+    private final Map<TokenKind, Integer> kindIds = new HashMap<>();
+
+    private int size;
+    private int[] starts = new int[0];
+    private int[] ends = new int[0];
+    private int[] kindIndexes = new int[0];
+    private Object[] tokens = new Object[0];
+
+    LSPSemanticTokensStore(@NotNull TokenFactory<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Add a semantic token for the given range [start, end).
+     *
+     * @param start          the start offset.
+     * @param end            the end offset (exclusive).
+     * @param tokenType      the token type.
+     * @param tokenModifiers the token modifiers.
+     */
+    synchronized void add(int start, int end, @Nullable String tokenType, @Nullable List<String> tokenModifiers) {
+        if (end <= start) {
+            // An empty token covers no offset
+            return;
+        }
+        int kind = internKind(tokenType, tokenModifiers);
+        if (size == 0 || ends[size - 1] <= start) {
+            // Tokens are generally added in the document order
+            insert(size, size, start, end, kind);
+            return;
+        }
+        // Replace the tokens which overlap the new token
+        int from = lastStartingBefore(end);
+        while (from >= 0 && ends[from] > start) {
+            from--;
+        }
+        from++;
+        int to = from;
+        while (to < size && starts[to] < end) {
+            to++;
+        }
+        insert(from, to, start, end, kind);
+    }
+
+    private int internKind(@Nullable String tokenType, @Nullable List<String> tokenModifiers) {
+        TokenKind kind = new TokenKind(tokenType, tokenModifiers != null ? List.copyOf(tokenModifiers) : Collections.emptyList());
+        Integer id = kindIds.get(kind);
+        if (id == null) {
+            id = kinds.size();
+            kinds.add(kind);
+            kindIds.put(kind, id);
+        }
+        return id;
+    }
+
+    /**
+     * Replace the tokens in [from, to) with the given token.
+     */
+    private void insert(int from, int to, int start, int end, int kind) {
+        int newSize = size - (to - from) + 1;
+        if (newSize > starts.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, Math.max(newSize, starts.length + (starts.length >> 1)));
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            kindIndexes = Arrays.copyOf(kindIndexes, capacity);
+            tokens = Arrays.copyOf(tokens, capacity);
+        }
+        int tail = size - to;
+        if (tail > 0 && to != from + 1) {
+            System.arraycopy(starts, to, starts, from + 1, tail);
+            System.arraycopy(ends, to, ends, from + 1, tail);
+            System.arraycopy(kindIndexes, to, kindIndexes, from + 1, tail);
+            System.arraycopy(tokens, to, tokens, from + 1, tail);
+        }
+        starts[from] = start;
+        ends[from] = end;
+        kindIndexes[from] = kind;
+        tokens[from] = null;
+        // Release the references of the removed tokens
+        for (int i = newSize; i < size; i++) {
+            tokens[i] = null;
+        }
+        size = newSize;
+    }
+
+    /**
+     * Returns the index of the last token which starts before the given offset and -1 otherwise.
+     */
+    private int lastStartingBefore(int offset) {
+        int low = 0;
+        int high = size - 1;
+        int result = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] < offset) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the semantic token which covers the given offset and null otherwise.
+     *
+     * @param offset the offset.
+     * @return the semantic token which covers the given offset and null otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    synchronized T get(int offset) {
+        int index = lastStartingBefore(offset + 1);
+        if (index == -1 || ends[index] <= offset) {
+            return null;
+        }
+        Object token = tokens[index];
+        if (token == null) {
+            // Create the token lazily
+            TokenKind kind = kinds.get(kindIndexes[index]);
+            token = factory.create(starts[index], ends[index], kind.tokenType(), kind.tokenModifiers());
+            tokens[index] = token;
+        }
+        return (T) token;
+    }
+
+    /**
+     * Update the tokens according to the given document change to reuse them until the next semantic tokens response:
+     *
+     * <ul>
+     *     <li>the tokens after the change are shifted.</li>
+     *     <li>a token which contains the change is resized if the new text contains no whitespace, a token which ends
+     *     where text is inserted is extended if the inserted text is an identifier part (ex : typing in a word).</li>
+     *     <li>the other tokens damaged by the change are removed.</li>
+     * </ul>
+     *
+     * @param offset    the start offset of the change.
+     * @param oldLength the length of the replaced text.
+     * @param newText   the new text.
+     */
+    synchronized void documentChanged(int offset, int oldLength, @NotNull CharSequence newText) {
+        if (size == 0) {
+            return;
+        }
+        int oldEnd = offset + oldLength;
+        int newLength = newText.length();
+        int delta = newLength - oldLength;
+        boolean noWhitespace = !containsWhitespace(newText);
+        boolean identifierPart = newLength > 0 && oldLength == 0 && isIdentifierPart(newText);
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int start = starts[i];
+            int end = ends[i];
+            if (end < offset || (end == offset && !identifierPart)) {
+                // The token is before the change
+            } else if (end == offset) {
+                // Text is typed at the end of the token
+                end += newLength;
+            } else if (start >= oldEnd) {
+                // The token is after the change
+                start += delta;
+                end += delta;
+            } else if (start <= offset && oldEnd <= end && noWhitespace) {
+                // The token contains the change
+                end += delta;
+            } else {
+                // The token is damaged by the change
+                continue;
+            }
+            if (end <= start) {
+                continue;
+            }
+            starts[count] = start;
+            ends[count] = end;
+            kindIndexes[count] = kindIndexes[i];
+            count++;
+        }
+        // The created tokens have a stale text range
+        Arrays.fill(tokens, 0, size, null);
+        size = count;
+    }
+
+    private static boolean containsWhitespace(@NotNull CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isIdentifierPart(@NotNull CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isJavaIdentifierPart(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of stored tokens.
+     *
+     * @return the number of stored tokens.
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns the capacity of the arrays which store the token ranges and kinds.
+     *
+     * @return the capacity of the arrays which store the token ranges and kinds.
+     */
+    synchronized int getCapacity() {
+        return starts.length;
+    }
+
+    /**
+     * Returns the number of distinct token kinds (token type and modifiers) shared by the stored tokens.
+     *
+     * @return the number of distinct token kinds (token type and modifiers) shared by the stored tokens.
+     */
+    synchronized int getKindCount() {
+        return kinds.size();
+    }
+
+    /**
+     * Returns true if no token is stored and false otherwise.
+     *
+     * @return true if no token is stored and false otherwise.
+     */
+    synchronized boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -14,25 +14,30 @@
 package com.redhat.devtools.lsp4ij.features.signatureHelp;
 
 import com.intellij.codeInsight.CodeInsightBundle;
+import com.intellij.codeInsight.hint.ParameterInfoController;
+import com.intellij.lang.LanguageParserDefinitions;
+import com.intellij.lang.ParserDefinition;
 import com.intellij.lang.parameterInfo.*;
-import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.editor.ex.EditorEx;
+import com.intellij.openapi.editor.highlighter.EditorHighlighter;
+import com.intellij.openapi.editor.highlighter.HighlighterIterator;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.tree.IElementType;
 import com.redhat.devtools.lsp4ij.LSPFileSupport;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
+import com.redhat.devtools.lsp4ij.LanguageServiceAccessor;
 import org.eclipse.lsp4j.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-
-import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.isDoneNormally;
-import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.waitUntilDone;
 
 /**
  * LSP implementation of {@link ParameterInfoHandler} to support
@@ -42,7 +47,7 @@ import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.waitUntilDo
  */
 public class LSPParameterInfoHandler implements ParameterInfoHandler<LSPSignatureHelperPsiElement, SignatureInformation> {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(LSPParameterInfoHandler.class);
+    private static final SignatureHelp NO_SIGNATURE_HELP = new SignatureHelp(Collections.emptyList(), null, null);
 
     // Methods called when the parameter hint popup appears.
 
@@ -56,13 +61,16 @@ public class LSPParameterInfoHandler implements ParameterInfoHandler<LSPSignatur
         // 1. Collect signature help asynchronously
         // Here the popup hint is not shown, the signature help is invoked
         SignatureHelpParams params = toSignatureHelpParams(context, SignatureHelpTriggerKind.Invoked);
+        LSPSignatureHelpCallSite callSite = findCallSite(context.getFile(), context.getEditor(), context.getOffset());
+        psiElement.setModificationStamp(context.getEditor().getDocument().getModificationStamp());
         LSPSignatureHelpSupport signatureHelpSupport = LSPFileSupport.getSupport(psiElement.getContainingFile()).getSignatureHelpSupport();
         signatureHelpSupport.cancel();
         CompletableFuture<SignatureHelp> future = signatureHelpSupport.getSignatureHelp(params);
         // 2. Show the popup hint when signature help is ready.
         future.thenAccept(signatureHelp -> {
             if (signatureHelp != null) {
-                // Store the current signature help in the Psi element
+                // Store the current signature help and the argument list where it has been requested in the Psi element
+                psiElement.setCallSite(callSite);
                 psiElement.setActiveSignatureHelp(signatureHelp);
                 // There is a signature help, display it
                 List<SignatureInformation> signatures = signatureHelp.getSignatures();
@@ -90,54 +98,142 @@ public class LSPParameterInfoHandler implements ParameterInfoHandler<LSPSignatur
 
     @Override
     public void updateParameterInfo(@NotNull LSPSignatureHelperPsiElement psiElement, @NotNull UpdateParameterInfoContext context) {
-        boolean removeHint = false;
+        // Here the popup hint is displayed, the parameter info is updated
+        // by the cursor moving or by the document content changing.
+        PsiFile file = psiElement.getContainingFile();
+        Document document = context.getEditor().getDocument();
+        int offset = context.getOffset();
+        long modificationStamp = document.getModificationStamp();
+        boolean contentChanged = modificationStamp != psiElement.getModificationStamp();
+        psiElement.setModificationStamp(modificationStamp);
+
+        LSPSignatureHelpCallSite callSite = findCallSite(file, context.getEditor(), offset);
+        LSPSignatureHelpCallSite activeCallSite = psiElement.getCallSite();
+        // When no argument list is found (ex : the caret is in a nested '[' or '{'), the call site is the same
+        // as the call site of the active signature help if it is also not found, otherwise the update of the popup
+        // hint with the response would re-query the language server forever
+        boolean sameCallSite = callSite == null ? activeCallSite == null :
+                activeCallSite != null && callSite.startOffset() == activeCallSite.startOffset();
+        String triggerCharacter = contentChanged ? getRetriggerCharacter(file, document, offset) : null;
+        if (!sameCallSite || triggerCharacter != null) {
+            // The caret is in another argument list or a retrigger character has been typed:
+            // re-query the language server asynchronously, the popup hint is updated when the
+            // response is available.
+            requestSignatureHelp(psiElement, context, callSite, triggerCharacter);
+        }
+
+        // Update the popup hint with the active signature help without waiting for the language server
+        SignatureHelp activeSignatureHelp = psiElement.getActiveSignatureHelp();
+        List<SignatureInformation> signatures = activeSignatureHelp != null ? activeSignatureHelp.getSignatures() : null;
+        if (signatures == null || signatures.isEmpty()) {
+            // No signature helper found, close the popup hint
+            context.removeHint();
+            return;
+        }
+
+        // Update enable/disable of signature
+        int activateSignature = activeSignatureHelp.getActiveSignature() != null ? activeSignatureHelp.getActiveSignature() : -1;
+        for (int i = 0; i < signatures.size(); i++) {
+            context.setUIComponentEnabled(i, activateSignature == -1 || activateSignature == i);
+        }
+        // Update the IntelliJ parameter info context to highlight the proper parameter
+        context.setCurrentParameter(getActiveParameter(activeSignatureHelp, sameCallSite ? activeCallSite : null, callSite));
+    }
 
-        // Here the popup hint not displayed, the signature help
-        // is triggered by the cursor moving or by the document content changing.
-        SignatureHelpParams params = toSignatureHelpParams(context, SignatureHelpTriggerKind.ContentChange);
+    /**
+     * Consume the LSP 'textDocument/signatureHelp' request asynchronously with the active signature help as context,
+     * store the response in the given Psi element and update the popup hint with this response.
+     */
+    private static void requestSignatureHelp(@NotNull LSPSignatureHelperPsiElement psiElement,
+                                             @NotNull UpdateParameterInfoContext context,
+                                             @Nullable LSPSignatureHelpCallSite callSite,
+                                             @Nullable String triggerCharacter) {
+        SignatureHelpParams params = toSignatureHelpParams(context, triggerCharacter != null ? SignatureHelpTriggerKind.TriggerCharacter : SignatureHelpTriggerKind.ContentChange);
+        params.getContext().setTriggerCharacter(triggerCharacter);
         params.getContext().setIsRetrigger(true);
         params.getContext().setActiveSignatureHelp(psiElement.getActiveSignatureHelp());
 
+        Editor editor = context.getEditor();
+        int parameterListStart = context.getParameterListStart();
         LSPSignatureHelpSupport signatureHelpSupport = LSPFileSupport.getSupport(psiElement.getContainingFile()).getSignatureHelpSupport();
         signatureHelpSupport.cancel();
-        CompletableFuture<SignatureHelp> future = signatureHelpSupport.getSignatureHelp(params);
+        signatureHelpSupport.getSignatureHelp(params)
+                .thenAccept(signatureHelp -> {
+                    psiElement.setCallSite(callSite);
+                    psiElement.setActiveSignatureHelp(signatureHelp != null ? signatureHelp : NO_SIGNATURE_HELP);
+                    // Update the popup hint with the response without waiting for the next caret move or typing
+                    ApplicationManager.getApplication().invokeLater(() -> {
+                        if (editor.isDisposed()) {
+                            return;
+                        }
+                        var controller = ParameterInfoController.findControllerAtOffset(editor, parameterListStart);
+                        if (controller != null) {
+                            controller.updateComponent();
+                        }
+                    });
+                });
+    }
 
-        try {
-            // Wait until the future is finished and stop the wait if there are some ProcessCanceledException.
-            waitUntilDone(future, psiElement.getContainingFile());
-        } catch (ProcessCanceledException ignore) {//Since 2024.2 ProcessCanceledException extends CancellationException so we can't use multicatch to keep backward compatibility
-            //TODO delete block when minimum required version is 2024.2
-        } catch (CancellationException ignore) {
-            // Do nothing
-        } catch (ExecutionException e) {
-            LOGGER.error("Error while consuming LSP 'textDocument/signatureHelp' request", e);
+    /**
+     * Returns the active parameter of the given signature help, shifted with the separators which have been typed
+     * or removed in the argument list since the signature help has been returned by the language server.
+     */
+    private static int getActiveParameter(@NotNull SignatureHelp signatureHelp,
+                                          @Nullable LSPSignatureHelpCallSite activeCallSite,
+                                          @Nullable LSPSignatureHelpCallSite callSite) {
+        Integer activeParameter = signatureHelp.getActiveParameter();
+        if (activeCallSite == null || callSite == null) {
+            return activeParameter != null ? activeParameter : 0;
         }
+        if (activeParameter == null) {
+            return callSite.activeParameter();
+        }
+        return Math.max(0, activeParameter + callSite.activeParameter() - activeCallSite.activeParameter());
+    }
 
-        if (isDoneNormally(future)) {
-            SignatureHelp activeSignatureHelp = future.getNow(null);
-            List<SignatureInformation> signatures = activeSignatureHelp != null ? activeSignatureHelp.getSignatures() : null;
-            if (signatures == null || signatures.isEmpty()) {
-                // No signature helper found, close the popup hint
-                removeHint = true;
-            } else {
-                // A signature help is found
-
-                // Update enable/disable of signature
-                int activateSignature = activeSignatureHelp.getActiveSignature() != null ? activeSignatureHelp.getActiveSignature() : -1;
-                for (int i = 0; i < signatures.size(); i++) {
-                    context.setUIComponentEnabled(i, activateSignature == -1 || activateSignature == i);
-                }
-                // Update the IntelliJ parameter info context to highlight the proper parameter
-                Integer activeParameter = activeSignatureHelp.getActiveParameter();
-                context.setCurrentParameter(activeParameter != null ? activeParameter : 0);
-                // Update the Psi element with the active signature help
-                psiElement.setActiveSignatureHelp(activeSignatureHelp);
-            }
+    /**
+     * Returns the character before the given offset if it is defined as "signature retrigger" in a language server
+     * associated with the file and null otherwise.
+     */
+    private static @Nullable String getRetriggerCharacter(@NotNull PsiFile file,
+                                                          @NotNull Document document,
+                                                          int offset) {
+        if (offset <= 0 || offset > document.getTextLength()) {
+            return null;
         }
-        if (removeHint) {
-            // Close the popup hint
-            context.removeHint();
+        String charTyped = String.valueOf(document.getImmutableCharSequence().charAt(offset - 1));
+        boolean retrigger = LanguageServiceAccessor.getInstance(file.getProject())
+                .hasAny(file, ls -> ls.getClientFeatures()
+                        .getSignatureHelpFeature()
+                        .isSignatureRetriggerCharactersSupported(file, charTyped));
+        return retrigger ? charTyped : null;
+    }
+
+    /**
+     * Returns the argument list which contains the given offset by using the editor highlighter and the string and
+     * comment tokens of the parser definition of the file language to ignore strings and comments.
+     */
+    private static @Nullable LSPSignatureHelpCallSite findCallSite(@NotNull PsiFile file,
+                                                                   @NotNull Editor editor,
+                                                                   int offset) {
+        CharSequence text = editor.getDocument().getImmutableCharSequence();
+        ParserDefinition parserDefinition = LanguageParserDefinitions.INSTANCE.forLanguage(file.getLanguage());
+        if (parserDefinition == null || !(editor instanceof EditorEx editorEx)) {
+            // The strings and comments cannot be detected (ex : TextMate file)
+            return LSPSignatureHelpCallSite.find(text, offset, i -> true);
+        }
+        EditorHighlighter highlighter = editorEx.getHighlighter();
+        return LSPSignatureHelpCallSite.find(text, offset, i -> isCode(highlighter.createIterator(i), parserDefinition));
+    }
+
+    private static boolean isCode(@NotNull HighlighterIterator iterator,
+                                  @NotNull ParserDefinition parserDefinition) {
+        if (iterator.atEnd()) {
+            return true;
         }
+        IElementType tokenType = iterator.getTokenType();
+        return !parserDefinition.getCommentTokens().contains(tokenType) &&
+                !parserDefinition.getStringLiteralElements().contains(tokenType);
     }
 
     @Override
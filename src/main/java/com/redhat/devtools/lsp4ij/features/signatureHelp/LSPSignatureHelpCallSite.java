@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.signatureHelp;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.IntPredicate;
+
+/**
+ * The argument list which contains the caret, used to compute the active parameter on client side
+ * without consuming the LSP 'textDocument/signatureHelp' request.
+ *
+ * @param startOffset     the offset of the opening parenthesis of the argument list.
+ * @param activeParameter the number of ',' separators between the opening parenthesis and the caret.
+ */
+record LSPSignatureHelpCallSite(int startOffset, int activeParameter) {
+
+    /**
+     * Maximum number of characters scanned backward to find the opening parenthesis.
+     */
+    static final int MAX_SCAN_LENGTH = 10_000;
+
+    /**
+     * Returns the argument list which contains the given offset and null if it cannot be found.
+     * <p>
+     * The text is scanned backward from the offset, ignoring the characters which are not code (strings, comments)
+     * and the separators of the nested parenthesis. When the offset is inside a nested '[' or '{' block,
+     * the argument list cannot be computed on client side and null is returned.
+     *
+     * @param text   the document text.
+     * @param offset the caret offset.
+     * @param isCode returns true if the character at the given offset is code and false if it belongs to a string or a comment.
+     * @return the argument list which contains the given offset and null if it cannot be found.
+     */
+    static @Nullable LSPSignatureHelpCallSite find(@NotNull CharSequence text,
+                                                   int offset,
+                                                   @NotNull IntPredicate isCode) {
+        int depth = 0;
+        int separators = 0;
+        int limit = Math.max(0, offset - MAX_SCAN_LENGTH);
+        for (int i = Math.min(offset, text.length()) - 1; i >= limit; i--) {
+            char c = text.charAt(i);
+            if (!isDelimiter(c) || !isCode.test(i)) {
+                continue;
+            }
+            switch (c) {
+                case ')', ']', '}' -> depth++;
+                case '(', '[', '{' -> {
+                    if (depth > 0) {
+                        depth--;
+                    } else if (c == '(') {
+                        return new LSPSignatureHelpCallSite(i, separators);
+                    } else {
+                        return null;
+                    }
+                }
+                default -> {
+                    if (depth == 0) {
+                        separators++;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isDelimiter(char c) {
+        return switch (c) {
+            case '(', ')', '[', ']', '{', '}', ',' -> true;
+            default -> false;
+        };
+    }
+}
@@ -16,6 +16,7 @@ import com.intellij.psi.PsiFile;
 import com.redhat.devtools.lsp4ij.features.LSPPsiElement;
 import org.eclipse.lsp4j.SignatureHelp;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
 
@@ -26,6 +27,9 @@ import java.util.Objects;
 public class LSPSignatureHelperPsiElement extends LSPPsiElement {
 
     private SignatureHelp activeSignatureHelp;
+    private LSPSignatureHelpCallSite callSite;
+    private long modificationStamp = -1;
+
     public LSPSignatureHelperPsiElement(@NotNull PsiFile file, @NotNull TextRange textRange) {
         super(file, textRange);
     }
@@ -38,6 +42,33 @@ public class LSPSignatureHelperPsiElement extends LSPPsiElement {
         this.activeSignatureHelp = activeSignatureHelp;
     }
 
+    /**
+     * Returns the argument list where the active signature help has been requested and null otherwise.
+     *
+     * @return the argument list where the active signature help has been requested and null otherwise.
+     */
+    @Nullable
+    LSPSignatureHelpCallSite getCallSite() {
+        return callSite;
+    }
+
+    void setCallSite(@Nullable LSPSignatureHelpCallSite callSite) {
+        this.callSite = callSite;
+    }
+
+    /**
+     * Returns the document modification stamp of the last parameter info update.
+     *
+     * @return the document modification stamp of the last parameter info update.
+     */
+    long getModificationStamp() {
+        return modificationStamp;
+    }
+
+    void setModificationStamp(long modificationStamp) {
+        this.modificationStamp = modificationStamp;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
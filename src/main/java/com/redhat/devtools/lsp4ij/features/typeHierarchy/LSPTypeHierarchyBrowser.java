@@ -14,10 +14,13 @@ import com.intellij.ide.hierarchy.HierarchyNodeDescriptor;
 import com.intellij.ide.hierarchy.HierarchyTreeStructure;
 import com.intellij.ide.hierarchy.TypeHierarchyBrowserBase;
 import com.intellij.ide.util.treeView.NodeDescriptor;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
 import com.intellij.openapi.actionSystem.IdeActions;
 import com.intellij.psi.PsiElement;
 import com.redhat.devtools.lsp4ij.features.LSPPsiElement;
 import com.redhat.devtools.lsp4ij.features.hierarchy.LSPHierarchyNodeDescriptor;
+import com.redhat.devtools.lsp4ij.features.hierarchy.LSPHierarchyTreeStructureBase;
+import com.redhat.devtools.lsp4ij.features.hierarchy.LSPLoadHierarchyAction;
 import com.redhat.devtools.lsp4ij.features.hierarchy.LSPHierarchyItemPsiElement;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
@@ -27,6 +30,7 @@ import javax.swing.*;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /**
@@ -34,6 +38,9 @@ import java.util.function.Supplier;
  */
 public class LSPTypeHierarchyBrowser extends TypeHierarchyBrowserBase {
 
+    // The tree structures by hierarchy type
+    private final Map<String, LSPHierarchyTreeStructureBase<?>> treeStructures = new ConcurrentHashMap<>();
+
     public LSPTypeHierarchyBrowser(@NotNull PsiElement target) {
         super(target.getProject(), target);
     }
@@ -78,13 +85,38 @@ public class LSPTypeHierarchyBrowser extends TypeHierarchyBrowserBase {
 
     @Override
     protected @Nullable HierarchyTreeStructure createHierarchyTreeStructure(@NotNull String type, @NotNull PsiElement psiElement) {
+        LSPHierarchyTreeStructureBase<?> treeStructure = null;
         if (getSupertypesHierarchyType().equals(type)) {
-            return new LSPTypeHierarchySupertypesTreeStructure(myProject, psiElement);
+            treeStructure = new LSPTypeHierarchySupertypesTreeStructure(myProject, psiElement);
+        } else if (getSubtypesHierarchyType().equals(type)) {
+            treeStructure = new LSPTypeHierarchySubtypesTreeStructure(myProject, psiElement);
         }
-        if (getSubtypesHierarchyType().equals(type)) {
-            return new LSPTypeHierarchySubtypesTreeStructure(myProject, psiElement);
+        if (treeStructure != null) {
+            // Cancel the pending LSP requests of the previous tree structure
+            var oldTreeStructure = treeStructures.put(type, treeStructure);
+            if (oldTreeStructure != null) {
+                oldTreeStructure.cancel();
+            }
         }
-        return null;
+        return treeStructure;
+    }
+
+    @Override
+    protected void prependActions(@NotNull DefaultActionGroup actionGroup) {
+        super.prependActions(actionGroup);
+        actionGroup.add(new LSPLoadHierarchyAction(this::getCurrentTreeStructure, this::getCurrentTree));
+    }
+
+    private @Nullable LSPHierarchyTreeStructureBase<?> getCurrentTreeStructure() {
+        String type = getCurrentViewType();
+        return type != null ? treeStructures.get(type) : null;
+    }
+
+    @Override
+    public void dispose() {
+        treeStructures.values().forEach(LSPHierarchyTreeStructureBase::cancel);
+        treeStructures.clear();
+        super.dispose();
     }
 
     @Override
@@ -74,9 +74,9 @@ public class LSPTypeHierarchySubtypesSupport extends AbstractLSPDocumentFeatureS
                 });
     }
 
-    private static CompletableFuture<List<TypeHierarchyItemData>> getTypeHierarchiesFor(@NotNull TypeHierarchySubtypesParams params,
-                                                                                        @NotNull LanguageServerItem languageServer,
-                                                                                        @NotNull CancellationSupport cancellationSupport) {
+    static CompletableFuture<List<TypeHierarchyItemData>> getTypeHierarchiesFor(@NotNull TypeHierarchySubtypesParams params,
+                                                                                @NotNull LanguageServerItem languageServer,
+                                                                                @NotNull CancellationSupport cancellationSupport) {
         return cancellationSupport.execute(languageServer
                         .getTextDocumentService()
                         .typeHierarchySubtypes(params), languageServer, LSPRequestConstants.TYPE_HIERARCHY_SUB_TYPES)
@@ -10,59 +10,38 @@
  ******************************************************************************/
 package com.redhat.devtools.lsp4ij.features.typeHierarchy;
 
-import com.intellij.ide.hierarchy.HierarchyNodeDescriptor;
-import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiFile;
-import com.redhat.devtools.lsp4ij.LSPFileSupport;
-import com.redhat.devtools.lsp4ij.features.hierarchy.LSPHierarchyNodeDescriptor;
+import com.redhat.devtools.lsp4ij.LSPRequestConstants;
+import com.redhat.devtools.lsp4ij.LanguageServerItem;
+import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
 import org.eclipse.lsp4j.TypeHierarchyItem;
 import org.eclipse.lsp4j.TypeHierarchySubtypesParams;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.util.List;
-import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-
-import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.waitUntilDone;
 
 /**
  * LSP type hierarchy tree structure base for typeHierarchy/subtypes.
  */
 public class LSPTypeHierarchySubtypesTreeStructure extends LSPTypeHierarchyTreeStructureBase {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(LSPTypeHierarchySubtypesTreeStructure.class);
-
     public LSPTypeHierarchySubtypesTreeStructure(@NotNull Project project, @NotNull PsiElement psiElement) {
         super(project, psiElement);
     }
 
     @Override
-    protected void buildChildren(@NotNull HierarchyNodeDescriptor descriptor,
-                                 @NotNull PsiFile psiFile,
-                                 @Nullable TypeHierarchyItem hierarchyItem,
-                                 @NotNull List<LSPHierarchyNodeDescriptor> descriptors) {
-        LSPTypeHierarchySubtypesSupport typeHierarchySubtypesSupport = LSPFileSupport.getSupport(psiFile).getTypeHierarchySubtypesSupport();
-        typeHierarchySubtypesSupport.cancel();
+    protected @NotNull CompletableFuture<List<TypeHierarchyItemData>> getChildren(@NotNull TypeHierarchyItem hierarchyItem,
+                                                                   @NotNull LanguageServerItem languageServer,
+                                                                   @NotNull CancellationSupport cancellationSupport) {
         var params = new TypeHierarchySubtypesParams(hierarchyItem);
-        CompletableFuture<List<TypeHierarchyItemData>> prepareTypeHierarchyFuture = typeHierarchySubtypesSupport.getTypeHierarchySubtypes(params);
-        try {
-            waitUntilDone(prepareTypeHierarchyFuture, psiFile);
-        } catch (ProcessCanceledException ex) {
-            // cancel the LSP requests typeHierarchy/subtypes
-            typeHierarchySubtypesSupport.cancel();
-        } catch (CancellationException ex) {
-            // cancel the LSP requests typeHierarchy/subtypes
-            typeHierarchySubtypesSupport.cancel();
-        } catch (ExecutionException e) {
-            LOGGER.error("Error while consuming LSP 'typeHierarchy/subtypes' request", e);
-        }
-        fillChildren(descriptor, prepareTypeHierarchyFuture, descriptors);
+        return LSPTypeHierarchySubtypesSupport.getTypeHierarchiesFor(params, languageServer, cancellationSupport);
+    }
+
+    @Override
+    protected @NotNull String getChildrenRequestName() {
+        return LSPRequestConstants.TYPE_HIERARCHY_SUB_TYPES;
     }
 
 }
@@ -74,9 +74,9 @@ public class LSPTypeHierarchySupertypesSupport extends AbstractLSPDocumentFeatur
                 });
     }
 
-    private static CompletableFuture<List<TypeHierarchyItemData>> getTypeHierarchiesFor(@NotNull TypeHierarchySupertypesParams params,
-                                                                                        @NotNull LanguageServerItem languageServer,
-                                                                                        @NotNull CancellationSupport cancellationSupport) {
+    static CompletableFuture<List<TypeHierarchyItemData>> getTypeHierarchiesFor(@NotNull TypeHierarchySupertypesParams params,
+                                                                                @NotNull LanguageServerItem languageServer,
+                                                                                @NotNull CancellationSupport cancellationSupport) {
         return cancellationSupport.execute(languageServer
                         .getTextDocumentService()
                         .typeHierarchySupertypes(params), languageServer, LSPRequestConstants.TYPE_HIERARCHY_SUPER_TYPES)
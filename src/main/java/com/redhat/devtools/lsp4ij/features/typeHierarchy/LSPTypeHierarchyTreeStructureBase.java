@@ -10,40 +10,31 @@
  ******************************************************************************/
 package com.redhat.devtools.lsp4ij.features.typeHierarchy;
 
-import com.intellij.ide.hierarchy.HierarchyNodeDescriptor;
 import com.intellij.ide.util.treeView.NodeDescriptor;
 import com.intellij.openapi.editor.Document;
-import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.redhat.devtools.lsp4ij.LSPFileSupport;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
+import com.redhat.devtools.lsp4ij.LSPRequestConstants;
+import com.redhat.devtools.lsp4ij.LanguageServerItem;
+import com.redhat.devtools.lsp4ij.features.hierarchy.LSPCachedHierarchyTreeStructureBase;
 import com.redhat.devtools.lsp4ij.features.hierarchy.LSPHierarchyNodeDescriptor;
-import com.redhat.devtools.lsp4ij.features.hierarchy.LSPHierarchyTreeStructureBase;
 import org.eclipse.lsp4j.TypeHierarchyItem;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.util.List;
-import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-
-import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.isDoneNormally;
-import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.waitUntilDone;
 
 /**
  * LSP type hierarchy tree structure base for typeHierarchy/subtypes / typeHierarchy/supertypes.
  */
-public abstract class LSPTypeHierarchyTreeStructureBase extends LSPHierarchyTreeStructureBase<TypeHierarchyItem> {
-
-    private static final Logger LOGGER = LoggerFactory.getLogger(LSPTypeHierarchyTreeStructureBase.class);
+public abstract class LSPTypeHierarchyTreeStructureBase extends LSPCachedHierarchyTreeStructureBase<TypeHierarchyItem, TypeHierarchyItemData> {
 
     public LSPTypeHierarchyTreeStructureBase(@NotNull Project project, @NotNull PsiElement psiElement) {
-        super(project, psiElement);
+        super(project, psiElement, TypeHierarchyItemData::typeHierarchyItem, TypeHierarchyItemData::languageServer);
     }
 
     @Override
@@ -55,44 +46,32 @@ public abstract class LSPTypeHierarchyTreeStructureBase extends LSPHierarchyTree
     }
 
     @Override
-    protected void buildRoot(@NotNull HierarchyNodeDescriptor descriptor,
-                             @NotNull PsiFile psiFile,
-                             @NotNull Document document,
-                             int offset,
-                             @NotNull List<LSPHierarchyNodeDescriptor> descriptors) {
+    protected @NotNull CompletableFuture<List<TypeHierarchyItemData>> prepareHierarchy(@NotNull PsiFile psiFile,
+                                                                                       @NotNull Document document,
+                                                                                       int offset) {
         // Consume LSP 'textDocument/prepareTypeHierarchy' request
         LSPPrepareTypeHierarchySupport prepareTypeHierarchySupport = LSPFileSupport.getSupport(psiFile).getPrepareTypeHierarchySupport();
         var params = new LSPTypeHierarchyPrepareParams(LSPIJUtils.toTextDocumentIdentifier(psiFile.getVirtualFile()), LSPIJUtils.toPosition(offset, document), offset);
-        CompletableFuture<List<TypeHierarchyItemData>> prepareTypeHierarchyFuture = prepareTypeHierarchySupport.getPrepareTypeHierarchies(params);
-        try {
-            waitUntilDone(prepareTypeHierarchyFuture, psiFile);
-        } catch (ProcessCanceledException ex) {
-            // cancel the LSP requests textDocument/prepareTypeHierarchy
-            prepareTypeHierarchySupport.cancel();
-        } catch (CancellationException ex) {
-            // cancel the LSP requests textDocument/prepareTypeHierarchy
-            prepareTypeHierarchySupport.cancel();
-        } catch (ExecutionException e) {
-            LOGGER.error("Error while consuming LSP 'textDocument/prepareTypeHierarchy' request", e);
-        }
-        fillChildren(descriptor, prepareTypeHierarchyFuture, descriptors);
+        return prepareTypeHierarchySupport.getPrepareTypeHierarchies(params);
+    }
+
+    @Override
+    protected void cancelPrepareHierarchy(@NotNull PsiFile psiFile) {
+        LSPFileSupport.getSupport(psiFile).getPrepareTypeHierarchySupport().cancel();
     }
 
-    protected void fillChildren(@NotNull HierarchyNodeDescriptor descriptor,
-                                @Nullable CompletableFuture<List<TypeHierarchyItemData>> typeHierarchyFuture,
-                                @NotNull List<LSPHierarchyNodeDescriptor> descriptors) {
-        if (isDoneNormally(typeHierarchyFuture)) {
-            List<TypeHierarchyItemData> items = typeHierarchyFuture.getNow(null);
-            if (items != null) {
-                for (var item : items) {
-                    var typeHierarchyItem = item.typeHierarchyItem();
-                    PsiElement element = createPsiElement(typeHierarchyItem.getUri(), typeHierarchyItem.getRange(), typeHierarchyItem.getName(), item.languageServer().getClientFeatures());
-                    if (element != null) {
-                        descriptors.add(createHierarchyNodeDescriptor(myProject, descriptor, element, typeHierarchyItem));
-                    }
-                }
-            }
-        }
+    @Override
+    protected @NotNull String getPrepareRequestName() {
+        return LSPRequestConstants.TEXT_DOCUMENT_PREPARE_TYPE_HIERARCHY;
+    }
+
+    @Override
+    protected @Nullable PsiElement createPsiElement(@NotNull TypeHierarchyItem hierarchyItem,
+                                                    @NotNull LanguageServerItem languageServer) {
+        return createPsiElement(hierarchyItem.getUri(),
+                hierarchyItem.getRange(),
+                hierarchyItem.getName(),
+                languageServer.getClientFeatures());
     }
 
 }
@@ -15,23 +15,37 @@ import com.intellij.navigation.ChooseByNameContributorEx;
 import com.intellij.navigation.NavigationItem;
 import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.util.Processor;
+import com.intellij.util.containers.ContainerUtil;
 import com.intellij.util.indexing.FindSymbolParameters;
 import com.intellij.util.indexing.IdFilter;
 import com.redhat.devtools.lsp4ij.LSPWorkspaceSupport;
+import com.redhat.devtools.lsp4ij.LanguageServiceAccessor;
+import com.redhat.devtools.lsp4ij.client.features.FileUriSupport;
+import com.redhat.devtools.lsp4ij.features.progress.LSPPartialResultCollector;
+import com.redhat.devtools.lsp4ij.features.workspaceSymbol.index.LSPWorkspaceSymbolIndex;
+import com.redhat.devtools.lsp4ij.features.workspaceSymbol.index.WorkspaceSymbolIndexStore.IndexedSymbol;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.SymbolKind;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
 
 import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.isDoneNormally;
-import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.waitUntilDone;
 
 /**
  * Abstract base class for LSP goto symbol contributors
@@ -52,57 +66,136 @@ abstract class AbstractLSPWorkspaceSymbolContributor implements ChooseByNameCont
         if (queryString == null) {
             queryString = "";
         }
-        List<WorkspaceSymbolData> items = getWorkspaceSymbols(queryString, true, project);
-        if (items != null) {
-            items.stream()
-                    .filter(data -> data.getFile() != null && scope.accept(data.getFile()))
-                    .map(NavigationItem::getName)
-                    .forEach(processor::process);
+        LSPWorkspaceSymbolParams params = createWorkspaceSymbolParams(queryString);
+
+        // Answer first with the names of the workspace symbol index
+        Set<String> processedNames = new HashSet<>();
+        Predicate<IndexedSymbol> indexFilter = createIndexFilter(params, scope, project);
+        for (String name : LSPWorkspaceSymbolIndex.getInstance(project).findNames(queryString, indexFilter)) {
+            processedNames.add(name);
+            processor.process(name);
         }
+
+        // Merge the names of the language servers as soon as they are reported
+        processWorkspaceSymbols(params, true, project, data -> {
+            if (data.getFile() != null && scope.accept(data.getFile())) {
+                String name = data.getName();
+                if (name != null && processedNames.add(name)) {
+                    return processor.process(name);
+                }
+            }
+            return true;
+        });
     }
 
     @Override
     public void processElementsWithName(@NotNull String name,
                                         @NotNull Processor<? super NavigationItem> processor,
                                         @NotNull FindSymbolParameters parameters) {
-        List<WorkspaceSymbolData> items = getWorkspaceSymbols(name, false, parameters.getProject());
-        if (items != null) {
-            items
-                    .stream()
-                    .filter(ni -> parameters.getSearchScope().accept(ni.getFile()))
-                    .forEach(processor::process);
+        Project project = parameters.getProject();
+        LSPWorkspaceSymbolParams params = createWorkspaceSymbolParams(name);
+
+        // Answer first with the symbols of the workspace symbol index
+        Set<String> processedLocations = new HashSet<>();
+        Predicate<IndexedSymbol> indexFilter = createIndexFilter(params, parameters.getSearchScope(), project);
+        for (var symbol : LSPWorkspaceSymbolIndex.getInstance(project).findByName(name, indexFilter)) {
+            Position position = symbol.getLine() >= 0 ? new Position(symbol.getLine(), symbol.getCharacter()) : null;
+            var data = new WorkspaceSymbolData(symbol.getName(), SymbolKind.forValue(symbol.getKind()),
+                    symbol.getFileUri(), position, null, project);
+            if (data.getFile() != null && processedLocations.add(getLocationKey(data))) {
+                processor.process(data);
+            }
         }
+
+        // Merge the symbols of the language servers as soon as they are reported
+        processWorkspaceSymbols(params, false, project, ni -> {
+            if (parameters.getSearchScope().accept(ni.getFile()) && processedLocations.add(getLocationKey(ni))) {
+                return processor.process(ni);
+            }
+            return true;
+        });
     }
 
-    private List<WorkspaceSymbolData> getWorkspaceSymbols(@NotNull String name, boolean cancel, Project project) {
+    /**
+     * Returns the filter of the indexed symbols which accepts the symbols:
+     * <ul>
+     *     <li>of the requested kinds.</li>
+     *     <li>of the files of the given scope.</li>
+     *     <li>of the language servers whose client features support the request and the symbol index.
+     *     The symbols of a language server which has not been created yet are accepted to answer before it starts.</li>
+     * </ul>
+     *
+     * @param params  the workspace symbol params.
+     * @param scope   the search scope.
+     * @param project the project.
+     * @return the filter of the indexed symbols.
+     */
+    private static @NotNull Predicate<IndexedSymbol> createIndexFilter(@NotNull LSPWorkspaceSymbolParams params,
+                                                                       @NotNull GlobalSearchScope scope,
+                                                                       @NotNull Project project) {
+        Set<String> unsupportedServerIds = new HashSet<>();
+        for (var languageServer : LanguageServiceAccessor.getInstance(project).getStartedServers()) {
+            var workspaceSymbolFeature = languageServer.getClientFeatures().getWorkspaceSymbolFeature();
+            if (!workspaceSymbolFeature.isSymbolIndexEnabled() || !params.canSupport(workspaceSymbolFeature)) {
+                unsupportedServerIds.add(languageServer.getServerDefinition().getId());
+            }
+        }
+        Map<String, Optional<VirtualFile>> filesByUri = new HashMap<>();
+        return symbol -> params.accept(SymbolKind.forValue(symbol.getKind()))
+                && !unsupportedServerIds.contains(symbol.getServerId())
+                && filesByUri.computeIfAbsent(symbol.getFileUri(), uri -> Optional.ofNullable(FileUriSupport.findFileByUri(uri, null)))
+                .filter(scope::accept)
+                .isPresent();
+    }
+
+    private static String getLocationKey(@NotNull WorkspaceSymbolData data) {
+        var file = data.getFile();
+        var position = data.getPosition();
+        return (file != null ? file.getUrl() : data.getFileUri()) +
+                (position != null ? "#" + position.getLine() + ":" + position.getCharacter() : "");
+    }
+
+    private void processWorkspaceSymbols(@NotNull LSPWorkspaceSymbolParams params,
+                                         boolean cancel,
+                                         @NotNull Project project,
+                                         @NotNull Processor<WorkspaceSymbolData> itemProcessor) {
         // Consume LSP 'workspace/symbol' request
         LSPWorkspaceSymbolSupport workspaceSymbolSupport = LSPWorkspaceSupport.getSupport(project).getWorkspaceSymbolSupport();
         if (cancel) {
             workspaceSymbolSupport.cancel();
         }
-        LSPWorkspaceSymbolParams params = createWorkspaceSymbolParams(name);
+        // Process the symbols as soon as they are reported by the language servers (partial results)
+        LSPPartialResultCollector<WorkspaceSymbolData> collector = new LSPPartialResultCollector<>();
+        params.setResultConsumer(collector);
         CompletableFuture<List<WorkspaceSymbolData>> workspaceSymbolFuture = workspaceSymbolSupport.getWorkspaceSymbol(params);
         try {
-            waitUntilDone(workspaceSymbolFuture);
+            if (!collector.processUntilDone(workspaceSymbolFuture, items -> ContainerUtil.process(items, itemProcessor))) {
+                // The processor doesn't need more symbols, cancel the LSP requests workspace/symbol
+                workspaceSymbolSupport.cancel();
+                return;
+            }
         } catch (
                 ProcessCanceledException e) {//Since 2024.2 ProcessCanceledException extends CancellationException so we can't use multicatch to keep backward compatibility
             //TODO delete block when minimum required version is 2024.2
             workspaceSymbolSupport.cancel();
-            return null;
+            return;
         } catch (CancellationException e) {
             // cancel the LSP requests workspace/symbol
             workspaceSymbolSupport.cancel();
-            return null;
+            return;
         } catch (ExecutionException e) {
             LOGGER.error("Error while consuming LSP 'workspace/symbol' request", e);
-            return null;
+            return;
         }
 
         if (isDoneNormally(workspaceSymbolFuture)) {
-            // workspace/symbol has been collected correctly
-            return workspaceSymbolFuture.getNow(null);
+            // workspace/symbol has been collected correctly,
+            // process the symbols which have not been streamed (ex : the future was already loaded)
+            List<WorkspaceSymbolData> items = workspaceSymbolFuture.getNow(null);
+            if (items != null) {
+                ContainerUtil.process(items, itemProcessor);
+            }
         }
-        return null;
     }
 
     /**
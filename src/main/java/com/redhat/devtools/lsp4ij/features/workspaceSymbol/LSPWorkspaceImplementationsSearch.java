@@ -28,13 +28,17 @@ import com.redhat.devtools.lsp4ij.client.indexing.ProjectIndexingManager;
 import com.redhat.devtools.lsp4ij.features.LSPPsiElementFactory;
 import com.redhat.devtools.lsp4ij.features.implementation.LSPImplementationParams;
 import com.redhat.devtools.lsp4ij.features.implementation.LSPImplementationSupport;
+import com.redhat.devtools.lsp4ij.features.progress.LSPPartialResultCollector;
 import com.redhat.devtools.lsp4ij.ui.LSP4IJUiUtils;
 import com.redhat.devtools.lsp4ij.usages.LocationData;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -94,10 +98,26 @@ public class LSPWorkspaceImplementationsSearch extends QueryExecutorBase<PsiElem
                 LSPIJUtils.toPosition(offset, document),
                 offset
         );
+        // Process the implementations as soon as they are reported by the language servers (partial results)
+        LSPPartialResultCollector<LocationData> collector = new LSPPartialResultCollector<>();
+        params.setResultConsumer(collector);
         LSPImplementationSupport implementationSupport = LSPFileSupport.getSupport(file).getImplementationSupport();
         CompletableFuture<List<LocationData>> implementationsFuture = implementationSupport.getImplementations(params);
+        Set<LocationData> processed = Collections.newSetFromMap(new IdentityHashMap<>());
         try {
-            waitUntilDone(implementationsFuture, file);
+            boolean completed = collector.processUntilDone(implementationsFuture, implementations -> {
+                for (LocationData implementation : implementations) {
+                    if (processed.add(implementation) && !processImplementation(implementation, consumer, project)) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+            if (!completed) {
+                // The consumer doesn't need more implementations, cancel the LSP requests textDocument/implementation
+                implementationSupport.cancel();
+                return;
+            }
         } catch (ProcessCanceledException ex) {
             // cancel the LSP requests textDocument/implementation
             implementationSupport.cancel();
@@ -114,13 +134,20 @@ public class LSPWorkspaceImplementationsSearch extends QueryExecutorBase<PsiElem
                 // No implementations found
                 LSP4IJUiUtils.showErrorHint(file, CodeInsightBundle.message("goto.implementation.notFound"));
             } else {
-                // textDocument/implementations has been collected correctly
+                // textDocument/implementations has been collected correctly,
+                // process the implementations which have not been streamed (ex : the future was already loaded)
                 for (LocationData implementation : implementations) {
-                    if (!consumer.process(LSPPsiElementFactory.toPsiElement(implementation.location(), implementation.languageServer().getClientFeatures(), project))) {
+                    if (processed.add(implementation) && !processImplementation(implementation, consumer, project)) {
                         return;
                     }
                 }
             }
         }
     }
+
+    private static boolean processImplementation(@NotNull LocationData implementation,
+                                                 @NotNull Processor<? super PsiElement> consumer,
+                                                 @NotNull Project project) {
+        return consumer.process(LSPPsiElementFactory.toPsiElement(implementation.location(), implementation.languageServer().getClientFeatures(), project));
+    }
 }
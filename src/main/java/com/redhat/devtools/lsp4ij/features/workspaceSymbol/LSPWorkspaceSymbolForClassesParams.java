@@ -48,4 +48,9 @@ public class LSPWorkspaceSymbolForClassesParams extends LSPWorkspaceSymbolParams
     public boolean accept(SymbolInformation symbol) {
         return (symbol != null) && TYPE_SYMBOL_KINDS.contains(symbol.getKind());
     }
+
+    @Override
+    public boolean accept(@NotNull SymbolKind kind) {
+        return TYPE_SYMBOL_KINDS.contains(kind);
+    }
 }
\ No newline at end of file
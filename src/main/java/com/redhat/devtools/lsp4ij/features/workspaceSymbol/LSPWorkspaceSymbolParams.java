@@ -12,19 +12,40 @@ package com.redhat.devtools.lsp4ij.features.workspaceSymbol;
 
 import com.redhat.devtools.lsp4ij.client.features.LSPWorkspaceSymbolFeature;
 import org.eclipse.lsp4j.SymbolInformation;
+import org.eclipse.lsp4j.SymbolKind;
 import org.eclipse.lsp4j.WorkspaceSymbol;
 import org.eclipse.lsp4j.WorkspaceSymbolParams;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Extension of {@link WorkspaceSymbolParams} that includes additional parameters specific to LSP4IJ.
  */
 public class LSPWorkspaceSymbolParams extends WorkspaceSymbolParams {
 
+    // Use transient to avoid serializing the fields when GSON will be processed
+    private transient @Nullable Consumer<List<WorkspaceSymbolData>> resultConsumer;
+
     LSPWorkspaceSymbolParams(@NotNull String query) {
         super(query);
     }
 
+    /**
+     * Returns the consumer of the symbols reported as soon as they are available (partial results) and null otherwise.
+     *
+     * @return the consumer of the symbols reported as soon as they are available (partial results) and null otherwise.
+     */
+    public @Nullable Consumer<List<WorkspaceSymbolData>> getResultConsumer() {
+        return resultConsumer;
+    }
+
+    public void setResultConsumer(@Nullable Consumer<List<WorkspaceSymbolData>> resultConsumer) {
+        this.resultConsumer = resultConsumer;
+    }
+
     public boolean canSupport(@NotNull LSPWorkspaceSymbolFeature feature) {
         return true;
     }
@@ -48,4 +69,15 @@ public class LSPWorkspaceSymbolParams extends WorkspaceSymbolParams {
     public boolean accept(SymbolInformation symbol) {
         return true;
     }
+
+    /**
+     * Determines whether or not a symbol of the provided kind, coming from the workspace symbol index,
+     * should be included in the contributor's symbol list.
+     *
+     * @param kind the symbol kind
+     * @return true if the symbol should be include; otherwise false
+     */
+    public boolean accept(@NotNull SymbolKind kind) {
+        return true;
+    }
 }
\ No newline at end of file
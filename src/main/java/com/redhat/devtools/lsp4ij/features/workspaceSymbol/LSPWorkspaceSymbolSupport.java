@@ -15,11 +15,15 @@ import com.redhat.devtools.lsp4ij.LSPRequestConstants;
 import com.redhat.devtools.lsp4ij.LanguageServerItem;
 import com.redhat.devtools.lsp4ij.client.features.FileUriSupport;
 import com.redhat.devtools.lsp4ij.features.AbstractLSPWorkspaceFeatureSupport;
+import com.redhat.devtools.lsp4ij.features.progress.LSPPartialResultSupport;
+import com.redhat.devtools.lsp4ij.features.workspaceSymbol.index.LSPWorkspaceSymbolIndex;
 import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
 import com.redhat.devtools.lsp4ij.internal.CompletableFutures;
 import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4j.SymbolKind;
 import org.eclipse.lsp4j.WorkspaceSymbol;
+import org.eclipse.lsp4j.WorkspaceSymbolParams;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
@@ -78,34 +82,57 @@ public class LSPWorkspaceSymbolSupport extends AbstractLSPWorkspaceFeatureSuppor
                                                                                       @NotNull LanguageServerItem languageServer,
                                                                                       @NotNull CancellationSupport cancellationSupport,
                                                                                       @NotNull Project project) {
-        return cancellationSupport.execute(languageServer
-                        .getWorkspaceService()
-                        .symbol(params), languageServer, LSPRequestConstants.WORKSPACE_SYMBOL)
-                .thenApplyAsync(symbols -> {
-                    if (symbols == null) {
-                        // workspace/symbol may return null
-                        return null;
-                    }
-                    List<WorkspaceSymbolData> items = new ArrayList<>();
-                    if (symbols.isLeft()) {
-                        List<? extends SymbolInformation> s = symbols.getLeft();
-                        for (var si : s) {
-                            if (params.accept(si)) {
-                                items.add(new WorkspaceSymbolData(
-                                        si.getName(), si.getKind(), si.getLocation(), languageServer.getClientFeatures(), project));
-                            }
-                        }
-                    } else if (symbols.isRight()) {
-                        List<? extends WorkspaceSymbol> ws = symbols.getRight();
-                        for (var si : ws) {
-                            if (params.accept(si)) {
-                                WorkspaceSymbolData item = createItem(si, languageServer.getClientFeatures(),project);
-                                items.add(item);
+        // The language server has its own parameters since they host the partial result token
+        // and are serialized asynchronously when the request is sent
+        var workspaceSymbolParams = new WorkspaceSymbolParams(params.getQuery());
+        // Report the symbols as soon as they are available if the language server supports partial results
+        return LSPPartialResultSupport.execute(workspaceSymbolParams,
+                languageServer,
+                () -> cancellationSupport.execute(languageServer
+                                .getWorkspaceService()
+                                .symbol(workspaceSymbolParams), languageServer, LSPRequestConstants.WORKSPACE_SYMBOL)
+                        .thenApplyAsync(symbols -> {
+                            if (symbols == null) {
+                                // workspace/symbol may return null
+                                return null;
                             }
-                        }
-                    }
-                    return items;
-                });
+                            return toWorkspaceSymbolData(symbols, params, false, languageServer, project);
+                        }),
+                partialResult -> toWorkspaceSymbolData(LSPPartialResultSupport.toWorkspaceSymbols(partialResult), params, true, languageServer, project),
+                params.getResultConsumer());
+    }
+
+    private static @NotNull List<WorkspaceSymbolData> toWorkspaceSymbolData(@NotNull Either<List<? extends SymbolInformation>, List<? extends WorkspaceSymbol>> symbols,
+                                                                            @NotNull LSPWorkspaceSymbolParams params,
+                                                                            boolean partialResult,
+                                                                            @NotNull LanguageServerItem languageServer,
+                                                                            @NotNull Project project) {
+        if (languageServer.getClientFeatures().getWorkspaceSymbolFeature().isSymbolIndexEnabled()) {
+            // Store the symbols in the workspace symbol index, a partial result doesn't contain all the symbols
+            // of its files matching the query, so it cannot evict the indexed symbols
+            LSPWorkspaceSymbolIndex.getInstance(project)
+                    .indexWorkspaceSymbols(symbols, languageServer.getServerDefinition().getId(),
+                            partialResult ? null : params.getQuery());
+        }
+        List<WorkspaceSymbolData> items = new ArrayList<>();
+        if (symbols.isLeft()) {
+            List<? extends SymbolInformation> s = symbols.getLeft();
+            for (var si : s) {
+                if (params.accept(si)) {
+                    items.add(new WorkspaceSymbolData(
+                            si.getName(), si.getKind(), si.getLocation(), languageServer.getClientFeatures(), project));
+                }
+            }
+        } else if (symbols.isRight()) {
+            List<? extends WorkspaceSymbol> ws = symbols.getRight();
+            for (var si : ws) {
+                if (params.accept(si)) {
+                    WorkspaceSymbolData item = createItem(si, languageServer.getClientFeatures(),project);
+                    items.add(item);
+                }
+            }
+        }
+        return items;
     }
 
     private static WorkspaceSymbolData createItem(WorkspaceSymbol si,
@@ -99,6 +99,14 @@ public class WorkspaceSymbolData implements NavigationItem {
         return symbolKind;
     }
 
+    public String getFileUri() {
+        return fileUri;
+    }
+
+    public @Nullable Position getPosition() {
+        return position;
+    }
+
     @Override
     public @Nullable @NlsSafe String getName() {
         return presentation.name();
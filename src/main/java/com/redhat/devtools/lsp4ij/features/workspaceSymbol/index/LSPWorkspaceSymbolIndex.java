@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.workspaceSymbol.index;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.redhat.devtools.lsp4ij.features.workspaceSymbol.index.WorkspaceSymbolIndexStore.IndexedSymbol;
+import org.eclipse.lsp4j.*;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Project-level workspace symbol index persisted in the IDE system directory.
+ *
+ * <p>
+ * The index is fed by:
+ * <ul>
+ *     <li>the LSP 'workspace/symbol' responses.</li>
+ *     <li>the LSP 'textDocument/documentSymbol' responses of opened files.</li>
+ * </ul>
+ * and the symbols of a file are invalidated when a 'workspace/didChangeWatchedFiles' notification is sent for this file.
+ * </p>
+ *
+ * <p>
+ * The index is loaded in background when the service is created, and saved when the project is closed. It is used by
+ * Go to Symbol / Go to Class to answer locally before the language servers answer.
+ * </p>
+ */
+@ApiStatus.Internal
+public class LSPWorkspaceSymbolIndex implements Disposable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LSPWorkspaceSymbolIndex.class);
+
+    private final @NotNull Project project;
+    private final @NotNull WorkspaceSymbolIndexStore store;
+    private volatile boolean loaded;
+
+    public static LSPWorkspaceSymbolIndex getInstance(@NotNull Project project) {
+        return project.getService(LSPWorkspaceSymbolIndex.class);
+    }
+
+    private LSPWorkspaceSymbolIndex(@NotNull Project project) {
+        this.project = project;
+        this.store = new WorkspaceSymbolIndexStore();
+        AppExecutorUtil.getAppExecutorService().execute(this::load);
+    }
+
+    /**
+     * Index the symbols of the given 'workspace/symbol' response.
+     * <p>
+     * When the query is given, the symbols of each file of the response replace the symbols of this file
+     * which were indexed for the language server and which match the query, so that the symbols
+     * which have been renamed or deleted since they have been indexed are evicted.
+     *
+     * @param symbols  the 'workspace/symbol' response.
+     * @param serverId the language server id.
+     * @param query    the 'workspace/symbol' query and null if the symbols must only be added
+     *                 (ex : partial result, which doesn't contain all the symbols of a file).
+     */
+    public void indexWorkspaceSymbols(@Nullable Either<List<? extends SymbolInformation>, List<? extends WorkspaceSymbol>> symbols,
+                                      @NotNull String serverId,
+                                      @Nullable String query) {
+        if (symbols == null) {
+            return;
+        }
+        List<IndexedSymbol> indexedSymbols = new ArrayList<>();
+        if (symbols.isLeft()) {
+            for (var si : symbols.getLeft()) {
+                if (si != null && si.getLocation() != null) {
+                    addSymbol(si.getName(), si.getKind(), si.getLocation().getUri(), si.getLocation().getRange(), serverId, indexedSymbols);
+                }
+            }
+        } else if (symbols.isRight()) {
+            for (var ws : symbols.getRight()) {
+                if (ws != null && ws.getLocation() != null) {
+                    if (ws.getLocation().isLeft()) {
+                        var location = ws.getLocation().getLeft();
+                        addSymbol(ws.getName(), ws.getKind(), location.getUri(), location.getRange(), serverId, indexedSymbols);
+                    } else {
+                        addSymbol(ws.getName(), ws.getKind(), ws.getLocation().getRight().getUri(), null, serverId, indexedSymbols);
+                    }
+                }
+            }
+        }
+        if (query == null) {
+            store.addSymbols(indexedSymbols);
+            return;
+        }
+        Map<String, List<IndexedSymbol>> symbolsByFile = new HashMap<>();
+        for (var symbol : indexedSymbols) {
+            symbolsByFile.computeIfAbsent(symbol.getFileUri(), k -> new ArrayList<>()).add(symbol);
+        }
+        for (var entry : symbolsByFile.entrySet()) {
+            store.replaceMatchingFileSymbols(entry.getKey(), serverId, query, entry.getValue());
+        }
+    }
+
+    /**
+     * Replace the indexed symbols of the given file with the symbols of the given 'textDocument/documentSymbol' response.
+     *
+     * @param fileUri  the file Uri.
+     * @param symbols  the 'textDocument/documentSymbol' response.
+     * @param serverId the language server id.
+     */
+    public void indexDocumentSymbols(@NotNull String fileUri,
+                                     @Nullable List<Either<SymbolInformation, DocumentSymbol>> symbols,
+                                     @NotNull String serverId) {
+        List<IndexedSymbol> indexedSymbols = new ArrayList<>();
+        if (symbols != null) {
+            for (var symbol : symbols) {
+                if (symbol == null) {
+                    continue;
+                }
+                if (symbol.isLeft()) {
+                    var si = symbol.getLeft();
+                    addSymbol(si.getName(), si.getKind(), fileUri, si.getLocation() != null ? si.getLocation().getRange() : null, serverId, indexedSymbols);
+                } else {
+                    addDocumentSymbol(symbol.getRight(), fileUri, serverId, indexedSymbols);
+                }
+            }
+        }
+        store.replaceFileSymbols(fileUri, serverId, indexedSymbols);
+    }
+
+    private static void addDocumentSymbol(@NotNull DocumentSymbol symbol,
+                                          @NotNull String fileUri,
+                                          @NotNull String serverId,
+                                          @NotNull List<IndexedSymbol> indexedSymbols) {
+        // The symbol is anchored to the start of its range like the location of a 'workspace/symbol' symbol,
+        // so that the same symbol reported by both requests is deduplicated by Go to Symbol / Go to Class
+        addSymbol(symbol.getName(), symbol.getKind(), fileUri, symbol.getRange(), serverId, indexedSymbols);
+        if (symbol.getChildren() == null || isCallable(symbol.getKind())) {
+            // Local symbols of functions/methods are not workspace symbols
+            return;
+        }
+        for (var child : symbol.getChildren()) {
+            if (child != null) {
+                addDocumentSymbol(child, fileUri, serverId, indexedSymbols);
+            }
+        }
+    }
+
+    private static boolean isCallable(@Nullable SymbolKind kind) {
+        return kind == SymbolKind.Function || kind == SymbolKind.Method || kind == SymbolKind.Constructor;
+    }
+
+    private static void addSymbol(@Nullable String name,
+                                  @Nullable SymbolKind kind,
+                                  @Nullable String fileUri,
+                                  @Nullable Range range,
+                                  @NotNull String serverId,
+                                  @NotNull List<IndexedSymbol> indexedSymbols) {
+        if (name == null || name.isEmpty() || kind == null || fileUri == null) {
+            return;
+        }
+        int line = range != null ? range.getStart().getLine() : -1;
+        int character = range != null ? range.getStart().getCharacter() : -1;
+        indexedSymbols.add(new IndexedSymbol(name, kind.getValue(), fileUri, line, character, serverId));
+    }
+
+    /**
+     * Invalidate the indexed symbols of the files of the given 'workspace/didChangeWatchedFiles' events.
+     *
+     * @param changes the file events.
+     */
+    public void invalidate(@NotNull List<FileEvent> changes) {
+        for (var change : changes) {
+            if (change.getUri() != null) {
+                store.removeFile(change.getUri());
+            }
+        }
+    }
+
+    /**
+     * Returns the names of the indexed symbols which match the given pattern.
+     *
+     * @param pattern the pattern.
+     * @param filter  the symbol filter.
+     * @return the names of the indexed symbols which match the given pattern.
+     */
+    public @NotNull Set<String> findNames(@NotNull String pattern,
+                                          @NotNull Predicate<IndexedSymbol> filter) {
+        if (!loaded) {
+            return Collections.emptySet();
+        }
+        return store.findNames(pattern, filter);
+    }
+
+    /**
+     * Returns the indexed symbols with the given name.
+     *
+     * @param name   the symbol name.
+     * @param filter the symbol filter.
+     * @return the indexed symbols with the given name.
+     */
+    public @NotNull List<IndexedSymbol> findByName(@NotNull String name,
+                                                   @NotNull Predicate<IndexedSymbol> filter) {
+        if (!loaded) {
+            return Collections.emptyList();
+        }
+        return store.findByName(name, filter);
+    }
+
+    @Override
+    public void dispose() {
+        save();
+    }
+
+    private void load() {
+        Path indexFile = getIndexFile();
+        try {
+            if (Files.exists(indexFile)) {
+                try (var in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(indexFile))))) {
+                    // The symbols indexed while loading are kept (they are more recent than the persisted ones)
+                    WorkspaceSymbolIndexStore persisted = new WorkspaceSymbolIndexStore();
+                    persisted.read(in);
+                    store.addMissingFiles(persisted);
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Error while loading the workspace symbol index '" + indexFile + "'", e);
+        } finally {
+            loaded = true;
+        }
+    }
+
+    private void save() {
+        if (!loaded || !store.isDirty()) {
+            return;
+        }
+        Path indexFile = getIndexFile();
+        try {
+            Files.createDirectories(indexFile.getParent());
+            Path tempFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+            try (var out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(tempFile))))) {
+                store.write(out);
+            }
+            Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (Exception e) {
+            LOGGER.warn("Error while saving the workspace symbol index '" + indexFile + "'", e);
+        }
+    }
+
+    private @NotNull Path getIndexFile() {
+        return Path.of(PathManager.getSystemPath(), "lsp4ij", "workspace-symbols", project.getLocationHash() + ".idx");
+    }
+}
@@ -0,0 +1,403 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.workspaceSymbol.index;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * In-memory workspace symbol index which can be written to / read from a binary stream.
+ *
+ * <p>
+ * Symbols are stored by file Uri (to replace / invalidate the symbols of a file) and by name
+ * (to answer 'processElementsWithName' of Go to Symbol). Each symbol stores a 64 bits mask of the characters
+ * of its name which is used to quickly skip the symbols which cannot match a query before doing
+ * the (case-insensitive) subsequence match.
+ * </p>
+ */
+@ApiStatus.Internal
+public class WorkspaceSymbolIndexStore {
+
+    private static final int MAGIC = 0x4C535049; // LSPI
+    private static final int FORMAT_VERSION = 2;
+
+    /**
+     * Indexed symbol.
+     */
+    public static final class IndexedSymbol {
+
+        private final @NotNull String name;
+        private final int kind;
+        private final @NotNull String fileUri;
+        private final int line;
+        private final int character;
+        private final @NotNull String serverId;
+        private final long nameMask;
+
+        public IndexedSymbol(@NotNull String name,
+                             int kind,
+                             @NotNull String fileUri,
+                             int line,
+                             int character,
+                             @NotNull String serverId) {
+            this.name = name;
+            this.kind = kind;
+            this.fileUri = fileUri;
+            this.line = line;
+            this.character = character;
+            this.serverId = serverId;
+            this.nameMask = computeMask(name);
+        }
+
+        public @NotNull String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the LSP symbol kind value.
+         *
+         * @return the LSP symbol kind value.
+         */
+        public int getKind() {
+            return kind;
+        }
+
+        public @NotNull String getFileUri() {
+            return fileUri;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        public int getCharacter() {
+            return character;
+        }
+
+        public @NotNull String getServerId() {
+            return serverId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof IndexedSymbol that)) return false;
+            return kind == that.kind && line == that.line && character == that.character &&
+                    name.equals(that.name) && fileUri.equals(that.fileUri) && serverId.equals(that.serverId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, kind, fileUri, line, character, serverId);
+        }
+    }
+
+    private final Map<String /* file Uri */, Set<IndexedSymbol>> symbolsByFile = new HashMap<>();
+    private final Map<String /* symbol name */, List<IndexedSymbol>> symbolsByName = new HashMap<>();
+    private int size;
+    private boolean dirty;
+
+    /**
+     * Add the given symbols (coming from a 'workspace/symbol' response) to the index if they are not already indexed.
+     *
+     * @param symbols the symbols to add.
+     */
+    public synchronized void addSymbols(@NotNull Collection<IndexedSymbol> symbols) {
+        for (var symbol : symbols) {
+            var fileSymbols = symbolsByFile.computeIfAbsent(symbol.getFileUri(), k -> new LinkedHashSet<>());
+            if (fileSymbols.add(symbol)) {
+                symbolsByName.computeIfAbsent(symbol.getName(), k -> new ArrayList<>(1)).add(symbol);
+                size++;
+                dirty = true;
+            }
+        }
+    }
+
+    /**
+     * Replace the symbols of the given file which were indexed for the given language server
+     * with the given symbols (coming from a 'textDocument/documentSymbol' response).
+     *
+     * @param fileUri  the file Uri.
+     * @param serverId the language server id.
+     * @param symbols  the new symbols of the file.
+     */
+    public synchronized void replaceFileSymbols(@NotNull String fileUri,
+                                                @NotNull String serverId,
+                                                @NotNull Collection<IndexedSymbol> symbols) {
+        removeFileSymbols(fileUri, symbol -> serverId.equals(symbol.getServerId()));
+        addSymbols(symbols);
+    }
+
+    /**
+     * Replace the symbols of the given file which were indexed for the given language server and which match
+     * the given query with the given symbols (coming from a 'workspace/symbol' response for this query).
+     * <p>
+     * A 'workspace/symbol' response is filtered by the query, so only the indexed symbols that the language server
+     * would have returned for this query (symbols whose name contains the query, ignoring the case) are replaced.
+     *
+     * @param fileUri  the file Uri.
+     * @param serverId the language server id.
+     * @param query    the 'workspace/symbol' query.
+     * @param symbols  the symbols of the file returned for the query.
+     */
+    public synchronized void replaceMatchingFileSymbols(@NotNull String fileUri,
+                                                        @NotNull String serverId,
+                                                        @NotNull String query,
+                                                        @NotNull Collection<IndexedSymbol> symbols) {
+        String lowerCaseQuery = normalizePattern(query);
+        removeFileSymbols(fileUri, symbol -> serverId.equals(symbol.getServerId())
+                && symbol.getName().toLowerCase(Locale.ROOT).contains(lowerCaseQuery));
+        addSymbols(symbols);
+    }
+
+    /**
+     * Remove all symbols of the given file.
+     *
+     * @param fileUri the file Uri.
+     */
+    public synchronized void removeFile(@NotNull String fileUri) {
+        removeFileSymbols(fileUri, symbol -> true);
+    }
+
+    private void removeFileSymbols(@NotNull String fileUri, @NotNull Predicate<IndexedSymbol> filter) {
+        var fileSymbols = symbolsByFile.get(fileUri);
+        if (fileSymbols == null) {
+            return;
+        }
+        for (var it = fileSymbols.iterator(); it.hasNext(); ) {
+            var symbol = it.next();
+            if (filter.test(symbol)) {
+                it.remove();
+                var sameNameSymbols = symbolsByName.get(symbol.getName());
+                if (sameNameSymbols != null) {
+                    sameNameSymbols.remove(symbol);
+                    if (sameNameSymbols.isEmpty()) {
+                        symbolsByName.remove(symbol.getName());
+                    }
+                }
+                size--;
+                dirty = true;
+            }
+        }
+        if (fileSymbols.isEmpty()) {
+            symbolsByFile.remove(fileUri);
+        }
+    }
+
+    /**
+     * Add the symbols of the given index for the files which are not indexed by this index.
+     * This method is used to merge the persisted index with the symbols indexed while it was loading.
+     *
+     * @param other the other index.
+     */
+    public synchronized void addMissingFiles(@NotNull WorkspaceSymbolIndexStore other) {
+        boolean wasDirty = dirty;
+        List<IndexedSymbol> symbols = new ArrayList<>();
+        synchronized (other) {
+            for (var entry : other.symbolsByFile.entrySet()) {
+                if (!symbolsByFile.containsKey(entry.getKey())) {
+                    symbols.addAll(entry.getValue());
+                }
+            }
+        }
+        addSymbols(symbols);
+        dirty = wasDirty;
+    }
+
+    /**
+     * Returns the names of the indexed symbols which match the given pattern.
+     *
+     * <p>
+     * A name matches when it contains all characters of the pattern in the same order (case-insensitive),
+     * which is a superset of the IntelliJ 'Go to Symbol' matching, the final matching being done by the IDE.
+     * </p>
+     *
+     * @param pattern the pattern typed by the user.
+     * @param filter  the symbol filter.
+     * @return the names of the indexed symbols which match the given pattern.
+     */
+    public synchronized @NotNull Set<String> findNames(@NotNull String pattern,
+                                                       @NotNull Predicate<IndexedSymbol> filter) {
+        String query = normalizePattern(pattern);
+        long queryMask = computeMask(query);
+        Set<String> names = new LinkedHashSet<>();
+        for (var entry : symbolsByName.entrySet()) {
+            String name = entry.getKey();
+            var symbols = entry.getValue();
+            if (symbols.isEmpty() || (symbols.get(0).nameMask & queryMask) != queryMask) {
+                continue;
+            }
+            if (isSubsequence(query, name)) {
+                for (var symbol : symbols) {
+                    if (filter.test(symbol)) {
+                        names.add(name);
+                        break;
+                    }
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Returns the indexed symbols with the given name.
+     *
+     * @param name   the symbol name.
+     * @param filter the symbol filter.
+     * @return the indexed symbols with the given name.
+     */
+    public synchronized @NotNull List<IndexedSymbol> findByName(@NotNull String name,
+                                                                @NotNull Predicate<IndexedSymbol> filter) {
+        var symbols = symbolsByName.get(name);
+        if (symbols == null) {
+            return Collections.emptyList();
+        }
+        return symbols.stream()
+                .filter(filter)
+                .toList();
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized boolean isDirty() {
+        return dirty;
+    }
+
+    public synchronized void clear() {
+        if (size > 0) {
+            dirty = true;
+        }
+        symbolsByFile.clear();
+        symbolsByName.clear();
+        size = 0;
+    }
+
+    /**
+     * Write the index in the given output and mark the index as not dirty.
+     *
+     * @param out the output.
+     * @throws IOException if an I/O error occurs.
+     */
+    public synchronized void write(@NotNull DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        // Server ids table
+        List<String> serverIds = new ArrayList<>();
+        Map<String, Integer> serverIdIndexes = new HashMap<>();
+        for (var fileSymbols : symbolsByFile.values()) {
+            for (var symbol : fileSymbols) {
+                serverIdIndexes.computeIfAbsent(symbol.getServerId(), id -> {
+                    serverIds.add(id);
+                    return serverIds.size() - 1;
+                });
+            }
+        }
+        out.writeInt(serverIds.size());
+        for (var serverId : serverIds) {
+            out.writeUTF(serverId);
+        }
+        // Symbols grouped by file
+        out.writeInt(symbolsByFile.size());
+        for (var entry : symbolsByFile.entrySet()) {
+            out.writeUTF(entry.getKey());
+            var fileSymbols = entry.getValue();
+            out.writeInt(fileSymbols.size());
+            for (var symbol : fileSymbols) {
+                out.writeUTF(symbol.getName());
+                out.writeByte(symbol.getKind());
+                out.writeInt(symbol.getLine());
+                out.writeInt(symbol.getCharacter());
+                out.writeShort(serverIdIndexes.get(symbol.getServerId()));
+            }
+        }
+        dirty = false;
+    }
+
+    /**
+     * Replace the content of this index with the content of the given input.
+     *
+     * @param in the input.
+     * @throws IOException if an I/O error occurs or if the format is not supported.
+     */
+    public synchronized void read(@NotNull DataInput in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+            throw new IOException("Unsupported workspace symbol index format");
+        }
+        int serverIdsCount = in.readInt();
+        String[] serverIds = new String[serverIdsCount];
+        for (int i = 0; i < serverIdsCount; i++) {
+            serverIds[i] = in.readUTF();
+        }
+        List<IndexedSymbol> symbols = new ArrayList<>();
+        int filesCount = in.readInt();
+        for (int i = 0; i < filesCount; i++) {
+            String fileUri = in.readUTF();
+            int symbolsCount = in.readInt();
+            for (int j = 0; j < symbolsCount; j++) {
+                String name = in.readUTF();
+                int kind = in.readUnsignedByte();
+                int line = in.readInt();
+                int character = in.readInt();
+                String serverId = serverIds[in.readUnsignedShort()];
+                symbols.add(new IndexedSymbol(name, kind, fileUri, line, character, serverId));
+            }
+        }
+        clear();
+        addSymbols(symbols);
+        dirty = false;
+    }
+
+    private static @NotNull String normalizePattern(@NotNull String pattern) {
+        StringBuilder query = new StringBuilder(pattern.length());
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c != '*' && !Character.isWhitespace(c)) {
+                query.append(Character.toLowerCase(c));
+            }
+        }
+        return query.toString();
+    }
+
+    private static boolean isSubsequence(@NotNull String lowerCaseQuery, @NotNull String name) {
+        int j = 0;
+        for (int i = 0; i < name.length() && j < lowerCaseQuery.length(); i++) {
+            if (Character.toLowerCase(name.charAt(i)) == lowerCaseQuery.charAt(j)) {
+                j++;
+            }
+        }
+        return j == lowerCaseQuery.length();
+    }
+
+    private static long computeMask(@NotNull String text) {
+        long mask = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int bit;
+            if (c >= 'a' && c <= 'z') {
+                bit = c - 'a';
+            } else if (c >= '0' && c <= '9') {
+                bit = 26 + (c - '0');
+            } else {
+                bit = 36 + (c % 28);
+            }
+            mask |= 1L << bit;
+        }
+        return mask;
+    }
+}
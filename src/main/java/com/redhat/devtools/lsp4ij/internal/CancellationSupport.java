@@ -16,6 +16,7 @@ import com.intellij.notification.NotificationType;
 import com.intellij.notification.Notifications;
 import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.redhat.devtools.lsp4ij.LSP4IJWebsiteUrlConstants;
 import com.redhat.devtools.lsp4ij.LanguageServerItem;
 import com.redhat.devtools.lsp4ij.ServerMessageHandler;
@@ -57,10 +58,24 @@ public class CancellationSupport implements CancelChecker {
 
     private final List<CompletableFuture<?>> futuresToCancel;
 
+    // The file of the document which cancels the LSP requests when it is modified and null otherwise.
+    private final @Nullable VirtualFile file;
+
     private boolean cancelled;
 
     public CancellationSupport() {
+        this(null);
+    }
+
+    /**
+     * Cancellation support for LSP requests which are stale when the given document is modified.
+     *
+     * @param file the file of the document which cancels the LSP requests (with '$/cancelRequest') when a new version
+     *             is sent to the language server and null otherwise.
+     */
+    public CancellationSupport(@Nullable VirtualFile file) {
         this.futuresToCancel = new CopyOnWriteArrayList<>();
+        this.file = file;
         this.cancelled = false;
     }
 
@@ -114,6 +129,8 @@ public class CancellationSupport implements CancelChecker {
             this.futuresToCancel.add(future);
             if (languageServer != null) {
                 // It is an LSP request (ex : textDocument/completion)
+                // Track the LSP request to cancel it when it becomes stale and to count the wasted server work
+                languageServer.getServerWrapper().getRequestRegistry().register(future, featureName, file);
                 // Handle the LSP request response to show LSP error (ResponseErrorException) in an IJ notification
                 // In this error case, the future will return null as response instead of throwing the ResponseErrorException error
                 // to avoid breaking the LSP request response of another language server (when file is associated to several language servers)
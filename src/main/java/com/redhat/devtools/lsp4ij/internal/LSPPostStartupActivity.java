@@ -18,6 +18,7 @@ import com.intellij.openapi.project.DumbAware;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.startup.ProjectActivity;
 import com.redhat.devtools.lsp4ij.internal.telemetry.TelemetryManager;
+import com.redhat.devtools.lsp4ij.lifecycle.LanguageServerWarmupManager;
 import kotlin.Unit;
 import kotlin.coroutines.Continuation;
 import org.jetbrains.annotations.NotNull;
@@ -25,7 +26,7 @@ import org.jetbrains.annotations.Nullable;
 
 
 /**
- * Initializes the Telemetry service once the project is opened
+ * Initializes the Telemetry service and warms up the language servers used in the previous session once the project is opened
  */
 public class LSPPostStartupActivity implements ProjectActivity, DumbAware {
 
@@ -37,6 +38,8 @@ public class LSPPostStartupActivity implements ProjectActivity, DumbAware {
             // we register a LanguageServerDefinitionListener to the LanguageServersRegistry,
             // to report telemetry events for added/removed LanguageServerDefinition.
             TelemetryManager.instance().initialize();
+            // Start in background the language servers used in the previous session
+            LanguageServerWarmupManager.getInstance(project).warmUp();
         }
         return null;
     }
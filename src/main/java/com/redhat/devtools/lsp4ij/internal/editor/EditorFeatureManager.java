@@ -16,10 +16,14 @@ import com.intellij.openapi.Disposable;
 import com.intellij.openapi.application.ModalityState;
 import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.fileEditor.FileEditorManagerEvent;
+import com.intellij.openapi.fileEditor.FileEditorManagerListener;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Key;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
+import com.intellij.util.Alarm;
 import com.intellij.util.concurrency.AppExecutorUtil;
 import com.redhat.devtools.lsp4ij.LSPFileSupport;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
@@ -38,9 +42,15 @@ import java.util.concurrent.CompletableFuture;
  *     <li>refresh 'Code Visions' from a given editor.</li>
  *     <li>refresh 'Inlay Hints'  from a given editor.</li>
  *     <li>refresh 'Folding' from a given editor.</li>
+ *     <li>refresh 'Semantic Tokens' from a given editor.</li>
  * </ul>
  * <p>
  * As IntelliJ doesn't provide some API to refresh those visible feature, we need to use Java reflection.
+ * <p>
+ * Refreshes requested with {@link #scheduleRefresh(VirtualFile, Set, boolean)} (ex : 'workspace/codeLens/refresh',
+ * 'workspace/inlayHint/refresh') are coalesced by file during a short delay: the files displayed in a selected editor
+ * are refreshed with one daemon code analyzer restart per file, and the refresh of the other opened files is deferred
+ * until they are selected.
  */
 @ApiStatus.Internal
 public class EditorFeatureManager implements Disposable {
@@ -48,10 +58,36 @@ public class EditorFeatureManager implements Disposable {
     record RefreshEditorFeatureContext(@NotNull PsiFile file, @NotNull List<Runnable> runnables) {
     }
 
+    // Delay used to coalesce the refresh requests of a file
+    private static final int REFRESH_COALESCE_DELAY = 100;
+
+    /**
+     * Pending refresh of a file.
+     */
+    private static class PendingRefresh {
+
+        // the feature types to refresh
+        private final Set<EditorFeatureType> featureTypes = EnumSet.noneOf(EditorFeatureType.class);
+        // the feature types for which LSP cache must be evicted
+        private final Set<EditorFeatureType> clearLSPCacheFeatureTypes = EnumSet.noneOf(EditorFeatureType.class);
+
+        void merge(@NotNull Set<EditorFeatureType> featureTypes, @NotNull Set<EditorFeatureType> clearLSPCacheFeatureTypes) {
+            this.featureTypes.addAll(featureTypes);
+            this.clearLSPCacheFeatureTypes.addAll(clearLSPCacheFeatureTypes);
+        }
+    }
+
     private final @NotNull Project project;
 
     private final Map<EditorFeatureType, EditorFeature> editorFeatures;
 
+    // Refreshes which will be processed at the end of the coalesce delay
+    private final Map<VirtualFile, PendingRefresh> pendingRefreshes = new LinkedHashMap<>();
+    // Refreshes of opened files which are not displayed, processed when the file is selected
+    private final Map<VirtualFile, PendingRefresh> deferredRefreshes = new HashMap<>();
+    private final @NotNull Alarm refreshAlarm;
+    private boolean refreshScheduled;
+
     private EditorFeatureManager(@NotNull Project project) {
         this.project = project;
         this.editorFeatures = new LinkedHashMap<>();
@@ -59,6 +95,26 @@ public class EditorFeatureManager implements Disposable {
         addEditorFeature(new FoldingEditorFeature());
         addEditorFeature(new InlayHintsEditorFeature());
         addEditorFeature(new DeclarativeInlayHintsEditorFeature());
+        addEditorFeature(new SemanticTokensEditorFeature());
+        this.refreshAlarm = new Alarm(Alarm.ThreadToUse.POOLED_THREAD, this);
+        project.getMessageBus().connect(this).subscribe(FileEditorManagerListener.FILE_EDITOR_MANAGER, new FileEditorManagerListener() {
+            @Override
+            public void selectionChanged(@NotNull FileEditorManagerEvent event) {
+                VirtualFile file = event.getNewFile();
+                if (file != null) {
+                    refreshDeferred(file);
+                }
+            }
+
+            @Override
+            public void fileClosed(@NotNull FileEditorManager source, @NotNull VirtualFile file) {
+                if (!source.isFileOpen(file)) {
+                    synchronized (EditorFeatureManager.this) {
+                        deferredRefreshes.remove(file);
+                    }
+                }
+            }
+        });
     }
 
     private void addEditorFeature(EditorFeature editorFeature) {
@@ -106,6 +162,92 @@ public class EditorFeatureManager implements Disposable {
                                      @Nullable VirtualFile file,
                                      @NotNull EditorFeatureType featureType,
                                      boolean clearLSPCache) {
+        Set<EditorFeatureType> featureTypes = toFeatureTypes(featureType);
+        refreshEditorFeatures(psiFile, file, featureTypes, clearLSPCache ? featureTypes : Collections.emptySet());
+    }
+
+    /**
+     * Schedule the refresh of IntelliJ editor features (code visions, inlay hints, folding, etc) of the given file.
+     *
+     * <p>
+     * The refreshes scheduled for the same file during a short delay are coalesced. If the file is opened but not
+     * displayed in a selected editor, the LSP cache is evicted and the editor refresh is deferred until the file is selected.
+     * </p>
+     *
+     * @param file          the file opened in one or several editors.
+     * @param featureTypes  the feature types to refresh (code visions, inlay hints, folding, etc, or all)
+     * @param clearLSPCache true if LSP feature data cache (ex : LSP CodeLens) must be evicted and false otherwise.
+     */
+    public void scheduleRefresh(@NotNull VirtualFile file,
+                                @NotNull Set<EditorFeatureType> featureTypes,
+                                boolean clearLSPCache) {
+        Set<EditorFeatureType> types = EnumSet.noneOf(EditorFeatureType.class);
+        featureTypes.forEach(featureType -> types.addAll(toFeatureTypes(featureType)));
+        synchronized (this) {
+            pendingRefreshes.computeIfAbsent(file, f -> new PendingRefresh())
+                    .merge(types, clearLSPCache ? types : Collections.emptySet());
+            if (refreshScheduled) {
+                // The refresh will be processed with the other pending refreshes
+                return;
+            }
+            refreshScheduled = true;
+        }
+        refreshAlarm.addRequest(this::processPendingRefreshes, REFRESH_COALESCE_DELAY);
+    }
+
+    private void processPendingRefreshes() {
+        Map<VirtualFile, PendingRefresh> refreshes;
+        synchronized (this) {
+            refreshes = new LinkedHashMap<>(pendingRefreshes);
+            pendingRefreshes.clear();
+            refreshScheduled = false;
+        }
+        if (project.isDisposed()) {
+            return;
+        }
+        FileEditorManager fileEditorManager = FileEditorManager.getInstance(project);
+        Set<VirtualFile> selectedFiles = Set.of(fileEditorManager.getSelectedFiles());
+        for (var entry : refreshes.entrySet()) {
+            VirtualFile file = entry.getKey();
+            PendingRefresh refresh = entry.getValue();
+            if (selectedFiles.contains(file)) {
+                // The file is displayed, refresh it now
+                refreshEditorFeatures(null, file, refresh.featureTypes, refresh.clearLSPCacheFeatureTypes);
+            } else {
+                // The file is not displayed, only evict the LSP cache now
+                if (!refresh.clearLSPCacheFeatureTypes.isEmpty()) {
+                    ReadAction.run(() -> {
+                        PsiFile psiFile = file.isValid() ? LSPIJUtils.getPsiFile(file, project) : null;
+                        if (psiFile != null) {
+                            clearLSPCache(psiFile, refresh.clearLSPCacheFeatureTypes);
+                        }
+                    });
+                }
+                if (fileEditorManager.isFileOpen(file)) {
+                    // and refresh the editors when the file will be selected
+                    synchronized (this) {
+                        deferredRefreshes.computeIfAbsent(file, f -> new PendingRefresh())
+                                .merge(refresh.featureTypes, Collections.emptySet());
+                    }
+                }
+            }
+        }
+    }
+
+    private void refreshDeferred(@NotNull VirtualFile file) {
+        PendingRefresh refresh;
+        synchronized (this) {
+            refresh = deferredRefreshes.remove(file);
+        }
+        if (refresh != null) {
+            refreshEditorFeatures(null, file, refresh.featureTypes, refresh.clearLSPCacheFeatureTypes);
+        }
+    }
+
+    private void refreshEditorFeatures(@Nullable PsiFile psiFile,
+                                       @Nullable VirtualFile file,
+                                       @NotNull Set<EditorFeatureType> featureTypes,
+                                       @NotNull Set<EditorFeatureType> clearLSPCacheFeatureTypes) {
         ReadAction.nonBlocking((Callable<RefreshEditorFeatureContext>) () -> {
                     // Get the Psi file.
                     VirtualFile f = file != null ? file : LSPIJUtils.getFile(psiFile);
@@ -116,22 +258,22 @@ public class EditorFeatureManager implements Disposable {
                         return null;
                     }
 
-                    if (clearLSPCache) {
+                    if (!clearLSPCacheFeatureTypes.isEmpty()) {
                         // Clear LSP cache
-                        clearLSPCache(pf, featureType);
+                        clearLSPCache(pf, clearLSPCacheFeatureTypes);
                     }
 
                     final List<Runnable> runnables = new ArrayList<>();
                     for (Editor editor : editors) {
-                        // Clear editor cache according the feature type
+                        // Clear editor cache according the feature types
                         // (IntelliJ stores generally the modification time stamp of the Psi file to avoid refreshing the feature if Psi file doesn't change)
-                        clearEditorCache(editor, project, featureType);
+                        clearEditorCache(editor, project, featureTypes);
                         // Collect runnable which must be executed on UI step.
-                        collectUiRunnables(pf, editor, featureType, runnables);
+                        collectUiRunnables(pf, editor, featureTypes, runnables);
                     }
                     return new RefreshEditorFeatureContext(pf, runnables);
                 })
-                .coalesceBy(file, featureType, clearLSPCache)
+                .coalesceBy(file != null ? file : psiFile, featureTypes, clearLSPCacheFeatureTypes)
                 .finishOnUiThread(ModalityState.any(), context -> {
                     if (context == null) {
                         // No opened editors associated from any language servers.
@@ -168,32 +310,27 @@ public class EditorFeatureManager implements Disposable {
                 });
     }
 
-    private void clearEditorCache(@NotNull Editor editor, @NotNull Project project, @NotNull EditorFeatureType featureType) {
+    private @NotNull Set<EditorFeatureType> toFeatureTypes(@NotNull EditorFeatureType featureType) {
         if (featureType == EditorFeatureType.ALL) {
-            editorFeatures.values().forEach(feature -> feature.clearEditorCache(editor, project));
-        } else {
-            getEditorFeature(featureType).clearEditorCache(editor, project);
+            return EnumSet.copyOf(editorFeatures.keySet());
         }
+        return EnumSet.of(featureType);
     }
 
-    private void clearLSPCache(PsiFile psiFile, @NotNull EditorFeatureType featureType) {
-        if (featureType == EditorFeatureType.ALL) {
-            editorFeatures.values().forEach(feature -> feature.clearLSPCache(psiFile));
-        } else {
-            getEditorFeature(featureType).clearLSPCache(psiFile);
-        }
+    private void clearEditorCache(@NotNull Editor editor, @NotNull Project project, @NotNull Set<EditorFeatureType> featureTypes) {
+        featureTypes.forEach(featureType -> getEditorFeature(featureType).clearEditorCache(editor, project));
+    }
+
+    private void clearLSPCache(PsiFile psiFile, @NotNull Set<EditorFeatureType> featureTypes) {
+        featureTypes.forEach(featureType -> getEditorFeature(featureType).clearLSPCache(psiFile));
     }
 
 
     private void collectUiRunnables(@NotNull PsiFile psiFile,
                                     @NotNull Editor editor,
-                                    @NotNull EditorFeatureType featureType,
+                                    @NotNull Set<EditorFeatureType> featureTypes,
                                     @NotNull List<Runnable> runnables) {
-        if (featureType == EditorFeatureType.ALL) {
-            editorFeatures.values().forEach(feature -> feature.collectUiRunnable(editor, psiFile, runnables));
-        } else {
-            getEditorFeature(featureType).collectUiRunnable(editor, psiFile, runnables);
-        }
+        featureTypes.forEach(featureType -> getEditorFeature(featureType).collectUiRunnable(editor, psiFile, runnables));
     }
 
     private EditorFeature getEditorFeature(@NotNull EditorFeatureType featureType) {
@@ -225,6 +362,9 @@ public class EditorFeatureManager implements Disposable {
 
     @Override
     public void dispose() {
-        // Do nothing
+        synchronized (this) {
+            pendingRefreshes.clear();
+            deferredRefreshes.clear();
+        }
     }
 }
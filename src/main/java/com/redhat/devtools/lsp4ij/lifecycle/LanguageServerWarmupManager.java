@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.lifecycle;
+
+import com.intellij.openapi.components.PersistentStateComponent;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.components.Storage;
+import com.intellij.openapi.components.StoragePathMacros;
+import com.intellij.openapi.project.Project;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.xmlb.annotations.XCollection;
+import com.redhat.devtools.lsp4ij.LanguageServerWrapper;
+import com.redhat.devtools.lsp4ij.LanguageServersRegistry;
+import com.redhat.devtools.lsp4ij.LanguageServiceAccessor;
+import com.redhat.devtools.lsp4ij.client.indexing.ProjectIndexingManager;
+import com.redhat.devtools.lsp4ij.server.definition.LanguageServerDefinition;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Language server warm-up manager which records in the workspace state the language servers used in a project session
+ * and starts them in background when the project is opened again, once the project indexing is finished,
+ * so that the first opened file doesn't pay the language server launch and the 'initialize' handshake.
+ * <p>
+ * A warmed language server to which no file has been connected after {@link #UNUSED_SERVER_TIMEOUT} seconds is stopped.
+ */
+@ApiStatus.Internal
+@State(
+        name = "LanguageServerWarmupState",
+        storages = @Storage(StoragePathMacros.WORKSPACE_FILE)
+)
+public class LanguageServerWarmupManager implements PersistentStateComponent<LanguageServerWarmupManager.MyState> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LanguageServerWarmupManager.class);
+
+    /**
+     * Delay in seconds after which a warmed language server is stopped if no file has been connected to it.
+     */
+    static final long UNUSED_SERVER_TIMEOUT = 120;
+
+    public static class MyState {
+        @XCollection
+        public List<String> usedServerIds = new ArrayList<>();
+    }
+
+    private final @NotNull Project project;
+
+    // The language servers used in the previous session
+    private volatile MyState previousState = new MyState();
+    // The language servers used in the current session
+    private final Set<String> usedServerIds = ConcurrentHashMap.newKeySet();
+
+    private LanguageServerWarmupManager(@NotNull Project project) {
+        this.project = project;
+    }
+
+    public static LanguageServerWarmupManager getInstance(@NotNull Project project) {
+        return project.getService(LanguageServerWarmupManager.class);
+    }
+
+    @Override
+    public @NotNull MyState getState() {
+        if (usedServerIds.isEmpty()) {
+            // No file has been connected to a language server in this session, keep the previous language servers
+            return previousState;
+        }
+        MyState state = new MyState();
+        state.usedServerIds.addAll(usedServerIds);
+        return state;
+    }
+
+    @Override
+    public void loadState(@NotNull MyState state) {
+        previousState = state;
+    }
+
+    /**
+     * Record that a file has been connected to the given language server in this session.
+     *
+     * @param serverDefinition the language server definition.
+     */
+    public void serverUsed(@NotNull LanguageServerDefinition serverDefinition) {
+        usedServerIds.add(serverDefinition.getId());
+    }
+
+    /**
+     * Start in parallel in background the enabled language servers used in the previous session,
+     * once the project indexing is finished.
+     */
+    public void warmUp() {
+        List<String> serverIds = List.copyOf(previousState.usedServerIds);
+        if (serverIds.isEmpty()) {
+            return;
+        }
+        ProjectIndexingManager.waitForIndexingAll()
+                .thenCompose(unused -> CompletableFuture.allOf(serverIds
+                        .stream()
+                        .map(this::startServer)
+                        .toArray(CompletableFuture[]::new)))
+                .exceptionally(error -> {
+                    if (!(error instanceof CancellationException || error.getCause() instanceof CancellationException)) {
+                        LOGGER.warn("Error while warming up language servers", error);
+                    }
+                    return null;
+                });
+    }
+
+    private @NotNull CompletableFuture<Void> startServer(@NotNull String serverId) {
+        if (project.isDisposed()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        LanguageServerDefinition serverDefinition = LanguageServersRegistry.getInstance().getServerDefinition(serverId);
+        if (serverDefinition == null || !serverDefinition.isEnabled(project)) {
+            // The language server has been removed or disabled since the previous session
+            return CompletableFuture.completedFuture(null);
+        }
+        return LanguageServiceAccessor.getInstance(project)
+                .startLanguageServerIfNeeded(serverDefinition)
+                .thenRun(() -> scheduleStopIfUnused(serverDefinition))
+                .exceptionally(error -> {
+                    // Don't prevent the warm-up of the other language servers
+                    LOGGER.warn("Error while warming up the language server '" + serverDefinition.getDisplayName() + "'", error);
+                    return null;
+                });
+    }
+
+    private void scheduleStopIfUnused(@NotNull LanguageServerDefinition serverDefinition) {
+        AppExecutorUtil.getAppScheduledExecutorService()
+                .schedule(() -> stopIfUnused(serverDefinition), UNUSED_SERVER_TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    private void stopIfUnused(@NotNull LanguageServerDefinition serverDefinition) {
+        if (project.isDisposed() || usedServerIds.contains(serverDefinition.getId())) {
+            // A file has been connected to the language server, its lifecycle is managed by the opened documents
+            return;
+        }
+        for (LanguageServerWrapper languageServer : LanguageServiceAccessor.getInstance(project).getStartedServers()) {
+            if (serverDefinition.equals(languageServer.getServerDefinition())) {
+                LOGGER.info("Stop the warmed language server '{}' which has not been used since {} seconds",
+                        serverDefinition.getDisplayName(), UNUSED_SERVER_TIMEOUT);
+                languageServer.stopIfUnused();
+            }
+        }
+    }
+}
@@ -77,6 +77,34 @@ public class SignatureHelpCapabilityRegistry extends TextDocumentServerCapabilit
                 o -> isMatchTriggerCharacters(o.getTriggerCharacters(), charTyped));
     }
 
+    /**
+     * Returns true if the given character is defined as "signature retrigger" or "signature trigger" in the server capability
+     * of the language server and false otherwise.
+     *
+     * @param file      the file.
+     * @param charTyped the current typed character.
+     * @return true if the given character is defined as "signature retrigger" or "signature trigger" in the server capability
+     * of the language server and false otherwise.
+     */
+    public boolean isSignatureRetriggerCharactersSupported(@NotNull PsiFile file,
+                                                            String charTyped) {
+        return super.isSupported(file,
+                sc -> isSignatureRetriggerCharactersSupported(sc, charTyped),
+                o -> isMatchTriggerCharacters(o.getRetriggerCharacters(), charTyped) ||
+                        isMatchTriggerCharacters(o.getTriggerCharacters(), charTyped));
+    }
+
+    private static boolean isSignatureRetriggerCharactersSupported(@Nullable ServerCapabilities serverCapabilities,
+                                                                    String charTyped) {
+        var signatureHelpProvider = serverCapabilities != null ? serverCapabilities.getSignatureHelpProvider() : null;
+        if (signatureHelpProvider == null) {
+            return false;
+        }
+        // Trigger characters are also retrigger characters
+        return isMatchTriggerCharacters(signatureHelpProvider.getRetriggerCharacters(), charTyped) ||
+                isMatchTriggerCharacters(signatureHelpProvider.getTriggerCharacters(), charTyped);
+    }
+
     private static boolean isSignatureTriggerCharactersSupported(@Nullable ServerCapabilities serverCapabilities,
                                                                   String charTyped) {
         var triggerCharacters = serverCapabilities.getSignatureHelpProvider() != null ? serverCapabilities.getSignatureHelpProvider().getTriggerCharacters() : null;
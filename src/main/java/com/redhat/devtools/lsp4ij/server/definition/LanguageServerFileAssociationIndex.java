@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.server.definition;
+
+import com.intellij.lang.Language;
+import com.intellij.openapi.fileTypes.ExactFileNameMatcher;
+import com.intellij.openapi.fileTypes.ExtensionFileNameMatcher;
+import com.intellij.openapi.fileTypes.FileNameMatcher;
+import com.intellij.openapi.fileTypes.FileType;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Index of {@link LanguageServerFileAssociation} keyed by {@link Language}, {@link FileType},
+ * file name extension and exact file name.
+ *
+ * <p>
+ * {@link #find(Language, FileType, String)} returns the same associations (in the same order)
+ * as filtering all associations with {@link LanguageServerFileAssociation#match(Language, FileType, String)},
+ * but only the associations which can match are visited:
+ * </p>
+ *
+ * <ul>
+ *     <li>language associations are found by walking the base language chain of the given language.</li>
+ *     <li>file type associations are found by the given file type.</li>
+ *     <li>{@link ExtensionFileNameMatcher} and {@link ExactFileNameMatcher} are found by the extensions / name of the given file name.</li>
+ *     <li>other file name matchers (ex : wildcard patterns) are evaluated one by one.</li>
+ * </ul>
+ *
+ * <p>
+ * The index is immutable and must be rebuilt when the associations change.
+ * </p>
+ */
+@ApiStatus.Internal
+public class LanguageServerFileAssociationIndex {
+
+    private final List<LanguageServerFileAssociation> associations;
+    private final Map<Language, List<Candidate>> byLanguage = new HashMap<>();
+    private final Map<FileType, List<Candidate>> byFileType = new HashMap<>();
+    private final Map<String, List<Candidate>> byExtension = new HashMap<>();
+    private final Map<String, List<Candidate>> byFileName = new HashMap<>();
+    private final List<Candidate> otherMatchers = new ArrayList<>();
+    private final long modificationStamp;
+
+    public LanguageServerFileAssociationIndex(@NotNull List<LanguageServerFileAssociation> associations,
+                                              long modificationStamp) {
+        this.associations = List.copyOf(associations);
+        this.modificationStamp = modificationStamp;
+        for (int position = 0; position < this.associations.size(); position++) {
+            var association = this.associations.get(position);
+            if (association.getFileType() != null) {
+                add(byFileType, association.getFileType(), new Candidate(position, null));
+            } else if (association.getLanguage() != null) {
+                add(byLanguage, association.getLanguage(), new Candidate(position, null));
+            } else if (association.getFileNameMatchers() != null) {
+                for (var matcher : association.getFileNameMatchers()) {
+                    var candidate = new Candidate(position, matcher);
+                    if (matcher instanceof ExtensionFileNameMatcher extensionMatcher) {
+                        add(byExtension, toKey(extensionMatcher.getExtension()), candidate);
+                    } else if (matcher instanceof ExactFileNameMatcher exactMatcher) {
+                        add(byFileName, toKey(exactMatcher.getFileName()), candidate);
+                    } else {
+                        otherMatchers.add(candidate);
+                    }
+                }
+            }
+        }
+    }
+
+    private static <K> void add(@NotNull Map<K, List<Candidate>> index,
+                                @NotNull K key,
+                                @NotNull Candidate candidate) {
+        index.computeIfAbsent(key, k -> new ArrayList<>()).add(candidate);
+    }
+
+    /**
+     * Returns the associations which match the given language, file type or file name, in the registration order.
+     *
+     * @param language the language to match.
+     * @param fileType the file type to match.
+     * @param fileName the file name to match by using file name patterns.
+     * @return the associations which match the given language, file type or file name, in the registration order.
+     */
+    public @NotNull List<LanguageServerFileAssociation> find(@Nullable Language language,
+                                                            @Nullable FileType fileType,
+                                                            @NotNull String fileName) {
+        BitSet matched = new BitSet(associations.size());
+        collect(language, fileType, fileName, matched);
+        if (matched.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<LanguageServerFileAssociation> result = new ArrayList<>(matched.cardinality());
+        for (int position = matched.nextSetBit(0); position >= 0; position = matched.nextSetBit(position + 1)) {
+            result.add(associations.get(position));
+        }
+        return result;
+    }
+
+    /**
+     * Returns true if at least one association matches the given language, file type or file name and false otherwise.
+     *
+     * @param language the language to match.
+     * @param fileType the file type to match.
+     * @param fileName the file name to match by using file name patterns.
+     * @return true if at least one association matches the given language, file type or file name and false otherwise.
+     */
+    public boolean matches(@Nullable Language language,
+                           @Nullable FileType fileType,
+                           @NotNull String fileName) {
+        BitSet matched = new BitSet(associations.size());
+        collect(language, fileType, fileName, matched);
+        return !matched.isEmpty();
+    }
+
+    private void collect(@Nullable Language language,
+                         @Nullable FileType fileType,
+                         @NotNull String fileName,
+                         @NotNull BitSet matched) {
+        // Language associations match the given language and its dialects
+        for (Language current = language; current != null; current = current.getBaseLanguage()) {
+            collect(byLanguage.get(current), null, matched);
+        }
+        // File type associations
+        if (fileType != null) {
+            collect(byFileType.get(fileType), null, matched);
+        }
+        // File name associations
+        if (!byFileName.isEmpty()) {
+            collect(byFileName.get(toKey(fileName)), fileName, matched);
+        }
+        if (!byExtension.isEmpty()) {
+            // An extension matcher matches any suffix after a dot (ex : 'gz' and 'tar.gz' for 'foo.tar.gz')
+            for (int index = fileName.indexOf('.'); index != -1; index = fileName.indexOf('.', index + 1)) {
+                collect(byExtension.get(toKey(fileName.substring(index + 1))), fileName, matched);
+            }
+        }
+        collect(otherMatchers, fileName, matched);
+    }
+
+    private static void collect(@Nullable List<Candidate> candidates,
+                                @Nullable String fileName,
+                                @NotNull BitSet matched) {
+        if (candidates == null) {
+            return;
+        }
+        for (var candidate : candidates) {
+            if (matched.get(candidate.position())) {
+                continue;
+            }
+            if (candidate.matcher() == null || candidate.matcher().acceptsCharSequence(fileName)) {
+                matched.set(candidate.position());
+            }
+        }
+    }
+
+    private static @NotNull String toKey(@NotNull String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the modification stamp of the associations used to build this index.
+     *
+     * @return the modification stamp of the associations used to build this index.
+     */
+    public long getModificationStamp() {
+        return modificationStamp;
+    }
+
+    private record Candidate(int position, @Nullable FileNameMatcher matcher) {
+    }
+}
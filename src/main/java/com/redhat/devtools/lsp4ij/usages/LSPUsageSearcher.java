@@ -28,6 +28,7 @@ import com.intellij.util.Processor;
 import com.intellij.util.containers.ContainerUtil;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import com.redhat.devtools.lsp4ij.LanguageServiceAccessor;
+import com.redhat.devtools.lsp4ij.features.progress.LSPPartialResultCollector;
 import org.eclipse.lsp4j.Position;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -36,10 +37,9 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 
-import static com.redhat.devtools.lsp4ij.internal.CompletableFutures.waitUntilDone;
-
 /**
  * LSP usage searcher to retrieve for a given file and offset:
  *
@@ -98,44 +98,28 @@ public class LSPUsageSearcher extends CustomUsageSearcher {
                 return;
             }
             // Collect textDocument/definition, textDocument/references, etc
+            // and show them as usage info as soon as they are reported by the language servers (partial results).
+            LSPPartialResultCollector<LSPUsagePsiElement> collector = new LSPPartialResultCollector<>();
             LSPUsageSupport usageSupport = new LSPUsageSupport(file);
-            LSPUsageSupport.LSPUsageSupportParams params = new LSPUsageSupport.LSPUsageSupportParams(position);
+            LSPUsageSupport.LSPUsageSupportParams params = new LSPUsageSupport.LSPUsageSupportParams(position, collector);
             CompletableFuture<List<LSPUsagePsiElement>> usagesFuture = usageSupport.getFeatureData(params);
+            LSPUsageReporter reporter = new LSPUsageReporter(processor);
             try {
                 // Wait for completion of textDocument/definition, textDocument/references, etc
-                waitUntilDone(usagesFuture);
-                if (usagesFuture.isDone()) {
-                    // Show response of textDocument/definition, textDocument/references, etc as usage info.
-                    List<LSPUsagePsiElement> usages = usagesFuture.getNow(null);
-                    if (usages != null) {
-                        List<LSPUsagePsiElement> filteredUsages = new ArrayList<>(usages);
-                        filteredUsages.removeIf(usage -> ContainerUtil.exists(usages, otherUsage -> {
-                            VirtualFile usageFile = LSPIJUtils.getFile(usage);
-                            if ((usageFile == null) /*||*!searchScope.contains(usageFile)*/) {
-                                return true;
-                            }
-
-                            // Remove any usages that fully contain other usages, e.g., definitions when what's really
-                            // wanted is the contained declaration/name identifier
-                            if (usage != otherUsage) {
-                                TextRange textRange = usage.getTextRange();
-                                TextRange otherTextRange = otherUsage.getTextRange();
-                                return (textRange != null) &&
-                                       (otherTextRange != null) &&
-                                       textRange.contains(otherTextRange) &&
-                                       !textRange.equals(otherTextRange);
-                            }
-
-                            return false;
-                        }));
-
-                        for (LSPUsagePsiElement usage : filteredUsages) {
-                            processor.process(new UsageInfo2UsageAdapter(new UsageInfo(usage)));
-                        }
-                    }
+                if (!collector.processUntilDone(usagesFuture, reporter::report)) {
+                    // The processor doesn't need more usages, cancel the pending LSP requests
+                    usageSupport.cancel();
+                    return;
+                }
+                // Report the usages which have been held because they could contain another usage
+                if (!reporter.flush()) {
+                    return;
                 }
             } catch (ProcessCanceledException pce) {
+                usageSupport.cancel();
                 throw pce;
+            } catch (CancellationException e) {
+                // The LSP requests have been cancelled
             } catch (Exception e) {
                 LOGGER.error("Error while collection LSP Usages", e);
             }
@@ -150,6 +134,75 @@ public class LSPUsageSearcher extends CustomUsageSearcher {
         });
     }
 
+    /**
+     * Reports the streamed usages to the Find Usages processor.
+     *
+     * <p>
+     * Usages that fully contain other usages (ex : definitions when what's really wanted is the contained declaration/name identifier)
+     * must not be shown. As a contained usage can be reported after its container, declarations, definitions and type definitions
+     * (which are few) are held until all usages are collected, whereas references and implementations are reported immediately.
+     * </p>
+     */
+    private static class LSPUsageReporter {
+
+        private final @NotNull Processor<? super Usage> processor;
+        private final List<LSPUsagePsiElement> allUsages = new ArrayList<>();
+        private final List<LSPUsagePsiElement> heldUsages = new ArrayList<>();
+
+        private LSPUsageReporter(@NotNull Processor<? super Usage> processor) {
+            this.processor = processor;
+        }
+
+        boolean report(@NotNull List<LSPUsagePsiElement> usages) {
+            for (var usage : usages) {
+                if (LSPIJUtils.getFile(usage) == null) {
+                    continue;
+                }
+                allUsages.add(usage);
+                if (isHeld(usage.getKind())) {
+                    heldUsages.add(usage);
+                    continue;
+                }
+                if (!containsOtherUsage(usage) && !processor.process(new UsageInfo2UsageAdapter(new UsageInfo(usage)))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean flush() {
+            for (var usage : heldUsages) {
+                if (!containsOtherUsage(usage) && !processor.process(new UsageInfo2UsageAdapter(new UsageInfo(usage)))) {
+                    return false;
+                }
+            }
+            heldUsages.clear();
+            return true;
+        }
+
+        private boolean containsOtherUsage(@NotNull LSPUsagePsiElement usage) {
+            // Remove any usages that fully contain other usages, e.g., definitions when what's really
+            // wanted is the contained declaration/name identifier
+            TextRange textRange = usage.getTextRange();
+            if (textRange == null) {
+                return false;
+            }
+            return ContainerUtil.exists(allUsages, otherUsage -> {
+                if (usage == otherUsage) {
+                    return false;
+                }
+                TextRange otherTextRange = otherUsage.getTextRange();
+                return (otherTextRange != null) &&
+                        textRange.contains(otherTextRange) &&
+                        !textRange.equals(otherTextRange);
+            });
+        }
+
+        private static boolean isHeld(@Nullable LSPUsagePsiElement.UsageKind kind) {
+            return kind != LSPUsagePsiElement.UsageKind.references && kind != LSPUsagePsiElement.UsageKind.implementations;
+        }
+    }
+
     @Nullable
     private static Position getPosition(@NotNull PsiElement element, @NotNull PsiFile psiFile) {
         VirtualFile file = psiFile.getVirtualFile();
@@ -19,6 +19,7 @@ import com.redhat.devtools.lsp4ij.LSPRequestConstants;
 import com.redhat.devtools.lsp4ij.LanguageServerItem;
 import com.redhat.devtools.lsp4ij.client.features.FileUriSupport;
 import com.redhat.devtools.lsp4ij.features.AbstractLSPDocumentFeatureSupport;
+import com.redhat.devtools.lsp4ij.features.progress.LSPPartialResultSupport;
 import com.redhat.devtools.lsp4ij.features.semanticTokens.viewProvider.LSPSemanticTokensFileViewProvider;
 import com.redhat.devtools.lsp4ij.internal.CancellationSupport;
 import com.redhat.devtools.lsp4ij.internal.CompletableFutures;
@@ -33,6 +34,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 
 /**
  * LSP usage support which collect:
@@ -46,7 +48,19 @@ import java.util.function.BiFunction;
  */
 public class LSPUsageSupport extends AbstractLSPDocumentFeatureSupport<LSPUsageSupport.LSPUsageSupportParams, List<LSPUsagePsiElement>> {
 
-    public record LSPUsageSupportParams(@NotNull Position position) {}
+    /**
+     * LSP usage support parameters.
+     *
+     * @param position       the position where Find Usages has been triggered.
+     * @param resultConsumer the consumer of the usages reported as soon as they are available (partial results) and null otherwise.
+     */
+    public record LSPUsageSupportParams(@NotNull Position position,
+                                        @Nullable Consumer<List<LSPUsagePsiElement>> resultConsumer) {
+
+        public LSPUsageSupportParams(@NotNull Position position) {
+            this(position, null);
+        }
+    }
 
     public LSPUsageSupport(@NotNull PsiFile file) {
         super(file, false);
@@ -61,7 +75,6 @@ public class LSPUsageSupport extends AbstractLSPDocumentFeatureSupport<LSPUsageS
     private static @NotNull CompletableFuture<List<LSPUsagePsiElement>> collectUsages(@NotNull PsiFile file,
                                                                                       @NotNull LSPUsageSupportParams params,
                                                                                       @NotNull CancellationSupport cancellationSupport) {
-        var textDocumentIdentifier = LSPIJUtils.toTextDocumentIdentifier(file.getVirtualFile());
         Project project = file.getProject();
         return getLanguageServers(file,
                         f -> f.getUsageFeature().isEnabled(file),
@@ -96,69 +109,86 @@ public class LSPUsageSupport extends AbstractLSPDocumentFeatureSupport<LSPUsageS
                         }
                     }
 
-                    DeclarationParams declarationParams = new DeclarationParams(textDocumentIdentifier, position);
-                    DefinitionParams definitionParams = new DefinitionParams(textDocumentIdentifier, position);
-                    TypeDefinitionParams typeDefinitionParams = new TypeDefinitionParams(textDocumentIdentifier, position);
-                    ReferenceParams referenceParams = createReferenceParams(textDocumentIdentifier, position, project);
-                    ImplementationParams implementationParams = new ImplementationParams(textDocumentIdentifier, position);
+                    // Report the usages as soon as they are available if the language servers support partial results
+                    Consumer<List<LSPUsagePsiElement>> resultConsumer = params.resultConsumer();
 
                     List<CompletableFuture<List<LSPUsagePsiElement>>> allFutures = new ArrayList<>();
                     for (var ls : languageServers) {
                         var clientFeature = ls.getClientFeatures();
 
+                        // Each language server has its own parameters since they host the partial result token
+                        // and the (custom) file Uri, and are serialized asynchronously when the requests are sent
+                        var textDocumentIdentifier = LSPIJUtils.toTextDocumentIdentifier(file.getVirtualFile());
+                        // Update textDocument Uri with custom file Uri if needed
+                        updateTextDocumentUri(textDocumentIdentifier, file, ls);
+                        DeclarationParams declarationParams = new DeclarationParams(textDocumentIdentifier, position);
+                        DefinitionParams definitionParams = new DefinitionParams(textDocumentIdentifier, position);
+                        TypeDefinitionParams typeDefinitionParams = new TypeDefinitionParams(textDocumentIdentifier, position);
+                        ReferenceParams referenceParams = createReferenceParams(textDocumentIdentifier, position, project);
+                        ImplementationParams implementationParams = new ImplementationParams(textDocumentIdentifier, position);
+
                         // Collect declarations
                         if (clientFeature.getDeclarationFeature().isDeclarationSupported(file)) {
-                            updateTextDocumentUri(declarationParams.getTextDocument(), file, ls);
                             allFutures.add(
-                                    // Update textDocument Uri with custom file Uri if needed
-                                    cancellationSupport.execute(ls
-                                                    .getTextDocumentService()
-                                                    .declaration(declarationParams), ls, LSPRequestConstants.TEXT_DOCUMENT_DECLARATION)
-                                            .handle(reportUsages(ls, project, LSPUsagePsiElement.UsageKind.declarations))
+                                    LSPPartialResultSupport.execute(declarationParams, ls,
+                                            () -> cancellationSupport.execute(ls
+                                                            .getTextDocumentService()
+                                                            .declaration(declarationParams), ls, LSPRequestConstants.TEXT_DOCUMENT_DECLARATION)
+                                                    .handle(reportUsages(ls, project, LSPUsagePsiElement.UsageKind.declarations)),
+                                            partialResult -> createUsages(LSPPartialResultSupport.toLocationsOrLocationLinks(partialResult), ls.getClientFeatures(), LSPUsagePsiElement.UsageKind.declarations, project),
+                                            resultConsumer)
                             );
                         }
 
                         // Collect definitions
                         if (collectDefinitions && clientFeature.getDefinitionFeature().isDefinitionSupported(file)) {
-                            updateTextDocumentUri(definitionParams.getTextDocument(), file, ls);
                             allFutures.add(
-                                    cancellationSupport.execute(ls
-                                                    .getTextDocumentService()
-                                                    .definition(definitionParams), ls, LSPRequestConstants.TEXT_DOCUMENT_DEFINITION)
-                                            .handle(reportUsages(ls, project, LSPUsagePsiElement.UsageKind.definitions))
+                                    LSPPartialResultSupport.execute(definitionParams, ls,
+                                            () -> cancellationSupport.execute(ls
+                                                            .getTextDocumentService()
+                                                            .definition(definitionParams), ls, LSPRequestConstants.TEXT_DOCUMENT_DEFINITION)
+                                                    .handle(reportUsages(ls, project, LSPUsagePsiElement.UsageKind.definitions)),
+                                            partialResult -> createUsages(LSPPartialResultSupport.toLocationsOrLocationLinks(partialResult), ls.getClientFeatures(), LSPUsagePsiElement.UsageKind.definitions, project),
+                                            resultConsumer)
                             );
                         }
 
                         // Collect type definitions
                         if (collectTypeDefinitions && clientFeature.getTypeDefinitionFeature().isTypeDefinitionSupported(file)) {
-                            updateTextDocumentUri(typeDefinitionParams.getTextDocument(), file, ls);
                             allFutures.add(
-                                    cancellationSupport.execute(ls
-                                                    .getTextDocumentService()
-                                                    .typeDefinition(typeDefinitionParams), ls, LSPRequestConstants.TEXT_DOCUMENT_TYPE_DEFINITION)
-                                            .handle(reportUsages(ls, project, LSPUsagePsiElement.UsageKind.typeDefinitions))
+                                    LSPPartialResultSupport.execute(typeDefinitionParams, ls,
+                                            () -> cancellationSupport.execute(ls
+                                                            .getTextDocumentService()
+                                                            .typeDefinition(typeDefinitionParams), ls, LSPRequestConstants.TEXT_DOCUMENT_TYPE_DEFINITION)
+                                                    .handle(reportUsages(ls, project, LSPUsagePsiElement.UsageKind.typeDefinitions)),
+                                            partialResult -> createUsages(LSPPartialResultSupport.toLocationsOrLocationLinks(partialResult), ls.getClientFeatures(), LSPUsagePsiElement.UsageKind.typeDefinitions, project),
+                                            resultConsumer)
                             );
                         }
 
                         // Collect references
                         if (clientFeature.getReferencesFeature().isReferencesSupported(file)) {
-                            updateTextDocumentUri(referenceParams.getTextDocument(), file, ls);
                             allFutures.add(
-                                    cancellationSupport.execute(ls
-                                                    .getTextDocumentService()
-                                                    .references(referenceParams), ls, LSPRequestConstants.TEXT_DOCUMENT_REFERENCES)
-                                            .handle(reportUsages2(ls, project, LSPUsagePsiElement.UsageKind.references))
+                                    LSPPartialResultSupport.execute(referenceParams, ls,
+                                            () -> cancellationSupport.execute(ls
+                                                            .getTextDocumentService()
+                                                            .references(referenceParams), ls, LSPRequestConstants.TEXT_DOCUMENT_REFERENCES)
+                                                    .handle(reportUsages2(ls, project, LSPUsagePsiElement.UsageKind.references)),
+                                            partialResult -> createUsages(LSPPartialResultSupport.toLocations(partialResult), ls.getClientFeatures(), LSPUsagePsiElement.UsageKind.references, project),
+                                            resultConsumer)
                             );
                         }
 
                         // Collect implementations
                         if (clientFeature.getImplementationFeature().isImplementationSupported(file)) {
-                            updateTextDocumentUri(implementationParams.getTextDocument(), file, ls);
                             allFutures.add(
-                                    cancellationSupport.execute(ls
-                                                    .getTextDocumentService()
-                                                    .implementation(implementationParams), ls, LSPRequestConstants.TEXT_DOCUMENT_IMPLEMENTATION)
-                                            .handle(reportUsages(ls, project, LSPUsagePsiElement.UsageKind.implementations))
+                                    LSPPartialResultSupport.execute(implementationParams, ls,
+                                            () -> cancellationSupport.execute(ls
+                                                            .getTextDocumentService()
+                                                            .implementation(implementationParams), ls, LSPRequestConstants.TEXT_DOCUMENT_IMPLEMENTATION)
+                                                    .handle(reportUsages(ls, project, LSPUsagePsiElement.UsageKind.implementations)),
+                                            partialResult -> createUsages(LSPPartialResultSupport.toLocationsOrLocationLinks(partialResult), ls.getClientFeatures(), LSPUsagePsiElement.UsageKind.implementations, project),
+                                            resultConsumer)
                             );
                         }
 
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij;
+
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.psi.PsiFile;
+import com.redhat.devtools.lsp4ij.fixtures.LSPCodeInsightFixtureTestCase;
+import com.redhat.devtools.lsp4ij.mock.MockConnectionProvider;
+import com.redhat.devtools.lsp4ij.mock.MockLanguageServer;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.jetbrains.annotations.NotNull;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Tests for the replay of the opened documents in a language server restarted after an unexpected stop.
+ */
+public class LanguageServerRecoveryReplayTest extends LSPCodeInsightFixtureTestCase {
+
+    private static final String TEST_FILE_NAME = "test.txt";
+
+    public LanguageServerRecoveryReplayTest() {
+        super("*.txt");
+    }
+
+    public void testReplayOpenedDocumentsWithMonotonicVersions() throws Exception {
+        PsiFile file = myFixture.configureByText(TEST_FILE_NAME, "foo");
+        LanguageServerWrapper languageServer = connect(file);
+        URI fileUri = languageServer.toUri(file.getVirtualFile());
+
+        // Send 'textDocument/didChange' notifications
+        myFixture.type("bar");
+        int versionBeforeStop = getVersion(languageServer, fileUri);
+        assertTrue(versionBeforeStop > 1);
+
+        // Stop unexpectedly the language server
+        var didOpen = new CompletableFuture<DidOpenTextDocumentParams>();
+        MockLanguageServer.INSTANCE.setDidOpenCallback(didOpen);
+        ((MockConnectionProvider) languageServer.lspStreamProvider).simulateUnexpectedStop();
+        assertNull(languageServer.getOpenedDocument(fileUri));
+
+        // Restart the language server after the backoff delay, the opened document is replayed
+        Thread.sleep(LanguageServerRecovery.INITIAL_RESTART_DELAY + 100);
+        languageServer.getInitializedServer().get(5000, TimeUnit.MILLISECONDS);
+        DidOpenTextDocumentParams didOpenParams = didOpen.get(5000, TimeUnit.MILLISECONDS);
+        assertEquals(myFixture.getEditor().getDocument().getText(), didOpenParams.getTextDocument().getText());
+        assertEquals(versionBeforeStop + 1, didOpenParams.getTextDocument().getVersion());
+        assertNotNull(languageServer.getOpenedDocument(fileUri));
+
+        // The next 'textDocument/didChange' notifications continue the versions
+        myFixture.type("baz");
+        List<DidChangeTextDocumentParams> didChangeEvents = MockLanguageServer.INSTANCE.getDidChangeEvents();
+        int lastVersion = didChangeEvents.get(didChangeEvents.size() - 1).getTextDocument().getVersion();
+        assertTrue(lastVersion > didOpenParams.getTextDocument().getVersion());
+        assertEquals(getVersion(languageServer, fileUri), lastVersion);
+    }
+
+    public void testDocumentClosedDuringBackoffIsNotReplayed() throws Exception {
+        PsiFile file = myFixture.configureByText(TEST_FILE_NAME, "foo");
+        LanguageServerWrapper languageServer = connect(file);
+        URI fileUri = languageServer.toUri(file.getVirtualFile());
+
+        // Stop unexpectedly the language server
+        var didOpen = new CompletableFuture<DidOpenTextDocumentParams>();
+        MockLanguageServer.INSTANCE.setDidOpenCallback(didOpen);
+        ((MockConnectionProvider) languageServer.lspStreamProvider).simulateUnexpectedStop();
+
+        // Close the file during the backoff delay
+        FileEditorManager.getInstance(myFixture.getProject()).closeFile(file.getVirtualFile());
+
+        // Restart the language server after the backoff delay, the closed document is not replayed
+        Thread.sleep(LanguageServerRecovery.INITIAL_RESTART_DELAY + 100);
+        languageServer.getInitializedServer().get(5000, TimeUnit.MILLISECONDS);
+        assertThrows(TimeoutException.class, () -> didOpen.get(500, TimeUnit.MILLISECONDS));
+        assertNull(languageServer.getOpenedDocument(fileUri));
+    }
+
+    public void testDocumentVersionsRestartAfterDidClose() throws Exception {
+        PsiFile file = myFixture.configureByText(TEST_FILE_NAME, "foo");
+        LanguageServerWrapper languageServer = connect(file);
+        URI fileUri = languageServer.toUri(file.getVirtualFile());
+
+        // Send 'textDocument/didChange' notifications
+        myFixture.type("bar");
+        assertTrue(getVersion(languageServer, fileUri) > 1);
+
+        // Close the document ('textDocument/didClose') and open it again
+        languageServer.disconnect(file.getVirtualFile(), false);
+        var didOpen = new CompletableFuture<DidOpenTextDocumentParams>();
+        MockLanguageServer.INSTANCE.setDidOpenCallback(didOpen);
+        connect(file);
+
+        // The versions of the closed document are not kept
+        DidOpenTextDocumentParams didOpenParams = didOpen.get(5000, TimeUnit.MILLISECONDS);
+        assertEquals(1, didOpenParams.getTextDocument().getVersion());
+    }
+
+    private static @NotNull LanguageServerWrapper connect(@NotNull PsiFile file) throws Exception {
+        List<LanguageServerItem> languageServers = LanguageServiceAccessor.getInstance(file.getProject())
+                .getLanguageServers(file, null, null)
+                .get(5000, TimeUnit.MILLISECONDS);
+        assertEquals(1, languageServers.size());
+        return languageServers.get(0).getServerWrapper();
+    }
+
+    private static int getVersion(@NotNull LanguageServerWrapper languageServer, @NotNull URI fileUri) {
+        OpenedDocument openedDocument = languageServer.getOpenedDocument(fileUri);
+        assertNotNull(openedDocument);
+        return openedDocument.getSynchronizer().getVersion();
+    }
+}
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link LanguageServerRecovery}.
+ */
+public class LanguageServerRecoveryTest {
+
+    @Test
+    public void testExponentialRestartDelay() {
+        assertEquals(500, LanguageServerRecovery.getRestartDelay(0));
+        assertEquals(1000, LanguageServerRecovery.getRestartDelay(1));
+        assertEquals(2000, LanguageServerRecovery.getRestartDelay(2));
+        assertEquals(16000, LanguageServerRecovery.getRestartDelay(5));
+    }
+
+    @Test
+    public void testMaxRestartDelay() {
+        assertEquals(LanguageServerRecovery.MAX_RESTART_DELAY, LanguageServerRecovery.getRestartDelay(6));
+        assertEquals(LanguageServerRecovery.MAX_RESTART_DELAY, LanguageServerRecovery.getRestartDelay(100));
+    }
+
+    @Test
+    public void testCanRestartAfterDelay() {
+        var recovery = new LanguageServerRecovery(Collections.emptyList());
+        assertTrue(recovery.canRestart());
+        recovery.scheduleRestart(0);
+        assertFalse(recovery.canRestart());
+    }
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.completion;
+
+import com.intellij.codeInsight.lookup.LookupElement;
+import com.redhat.devtools.lsp4ij.client.features.LSPCompletionProposal;
+import com.redhat.devtools.lsp4ij.fixtures.LSPCompletionFixtureTestCase;
+import com.redhat.devtools.lsp4ij.mock.MockLanguageServer;
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionOptions;
+import org.eclipse.lsp4j.ServerCapabilities;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Completion tests for the 'completionItem/resolve' prefetch: the resolved completion item is requested once
+ * and reused by the documentation and the insert of the lookup item.
+ */
+public class CompletionResolvePrefetchTest extends LSPCompletionFixtureTestCase {
+
+    public CompletionResolvePrefetchTest() {
+        super("*.txt");
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        ServerCapabilities serverCapabilities = MockLanguageServer.defaultServerCapabilities();
+        serverCapabilities.setCompletionProvider(new CompletionOptions(true, null));
+        MockLanguageServer.reset(() -> serverCapabilities);
+    }
+
+    public void testPrefetchedResolveIsReused() throws Exception {
+        CompletionItem resolved = new CompletionItem("foo");
+        resolved.setInsertText("foo()");
+        resolved.setDocumentation("Resolved documentation");
+        MockLanguageServer.INSTANCE.setCompletionItem(resolved);
+
+        assertCompletion("test.txt",
+                "<caret>",
+                """
+                        [
+                          { "label": "foo" },
+                          { "label": "bar" }
+                        ]
+                        """,
+                "foo",
+                "bar");
+
+        LSPCompletionProposal proposal = getProposal("foo");
+
+        // Prefetch the resolved completion item like the resolve prefetcher does
+        CompletableFuture<CompletionItem> prefetch = proposal.resolveCompletionItemAsync();
+        prefetch.get(5000, TimeUnit.MILLISECONDS);
+        assertSame(prefetch, proposal.resolveCompletionItemAsync());
+
+        // The documentation uses the prefetched completion item
+        assertNotNull(proposal.computeDocumentation());
+        assertEquals(1, getResolveRequestCount("foo"));
+
+        // The insert uses the prefetched completion item
+        myFixture.selectItem(proposal);
+        assertEquals("foo()", myFixture.getEditor().getDocument().getText());
+        assertEquals(1, getResolveRequestCount("foo"));
+    }
+
+    private @NotNull LSPCompletionProposal getProposal(@NotNull String lookupString) {
+        for (LookupElement element : myFixture.getLookupElements()) {
+            if (lookupString.equals(element.getLookupString())) {
+                return (LSPCompletionProposal) element;
+            }
+        }
+        fail("Cannot find the lookup element '" + lookupString + "'");
+        return null;
+    }
+
+    private static long getResolveRequestCount(@NotNull String label) {
+        return MockLanguageServer.INSTANCE.getTextDocumentService()
+                .getResolveCompletionItemRequests()
+                .stream()
+                .filter(item -> label.equals(item.getLabel()))
+                .count();
+    }
+}
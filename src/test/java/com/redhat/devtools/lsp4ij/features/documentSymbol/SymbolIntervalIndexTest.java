@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.documentSymbol;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link SymbolIntervalIndex}.
+ */
+public class SymbolIntervalIndexTest {
+
+    /**
+     * <pre>
+     * class A {            // [0, 100]
+     *     void b() {}      // [10, 30]
+     *     void c() {       // [40, 90]
+     *         var d;       // [50, 60]
+     *     }
+     * }
+     * class E {}           // [110, 150]
+     * </pre>
+     */
+    private static SymbolIntervalIndex<String> createIndex() {
+        SymbolIntervalIndex.Builder<String> builder = SymbolIntervalIndex.builder();
+        // Add the symbols in a non-sorted order
+        builder.add("E", 110, 150, -1);
+        int a = builder.add("A", 0, 100, -1);
+        int c = builder.add("c", 40, 90, a);
+        builder.add("b", 10, 30, a);
+        builder.add("d", 50, 60, c);
+        return builder.build();
+    }
+
+    @Test
+    public void findInnermost() {
+        var index = createIndex();
+        assertEquals(5, index.size());
+        assertEquals("A", index.findInnermost(0));
+        assertEquals("A", index.findInnermost(5));
+        assertEquals("b", index.findInnermost(20));
+        assertEquals("A", index.findInnermost(35));
+        assertEquals("c", index.findInnermost(45));
+        assertEquals("d", index.findInnermost(55));
+        assertEquals("c", index.findInnermost(70));
+        assertEquals("A", index.findInnermost(95));
+        assertNull(index.findInnermost(105));
+        assertEquals("E", index.findInnermost(120));
+        assertNull(index.findInnermost(200));
+    }
+
+    @Test
+    public void getRoots() {
+        var index = createIndex();
+        assertEquals(List.of("A", "E"), index.getRoots());
+    }
+
+    @Test
+    public void sameRangeReturnsDeepestSymbol() {
+        SymbolIntervalIndex.Builder<String> builder = SymbolIntervalIndex.builder();
+        int a = builder.add("A", 0, 100, -1);
+        builder.add("B", 0, 100, a);
+        var index = builder.build();
+        assertEquals("B", index.findInnermost(50));
+    }
+
+    @Test
+    public void shiftAfterInsertion() {
+        var index = createIndex();
+        // Insert 10 characters in the method 'b'
+        index.documentChanged(20, 0, 10);
+        assertEquals("b", index.findInnermost(35));
+        assertEquals("A", index.findInnermost(45));
+        assertEquals("d", index.findInnermost(65));
+        assertNull(index.findInnermost(115));
+        assertEquals("E", index.findInnermost(125));
+    }
+
+    @Test
+    public void shiftAfterDeletion() {
+        var index = createIndex();
+        // Delete the method 'b' and the text until the start of 'c'
+        index.documentChanged(10, 30, 0);
+        assertEquals("c", index.findInnermost(15));
+        assertEquals("d", index.findInnermost(25));
+        assertEquals("E", index.findInnermost(80));
+        // Delete the text which contains the start of 'd'
+        index.documentChanged(15, 10, 0);
+        assertEquals("d", index.findInnermost(15));
+        assertEquals("c", index.findInnermost(22));
+    }
+}
@@ -272,6 +272,14 @@ public class MarkdownConverterTest extends LSPCodeInsightFixtureTestCase {
         assertEquals(html, toHtml(markdown, null, null, "test.ts"));
     }
 
+    public void testCachedConversion() {
+        String markdown = "Here is a cached link [example](https://example.com)";
+        String html = toHtml(markdown);
+        assertEquals("<p>Here is a cached link <a href=\"https://example.com\">example</a></p>\n", html);
+        // The same Markdown content returns the cached HTML
+        assertSame(html, toHtml(new String(markdown)));
+    }
+
     private String toHtml(String markdown) {
         return MarkdownConverter.getInstance(myFixture.getProject()).toHtml(markdown);
     }
@@ -12,8 +12,13 @@
 package com.redhat.devtools.lsp4ij.features.foldingRange;
 
 import com.intellij.codeInsight.folding.CodeFoldingSettings;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.util.TextRange;
+import com.redhat.devtools.lsp4ij.LSPFileSupport;
 import com.redhat.devtools.lsp4ij.fixtures.LSPFoldingRangeFixtureTestCase;
 
+import java.util.List;
+
 /**
  * Folding range tests by emulating LSP 'textDocument/foldingRange' responses from jdtls.
  */
@@ -120,4 +125,39 @@ public class JavaFoldingRangeTest extends LSPFoldingRangeFixtureTestCase {
                 2
         );
     }
+
+    public void testFoldingRegions_followDocumentChanges() {
+        CodeFoldingSettings.getInstance().COLLAPSE_FILE_HEADER = false;
+        CodeFoldingSettings.getInstance().COLLAPSE_IMPORTS = false;
+        assertFoldingRanges(
+                TEST_FILE_NAME,
+                TEST_FILE_BODY,
+                MOCK_FOLDING_RANGES_JSON
+        );
+
+        var document = myFixture.getEditor().getDocument();
+        var foldingRangeSupport = LSPFileSupport.getSupport(myFixture.getFile()).getFoldingRangeSupport();
+        List<TextRange> textRanges = foldingRangeSupport.getFoldingRegions(document, false)
+                .stream()
+                .map(region -> region.marker().getTextRange())
+                .toList();
+        assertEquals(4, textRanges.size());
+
+        // The folding regions of the last response follow the document changes without a new response
+        var metrics = LSPFoldingRangeMetrics.getInstance();
+        long staleHits = metrics.getStaleHits();
+        String insertedText = "// New comment\n";
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> document.insertString(0, insertedText));
+        List<TextRange> shiftedTextRanges = foldingRangeSupport.getFoldingRegions(document, false)
+                .stream()
+                .map(region -> region.marker().getTextRange())
+                .toList();
+        assertEquals(textRanges.stream().map(textRange -> textRange.shiftRight(insertedText.length())).toList(), shiftedTextRanges);
+        // A folding pass which doesn't load the response is not recorded
+        assertEquals(staleHits, metrics.getStaleHits());
+
+        // The range markers are disposed with the file support
+        foldingRangeSupport.dispose();
+        assertTrue(foldingRangeSupport.getFoldingRegions(document, false).isEmpty());
+    }
 }
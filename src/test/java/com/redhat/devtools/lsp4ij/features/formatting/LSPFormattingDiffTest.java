@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.formatting;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link LSPFormattingDiff}.
+ */
+public class LSPFormattingDiffTest {
+
+    @Test
+    public void testSameText() {
+        assertHunks("a\nb\n", "a\nb\n", 0);
+    }
+
+    @Test
+    public void testWhitespaceChanges() {
+        List<LSPFormattingDiff.Hunk> hunks = assertHunks(
+                "function f(){\nreturn a+b;\n}",
+                "function f() {\n  return a + b;\n}",
+                4);
+        // Only whitespaces are inserted, the tokens are not replaced
+        for (var hunk : hunks) {
+            assertEquals(hunk.startOffset(), hunk.endOffset());
+            assertTrue(hunk.newText().isBlank());
+        }
+    }
+
+    @Test
+    public void testWhitespaceRemoved() {
+        assertHunks("a  =   b;\n\n\nc;", "a = b;\n\nc;", 3);
+    }
+
+    @Test
+    public void testTokenChanges() {
+        // Quotes changed by the formatter on the second line
+        var hunks = assertHunks("a;\nb = 'x';\nc;\n", "a;\nb = \"x\";\nc;\n", 1);
+        assertEquals(7, hunks.get(0).startOffset());
+        assertEquals(10, hunks.get(0).endOffset());
+    }
+
+    @Test
+    public void testLinesAddedAndChanged() {
+        assertHunks("a;\nb = 'x';\nc;\n", "a;\nb = \"x\";\n\"y\";\nc;\n", 1);
+    }
+
+    @Test
+    public void testEmptyTexts() {
+        assertHunks("", "a", 1);
+        assertHunks("a", "", 1);
+    }
+
+    @Test
+    public void testLargeReindentedFile() {
+        // Reindent a 50k-lines file: one whitespace hunk per line
+        int lineCount = 50_000;
+        StringBuilder oldText = new StringBuilder();
+        StringBuilder newText = new StringBuilder();
+        for (int i = 0; i < lineCount; i++) {
+            oldText.append("\tvar v").append(i).append(" = ").append(i).append(";\n");
+            newText.append("    var v").append(i).append(" = ").append(i).append(";\n");
+        }
+        var hunks = LSPFormattingDiff.computeHunks(oldText, newText);
+        assertEquals(lineCount, hunks.size());
+        assertEquals(newText.toString(), LSPFormattingDiff.applyHunks(oldText, hunks));
+    }
+
+    private static List<LSPFormattingDiff.Hunk> assertHunks(String oldText, String newText, int expectedHunks) {
+        var hunks = LSPFormattingDiff.computeHunks(oldText, newText);
+        assertEquals(expectedHunks, hunks.size());
+        assertEquals(newText, LSPFormattingDiff.applyHunks(oldText, hunks));
+        return hunks;
+    }
+}
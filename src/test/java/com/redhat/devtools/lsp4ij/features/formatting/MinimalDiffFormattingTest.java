@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.formatting;
+
+import com.intellij.openapi.actionSystem.IdeActions;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.editor.FoldRegion;
+import com.intellij.openapi.editor.RangeMarker;
+import com.intellij.openapi.editor.event.DocumentEvent;
+import com.intellij.openapi.editor.event.DocumentListener;
+import com.intellij.psi.PsiFile;
+import com.redhat.devtools.lsp4ij.LanguageServiceAccessor;
+import com.redhat.devtools.lsp4ij.fixtures.LSPFormattingFixtureTestCase;
+import com.redhat.devtools.lsp4ij.mock.MockLanguageServer;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextEdit;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Formatting tests for a 'textDocument/formatting' response which replaces the whole document:
+ * only the changed parts must be applied to the document.
+ */
+public class MinimalDiffFormattingTest extends LSPFormattingFixtureTestCase {
+
+    private static final int LINE_COUNT = 90;
+
+    public MinimalDiffFormattingTest() {
+        super("*.txt");
+    }
+
+    public void testWholeDocumentFormattingPreservesMarkersAndFolding() throws Exception {
+        StringBuilder text = new StringBuilder();
+        StringBuilder formatted = new StringBuilder();
+        for (int i = 0; i < LINE_COUNT; i++) {
+            text.append("\tvar v").append(i).append(" = ").append(i).append(";\n");
+            formatted.append("    var v").append(i).append(" = ").append(i).append(";\n");
+        }
+        PsiFile file = myFixture.configureByText("test.txt", text.toString());
+        LanguageServiceAccessor.getInstance(file.getProject())
+                .getLanguageServers(file, null, null)
+                .get(5000, TimeUnit.MILLISECONDS);
+        MockLanguageServer.INSTANCE.setTimeToProceedQueries(100);
+        MockLanguageServer.INSTANCE.setFormattingTextEdits(List.of(
+                new TextEdit(new Range(new Position(0, 0), new Position(LINE_COUNT, 0)), formatted.toString())));
+
+        Editor editor = myFixture.getEditor();
+        Document document = editor.getDocument();
+        // A range marker on a token and a collapsed folding region
+        int tokenOffset = document.getText().indexOf("v50 ");
+        RangeMarker marker = document.createRangeMarker(tokenOffset, tokenOffset + 3);
+        FoldRegion[] foldRegion = new FoldRegion[1];
+        editor.getFoldingModel().runBatchFoldingOperation(() -> {
+            foldRegion[0] = editor.getFoldingModel().addFoldRegion(document.getLineStartOffset(10), document.getLineEndOffset(20), "...");
+            assertNotNull(foldRegion[0]);
+            foldRegion[0].setExpanded(false);
+        });
+        // Measure the text length which must be reparsed
+        AtomicInteger changeCount = new AtomicInteger();
+        AtomicInteger changedLength = new AtomicInteger();
+        document.addDocumentListener(new DocumentListener() {
+            @Override
+            public void documentChanged(@NotNull DocumentEvent event) {
+                changeCount.incrementAndGet();
+                changedLength.addAndGet(event.getOldLength() + event.getNewLength());
+            }
+        }, getTestRootDisposable());
+
+        myFixture.performEditorAction(IdeActions.ACTION_EDITOR_REFORMAT);
+
+        assertEquals(formatted.toString(), document.getText());
+        // One change per reindented line, which contains only the indentation
+        assertEquals(LINE_COUNT, changeCount.get());
+        assertEquals(LINE_COUNT * ("\t".length() + "    ".length()), changedLength.get());
+        // The range marker and the folding region of the unchanged parts are preserved
+        assertTrue(marker.isValid());
+        assertEquals("v50", document.getText(marker.getTextRange()));
+        assertTrue(foldRegion[0].isValid());
+        assertFalse(foldRegion[0].isExpanded());
+        assertEquals(document.getLineEndOffset(20), foldRegion[0].getEndOffset());
+    }
+}
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+
+package com.redhat.devtools.lsp4ij.features.semanticTokens.viewProvider;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link LSPSemanticTokensStore}.
+ */
+public class LSPSemanticTokensStoreTest {
+
+    private record Token(int start, int end, String tokenType, List<String> tokenModifiers) {
+    }
+
+    private static LSPSemanticTokensStore<Token> createStore() {
+        return new LSPSemanticTokensStore<>(Token::new);
+    }
+
+    @Test
+    public void getToken() {
+        var store = createStore();
+        store.add(0, 5, "keyword", null);
+        store.add(6, 10, "variable", List.of("declaration"));
+        store.add(20, 25, "string", null);
+        assertEquals(3, store.size());
+
+        assertEquals(new Token(0, 5, "keyword", List.of()), store.get(0));
+        assertEquals(new Token(0, 5, "keyword", List.of()), store.get(4));
+        assertNull(store.get(5));
+        assertEquals(new Token(6, 10, "variable", List.of("declaration")), store.get(6));
+        assertNull(store.get(10));
+        assertNull(store.get(15));
+        assertEquals(new Token(20, 25, "string", List.of()), store.get(24));
+        assertNull(store.get(25));
+        assertNull(store.get(-1));
+        // The token is created once
+        assertSame(store.get(1), store.get(2));
+    }
+
+    @Test
+    public void addNotSorted() {
+        var store = createStore();
+        store.add(20, 25, "string", null);
+        store.add(0, 5, "keyword", null);
+        store.add(10, 15, "number", null);
+        assertEquals(3, store.size());
+        assertEquals("keyword", store.get(3).tokenType());
+        assertEquals("number", store.get(12).tokenType());
+        assertEquals("string", store.get(22).tokenType());
+    }
+
+    @Test
+    public void addOverlapping() {
+        var store = createStore();
+        store.add(0, 5, "keyword", null);
+        store.add(6, 10, "variable", null);
+        store.add(12, 15, "number", null);
+        // The same token is added again
+        store.add(6, 10, "variable", null);
+        assertEquals(3, store.size());
+        // A token replaces the tokens which it overlaps
+        store.add(4, 8, "type", null);
+        assertEquals(2, store.size());
+        assertNull(store.get(0));
+        assertEquals(new Token(4, 8, "type", List.of()), store.get(7));
+        assertNull(store.get(9));
+        assertEquals("number", store.get(12).tokenType());
+    }
+
+    /**
+     * <pre>
+     * if (foo) "bar"
+     * </pre>
+     */
+    private static LSPSemanticTokensStore<Token> createIfStore() {
+        var store = createStore();
+        store.add(0, 2, "keyword", null);
+        store.add(4, 7, "variable", null);
+        store.add(9, 14, "string", null);
+        return store;
+    }
+
+    @Test
+    public void typeInToken() {
+        var store = createIfStore();
+        // if (fo|o) "bar" -> if (foxo) "bar"
+        store.documentChanged(6, 0, "x");
+        assertEquals(3, store.size());
+        assertEquals(new Token(4, 8, "variable", List.of()), store.get(4));
+        assertEquals(new Token(10, 15, "string", List.of()), store.get(10));
+        // if (foxo|) "bar" -> if (foxoy) "bar"
+        store.documentChanged(8, 0, "y");
+        assertEquals(new Token(4, 9, "variable", List.of()), store.get(8));
+        // if (foxoy|) "bar" -> if (foxoy)) "bar"
+        store.documentChanged(9, 0, ")");
+        assertEquals(new Token(4, 9, "variable", List.of()), store.get(8));
+        assertNull(store.get(9));
+        assertEquals(new Token(12, 17, "string", List.of()), store.get(12));
+    }
+
+    @Test
+    public void deleteInToken() {
+        var store = createIfStore();
+        // if (f[oo]) "bar" -> if (f) "bar"
+        store.documentChanged(5, 2, "");
+        assertEquals(new Token(4, 5, "variable", List.of()), store.get(4));
+        assertEquals(new Token(7, 12, "string", List.of()), store.get(7));
+    }
+
+    @Test
+    public void damagedTokens() {
+        var store = createIfStore();
+        // if (f[oo) "b]ar" -> if (far"
+        store.documentChanged(5, 6, "");
+        assertEquals(1, store.size());
+        assertEquals(new Token(0, 2, "keyword", List.of()), store.get(0));
+        assertNull(store.get(5));
+
+        store = createIfStore();
+        // if (fo|o) "bar" -> if (fo o) "bar"
+        store.documentChanged(6, 0, " ");
+        assertEquals(2, store.size());
+        assertNull(store.get(4));
+        assertEquals(new Token(10, 15, "string", List.of()), store.get(10));
+    }
+
+    /**
+     * Dense semantic tokens of a 1 MB file are stored in compact arrays with interned token kinds,
+     * and the token objects are only created when they are requested.
+     */
+    @Test
+    public void compactRepresentation() {
+        int fileLength = 1_000_000;
+        String[] tokenTypes = {"keyword", "variable", "function", "string", "comment", "type"};
+
+        AtomicInteger createdTokens = new AtomicInteger();
+        var store = new LSPSemanticTokensStore<Token>((start, end, tokenType, tokenModifiers) -> {
+            createdTokens.incrementAndGet();
+            return new Token(start, end, tokenType, tokenModifiers);
+        });
+        int tokenCount = 0;
+        // Tokens of 6 characters separated by a space
+        for (int start = 0; start + 6 <= fileLength; start += 7) {
+            store.add(start, start + 6, tokenTypes[tokenCount % tokenTypes.length], tokenCount % 2 == 0 ? List.of("declaration") : null);
+            tokenCount++;
+        }
+        assertEquals(tokenCount, store.size());
+        // Arrays grow by 50%
+        assertTrue(store.getCapacity() >= tokenCount && store.getCapacity() <= tokenCount + (tokenCount >> 1),
+                "capacity " + store.getCapacity());
+        // The kinds of the 6 token types are shared by all tokens
+        assertEquals(tokenTypes.length, store.getKindCount());
+        assertEquals(0, createdTokens.get());
+
+        int lookups = 0;
+        for (int offset = 0; offset < fileLength; offset += 97) {
+            int tokenIndex = offset / 7;
+            var expected = offset % 7 == 6 || offset / 7 >= tokenCount ? null :
+                    new Token(tokenIndex * 7, tokenIndex * 7 + 6, tokenTypes[tokenIndex % tokenTypes.length],
+                            tokenIndex % 2 == 0 ? List.of("declaration") : List.of());
+            assertEquals(expected, store.get(offset), "offset " + offset);
+            assertSame(store.get(offset), store.get(offset));
+            if (expected != null) {
+                lookups++;
+            }
+        }
+        // The requested tokens are created once and then reused
+        assertEquals(lookups, createdTokens.get());
+    }
+}
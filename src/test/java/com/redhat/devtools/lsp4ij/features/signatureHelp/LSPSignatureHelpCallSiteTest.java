@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.signatureHelp;
+
+import org.junit.Test;
+
+import java.util.function.IntPredicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link LSPSignatureHelpCallSite}.
+ */
+public class LSPSignatureHelpCallSiteTest {
+
+    @Test
+    public void testFirstParameter() {
+        assertCallSite("foo(|", 3, 0);
+        assertCallSite("foo(a|, b)", 3, 0);
+    }
+
+    @Test
+    public void testSeparators() {
+        assertCallSite("foo(a, b, |)", 3, 2);
+        assertCallSite("x = 1, foo(a, |", 10, 1);
+    }
+
+    @Test
+    public void testNestedCalls() {
+        // Separators of the nested call are ignored
+        assertCallSite("foo(bar(a, b), |", 3, 1);
+        // The caret is in the nested call
+        assertCallSite("foo(a, bar(b, |", 10, 1);
+    }
+
+    @Test
+    public void testStringsAndComments() {
+        String text = "foo(\"a, (b\", c|";
+        int stringStart = text.indexOf('"');
+        int stringEnd = text.lastIndexOf('"');
+        var callSite = LSPSignatureHelpCallSite.find(text.replace("|", ""), text.indexOf('|'),
+                i -> i < stringStart || i > stringEnd);
+        assertNotNull(callSite);
+        assertEquals(3, callSite.startOffset());
+        assertEquals(1, callSite.activeParameter());
+    }
+
+    @Test
+    public void testNoCallSite() {
+        assertNoCallSite("foo|");
+        assertNoCallSite("foo(a)|");
+        // The caret is in an array, the argument list must be computed by the language server
+        assertNoCallSite("foo([a, |");
+        assertNoCallSite("foo(a, { b, |");
+    }
+
+    private static void assertCallSite(String textWithCaret, int expectedStart, int expectedActiveParameter) {
+        var callSite = find(textWithCaret);
+        assertNotNull(callSite);
+        assertEquals(expectedStart, callSite.startOffset());
+        assertEquals(expectedActiveParameter, callSite.activeParameter());
+    }
+
+    private static void assertNoCallSite(String textWithCaret) {
+        assertNull(find(textWithCaret));
+    }
+
+    private static LSPSignatureHelpCallSite find(String textWithCaret) {
+        IntPredicate isCode = i -> true;
+        return LSPSignatureHelpCallSite.find(textWithCaret.replace("|", ""), textWithCaret.indexOf('|'), isCode);
+    }
+}
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.workspaceSymbol;
+
+import com.intellij.psi.PsiFile;
+import com.redhat.devtools.lsp4ij.LSPWorkspaceSupport;
+import com.redhat.devtools.lsp4ij.LanguageServersRegistry;
+import com.redhat.devtools.lsp4ij.LanguageServiceAccessor;
+import com.redhat.devtools.lsp4ij.fixtures.LSPCodeInsightFixtureTestCase;
+import com.redhat.devtools.lsp4ij.launching.ServerMappingSettings;
+import com.redhat.devtools.lsp4ij.mock.MockLanguageServer;
+import com.redhat.devtools.lsp4ij.mock.MockLanguageServerDefinition;
+import org.eclipse.lsp4j.ServerCapabilities;
+import org.eclipse.lsp4j.WorkspaceSymbolParams;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the 'partialResultToken' of the LSP 'workspace/symbol' requests sent to several language servers.
+ */
+public class WorkspaceSymbolPartialResultTokenTest extends LSPCodeInsightFixtureTestCase {
+
+    private MockLanguageServerDefinition secondServerDefinition;
+
+    public WorkspaceSymbolPartialResultTokenTest() {
+        super("*.txt");
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        ServerCapabilities serverCapabilities = MockLanguageServer.defaultServerCapabilities();
+        serverCapabilities.setWorkspaceSymbolProvider(true);
+        MockLanguageServer.reset(() -> serverCapabilities);
+        MockLanguageServer.INSTANCE.getWorkspaceService().getSymbolRequests().clear();
+        // Register a second language server for the same files
+        secondServerDefinition = new MockLanguageServerDefinition("mock-server-id-2");
+        List<ServerMappingSettings> mappings = List.of(ServerMappingSettings.createFileNamePatternsMappingSettings(List.of("*.txt"), null));
+        LanguageServersRegistry.getInstance().addServerDefinition(myFixture.getProject(), secondServerDefinition, mappings);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            LanguageServersRegistry.getInstance().removeServerDefinition(myFixture.getProject(), secondServerDefinition);
+        } finally {
+            super.tearDown();
+        }
+    }
+
+    public void testEachLanguageServerHasItsOwnPartialResultToken() throws Exception {
+        // Start the two language servers
+        PsiFile file = myFixture.configureByText("test.txt", "foo");
+        var languageServers = LanguageServiceAccessor.getInstance(file.getProject())
+                .getLanguageServers(file, null, null)
+                .get(5000, TimeUnit.MILLISECONDS);
+        assertEquals(2, languageServers.size());
+
+        // Stream the symbols of the two language servers
+        LSPWorkspaceSymbolParams params = new LSPWorkspaceSymbolParams("foo");
+        params.setResultConsumer(symbols -> {});
+        LSPWorkspaceSupport.getSupport(file.getProject())
+                .getWorkspaceSymbolSupport()
+                .getWorkspaceSymbol(params)
+                .get(5000, TimeUnit.MILLISECONDS);
+
+        // Each language server has received its own token, and the parameters of the caller are not updated
+        List<WorkspaceSymbolParams> requests = MockLanguageServer.INSTANCE.getWorkspaceService().getSymbolRequests();
+        assertEquals(2, requests.size());
+        Set<String> tokens = new HashSet<>();
+        for (var request : requests) {
+            assertEquals("foo", request.getQuery());
+            assertNotNull(request.getPartialResultToken());
+            tokens.add(request.getPartialResultToken().getLeft());
+        }
+        assertEquals(2, tokens.size());
+        assertNull(params.getPartialResultToken());
+    }
+}
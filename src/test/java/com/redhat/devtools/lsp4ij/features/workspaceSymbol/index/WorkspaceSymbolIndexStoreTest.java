@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.features.workspaceSymbol.index;
+
+import com.redhat.devtools.lsp4ij.features.workspaceSymbol.index.WorkspaceSymbolIndexStore.IndexedSymbol;
+import org.junit.Test;
+
+import java.io.*;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link WorkspaceSymbolIndexStore}.
+ */
+public class WorkspaceSymbolIndexStoreTest {
+
+    private static final String SERVER_ID = "myServer";
+    private static final String FOO_URI = "file:///project/foo.ts";
+    private static final String BAR_URI = "file:///project/bar.ts";
+
+    private static final int CLASS_KIND = 5;
+    private static final int METHOD_KIND = 6;
+
+    @Test
+    public void findNames() {
+        var store = new WorkspaceSymbolIndexStore();
+        store.addSymbols(List.of(
+                symbol("FooBar", CLASS_KIND, FOO_URI, 1),
+                symbol("fooBaz", METHOD_KIND, FOO_URI, 2),
+                symbol("Qux", CLASS_KIND, BAR_URI, 1)));
+
+        assertEquals(Set.of("FooBar", "fooBaz"), store.findNames("foo", s -> true));
+        assertEquals(Set.of("FooBar"), store.findNames("FBar", s -> true));
+        assertEquals(Set.of("FooBar"), store.findNames("*oo ar", s -> true));
+        assertEquals(Set.of("FooBar", "Qux"), store.findNames("", s -> s.getKind() == CLASS_KIND));
+        assertTrue(store.findNames("zzz", s -> true).isEmpty());
+    }
+
+    @Test
+    public void addSymbolsIgnoresDuplicates() {
+        var store = new WorkspaceSymbolIndexStore();
+        store.addSymbols(List.of(symbol("FooBar", CLASS_KIND, FOO_URI, 1)));
+        store.addSymbols(List.of(symbol("FooBar", CLASS_KIND, FOO_URI, 1)));
+        assertEquals(1, store.size());
+        assertEquals(1, store.findByName("FooBar", s -> true).size());
+    }
+
+    @Test
+    public void replaceAndRemoveFileSymbols() {
+        var store = new WorkspaceSymbolIndexStore();
+        store.addSymbols(List.of(
+                symbol("FooBar", CLASS_KIND, FOO_URI, 1),
+                symbol("Qux", CLASS_KIND, BAR_URI, 1)));
+
+        store.replaceFileSymbols(FOO_URI, SERVER_ID, List.of(symbol("FooRenamed", CLASS_KIND, FOO_URI, 3)));
+        assertTrue(store.findByName("FooBar", s -> true).isEmpty());
+        assertEquals(3, store.findByName("FooRenamed", s -> true).get(0).getLine());
+        assertEquals(2, store.size());
+
+        store.removeFile(BAR_URI);
+        assertTrue(store.findByName("Qux", s -> true).isEmpty());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    public void replaceMatchingFileSymbols() {
+        var store = new WorkspaceSymbolIndexStore();
+        store.addSymbols(List.of(
+                symbol("FooBar", CLASS_KIND, FOO_URI, 1),
+                symbol("fooBaz", METHOD_KIND, FOO_URI, 2),
+                symbol("Qux", CLASS_KIND, FOO_URI, 3),
+                symbol("FooQux", CLASS_KIND, BAR_URI, 1)));
+
+        // 'fooBaz' has been deleted: the symbols of foo.ts matching 'foo' are replaced,
+        // 'Qux' doesn't match the query and the symbols of bar.ts are not in the response
+        store.replaceMatchingFileSymbols(FOO_URI, SERVER_ID, "foo", List.of(symbol("FooBar", CLASS_KIND, FOO_URI, 1)));
+        assertEquals(Set.of("FooBar", "FooQux"), store.findNames("foo", s -> true));
+        assertEquals(1, store.findByName("Qux", s -> true).size());
+        assertEquals(3, store.size());
+    }
+
+    @Test
+    public void writeAndRead() throws IOException {
+        var store = new WorkspaceSymbolIndexStore();
+        store.addSymbols(List.of(
+                symbol("FooBar", CLASS_KIND, FOO_URI, 1),
+                symbol("Qux", METHOD_KIND, BAR_URI, 7)));
+        assertTrue(store.isDirty());
+
+        var bytes = new ByteArrayOutputStream();
+        store.write(new DataOutputStream(bytes));
+        assertFalse(store.isDirty());
+
+        var loaded = new WorkspaceSymbolIndexStore();
+        loaded.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertFalse(loaded.isDirty());
+        assertEquals(2, loaded.size());
+        assertEquals(List.of(symbol("Qux", METHOD_KIND, BAR_URI, 7)), loaded.findByName("Qux", s -> true));
+    }
+
+    @Test
+    public void addMissingFiles() {
+        var persisted = new WorkspaceSymbolIndexStore();
+        persisted.addSymbols(List.of(
+                symbol("OldFoo", CLASS_KIND, FOO_URI, 1),
+                symbol("Qux", CLASS_KIND, BAR_URI, 1)));
+
+        var store = new WorkspaceSymbolIndexStore();
+        store.addSymbols(List.of(symbol("NewFoo", CLASS_KIND, FOO_URI, 1)));
+        store.addMissingFiles(persisted);
+
+        // The symbols indexed before loading the persisted index are kept
+        assertTrue(store.findByName("OldFoo", s -> true).isEmpty());
+        assertEquals(1, store.findByName("NewFoo", s -> true).size());
+        assertEquals(1, store.findByName("Qux", s -> true).size());
+    }
+
+    private static IndexedSymbol symbol(String name, int kind, String fileUri, int line) {
+        return new IndexedSymbol(name, kind, fileUri, line, 0, SERVER_ID);
+    }
+}
@@ -20,6 +20,7 @@ import com.intellij.util.ArrayUtil;
 import com.redhat.devtools.lsp4ij.JSONUtils;
 import com.redhat.devtools.lsp4ij.LanguageServiceAccessor;
 import com.redhat.devtools.lsp4ij.mock.MockLanguageServer;
+import com.redhat.devtools.lsp4ij.mock.MockTextDocumentService;
 import org.eclipse.lsp4j.SelectionRange;
 import org.jetbrains.annotations.NotNull;
 
@@ -68,11 +69,17 @@ public abstract class LSPSelectionRangeFixtureTestCase extends LSPCodeInsightFix
         }
 
         // Trigger the Extend Selection action repeatedly and confirm selections
-        for (String expectedSelection : selections) {
+        MockTextDocumentService textDocumentService = MockLanguageServer.INSTANCE.getTextDocumentService();
+        int initialRequestCount = textDocumentService.getSelectionRangeRequestCount();
+        for (int i = 0; i < selections.length; i++) {
             myFixture.performEditorAction(IdeActions.ACTION_EDITOR_SELECT_WORD_AT_CARET);
             String actualSelection = selectionModel.getSelectedText();
-            assertEquals(expectedSelection, actualSelection);
+            assertEquals(selections[i], actualSelection);
         }
+        // The caret and the document have not changed, the next Extend Selection actions reuse the cached selection ranges
+        int requestCount = textDocumentService.getSelectionRangeRequestCount();
+        assertEquals("Extend Selection should consume only one LSP 'textDocument/selectionRange' request",
+                initialRequestCount + 1, requestCount);
 
         // If the entire file is selected, extending the selection again should leave it unchanged
         String lastSelection = ArrayUtil.getLastElement(selections);
@@ -89,6 +96,9 @@ public abstract class LSPSelectionRangeFixtureTestCase extends LSPCodeInsightFix
             String actualSelection = selectionModel.getSelectedText();
             assertEquals(expectedSelection, actualSelection);
         }
+        // The document has not changed, the selection ranges are cached
+        assertEquals("Shrink Selection should not consume LSP 'textDocument/selectionRange' requests",
+                requestCount, textDocumentService.getSelectionRangeRequestCount());
 
         // One more time and there should be no selection again
         myFixture.performEditorAction(IdeActions.ACTION_EDITOR_UNSELECT_WORD_AT_CARET);
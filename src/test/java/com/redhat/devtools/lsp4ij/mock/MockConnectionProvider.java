@@ -42,6 +42,7 @@ public class MockConnectionProvider implements StreamConnectionProvider {
 	private InputStream errorStream;
 	private Future<Void> listener;
 	private Collection<Closeable> streams = new ArrayList<>(4);
+	private final Collection<Runnable> unexpectedServerStopHandlers = new ArrayList<>();
 
 	private static ExecutorService testRunner = Executors.newCachedThreadPool();
 
@@ -101,6 +102,19 @@ public class MockConnectionProvider implements StreamConnectionProvider {
 		listener = null;
 	}
 
+	@Override
+	public void addUnexpectedServerStopHandler(Runnable handler) {
+		unexpectedServerStopHandlers.add(handler);
+	}
+
+	/**
+	 * Simulate an unexpected stop of the mock language server (ex : the process has crashed).
+	 */
+	public void simulateUnexpectedStop() {
+		stop();
+		unexpectedServerStopHandlers.forEach(Runnable::run);
+	}
+
 	public static final Collection<Message> cancellations = new ArrayList<>();
 
 	@Override
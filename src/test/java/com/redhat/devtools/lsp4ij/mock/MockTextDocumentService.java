@@ -27,6 +27,7 @@ import java.net.URI;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 /**
@@ -36,6 +37,7 @@ public class MockTextDocumentService implements TextDocumentService {
 
     private CompletionList mockCompletionList;
     private CompletionItem mockCompletionItem;
+    private final List<CompletionItem> resolveCompletionItemRequests = Collections.synchronizedList(new ArrayList<>());
     private Hover mockHover;
     private List<? extends Location> mockDefinitionLocations;
     private List<? extends LocationLink> mockTypeDefinitions;
@@ -46,6 +48,7 @@ public class MockTextDocumentService implements TextDocumentService {
     private Map<Position, List<? extends DocumentHighlight>> mockDocumentHighlights;
     private LinkedEditingRanges mockLinkedEditingRanges;
     private List<SelectionRange> mockSelectionRanges;
+    private final AtomicInteger selectionRangeRequestCount = new AtomicInteger();
 
     private CompletableFuture<DidOpenTextDocumentParams> didOpenCallback;
     private CompletableFuture<DidSaveTextDocumentParams> didSaveCallback;
@@ -91,6 +94,7 @@ public class MockTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<CompletionItem> resolveCompletionItem(CompletionItem unresolved) {
+        resolveCompletionItemRequests.add(unresolved);
         return CompletableFuture.completedFuture(mockCompletionItem);
     }
 
@@ -409,8 +413,19 @@ public class MockTextDocumentService implements TextDocumentService {
         this.mockSelectionRanges = mockSelectionRanges;
     }
 
+    public List<CompletionItem> getResolveCompletionItemRequests() {
+        synchronized (resolveCompletionItemRequests) {
+            return new ArrayList<>(resolveCompletionItemRequests);
+        }
+    }
+
+    public int getSelectionRangeRequestCount() {
+        return selectionRangeRequestCount.get();
+    }
+
     @Override
     public CompletableFuture<List<SelectionRange>> selectionRange(SelectionRangeParams params) {
+        selectionRangeRequestCount.incrementAndGet();
         // Find the mock selection ranges that apply to the specified position. This allows us to have a single mock
         // response that covers multiple positions that might be queried during a given test.
         List<SelectionRange> applicableMockSelectionRanges = mockSelectionRanges
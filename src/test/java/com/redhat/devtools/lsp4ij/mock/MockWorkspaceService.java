@@ -17,6 +17,7 @@ import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.services.WorkspaceService;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -29,6 +30,7 @@ public class MockWorkspaceService implements WorkspaceService {
 	private Function<?, ?> _futureFactory;
 	private CompletableFuture<ExecuteCommandParams> executedCommand = new CompletableFuture<>();
 	private List<DidChangeWorkspaceFoldersParams> workspaceFoldersEvents = new ArrayList<>();
+	private final List<WorkspaceSymbolParams> symbolRequests = Collections.synchronizedList(new ArrayList<>());
 
 	public <U> MockWorkspaceService(Function<U, CompletableFuture<U>> futureFactory) {
 		this._futureFactory = futureFactory;
@@ -47,8 +49,12 @@ public class MockWorkspaceService implements WorkspaceService {
 	@Override
 	public CompletableFuture<Either<List<? extends SymbolInformation>, List<? extends WorkspaceSymbol>>> symbol(
 			WorkspaceSymbolParams params) {
-		// TODO Auto-generated method stub
-		return null;
+		symbolRequests.add(params);
+		return futureFactory(Either.forRight(Collections.emptyList()));
+	}
+
+	public List<WorkspaceSymbolParams> getSymbolRequests() {
+		return symbolRequests;
 	}
 
 	@Override
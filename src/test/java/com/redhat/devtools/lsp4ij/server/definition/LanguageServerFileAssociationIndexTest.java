@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.lsp4ij.server.definition;
+
+import com.intellij.lang.Language;
+import com.intellij.openapi.fileTypes.*;
+import com.redhat.devtools.lsp4ij.DocumentMatcher;
+import com.redhat.devtools.lsp4ij.mock.MockLanguageServerDefinition;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link LanguageServerFileAssociationIndex}.
+ */
+public class LanguageServerFileAssociationIndexTest {
+
+    private static final DocumentMatcher MATCH_ALL = (file, project) -> true;
+
+    private static final String[] FILE_NAMES = {
+            "foo.ts", "FOO.TS", "foo.tar.gz", "Dockerfile", "dockerfile", "foo.config.js", "Makefile",
+            "foo.server42", "foo.unknown", "foo", ".gitignore", "foo.", "bar.test.ext7"
+    };
+
+    @Test
+    public void findByFileName() {
+        var definition = new MockLanguageServerDefinition("server");
+        List<LanguageServerFileAssociation> associations = List.of(
+                new LanguageServerFileAssociation(List.of(new ExtensionFileNameMatcher("ts")), definition, MATCH_ALL, null),
+                new LanguageServerFileAssociation(List.of(new ExtensionFileNameMatcher("tar.gz")), definition, MATCH_ALL, null),
+                new LanguageServerFileAssociation(List.of(new ExactFileNameMatcher("Dockerfile")), definition, MATCH_ALL, null),
+                new LanguageServerFileAssociation(List.of(new WildcardFileNameMatcher("*.config.js")), definition, MATCH_ALL, null),
+                new LanguageServerFileAssociation(PlainTextFileType.INSTANCE, definition, MATCH_ALL, null));
+        var index = new LanguageServerFileAssociationIndex(associations, 0);
+
+        assertEquals(List.of(associations.get(0)), index.find(null, null, "foo.ts"));
+        assertEquals(List.of(associations.get(0)), index.find(null, null, "FOO.TS"));
+        assertEquals(List.of(associations.get(1)), index.find(null, null, "foo.tar.gz"));
+        assertEquals(List.of(associations.get(2)), index.find(null, null, "Dockerfile"));
+        assertEquals(List.of(associations.get(3)), index.find(null, null, "foo.config.js"));
+        assertEquals(List.of(associations.get(3), associations.get(4)), index.find(null, PlainTextFileType.INSTANCE, "foo.config.js"));
+        assertEquals(List.of(), index.find(null, null, "foo.js"));
+    }
+
+    @Test
+    public void findByLanguage() {
+        var definition = new MockLanguageServerDefinition("server");
+        Language language = PlainTextLanguage.INSTANCE;
+        List<LanguageServerFileAssociation> associations = List.of(
+                new LanguageServerFileAssociation(language, definition, MATCH_ALL, null),
+                new LanguageServerFileAssociation(List.of(new ExtensionFileNameMatcher("txt")), definition, MATCH_ALL, null));
+        var index = new LanguageServerFileAssociationIndex(associations, 0);
+
+        assertEquals(associations, index.find(language, null, "foo.txt"));
+        assertEquals(List.of(associations.get(0)), index.find(language, null, "foo"));
+        assertEquals(List.of(associations.get(1)), index.find(null, null, "foo.txt"));
+    }
+
+    @Test
+    public void findSameAsLinearScan() {
+        // 50 server definitions with 10 file name patterns each
+        List<LanguageServerFileAssociation> associations = createAssociations(50, 10);
+        var index = new LanguageServerFileAssociationIndex(associations, 0);
+
+        for (String fileName : FILE_NAMES) {
+            assertEquals(linearFind(associations, PlainTextFileType.INSTANCE, fileName),
+                    index.find(null, PlainTextFileType.INSTANCE, fileName), fileName);
+            assertEquals(!linearFind(associations, null, fileName).isEmpty(),
+                    index.matches(null, null, fileName), fileName);
+        }
+    }
+
+    private static List<LanguageServerFileAssociation> linearFind(List<LanguageServerFileAssociation> associations,
+                                                                  FileType fileType,
+                                                                  String fileName) {
+        return associations.stream()
+                .filter(mapping -> mapping.match(null, fileType, fileName))
+                .toList();
+    }
+
+    private static List<LanguageServerFileAssociation> createAssociations(int nbDefinitions, int nbPatterns) {
+        List<LanguageServerFileAssociation> associations = new ArrayList<>();
+        for (int i = 0; i < nbDefinitions; i++) {
+            var definition = new MockLanguageServerDefinition("server" + i);
+            List<FileNameMatcher> matchers = new ArrayList<>();
+            for (int j = 0; j < nbPatterns; j++) {
+                int n = i * nbPatterns + j;
+                switch (j % 3) {
+                    case 0 -> matchers.add(new ExtensionFileNameMatcher("ext" + n));
+                    case 1 -> matchers.add(new ExactFileNameMatcher("File" + n, true));
+                    default -> matchers.add(new WildcardFileNameMatcher("*.test.ext" + n));
+                }
+            }
+            associations.add(new LanguageServerFileAssociation(matchers, definition, MATCH_ALL, null));
+            if (i % 10 == 0) {
+                associations.add(new LanguageServerFileAssociation(PlainTextFileType.INSTANCE, definition, MATCH_ALL, null));
+            }
+        }
+        // Common patterns shared by several servers
+        var definition = new MockLanguageServerDefinition("common");
+        associations.add(new LanguageServerFileAssociation(List.of(new ExtensionFileNameMatcher("ts"), new ExtensionFileNameMatcher("gz")), definition, MATCH_ALL, null));
+        associations.add(new LanguageServerFileAssociation(List.of(new ExactFileNameMatcher("Dockerfile", true), new ExactFileNameMatcher("Makefile")), definition, MATCH_ALL, null));
+        associations.add(new LanguageServerFileAssociation(List.of(new WildcardFileNameMatcher("*.config.js"), new WildcardFileNameMatcher(".git*")), definition, MATCH_ALL, null));
+        return associations;
+    }
+}